@@ -19,17 +19,33 @@
  */
 package org.openecomp.sdc.asdctool.impl.internal.tool;
 
+import com.google.common.util.concurrent.RateLimiter;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Scanner;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.openecomp.sdc.asdctool.utils.ConsoleWriter;
 import org.openecomp.sdc.be.dao.cassandra.ArtifactCassandraDao;
+import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
 import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
 import org.openecomp.sdc.be.dao.jsongraph.GraphVertex;
 import org.openecomp.sdc.be.dao.janusgraph.JanusGraphDao;
@@ -60,6 +76,7 @@ public class CsarGenerator extends CommonInternalTool {
     private ToscaOperationFacade toscaOperationFacade;
     private ArtifactCassandraDao artifactCassandraDao;
     private ToscaExportHandler toscaExportHandler;
+    private volatile RateLimiter writeLimiter;
 
     @Autowired
     public CsarGenerator(JanusGraphDao janusGraphDao, CsarUtils csarUtils, ToscaOperationFacade toscaOperationFacade,
@@ -74,11 +91,8 @@ public class CsarGenerator extends CommonInternalTool {
 
     public void generateCsar(String uuid, Scanner scanner) {
         JanusGraphOperationStatus status = JanusGraphOperationStatus.OK;
-        Map<GraphPropertyEnum, Object> props = new EnumMap<>(GraphPropertyEnum.class);
-        props.put(GraphPropertyEnum.UUID, uuid);
-        props.put(GraphPropertyEnum.STATE, LifecycleStateEnum.CERTIFIED.name());
-        props.put(GraphPropertyEnum.COMPONENT_TYPE, ComponentTypeEnum.SERVICE.name());
-        List<GraphVertex> byCriteria = janusGraphDao.getByCriteria(VertexTypeEnum.TOPOLOGY_TEMPLATE, props).either(l -> l, r -> null);
+        List<GraphVertex> byCriteria = janusGraphDao.getByCriteria(VertexTypeEnum.TOPOLOGY_TEMPLATE, certifiedServiceProps(uuid))
+            .either(l -> l, r -> null);
         if (byCriteria != null && !byCriteria.isEmpty()) {
             if (byCriteria.size() > 1) {
                 ConsoleWriter.dataLine("Warning ! More that 1 certified service with uuid", uuid);
@@ -102,14 +116,131 @@ public class CsarGenerator extends CommonInternalTool {
         }
     }
 
+    /**
+     * Regenerates the TOSCA template and CSAR of every certified service.
+     * <p>
+     * The services are partitioned between {@code workers} threads. Each worker reloads the service in its own thread bound graph
+     * transaction and commits (or rolls back) it before moving to the next one, so a failure only loses the service being processed.
+     * The unique id of every service that completed is appended to {@code checkpointFile}; services already listed there are skipped,
+     * which lets an interrupted run be resumed by starting the tool again with the same file.
+     *
+     * @param workers              number of worker threads
+     * @param checkpointFile       file recording the completed services
+     * @param maxWritesPerSecond   upper bound of artifact writes to Cassandra per second, 0 or less for no limit
+     * @return the outcome of the run
+     */
+    public BulkGenerationResult generateAllCsars(int workers, Path checkpointFile, double maxWritesPerSecond) throws IOException {
+        long start = System.currentTimeMillis();
+        List<GraphVertex> services = janusGraphDao.getByCriteria(VertexTypeEnum.TOPOLOGY_TEMPLATE, certifiedServiceProps(null),
+            JsonParseFlagEnum.NoParse).either(l -> l, r -> Collections.emptyList());
+        // the vertices belong to this thread's transaction, the workers only get their ids
+        Map<String, String> pending = new HashMap<>();
+        Set<String> completed = readCheckpoint(checkpointFile);
+        for (GraphVertex service : services) {
+            if (!completed.contains(service.getUniqueId())) {
+                pending.put(service.getUniqueId(), String.valueOf(service.getMetadataProperty(GraphPropertyEnum.UUID)));
+            }
+        }
+        janusGraphDao.rollback();
+        BulkGenerationResult result = new BulkGenerationResult(services.size(), services.size() - pending.size());
+        ConsoleWriter.dataLine("Certified services found", services.size());
+        ConsoleWriter.dataLine("Already generated by a previous run", result.getSkipped());
+        writeLimiter = maxWritesPerSecond > 0 ? RateLimiter.create(maxWritesPerSecond) : null;
+        int poolSize = Math.max(1, Math.min(workers, pending.size()));
+        List<List<String>> partitions = new ArrayList<>();
+        for (int i = 0; i < poolSize; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        int next = 0;
+        for (String uniqueId : pending.keySet()) {
+            partitions.get(next++ % poolSize).add(uniqueId);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize);
+        try (BufferedWriter checkpoint = Files.newBufferedWriter(checkpointFile, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+            StandardOpenOption.APPEND)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (List<String> partition : partitions) {
+                futures.add(executor.submit(() -> partition.forEach(id -> generateInWorker(id, pending.get(id), checkpoint, result))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ConsoleWriter.dataLine("CSAR generation was interrupted, rerun to resume");
+        } catch (ExecutionException e) {
+            ConsoleWriter.dataLine("CSAR generation worker failed ", e.getCause());
+        } finally {
+            executor.shutdownNow();
+            writeLimiter = null;
+        }
+        result.setElapsedMillis(System.currentTimeMillis() - start);
+        reportResult(result);
+        return result;
+    }
+
+    private void generateInWorker(String uniqueId, String uuid, BufferedWriter checkpoint, BulkGenerationResult result) {
+        JanusGraphOperationStatus status;
+        try {
+            status = janusGraphDao.getVertexById(uniqueId, JsonParseFlagEnum.NoParse).either(v -> handleService(v, uuid), r -> r);
+        } catch (RuntimeException e) {
+            ConsoleWriter.dataLine("Failed to generate CSAR for service with UUID " + uuid, e.getMessage());
+            status = JanusGraphOperationStatus.GENERAL_ERROR;
+        }
+        if (status == JanusGraphOperationStatus.OK) {
+            status = janusGraphDao.commit();
+        } else {
+            janusGraphDao.rollback();
+        }
+        if (status == JanusGraphOperationStatus.OK) {
+            result.succeeded.incrementAndGet();
+            writeCheckpoint(checkpoint, uniqueId);
+        } else {
+            result.addFailure(uuid);
+        }
+    }
+
+    private Map<GraphPropertyEnum, Object> certifiedServiceProps(String uuid) {
+        Map<GraphPropertyEnum, Object> props = new EnumMap<>(GraphPropertyEnum.class);
+        if (uuid != null) {
+            props.put(GraphPropertyEnum.UUID, uuid);
+        }
+        props.put(GraphPropertyEnum.STATE, LifecycleStateEnum.CERTIFIED.name());
+        props.put(GraphPropertyEnum.COMPONENT_TYPE, ComponentTypeEnum.SERVICE.name());
+        return props;
+    }
+
+    private Set<String> readCheckpoint(Path checkpointFile) throws IOException {
+        if (!Files.exists(checkpointFile)) {
+            return Collections.emptySet();
+        }
+        return Files.readAllLines(checkpointFile, StandardCharsets.UTF_8).stream().map(String::trim).filter(l -> !l.isEmpty())
+            .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private void writeCheckpoint(BufferedWriter checkpoint, String uniqueId) {
+        synchronized (checkpoint) {
+            try {
+                checkpoint.write(uniqueId);
+                checkpoint.newLine();
+                checkpoint.flush();
+            } catch (IOException e) {
+                ConsoleWriter.dataLine("Failed to write checkpoint for ", uniqueId);
+            }
+        }
+    }
+
     private JanusGraphOperationStatus handleService(GraphVertex metadataV, String uuid) {
         JanusGraphOperationStatus status = JanusGraphOperationStatus.OK;
         org.openecomp.sdc.be.model.Component component = toscaOperationFacade.getToscaFullElement(metadataV.getUniqueId()).either(l -> l, r -> null);
         if (component != null) {
             Supplier<byte[]> supplier = () -> generateToscaPayload(component);
-            generateArtifact(component, ArtifactTypeEnum.TOSCA_TEMPLATE, supplier);
+            JanusGraphOperationStatus templateStatus = generateArtifact(component, ArtifactTypeEnum.TOSCA_TEMPLATE, supplier);
             supplier = () -> generateCsarPayload(component);
-            generateArtifact(component, ArtifactTypeEnum.TOSCA_CSAR, supplier);
+            JanusGraphOperationStatus csarStatus = generateArtifact(component, ArtifactTypeEnum.TOSCA_CSAR, supplier);
+            if (templateStatus != JanusGraphOperationStatus.OK || csarStatus != JanusGraphOperationStatus.OK) {
+                status = JanusGraphOperationStatus.GENERAL_ERROR;
+            }
             GraphVertex toscaArtifactV = janusGraphDao.getChildVertex(metadataV, EdgeLabelEnum.TOSCA_ARTIFACTS, JsonParseFlagEnum.ParseJson)
                 .either(l -> l, r -> null);
             if (toscaArtifactV != null) {
@@ -120,10 +251,10 @@ public class CsarGenerator extends CommonInternalTool {
             }
         } else {
             ConsoleWriter.dataLine("Failed to fetch certified service with UUID ", uuid);
+            status = JanusGraphOperationStatus.NOT_FOUND;
         }
         return status;
     }
-
     private JanusGraphOperationStatus generateArtifact(Component component, ArtifactTypeEnum artifactType, Supplier<byte[]> supplier) {
         JanusGraphOperationStatus status = JanusGraphOperationStatus.GENERAL_ERROR;
         ArtifactDefinition csarArtifact;
@@ -160,7 +291,15 @@ public class CsarGenerator extends CommonInternalTool {
         ConsoleWriter.dataLine("create artifact unique id ", uniqueId);
         csarArtifact.setArtifactChecksum(GeneralUtility.calculateMD5Base64EncodedByByteArray(decodedPayload));
         DAOArtifactData artifactData = new DAOArtifactData(csarArtifact.getEsId(), decodedPayload);
-        artifactCassandraDao.saveArtifact(artifactData);
+        RateLimiter limiter = writeLimiter;
+        if (limiter != null) {
+            limiter.acquire();
+        }
+        CassandraOperationStatus saveStatus = artifactCassandraDao.saveArtifact(artifactData);
+        if (saveStatus != CassandraOperationStatus.OK) {
+            ConsoleWriter.dataLine("Failed to save artifact into Cassandra ", csarArtifact.getArtifactLabel());
+            return JanusGraphOperationStatus.GENERAL_ERROR;
+        }
         ConsoleWriter.dataLine("Artifact generated and saved into Cassandra ", csarArtifact.getArtifactLabel());
         report(component, csarArtifact);
         return JanusGraphOperationStatus.OK;
@@ -179,10 +318,85 @@ public class CsarGenerator extends CommonInternalTool {
         dataToPrint.put("artifact id", csarArtifact.getUniqueId());
         dataToPrint.put("csar es id", csarArtifact.getEsId());
         dataToPrint.put("artifact checksum", csarArtifact.getArtifactChecksum());
+        writeReport(dataToPrint);
+    }
+
+    private void reportResult(BulkGenerationResult result) {
+        ConsoleWriter.dataLine("\nCSAR generation finished in seconds", result.getElapsedMillis() / 1000);
+        ConsoleWriter.dataLine("services total", result.getTotal());
+        ConsoleWriter.dataLine("services skipped", result.getSkipped());
+        ConsoleWriter.dataLine("services succeeded", result.getSucceeded());
+        ConsoleWriter.dataLine("services failed", result.getFailed().size());
+        ConsoleWriter.dataLine("services per second", String.format("%.2f", result.getThroughput()));
+        if (!result.getFailed().isEmpty()) {
+            ConsoleWriter.dataLine("failed service UUIDs", result.getFailed());
+        }
+        Map<String, Object> dataToPrint = new HashMap<>();
+        dataToPrint.put("total", result.getTotal());
+        dataToPrint.put("skipped", result.getSkipped());
+        dataToPrint.put("succeeded", result.getSucceeded());
+        dataToPrint.put("failed", result.getFailed());
+        dataToPrint.put("elapsed ms", result.getElapsedMillis());
+        dataToPrint.put("services per second", result.getThroughput());
+        writeReport(dataToPrint);
+    }
+
+    private synchronized void writeReport(Map<String, Object> dataToPrint) {
         try {
             getReportWriter().report(dataToPrint);
         } catch (IOException e) {
             ConsoleWriter.dataLine("\nFailed to created report file.");
         }
     }
+
+    /**
+     * Outcome of a bulk CSAR generation run.
+     */
+    public static class BulkGenerationResult {
+
+        private final int total;
+        private final int skipped;
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final List<String> failed = Collections.synchronizedList(new ArrayList<>());
+        private long elapsedMillis;
+
+        BulkGenerationResult(int total, int skipped) {
+            this.total = total;
+            this.skipped = skipped;
+        }
+
+        void addFailure(String uuid) {
+            failed.add(uuid);
+        }
+
+        void setElapsedMillis(long elapsedMillis) {
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public int getSkipped() {
+            return skipped;
+        }
+
+        public int getSucceeded() {
+            return succeeded.get();
+        }
+
+        public List<String> getFailed() {
+            synchronized (failed) {
+                return new ArrayList<>(failed);
+            }
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        public double getThroughput() {
+            return elapsedMillis > 0 ? getSucceeded() * 1000.0 / elapsedMillis : 0;
+        }
+    }
 }
@@ -19,6 +19,8 @@
  */
 package org.openecomp.sdc.asdctool.main;
 
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Scanner;
 import org.openecomp.sdc.asdctool.configuration.ConfigurationUploader;
 import org.openecomp.sdc.asdctool.configuration.CsarGeneratorConfiguration;
@@ -29,8 +31,8 @@ import org.springframework.context.annotation.AnnotationConfigApplicationContext
 public class CsarGeneratorTool extends SdcInternalTool {
 
     public static void main(String[] args) {
-        if (args == null) {
-            ConsoleWriter.dataLine("Usage: <configuration dir> ");
+        if (args == null || args.length == 0) {
+            ConsoleWriter.dataLine("Usage: <configuration dir> [bulk <workers> <checkpoint file> <max cassandra writes per second>]");
             System.exit(1);
         }
         String appConfigDir = args[0];
@@ -38,6 +40,9 @@ public class CsarGeneratorTool extends SdcInternalTool {
         ConfigurationUploader.uploadConfigurationFiles(appConfigDir);
         try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(CsarGeneratorConfiguration.class)) {
             CsarGenerator csarGenerator = context.getBean(CsarGenerator.class);
+            if (args.length > 1 && "bulk".equals(args[1])) {
+                System.exit(generateAll(csarGenerator, args));
+            }
             ConsoleWriter.dataLine("STARTED... ");
             String input = "";
             Scanner scanner = new Scanner(System.in);
@@ -58,4 +63,20 @@ public class CsarGeneratorTool extends SdcInternalTool {
             System.exit(0);
         }
     }
+
+    private static int generateAll(CsarGenerator csarGenerator, String[] args) {
+        int workers = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        String checkpointFile = args.length > 3 ? args[3] : "csar_generator_checkpoint.txt";
+        double maxWritesPerSecond = args.length > 4 ? Double.parseDouble(args[4]) : 0;
+        ConsoleWriter.dataLine("STARTED bulk generation with workers", workers);
+        try {
+            CsarGenerator.BulkGenerationResult result = csarGenerator.generateAllCsars(workers, Paths.get(checkpointFile), maxWritesPerSecond);
+            return result.getFailed().isEmpty() ? 0 : 2;
+        } catch (IOException e) {
+            ConsoleWriter.dataLine("Failed to access checkpoint file ", checkpointFile);
+            return 1;
+        } finally {
+            csarGenerator.closeAll();
+        }
+    }
 }
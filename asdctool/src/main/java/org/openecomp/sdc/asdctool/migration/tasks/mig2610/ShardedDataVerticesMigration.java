@@ -0,0 +1,108 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.asdctool.migration.tasks.mig2610;
+
+import fj.data.Either;
+import java.math.BigInteger;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.openecomp.sdc.asdctool.migration.core.DBVersion;
+import org.openecomp.sdc.asdctool.migration.core.task.Migration;
+import org.openecomp.sdc.asdctool.migration.core.task.MigrationResult;
+import org.openecomp.sdc.be.config.ConfigurationManager;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphDao;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
+import org.openecomp.sdc.be.dao.jsongraph.GraphVertex;
+import org.openecomp.sdc.be.dao.jsongraph.types.JsonParseFlagEnum;
+import org.openecomp.sdc.be.dao.jsongraph.types.VertexTypeEnum;
+import org.openecomp.sdc.be.datatypes.enums.GraphPropertyEnum;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Converts the existing per instance data vertices to the sharded layout, one data vertex per transaction. Runs only when
+ * janusGraphShardedDataVertices is enabled; when it is enabled later on, the data vertices are converted as they are next updated.
+ * <p>
+ * Migrations only run when their version is above the latest one recorded in the database, so the version is a major of its own, above
+ * the majors recorded by the previous releases.
+ */
+@Component
+public class ShardedDataVerticesMigration implements Migration {
+
+    private static final Logger log = Logger.getLogger(ShardedDataVerticesMigration.class.getName());
+    @Autowired
+    private JanusGraphDao janusGraphDao;
+
+    @Override
+    public String description() {
+        return "store the per instance data vertices one shard per component instance";
+    }
+
+    @Override
+    public DBVersion getVersion() {
+        return DBVersion.from(BigInteger.valueOf(2610), BigInteger.valueOf(0));
+    }
+
+    @Override
+    public MigrationResult migrate() {
+        if (!ConfigurationManager.getConfigurationManager().getConfiguration().isJanusGraphShardedDataVertices()) {
+            log.info("The sharded data vertices layout is disabled, no data vertex is converted");
+            return MigrationResult.success();
+        }
+        for (VertexTypeEnum label : JanusGraphDao.getShardedDataVertexLabels()) {
+            MigrationResult result = shardDataVertices(label);
+            if (result.getMigrationStatus() != MigrationResult.MigrationStatus.COMPLETED) {
+                return result;
+            }
+        }
+        return MigrationResult.success();
+    }
+
+    private MigrationResult shardDataVertices(VertexTypeEnum label) {
+        Map<GraphPropertyEnum, Object> hasNotProps = new EnumMap<>(GraphPropertyEnum.class);
+        hasNotProps.put(GraphPropertyEnum.IS_SHARDED, true);
+        Either<List<GraphVertex>, JanusGraphOperationStatus> dataVertices = janusGraphDao
+            .getByCriteria(label, null, hasNotProps, JsonParseFlagEnum.NoParse);
+        if (dataVertices.isRight()) {
+            janusGraphDao.rollback();
+            if (dataVertices.right().value() == JanusGraphOperationStatus.NOT_FOUND) {
+                return MigrationResult.success();
+            }
+            return MigrationResult.error("failed to get the " + label.getName() + " data vertices, status is " + dataVertices.right().value());
+        }
+        List<String> ids = dataVertices.left().value().stream().map(GraphVertex::getUniqueId).collect(Collectors.toList());
+        janusGraphDao.rollback();
+        log.info("Converting {} {} data vertices to the sharded layout", ids.size(), label.getName());
+        for (String id : ids) {
+            Either<GraphVertex, JanusGraphOperationStatus> updated = janusGraphDao.getVertexById(id, JsonParseFlagEnum.ParseJson)
+                .left().bind(janusGraphDao::updateVertex);
+            if (updated.isRight()) {
+                janusGraphDao.rollback();
+                return MigrationResult.error("failed to convert data vertex " + id + " to the sharded layout, status is " + updated.right().value());
+            }
+            JanusGraphOperationStatus commit = janusGraphDao.commit();
+            if (commit != JanusGraphOperationStatus.OK) {
+                return MigrationResult.error("failed to commit the sharded layout of data vertex " + id + ", status is " + commit);
+            }
+        }
+        return MigrationResult.success();
+    }
+}
@@ -21,13 +21,16 @@ import fj.data.Either;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.BeforeClass;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.dao.cassandra.ArtifactCassandraDao;
+import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
 import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
 import org.openecomp.sdc.be.dao.jsongraph.GraphVertex;
 import org.openecomp.sdc.be.dao.janusgraph.JanusGraphDao;
@@ -53,7 +56,12 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
@@ -62,12 +70,16 @@ import java.util.Objects;
 import java.util.Scanner;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public class CsarGeneratorTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @InjectMocks
     private CsarGenerator test;
 
@@ -237,6 +249,7 @@ public class CsarGeneratorTest {
 
         when(csarUtils.createCsar(component, true, true))
             .thenReturn(Either.left(PAYLOAD.getBytes()));
+        when(artifactCassandraDao.saveArtifact(any())).thenReturn(CassandraOperationStatus.OK);
 
         // when
         test.generateCsar(UUID, scanner);
@@ -298,6 +311,78 @@ public class CsarGeneratorTest {
         assertEquals("", consoleOutput[10]);
     }
 
+    @Test
+    public void testGenerateAllCsarsSkipsCheckpointedServices() throws Exception {
+        // given
+        Path checkpoint = temporaryFolder.newFile().toPath();
+        Files.write(checkpoint, Collections.singletonList("done"), StandardCharsets.UTF_8);
+        GraphVertex pending = mockBulkServices();
+
+        when(toscaTemplate.getArtifactLabel()).thenReturn(TEMPLATE_LABEL);
+        when(toscaTemplate.getPayloadData()).thenReturn(PAYLOAD.getBytes());
+        when(toscaTemplate.getArtifactType()).thenReturn(ArtifactTypeEnum.TOSCA_TEMPLATE.getType());
+        toscaArtifact.put("toscaTemplate", toscaTemplate);
+        when(toscaCsar.getArtifactLabel()).thenReturn(CSAR_LABEL);
+        when(toscaCsar.getPayloadData()).thenReturn(PAYLOAD.getBytes());
+        when(toscaCsar.getArtifactType()).thenReturn(ArtifactTypeEnum.TOSCA_CSAR.getType());
+        toscaArtifact.put("toscaCsar", toscaCsar);
+        when(component.getUniqueId()).thenReturn(UNIQUE_ID);
+        when(component.getToscaArtifacts()).thenReturn(toscaArtifact);
+
+        when(toscaOperationFacade.getToscaFullElement(UNIQUE_ID)).thenReturn(Either.left(component));
+        when(janusGraphDao.getChildVertex(pending, EdgeLabelEnum.TOSCA_ARTIFACTS, JsonParseFlagEnum.ParseJson))
+            .thenReturn(Either.right(JanusGraphOperationStatus.NOT_FOUND));
+        when(toscaExportHandler.exportComponent(component)).thenReturn(Either.left(ToscaRepresentation.make(PAYLOAD.getBytes())));
+        when(csarUtils.createCsar(component, true, true)).thenReturn(Either.left(PAYLOAD.getBytes()));
+        when(artifactCassandraDao.saveArtifact(any())).thenReturn(CassandraOperationStatus.OK);
+        when(janusGraphDao.commit()).thenReturn(JanusGraphOperationStatus.OK);
+
+        // when
+        CsarGenerator.BulkGenerationResult result = test.generateAllCsars(2, checkpoint, 100);
+
+        // then
+        assertEquals(2, result.getTotal());
+        assertEquals(1, result.getSkipped());
+        assertEquals(1, result.getSucceeded());
+        assertTrue(result.getFailed().isEmpty());
+        assertEquals(Arrays.asList("done", UNIQUE_ID), Files.readAllLines(checkpoint, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testGenerateAllCsarsReportsFailedServices() throws Exception {
+        // given
+        Path checkpoint = temporaryFolder.getRoot().toPath().resolve("checkpoint.txt");
+        Files.write(checkpoint, Collections.singletonList("done"), StandardCharsets.UTF_8);
+        mockBulkServices();
+        when(toscaOperationFacade.getToscaFullElement(UNIQUE_ID))
+            .thenReturn(Either.right(StorageOperationStatus.MATCH_NOT_FOUND));
+
+        // when
+        CsarGenerator.BulkGenerationResult result = test.generateAllCsars(2, checkpoint, 0);
+
+        // then
+        assertEquals(0, result.getSucceeded());
+        assertEquals(Collections.singletonList(UUID), result.getFailed());
+        assertEquals(Collections.singletonList("done"), Files.readAllLines(checkpoint, StandardCharsets.UTF_8));
+    }
+
+    private GraphVertex mockBulkServices() {
+        GraphVertex done = new GraphVertex();
+        done.setUniqueId("done");
+        done.addMetadataProperty(GraphPropertyEnum.UUID, "doneUuid");
+        graphVertex.setUniqueId(UNIQUE_ID);
+        graphVertex.addMetadataProperty(GraphPropertyEnum.UUID, UUID);
+        criteria.add(done);
+        criteria.add(graphVertex);
+
+        service.put(GraphPropertyEnum.STATE, LifecycleStateEnum.CERTIFIED.name());
+        service.put(GraphPropertyEnum.COMPONENT_TYPE, ComponentTypeEnum.SERVICE.name());
+        when(janusGraphDao.getByCriteria(VertexTypeEnum.TOPOLOGY_TEMPLATE, service, JsonParseFlagEnum.NoParse))
+            .thenReturn(Either.left(criteria));
+        when(janusGraphDao.getVertexById(UNIQUE_ID, JsonParseFlagEnum.NoParse)).thenReturn(Either.left(graphVertex));
+        return graphVertex;
+    }
+
     private void checkBasicInformation(String[] consoleOutput) {
         assertEquals("component from type\t" + ComponentTypeEnum.SERVICE.name(), consoleOutput[0]);
         assertEquals("component name", consoleOutput[1]);
@@ -40,6 +40,7 @@ import org.openecomp.sdc.asdctool.migration.core.task.Migration;
 import org.openecomp.sdc.asdctool.migration.core.task.MigrationResult;
 import org.openecomp.sdc.asdctool.migration.dao.MigrationTasksDao;
 import org.openecomp.sdc.asdctool.migration.service.SdcRepoService;
+import org.openecomp.sdc.asdctool.migration.tasks.mig2610.ShardedDataVerticesMigration;
 import org.openecomp.sdc.be.dao.cassandra.CassandraClient;
 
 @ExtendWith(MockitoExtension.class)
@@ -80,6 +81,20 @@ class SpringBeansMigrationResolverTest {
         assertEquals(resolvedMigrations.get(2).getVersion(), DBVersion.fromString("1710.22"));
     }
 
+    @Test
+    void testResolveMigrations_shardedDataVerticesMigrationIsSelected() {
+        Migration shardedDataVerticesMigration = new ShardedDataVerticesMigration();
+        testInstance.setMigrations(Collections.singletonList(shardedDataVerticesMigration));
+        testInstance.setPostMigrations(Collections.emptyList());
+        // a database without recorded tasks, and one with the tasks of a later release recorded
+        for (DBVersion latestDBVersion : Arrays.asList(DBVersion.DEFAULT_VERSION, DBVersion.fromString("2002.3"))) {
+            when(sdcRepoServiceMock.getLatestDBVersion()).thenReturn(latestDBVersion);
+            assertEquals(Collections.singletonList(shardedDataVerticesMigration), testInstance.resolveMigrations());
+        }
+        when(sdcRepoServiceMock.getLatestDBVersion()).thenReturn(shardedDataVerticesMigration.getVersion());
+        assertTrue(testInstance.resolveMigrations().isEmpty());
+    }
+
     @Test
     void testResolveMigrations_emptyMigrationsList() {
         testInstance.setMigrations(Collections.emptyList());
@@ -59,13 +59,14 @@ public class MigrationTasksTest  {
     }
 
     @Test
-    public void testNoTaskWithVersionGreaterThanCurrentVersion() throws Exception {
-        Set<Migration> migrationsWithVersionsGreaterThanCurrent = migrations.stream().filter(mig -> mig.getVersion().compareTo(DBVersion.DEFAULT_VERSION) > 0)
+    public void testNoTaskWithVersionNotGreaterThanDefaultVersion() throws Exception {
+        // the default version is the latest version of a database without any recorded task, only greater versions are run
+        Set<Migration> migrationsWithVersionsNotGreaterThanDefault = migrations.stream().filter(mig -> mig.getVersion().compareTo(DBVersion.DEFAULT_VERSION) <= 0)
                 .collect(Collectors.toSet());
 
-        if (!migrationsWithVersionsGreaterThanCurrent.isEmpty()) {
-            fail(String.format("migrations tasks %s have version which is greater than DBVersion.DEFAULT_VERSION %s. did you forget to update current version?",
-                    getMigrationsNameAsString(migrationsWithVersionsGreaterThanCurrent),
+        if (!migrationsWithVersionsNotGreaterThanDefault.isEmpty()) {
+            fail(String.format("migrations tasks %s have version which is not greater than DBVersion.DEFAULT_VERSION %s. they would never run",
+                    getMigrationsNameAsString(migrationsWithVersionsNotGreaterThanDefault),
                     DBVersion.DEFAULT_VERSION.toString()));
         }
     }
@@ -0,0 +1,278 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.auditing.impl;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.openecomp.sdc.be.config.Configuration.AsyncAuditConfig;
+import org.openecomp.sdc.be.dao.cassandra.AuditCassandraDao;
+import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingGenericEvent;
+import org.openecomp.sdc.common.log.enums.EcompLoggerErrorCode;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes audit events to Cassandra from a background flusher thread, so that requests do not wait for the audit insert. Events are kept in
+ * a bounded queue and written in batches; when the queue is full the configured overflow policy applies. On shutdown the queue is drained,
+ * so no event accepted on a clean stop is lost. Once shutdown has started no event is queued any more, later events are written on the
+ * calling thread.
+ */
+@Component
+public class AsyncAuditWriter implements AsyncAuditWriterMBean {
+
+    private static final Logger log = Logger.getLogger(AsyncAuditWriter.class.getName());
+    private static final String OVERFLOW_POLICY_DROP = "DROP";
+    private static final String MBEAN_NAME = "org.openecomp.sdc.be.auditing:type=AsyncAuditWriter";
+    private final AuditCassandraDao cassandraDao;
+    private final ConfigurationProvider configurationProvider;
+    private final AtomicLong writtenEvents = new AtomicLong();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong failedEvents = new AtomicLong();
+    private final AtomicLong callerRunsEvents = new AtomicLong();
+    private final AtomicLong lastFlushLatencyInMillis = new AtomicLong();
+    private final AtomicLong maxFlushLatencyInMillis = new AtomicLong();
+    // writers hold the read lock while queueing, shutdown takes the write lock to stop accepting events before the final drain
+    private final ReadWriteLock acceptLock = new ReentrantReadWriteLock();
+    private AsyncAuditConfig config;
+    private BlockingQueue<AuditingGenericEvent> queue;
+    private ExecutorService flusher;
+    private volatile boolean running;
+
+    public AsyncAuditWriter(AuditCassandraDao cassandraDao, ConfigurationProvider configurationProvider) {
+        this.cassandraDao = cassandraDao;
+        this.configurationProvider = configurationProvider;
+    }
+
+    @PostConstruct
+    public void init() {
+        config = configurationProvider.getConfiguration().getAsyncAudit();
+        if (config == null || !config.isEnabled()) {
+            log.info("Asynchronous audit is disabled, audit events are written on the request thread");
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(config.getQueueCapacity());
+        running = true;
+        flusher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "audit-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.submit(this::flushLoop);
+        registerMBean();
+        log.info("Asynchronous audit started with configuration {}", config);
+    }
+
+    public boolean isEnabled() {
+        return running;
+    }
+
+    /**
+     * Queues the event to be written by the flusher. When the writer is stopped the event is written on the calling thread.
+     *
+     * @param event the audit event
+     */
+    public void write(AuditingGenericEvent event) {
+        if (!running || !enqueue(event)) {
+            writeOnCaller(event);
+        }
+    }
+
+    /**
+     * @return false if the event was neither queued nor dropped and has to be written on the calling thread
+     */
+    private boolean enqueue(AuditingGenericEvent event) {
+        acceptLock.readLock().lock();
+        try {
+            if (!running) {
+                return false;
+            }
+            if (queue.offer(event)) {
+                return true;
+            }
+            if (OVERFLOW_POLICY_DROP.equalsIgnoreCase(config.getOverflowPolicy())) {
+                long dropped = droppedEvents.incrementAndGet();
+                log.warn(EcompLoggerErrorCode.AVAILABILITY_TIMEOUTS_ERROR, "AsyncAuditWriter", "catalog-be",
+                    "Audit queue is full, dropping audit event {}. Total dropped: {}", event.getAction(), dropped);
+                return true;
+            }
+            try {
+                if (queue.offer(event, config.getOfferTimeoutInMillis(), TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            callerRunsEvents.incrementAndGet();
+            return false;
+        } finally {
+            acceptLock.readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        acceptLock.writeLock().lock();
+        try {
+            if (!running) {
+                return;
+            }
+            // waits for the writers which are queueing, the ones coming after write on their own thread
+            running = false;
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(config.getShutdownTimeoutInSeconds(), TimeUnit.SECONDS)) {
+                log.warn("Audit flusher did not stop within {} seconds", config.getShutdownTimeoutInSeconds());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // events the flusher did not get to before stopping are written here
+        List<AuditingGenericEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+        unregisterMBean();
+        log.info("Asynchronous audit stopped. written: {}, failed: {}, dropped: {}", writtenEvents.get(), failedEvents.get(),
+            droppedEvents.get());
+    }
+
+    private void flushLoop() {
+        List<AuditingGenericEvent> batch = new ArrayList<>(config.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditingGenericEvent first = queue.poll(config.getFlushIntervalInMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, config.getBatchSize() - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error(EcompLoggerErrorCode.UNKNOWN_ERROR, "AsyncAuditWriter", "catalog-be", "Unexpected error while flushing audit events", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<AuditingGenericEvent> batch) {
+        long start = System.currentTimeMillis();
+        CassandraOperationStatus result = cassandraDao.saveRecords(batch);
+        if (result == CassandraOperationStatus.OK) {
+            writtenEvents.addAndGet(batch.size());
+        } else {
+            // find out which events failed, so that a single bad event does not lose the whole batch
+            log.debug("Failed to write a batch of {} audit events: {}, retrying one by one", batch.size(), result);
+            batch.forEach(this::writeOnCaller);
+        }
+        long latency = System.currentTimeMillis() - start;
+        lastFlushLatencyInMillis.set(latency);
+        maxFlushLatencyInMillis.accumulateAndGet(latency, Math::max);
+    }
+
+    private void writeOnCaller(AuditingGenericEvent event) {
+        CassandraOperationStatus result = cassandraDao.saveRecord(event);
+        if (result == CassandraOperationStatus.OK) {
+            writtenEvents.incrementAndGet();
+        } else {
+            failedEvents.incrementAndGet();
+            log.warn(EcompLoggerErrorCode.SCHEMA_ERROR, "AuditingManager", "catalog-be", "Failed to persist to cassandra auditing event: {}",
+                result == null ? null : result.name());
+        }
+    }
+
+    private void registerMBean() {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(MBEAN_NAME);
+            if (!mBeanServer.isRegistered(objectName)) {
+                mBeanServer.registerMBean(this, objectName);
+            }
+        } catch (Exception e) {
+            log.debug("Failed to register the asynchronous audit metrics MBean", e);
+        }
+    }
+
+    private void unregisterMBean() {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(MBEAN_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+        } catch (Exception e) {
+            log.debug("Failed to unregister the asynchronous audit metrics MBean", e);
+        }
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return queue == null ? 0 : queue.size();
+    }
+
+    @Override
+    public long getWrittenEvents() {
+        return writtenEvents.get();
+    }
+
+    @Override
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    @Override
+    public long getFailedEvents() {
+        return failedEvents.get();
+    }
+
+    @Override
+    public long getCallerRunsEvents() {
+        return callerRunsEvents.get();
+    }
+
+    @Override
+    public long getLastFlushLatencyInMillis() {
+        return lastFlushLatencyInMillis.get();
+    }
+
+    @Override
+    public long getMaxFlushLatencyInMillis() {
+        return maxFlushLatencyInMillis.get();
+    }
+}
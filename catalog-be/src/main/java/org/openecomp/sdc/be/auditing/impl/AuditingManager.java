@@ -34,6 +34,7 @@ import org.openecomp.sdc.common.log.enums.Severity;
 import org.openecomp.sdc.common.log.wrappers.Logger;
 import org.openecomp.sdc.common.log.wrappers.LoggerSdcAudit;
 import org.slf4j.MarkerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -42,10 +43,17 @@ public class AuditingManager {
     private static final Logger log = Logger.getLogger(AuditingManager.class.getName());
     private final AuditCassandraDao cassandraDao;
     private final ConfigurationProvider configurationProvider;
+    private final AsyncAuditWriter asyncAuditWriter;
 
     public AuditingManager(AuditCassandraDao cassandraDao, ConfigurationProvider configurationProvider) {
+        this(cassandraDao, configurationProvider, null);
+    }
+
+    @Autowired
+    public AuditingManager(AuditCassandraDao cassandraDao, ConfigurationProvider configurationProvider, AsyncAuditWriter asyncAuditWriter) {
         this.cassandraDao = cassandraDao;
         this.configurationProvider = configurationProvider;
+        this.asyncAuditWriter = asyncAuditWriter;
     }
 
     public String auditEvent(AuditEventFactory factory) {
@@ -71,6 +79,10 @@ public class AuditingManager {
     }
 
     private void saveEventToCassandra(AuditingGenericEvent event) {
+        if (asyncAuditWriter != null && asyncAuditWriter.isEnabled()) {
+            asyncAuditWriter.write(event);
+            return;
+        }
         CassandraOperationStatus result = cassandraDao.saveRecord(event);
         if (result != CassandraOperationStatus.OK) {
             log.warn(EcompLoggerErrorCode.SCHEMA_ERROR, "AuditingManager", "catalog-be", "Failed to persist to cassandra auditing event: {}", result.name());
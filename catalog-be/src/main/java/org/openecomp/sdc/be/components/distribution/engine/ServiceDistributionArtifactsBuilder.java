@@ -21,6 +21,7 @@ package org.openecomp.sdc.be.components.distribution.engine;
 
 import fj.data.Either;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -36,6 +37,7 @@ import org.openecomp.sdc.be.model.Service;
 import org.openecomp.sdc.be.model.category.CategoryDefinition;
 import org.openecomp.sdc.be.model.category.SubCategoryDefinition;
 import org.openecomp.sdc.be.model.jsonjanusgraph.operations.ToscaOperationFacade;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
 import org.openecomp.sdc.be.model.operations.impl.ArtifactOperation;
 import org.openecomp.sdc.be.model.operations.impl.InterfaceLifecycleOperation;
 import org.openecomp.sdc.common.api.ArtifactTypeEnum;
@@ -158,22 +160,38 @@ public class ServiceDistributionArtifactsBuilder {
     private List<JsonContainerResourceInstance> convertRIsToJsonContanier(Service service) {
         List<JsonContainerResourceInstance> ret = new ArrayList<>();
         if (service.getComponentInstances() != null) {
+            Map<String, Resource> resources = getInstancesOrigins(service.getComponentInstances());
             for (ComponentInstance instance : service.getComponentInstances()) {
                 JsonContainerResourceInstance jsonContainer = new JsonContainerResourceInstance(instance,
                     convertToArtifactsInfoImpl(service, instance));
-                ComponentParametersView filter = new ComponentParametersView();
-                filter.disableAll();
-                filter.setIgnoreCategories(false);
-                toscaOperationFacade.getToscaElement(instance.getComponentUid(), filter).left().bind(r -> {
-                    fillJsonContainer(jsonContainer, (Resource) r);
-                    return Either.left(r);
-                }).right().forEach(r -> logger.debug("Resource {} Invariant UUID & Categories retrieving failed", instance.getComponentUid()));
+                Resource resource = resources.get(instance.getComponentUid());
+                if (resource != null) {
+                    fillJsonContainer(jsonContainer, resource);
+                } else {
+                    logger.debug("Resource {} Invariant UUID & Categories retrieving failed", instance.getComponentUid());
+                }
                 ret.add(jsonContainer);
             }
         }
         return ret;
     }
 
+    /**
+     * Reads the invariant UUID and categories of the origins of all instances at once.
+     */
+    private Map<String, Resource> getInstancesOrigins(List<ComponentInstance> instances) {
+        ComponentParametersView filter = new ComponentParametersView();
+        filter.disableAll();
+        filter.setIgnoreCategories(false);
+        List<String> componentUids = instances.stream().map(ComponentInstance::getComponentUid).collect(Collectors.toList());
+        Either<Map<String, Resource>, StorageOperationStatus> resources = toscaOperationFacade.getToscaElements(componentUids, filter);
+        if (resources.isRight()) {
+            logger.debug("Resources {} Invariant UUID & Categories retrieving failed, error {}", componentUids, resources.right().value());
+            return Collections.emptyMap();
+        }
+        return resources.left().value();
+    }
+
     private void fillJsonContainer(JsonContainerResourceInstance jsonContainer, Resource resource) {
         jsonContainer.setResourceInvariantUUID(resource.getInvariantUUID());
         setCategories(jsonContainer, resource.getCategories());
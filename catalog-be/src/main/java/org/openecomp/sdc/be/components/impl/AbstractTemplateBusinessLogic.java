@@ -17,17 +17,19 @@ package org.openecomp.sdc.be.components.impl;
 
 import fj.data.Either;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.Setter;
-import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.openecomp.sdc.be.components.validation.ServiceDistributionValidation;
 import org.openecomp.sdc.be.externalapi.servlet.representation.AbstractResourceInfo;
 import org.openecomp.sdc.be.externalapi.servlet.representation.AbstractTemplateInfo;
 import org.openecomp.sdc.be.model.Component;
 import org.openecomp.sdc.be.model.ComponentInstance;
+import org.openecomp.sdc.be.model.ComponentParametersView;
 import org.openecomp.sdc.be.model.RequirementCapabilityRelDef;
 import org.openecomp.sdc.be.model.Resource;
 import org.openecomp.sdc.be.model.Service;
@@ -91,27 +93,29 @@ public class AbstractTemplateBusinessLogic extends BaseBusinessLogic {
                                                                           AbstractTemplateInfo abstractTemplateInfo,
                                                                           List<RequirementCapabilityRelDef> componentInstancesRelations,
                                                                           String serviceUniqueId) {
-        Map<String, ImmutablePair<String, String>> uuidDuplicatesMap = new HashMap<>();
+        List<String> componentUids = componentInstances.stream().map(ComponentInstance::getComponentUid).collect(Collectors.toList());
+        Either<Map<String, Resource>, StorageOperationStatus> eitherResources = toscaOperationFacade
+            .getToscaElements(componentUids, new ComponentParametersView());
+        if (eitherResources.isRight()) {
+            log.debug("getEveryServiceAbstractStatus: Failed getting resources with UUids: {}", componentUids);
+            ResponseFormat responseFormat = componentsUtils.getResponseFormat(eitherResources.right().value());
+            return Either.right(responseFormat);
+        }
+        Map<String, Resource> resources = eitherResources.left().value();
+        Set<String> handledComponentUids = new HashSet<>();
         List<AbstractResourceInfo> abstractResourceInfoList = new ArrayList<>();
         Boolean isContainAbstractResource = false;
         for (ComponentInstance componentInstance : componentInstances) {
             String componentUid = componentInstance.getComponentUid();
-            String invariantUUID, resourceUUID;
-            if (!uuidDuplicatesMap.containsKey(componentUid)) {
-                Either<Resource, StorageOperationStatus> eitherResource = toscaOperationFacade.getToscaElement(componentInstance.getComponentUid());
-                if (eitherResource.isRight()) {
-                    log.debug("getEveryServiceAbstractStatus: Failed getting resource with UUid: {}", componentInstance.getComponentUid());
-                    ResponseFormat responseFormat = componentsUtils.getResponseFormat(eitherResource.right().value());
+            if (handledComponentUids.add(componentUid)) {
+                final Resource resource = resources.get(componentUid);
+                if (resource == null) {
+                    log.debug("getEveryServiceAbstractStatus: Failed getting resource with UUid: {}", componentUid);
+                    ResponseFormat responseFormat = componentsUtils.getResponseFormat(StorageOperationStatus.NOT_FOUND);
                     return Either.right(responseFormat);
-                } else {
-                    final Resource resource = eitherResource.left().value();
-                    invariantUUID = resource.getInvariantUUID();
-                    resourceUUID = resource.getUUID();
-                    ImmutablePair<String, String> uuidInvariantUUIDPair = new ImmutablePair<>(resourceUUID, invariantUUID);
-                    uuidDuplicatesMap.put(componentUid, uuidInvariantUUIDPair);
-                    isContainAbstractResource = getResourceAbstractStatus(resource, isContainAbstractResource, componentInstancesRelations,
-                        serviceUniqueId, abstractResourceInfoList);
                 }
+                isContainAbstractResource = getResourceAbstractStatus(resource, isContainAbstractResource, componentInstancesRelations,
+                    serviceUniqueId, abstractResourceInfoList);
             }
         }
         abstractTemplateInfo.setIsAbstractTemplate(isContainAbstractResource);
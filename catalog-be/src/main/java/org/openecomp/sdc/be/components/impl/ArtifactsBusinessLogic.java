@@ -28,6 +28,9 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import fj.data.Either;
 import io.vavr.control.Option;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -692,19 +695,60 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
         return downloadArtifact(csarArtifact);
     }
 
+    /**
+     * Writes the CSAR of the component to the given stream, like {@link #handleDownloadToscaModelRequest}, without holding it in memory: a
+     * generated CSAR is written entry by entry and a stored one is copied from Cassandra chunk by chunk. The given stream is not closed.
+     *
+     * @return the name of the CSAR
+     */
+    public String writeToscaModel(Component component, ArtifactDefinition csarArtifact, OutputStream outputStream) {
+        if (artifactGenerationRequired(component, csarArtifact)) {
+            Either<Boolean, ResponseFormat> generated = csarUtils.createCsar(component, false, false, outputStream);
+            if (generated.isRight()) {
+                log.debug("Failed to export tosca csar for component {} error {}", component.getUniqueId(), generated.right().value());
+                throw new ByResponseFormatComponentException(generated.right().value());
+            }
+            return csarArtifact.getArtifactName();
+        }
+        Either<InputStream, CassandraOperationStatus> payload = artifactCassandraDao.getArtifactStream(csarArtifact.getEsId());
+        if (payload.isRight()) {
+            throw new ByActionStatusComponentException(convertCassandraStatus(payload.right().value()), csarArtifact.getArtifactDisplayName());
+        }
+        try (InputStream csar = payload.left().value()) {
+            csar.transferTo(outputStream);
+        } catch (IOException e) {
+            log.debug("Failed to write tosca csar of component {}", component.getUniqueId(), e);
+            throw new ByActionStatusComponentException(ActionStatus.GENERAL_ERROR);
+        }
+        return csarArtifact.getArtifactName();
+    }
+
     public ImmutablePair<String, byte[]> handleDownloadRequestById(String componentId, String artifactId, String userId,
                                                                    ComponentTypeEnum componentType, String parentId, String containerComponentType) {
+        return downloadArtifactPayload(getArtifactToDownload(componentId, artifactId, userId, componentType, parentId, containerComponentType));
+    }
+
+    /**
+     * Validates a download request by id, like {@link #handleDownloadRequestById}, without reading the payload
+     *
+     * @return the artifact to download, its payload is set when it is generated on download
+     */
+    public ArtifactDefinition getArtifactToDownload(String componentId, String artifactId, String userId, ComponentTypeEnum componentType,
+                                                    String parentId, String containerComponentType) {
         // perform all validation in common flow
         Either<ArtifactDefinition, Operation> result = handleArtifactRequest(componentId, userId, componentType,
             new ArtifactOperationInfo(false, false, ArtifactOperationEnum.DOWNLOAD), artifactId, null, null, null, null, null, parentId,
             containerComponentType);
-        ArtifactDefinition artifactDefinition;
-        Either<ArtifactDefinition, Operation> insideValue = result;
-        if (insideValue.isLeft()) {
-            artifactDefinition = insideValue.left().value();
-        } else {
-            artifactDefinition = insideValue.right().value().getImplementationArtifact();
+        if (result.isLeft()) {
+            return result.left().value();
         }
+        return result.right().value().getImplementationArtifact();
+    }
+
+    /**
+     * @return the name and the whole payload of an artifact returned by {@link #getArtifactToDownload}
+     */
+    public ImmutablePair<String, byte[]> downloadArtifactPayload(ArtifactDefinition artifactDefinition) {
         // for tosca artifacts and heat env on VF level generated on download without saving
         if (artifactDefinition.getPayloadData() != null) {
             return (new ImmutablePair<>(artifactDefinition.getArtifactName(), artifactDefinition.getPayloadData()));
@@ -3475,6 +3519,60 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
         return downloadArtifact(component.getAllArtifacts(), artifactUUID, component.getName());
     }
 
+    /**
+     * Finds the artifact of a component by UUIDs, without loading its payload
+     *
+     * @param componentType
+     * @param componentUuid
+     * @param artifactUUID
+     * @param resourceCommonInfo
+     * @return the artifact definition
+     */
+    public ArtifactDefinition getComponentArtifactByUUIDs(ComponentTypeEnum componentType, String componentUuid, String artifactUUID,
+                                                          ResourceCommonInfo resourceCommonInfo) {
+        Component component = getComponentByUuid(componentType, componentUuid);
+        resourceCommonInfo.setResourceName(component.getName());
+        return findArtifactByUUID(component.getAllArtifacts(), artifactUUID, component.getName());
+    }
+
+    /**
+     * Gets the payload size of the given artifact without loading the payload
+     *
+     * @param artifactDefinition
+     * @return the payload size in bytes
+     */
+    public long getArtifactPayloadSize(ArtifactDefinition artifactDefinition) {
+        Either<Long, CassandraOperationStatus> size = artifactCassandraDao.getArtifactSize(artifactDefinition.getEsId());
+        if (size.isRight()) {
+            throw new ByActionStatusComponentException(convertCassandraStatus(size.right().value()), artifactDefinition.getArtifactDisplayName());
+        }
+        return size.left().value();
+    }
+
+    /**
+     * Opens a stream on a byte range of the artifact payload. Only the payload chunks covering the range are read from Cassandra.
+     *
+     * @param artifactDefinition
+     * @param offset             the first byte to read
+     * @param length             the number of bytes to read
+     * @return the payload stream, to be closed by the caller
+     */
+    public InputStream downloadArtifactRange(ArtifactDefinition artifactDefinition, long offset, long length) {
+        Either<InputStream, CassandraOperationStatus> payload = artifactCassandraDao
+            .getArtifactStream(artifactDefinition.getEsId(), offset, length);
+        if (payload.isRight()) {
+            throw new ByActionStatusComponentException(convertCassandraStatus(payload.right().value()), artifactDefinition.getArtifactDisplayName());
+        }
+        return payload.left().value();
+    }
+
+    private ActionStatus convertCassandraStatus(CassandraOperationStatus cassandraStatus) {
+        StorageOperationStatus storageResponse = DaoStatusConverter.convertCassandraStatusToStorageStatus(cassandraStatus);
+        ActionStatus actionStatus = componentsUtils.convertFromStorageResponse(storageResponse);
+        log.debug("Error when getting artifact from Cassandra, error: {}", actionStatus);
+        return actionStatus;
+    }
+
     /**
      * downloads an artifact of resource instance of component by UUIDs
      *
@@ -4146,8 +4244,14 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
 
     private byte[] downloadArtifact(Map<String, ArtifactDefinition> artifacts, String artifactUUID, String componentName) {
         ImmutablePair<String, byte[]> downloadArtifact;
+        ArtifactDefinition deploymentArtifact = findArtifactByUUID(artifacts, artifactUUID, componentName);
+        downloadArtifact = downloadArtifact(deploymentArtifact);
+        log.trace("Succeeded to download artifact with uniqueId {}", deploymentArtifact.getUniqueId());
+        return downloadArtifact.getRight();
+    }
+
+    private ArtifactDefinition findArtifactByUUID(Map<String, ArtifactDefinition> artifacts, String artifactUUID, String componentName) {
         List<ArtifactDefinition> artifactsList = null;
-        ArtifactDefinition deploymentArtifact;
         if (artifacts != null && !artifacts.isEmpty()) {
             artifactsList = artifacts.values().stream().filter(art -> art.getArtifactUUID() != null && art.getArtifactUUID().equals(artifactUUID))
                 .collect(Collectors.toList());
@@ -4156,10 +4260,7 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
             log.debug("Deployment artifact with uuid {} was not found for component {}", artifactUUID, componentName);
             throw new ByActionStatusComponentException(ActionStatus.ARTIFACT_NOT_FOUND, artifactUUID);
         }
-        deploymentArtifact = artifactsList.get(0);
-        downloadArtifact = downloadArtifact(deploymentArtifact);
-        log.trace("Succeeded to download artifact with uniqueId {}", deploymentArtifact.getUniqueId());
-        return downloadArtifact.getRight();
+        return artifactsList.get(0);
     }
 
     private Component getLatestComponentByUuid(ComponentTypeEnum componentType, String componentUuid) {
@@ -22,6 +22,7 @@
 package org.openecomp.sdc.be.components.impl;
 
 import fj.data.Either;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -521,6 +522,23 @@ public abstract class ComponentBusinessLogic extends BaseBusinessLogic {
 
     public ImmutablePair<String, byte[]> getToscaModelByComponentUuid(ComponentTypeEnum componentType, String uuid,
                                                                       ResourceCommonInfo resourceCommonInfo) {
+        Component component = getToscaModelComponent(componentType, uuid, resourceCommonInfo);
+        return artifactsBusinessLogic.handleDownloadToscaModelRequest(component, getCsarArtifact(component));
+    }
+
+    /**
+     * Writes the CSAR of the component to the given stream, like {@link #getToscaModelByComponentUuid}, without holding it in memory. The
+     * given stream is not closed.
+     *
+     * @return the name of the CSAR
+     */
+    public String writeToscaModelByComponentUuid(ComponentTypeEnum componentType, String uuid, ResourceCommonInfo resourceCommonInfo,
+                                                 OutputStream outputStream) {
+        Component component = getToscaModelComponent(componentType, uuid, resourceCommonInfo);
+        return artifactsBusinessLogic.writeToscaModel(component, getCsarArtifact(component), outputStream);
+    }
+
+    private Component getToscaModelComponent(ComponentTypeEnum componentType, String uuid, ResourceCommonInfo resourceCommonInfo) {
         Either<List<Component>, StorageOperationStatus> latestVersionEither = toscaOperationFacade.getComponentListByUuid(uuid, null);
         if (latestVersionEither.isRight()) {
             throw new ByActionStatusComponentException(
@@ -536,6 +554,10 @@ public abstract class ComponentBusinessLogic extends BaseBusinessLogic {
                 componentsUtils.getResponseFormat(componentsUtils.convertFromStorageResponse(StorageOperationStatus.NOT_FOUND, componentType)));
         }
         resourceCommonInfo.setResourceName(component.getName());
+        return component;
+    }
+
+    private ArtifactDefinition getCsarArtifact(Component component) {
         // TODO remove after migration - handle artifact not found(no
 
         // placeholder)
@@ -543,9 +565,8 @@ public abstract class ComponentBusinessLogic extends BaseBusinessLogic {
             throw new ByResponseFormatComponentException(
                 componentsUtils.getResponseFormat(ActionStatus.ARTIFACT_NOT_FOUND, ArtifactTypeEnum.TOSCA_CSAR.name()));
         }
-        ArtifactDefinition csarArtifact = component.getToscaArtifacts().values().stream()
+        return component.getToscaArtifacts().values().stream()
             .filter(p -> p.getArtifactType().equals(ArtifactTypeEnum.TOSCA_CSAR.getType())).findAny().get();
-        return artifactsBusinessLogic.handleDownloadToscaModelRequest(component, csarArtifact);
     }
 
     protected StorageOperationStatus markComponentToDelete(Component component) {
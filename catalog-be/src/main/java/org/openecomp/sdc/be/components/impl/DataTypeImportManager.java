@@ -36,6 +36,8 @@ import org.openecomp.sdc.be.impl.ComponentsUtils;
 import org.openecomp.sdc.be.model.DataTypeDefinition;
 import org.openecomp.sdc.be.model.Model;
 import org.openecomp.sdc.be.model.PropertyDefinition;
+import org.openecomp.sdc.be.model.cache.DataTypeChange;
+import org.openecomp.sdc.be.model.cache.DataTypeChangeTransport;
 import org.openecomp.sdc.be.model.normatives.ElementTypeEnum;
 import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
 import org.openecomp.sdc.be.model.operations.impl.ModelOperation;
@@ -59,11 +61,17 @@ public class DataTypeImportManager {
     private CommonImportManager commonImportManager;
     @Resource
     private ModelOperation modelOperation;
+    @Resource
+    private DataTypeChangeTransport dataTypeChangeTransport;
 
     public Either<List<ImmutablePair<DataTypeDefinition, Boolean>>, ResponseFormat> createDataTypes(final String dataTypeYml, final String modelName,
                                                                                                     final boolean includeToModelDefaultImports) {
         final var elementTypes = commonImportManager.createElementTypes(
             dataTypeYml, dataTypesFromYml -> createDataTypesFromYml(dataTypeYml, modelName), this::createDataTypesByDao, ElementTypeEnum.DATA_TYPE);
+        if (elementTypes.isLeft()) {
+            // the data types are committed by now
+            dataTypeChangeTransport.publish(DataTypeChange.of(StringUtils.isEmpty(modelName) ? null : modelName));
+        }
 
         if (includeToModelDefaultImports && StringUtils.isNotEmpty(modelName)) {
             commonImportManager.addTypesToDefaultImports(ElementTypeEnum.DATA_TYPE, dataTypeYml, modelName);
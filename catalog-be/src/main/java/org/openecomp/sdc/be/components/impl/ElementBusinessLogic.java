@@ -80,6 +80,7 @@ import org.openecomp.sdc.be.model.Service;
 import org.openecomp.sdc.be.model.Tag;
 import org.openecomp.sdc.be.model.User;
 import org.openecomp.sdc.be.model.catalog.CatalogComponent;
+import org.openecomp.sdc.be.model.catalog.CatalogComponentsDelta;
 import org.openecomp.sdc.be.model.category.CategoryDefinition;
 import org.openecomp.sdc.be.model.category.GroupingDefinition;
 import org.openecomp.sdc.be.model.category.SubCategoryDefinition;
@@ -911,6 +912,40 @@ public class ElementBusinessLogic extends BaseBusinessLogic {
         }
     }
 
+    /**
+     * @return the version of the catalog screen data, empty when the catalog is not served from the catalog projection
+     */
+    public Optional<String> getCatalogVersion() {
+        try {
+            return toscaOperationFacade.getCatalogVersion();
+        } finally {
+            janusGraphDao.commit();
+        }
+    }
+
+    /**
+     * Returns the catalog components changed since the given catalog version, grouped by component type like
+     * {@link #getCatalogComponents(String, List)}, along with the new version, the ids of the components that left the catalog and whether
+     * the whole catalog was returned.
+     */
+    public Either<Map<String, Object>, ResponseFormat> getCatalogComponentsDelta(String userId, List<OriginTypeEnum> excludeTypes,
+                                                                                 String sinceVersion) {
+        try {
+            return toscaOperationFacade.getCatalogOrArchiveComponentsDelta(true, excludeTypes, sinceVersion)
+                .bimap(this::toDeltaResponse, err -> componentsUtils.getResponseFormat(componentsUtils.convertFromStorageResponse(err)));
+        } finally {
+            janusGraphDao.commit();
+        }
+    }
+
+    private Map<String, Object> toDeltaResponse(CatalogComponentsDelta delta) {
+        Map<String, Object> response = new HashMap<>(groupByComponentType(delta.getChanged()));
+        response.put("version", delta.getVersion());
+        response.put("full", delta.isFull());
+        response.put("removed", delta.getRemoved());
+        return response;
+    }
+
     private Map<String, List<CatalogComponent>> groupByComponentType(List<CatalogComponent> components) {
         Map<String, List<CatalogComponent>> map = components.stream()
             .collect(Collectors.groupingBy(cmpt -> cmptTypeToString(cmpt.getComponentType())));
@@ -31,6 +31,7 @@ import org.openecomp.sdc.be.components.impl.ComponentBusinessLogic;
 import org.openecomp.sdc.be.components.impl.ResourceBusinessLogic;
 import org.openecomp.sdc.be.components.impl.ServiceBusinessLogic;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
+import org.openecomp.sdc.be.dao.cassandra.ArtifactCassandraDao;
 import org.openecomp.sdc.be.datatypes.enums.NodeTypeEnum;
 import org.openecomp.sdc.be.model.jsonjanusgraph.operations.ArtifactsOperations;
 import org.openecomp.sdc.be.model.jsonjanusgraph.operations.InterfaceOperation;
@@ -53,6 +54,7 @@ public class ComponentsCleanBusinessLogic extends BaseBusinessLogic {
     private static final Logger log = Logger.getLogger(ComponentsCleanBusinessLogic.class.getName());
     private final ResourceBusinessLogic resourceBusinessLogic;
     private final ServiceBusinessLogic serviceBusinessLogic;
+    private ArtifactCassandraDao artifactCassandraDao;
 
     @Autowired
     public ComponentsCleanBusinessLogic(IElementOperation elementDao, IGroupOperation groupOperation, IGroupInstanceOperation groupInstanceOperation,
@@ -96,6 +98,9 @@ public class ComponentsCleanBusinessLogic extends BaseBusinessLogic {
                         break;
                 }
             }
+            if (isAlreadyLocked || isLockSucceeded) {
+                collectUnreferencedArtifactContents();
+            }
         } finally {
             if (!isAlreadyLocked && isLockSucceeded) {
                 unlockDeleteOperation();
@@ -105,6 +110,17 @@ public class ComponentsCleanBusinessLogic extends BaseBusinessLogic {
         return cleanedComponents;
     }
 
+    @Autowired
+    public void setArtifactCassandraDao(ArtifactCassandraDao artifactCassandraDao) {
+        this.artifactCassandraDao = artifactCassandraDao;
+    }
+
+    private void collectUnreferencedArtifactContents() {
+        if (artifactCassandraDao != null) {
+            log.debug("deleted {} unreferenced artifact contents", artifactCassandraDao.collectUnreferencedContents());
+        }
+    }
+
     private void processDeletionForType(Map<NodeTypeEnum, Either<List<String>, ResponseFormat>> cleanedComponents, NodeTypeEnum type,
                                         ComponentBusinessLogic componentBusinessLogic) {
         Either<List<String>, ResponseFormat> deleteMarkedResources = componentBusinessLogic.deleteMarkedComponents();
@@ -21,12 +21,11 @@ package org.openecomp.sdc.be.ecomp.converters;
 
 import fj.data.Either;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.apache.commons.collections.MapUtils;
-import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
 import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
 import org.openecomp.sdc.be.distribution.servlet.DistributionCatalogServlet;
@@ -41,6 +40,7 @@ import org.openecomp.sdc.be.impl.ComponentsUtils;
 import org.openecomp.sdc.be.model.ArtifactDefinition;
 import org.openecomp.sdc.be.model.Component;
 import org.openecomp.sdc.be.model.ComponentInstance;
+import org.openecomp.sdc.be.model.ComponentParametersView;
 import org.openecomp.sdc.be.model.Resource;
 import org.openecomp.sdc.be.model.Service;
 import org.openecomp.sdc.be.model.category.CategoryDefinition;
@@ -290,29 +290,26 @@ public class AssetMetadataConverter {
     private Either<List<ResourceInstanceMetadata>, StorageOperationStatus> convertToResourceInstanceMetadata(
         List<ComponentInstance> componentInstances, String componentType, String componentUUID) {
         List<ResourceInstanceMetadata> retList = new LinkedList<>();
-        Map<String, ImmutablePair<String, String>> uuidDuplicatesMap = new HashMap<>();
+        if (componentInstances.isEmpty()) {
+            return Either.left(retList);
+        }
+        List<String> componentUids = componentInstances.stream().map(ComponentInstance::getComponentUid).collect(Collectors.toList());
+        Either<Map<String, Resource>, StorageOperationStatus> eitherResources = toscaOperationFacade
+            .getToscaElements(componentUids, new ComponentParametersView());
+        if (eitherResources.isRight()) {
+            log.debug("convertToResourceInstanceMetadata: Failed getting resources with Uids: {}", componentUids);
+            return Either.right(eitherResources.right().value());
+        }
+        Map<String, Resource> resources = eitherResources.left().value();
         for (ComponentInstance componentInstance : componentInstances) {
             ResourceInstanceMetadata metadata = new ResourceInstanceMetadata();
-            String componentUid = componentInstance.getComponentUid();
-            String invariantUUID, resourceUUID;
-            if (!uuidDuplicatesMap.containsKey(componentUid)) {
-                Either<Resource, StorageOperationStatus> eitherResource = toscaOperationFacade.getToscaElement(componentInstance.getComponentUid());
-                if (eitherResource.isRight()) {
-                    log.debug("convertToResourceInstanceMetadata: Failed getting resource with Uid: {}", componentInstance.getComponentUid());
-                    return Either.right(eitherResource.right().value());
-                } else {
-                    final Resource resource = eitherResource.left().value();
-                    invariantUUID = resource.getInvariantUUID();
-                    resourceUUID = resource.getUUID();
-                    ImmutablePair<String, String> uuidInvariantUUIDPair = new ImmutablePair<>(resourceUUID, invariantUUID);
-                    uuidDuplicatesMap.put(componentUid, uuidInvariantUUIDPair);
-                }
-            } else {
-                invariantUUID = uuidDuplicatesMap.get(componentUid).getRight();
-                resourceUUID = uuidDuplicatesMap.get(componentUid).getLeft();
+            final Resource resource = resources.get(componentInstance.getComponentUid());
+            if (resource == null) {
+                log.debug("convertToResourceInstanceMetadata: Failed getting resource with Uid: {}", componentInstance.getComponentUid());
+                return Either.right(StorageOperationStatus.NOT_FOUND);
             }
-            metadata.setResourceInvariantUUID(invariantUUID);
-            metadata.setResourceUUID(resourceUUID);
+            metadata.setResourceInvariantUUID(resource.getInvariantUUID());
+            metadata.setResourceUUID(resource.getUUID());
             metadata.setResourceInstanceName(componentInstance.getName());
             metadata.setResourceName(componentInstance.getComponentName());
             metadata.setResourceVersion(componentInstance.getComponentVersion());
@@ -65,6 +65,7 @@ import org.openecomp.sdc.be.resources.data.auditing.AuditingActionEnum;
 import org.openecomp.sdc.be.resources.data.auditing.model.DistributionData;
 import org.openecomp.sdc.be.resources.data.auditing.model.ResourceCommonInfo;
 import org.openecomp.sdc.be.servlets.AbstractValidationsServlet;
+import org.openecomp.sdc.be.servlets.ByteRange;
 import org.openecomp.sdc.be.servlets.RepresentationUtils;
 import org.openecomp.sdc.be.user.UserBusinessLogic;
 import org.openecomp.sdc.common.api.Constants;
@@ -722,7 +723,8 @@ public class ArtifactExternalServlet extends AbstractValidationsServlet {
         @Parameter(schema = @Schema(allowableValues = {
             "resources,services"}), description = "The requested asset type", required = true) @PathParam("assetType") final String assetType,
         @Parameter(description = "The uuid of the asset as published in the metadata", required = true) @PathParam("uuid") final String uuid,
-        @Parameter(description = "The uuid of the artifact as published in the asset detailed metadata or in the response of the upload / update operation", required = true) @PathParam("artifactUUID") final String artifactUUID) {
+        @Parameter(description = "The uuid of the artifact as published in the asset detailed metadata or in the response of the upload / update operation", required = true) @PathParam("artifactUUID") final String artifactUUID,
+        @Parameter(description = "Single byte range of the artifact payload to download, e.g. bytes=0-1048575", required = false) @HeaderParam(value = Constants.RANGE_HEADER) final String range) {
         Wrapper<Response> responseWrapper = new Wrapper<>();
         ResponseFormat responseFormat = null;
         String requestURI = request.getRequestURI();
@@ -747,6 +749,21 @@ public class ArtifactExternalServlet extends AbstractValidationsServlet {
                     requestId, artifactUUID, userId);
             return responseWrapper.getInnerElement();
         }
+        if (range != null) {
+            Response rangeResponse;
+            try {
+                rangeResponse = downloadComponentArtifactRange(componentType, uuid, artifactUUID, resourceCommonInfo, range);
+            } catch (ComponentException e) {
+                getComponentsUtils().auditExternalDownloadArtifact(getComponentsUtils().getResponseFormat(e), resourceCommonInfo,
+                    new DistributionData(instanceIdHeader, requestURI), requestId, artifactUUID, userId);
+                throw e;
+            }
+            if (rangeResponse != null) {
+                getComponentsUtils().auditExternalDownloadArtifact(getComponentsUtils().getResponseFormat(ActionStatus.OK), resourceCommonInfo,
+                    new DistributionData(instanceIdHeader, requestURI), requestId, artifactUUID, userId);
+                return rangeResponse;
+            }
+        }
         byte[] value = artifactsBusinessLogic.downloadComponentArtifactByUUIDs(componentType, uuid, artifactUUID, resourceCommonInfo);
         try (InputStream is = new ByteArrayInputStream(value)) {
             Map<String, String> headers = new HashMap<>();
@@ -833,4 +850,30 @@ public class ArtifactExternalServlet extends AbstractValidationsServlet {
         }
         return responseWrapper.getInnerElement();
     }
+
+    /**
+     * Serves a single byte range of the artifact payload (RFC 7233), reading only the needed payload chunks.
+     *
+     * @return the 206 or 416 response, or null when the range is not supported and the whole payload must be served
+     */
+    private Response downloadComponentArtifactRange(ComponentTypeEnum componentType, String uuid, String artifactUUID,
+                                                    ResourceCommonInfo resourceCommonInfo, String range) {
+        ArtifactDefinition artifactDefinition = artifactsBusinessLogic
+            .getComponentArtifactByUUIDs(componentType, uuid, artifactUUID, resourceCommonInfo);
+        long size = artifactsBusinessLogic.getArtifactPayloadSize(artifactDefinition);
+        ByteRange byteRange = ByteRange.parse(range, size);
+        if (byteRange == null) {
+            log.debug("downloadComponentArtifact: range {} is not supported, the whole artifact {} is served", range, artifactUUID);
+            return null;
+        }
+        if (!byteRange.isSatisfiable()) {
+            log.debug("downloadComponentArtifact: range {} can not be satisfied for artifact {} of {} bytes", range, artifactUUID, size);
+            return Response.status(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(Constants.CONTENT_RANGE_HEADER, byteRange.getContentRange()).build();
+        }
+        InputStream payload = artifactsBusinessLogic.downloadArtifactRange(artifactDefinition, byteRange.getStart(), byteRange.getLength());
+        return Response.status(Response.Status.PARTIAL_CONTENT).entity(payload).header(Constants.ACCEPT_RANGES_HEADER, "bytes")
+            .header(Constants.CONTENT_RANGE_HEADER, byteRange.getContentRange())
+            .header(Constants.CONTENT_LENGTH_HEADER, String.valueOf(byteRange.getLength())).build();
+    }
 }
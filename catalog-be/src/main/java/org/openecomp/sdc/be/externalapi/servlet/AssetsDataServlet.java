@@ -33,9 +33,14 @@ import io.swagger.v3.oas.annotations.servers.Server;
 import io.swagger.v3.oas.annotations.servers.Servers;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.tags.Tags;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
@@ -51,7 +56,10 @@ import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
-import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.FileUtils;
 import org.openecomp.sdc.be.components.impl.ComponentBusinessLogic;
 import org.openecomp.sdc.be.components.impl.ComponentBusinessLogicProvider;
 import org.openecomp.sdc.be.components.impl.ComponentInstanceBusinessLogic;
@@ -80,7 +88,6 @@ import org.openecomp.sdc.be.servlets.RepresentationUtils;
 import org.openecomp.sdc.be.user.UserBusinessLogic;
 import org.openecomp.sdc.common.api.Constants;
 import org.openecomp.sdc.common.log.wrappers.Logger;
-import org.openecomp.sdc.common.util.GeneralUtility;
 import org.openecomp.sdc.exception.ResponseFormat;
 import org.springframework.stereotype.Controller;
 
@@ -97,6 +104,8 @@ import org.springframework.stereotype.Controller;
 public class AssetsDataServlet extends AbstractValidationsServlet {
 
     private static final Logger log = Logger.getLogger(AssetsDataServlet.class);
+    private static final String CSAR_FILE_PREFIX = "toscaModel";
+    private static final String CSAR_FILE_SUFFIX = ".csar";
     private final ElementBusinessLogic elementBusinessLogic;
     private final AssetMetadataConverter assetMetadataConverter;
     private final ServiceBusinessLogic serviceBusinessLogic;
@@ -332,18 +341,31 @@ public class AssetsDataServlet extends AbstractValidationsServlet {
             getComponentsUtils().auditExternalGetAsset(responseFormat, auditingActionEnum, distributionData, resourceCommonInfo, requestId, uuid);
             return buildErrorResponse(responseFormat);
         }
+        // the CSAR is spooled to a temporary file, as its MD5 header must be sent before it, and served from the file
+        Path csarFile = null;
         try {
             ComponentBusinessLogic componentBusinessLogic = getComponentBLByType(componentType);
-            ImmutablePair<String, byte[]> csarArtifact = componentBusinessLogic.getToscaModelByComponentUuid(componentType, uuid, resourceCommonInfo);
-            byte[] value = csarArtifact.getRight();
-            InputStream is = new ByteArrayInputStream(value);
-            String contenetMD5 = GeneralUtility.calculateMD5Base64EncodedByByteArray(value);
+            csarFile = Files.createTempFile(CSAR_FILE_PREFIX, CSAR_FILE_SUFFIX);
+            MessageDigest md5 = DigestUtils.getMd5Digest();
+            String csarName;
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(csarFile), md5)) {
+                csarName = componentBusinessLogic.writeToscaModelByComponentUuid(componentType, uuid, resourceCommonInfo, out);
+            }
+            InputStream is = Files.newInputStream(csarFile, StandardOpenOption.DELETE_ON_CLOSE);
+            csarFile = null;
+            String contenetMD5 = new String(Base64.encodeBase64(Hex.encodeHexString(md5.digest()).getBytes()));
             Map<String, String> headers = new HashMap<>();
-            headers.put(Constants.CONTENT_DISPOSITION_HEADER, getContentDispositionValue(csarArtifact.getLeft()));
+            headers.put(Constants.CONTENT_DISPOSITION_HEADER, getContentDispositionValue(csarName));
             headers.put(Constants.MD5_HEADER, contenetMD5);
             responseFormat = getComponentsUtils().getResponseFormat(ActionStatus.OK);
             getComponentsUtils().auditExternalGetAsset(responseFormat, auditingActionEnum, distributionData, resourceCommonInfo, requestId, uuid);
             return buildOkResponse(responseFormat, is, headers);
+        } catch (IOException e) {
+            responseFormat = getComponentsUtils().getResponseFormat(ActionStatus.GENERAL_ERROR);
+            getComponentsUtils().auditExternalGetAsset(responseFormat, auditingActionEnum, distributionData, resourceCommonInfo, requestId, uuid);
+            BeEcompErrorManager.getInstance().logBeRestApiGeneralError("Get asset tosca model");
+            log.debug("failed to write asset tosca model", e);
+            return buildErrorResponse(responseFormat);
         } catch (ComponentException e) {
             responseFormat = e.getResponseFormat();
             getComponentsUtils().auditExternalGetAsset(responseFormat, auditingActionEnum, distributionData, resourceCommonInfo, requestId, uuid);
@@ -352,6 +374,10 @@ public class AssetsDataServlet extends AbstractValidationsServlet {
             Response response = buildErrorResponse(responseFormat);
             getComponentsUtils().auditExternalGetAsset(responseFormat, auditingActionEnum, distributionData, resourceCommonInfo, requestId, uuid);
             return response;
+        } finally {
+            if (csarFile != null) {
+                FileUtils.deleteQuietly(csarFile.toFile());
+            }
         }
     }
 
@@ -31,6 +31,9 @@ import io.swagger.v3.oas.annotations.servers.Server;
 import io.swagger.v3.oas.annotations.servers.Servers;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.tags.Tags;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
 import java.util.Map;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
@@ -46,12 +49,14 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.openecomp.sdc.be.components.impl.ArtifactsBusinessLogic;
 import org.openecomp.sdc.be.components.impl.ArtifactsBusinessLogic.ArtifactOperationEnum;
 import org.openecomp.sdc.be.components.impl.aaf.AafPermission;
 import org.openecomp.sdc.be.components.impl.aaf.PermissionAllowed;
 import org.openecomp.sdc.be.components.impl.artifact.ArtifactOperationInfo;
+import org.openecomp.sdc.be.components.impl.exceptions.ByActionStatusComponentException;
 import org.openecomp.sdc.be.config.BeEcompErrorManager;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
 import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
@@ -291,12 +296,13 @@ public class ArtifactServlet extends BeGenericServlet {
         @ApiResponse(responseCode = "404", description = "Service/Artifact not found")})
     @PermissionAllowed(AafPermission.PermNames.INTERNAL_ALL_VALUE)
     public Response downloadServiceArtifactBase64(@PathParam("serviceId") final String serviceId, @PathParam("artifactId") final String artifactId,
-                                                  @Context final HttpServletRequest request) {
+                                                  @Context final HttpServletRequest request,
+                                                  @HeaderParam(value = Constants.RANGE_HEADER) final String range) {
         String url = request.getMethod() + " " + request.getRequestURI();
         Response response;
         log.debug(START_HANDLE_REQUEST_OF, url);
         try {
-            response = handleDownloadRequest(request, serviceId, artifactId, null, ComponentTypeEnum.SERVICE, null);
+            response = handleDownloadRequest(request, serviceId, artifactId, null, ComponentTypeEnum.SERVICE, null, range);
         } catch (Exception e) {
             BeEcompErrorManager.getInstance().logBeRestApiGeneralError("downloadServiceArtifactBase64");
             log.debug("downloadServiceArtifactBase64 unexpected exception", e);
@@ -316,12 +322,13 @@ public class ArtifactServlet extends BeGenericServlet {
         @ApiResponse(responseCode = "200", description = "Resource artifact downloaded"),
         @ApiResponse(responseCode = "404", description = "Resource/Artifact not found")})
     public Response downloadResourceArtifactBase64(@PathParam("resourceId") final String resourceId, @PathParam("artifactId") final String artifactId,
-                                                   @Context final HttpServletRequest request) {
+                                                   @Context final HttpServletRequest request,
+                                                   @HeaderParam(value = Constants.RANGE_HEADER) final String range) {
         String url = request.getMethod() + " " + request.getRequestURI();
         log.debug(START_HANDLE_REQUEST_OF, url);
         Response response;
         try {
-            response = handleDownloadRequest(request, resourceId, artifactId, null, ComponentTypeEnum.RESOURCE, null);
+            response = handleDownloadRequest(request, resourceId, artifactId, null, ComponentTypeEnum.RESOURCE, null, range);
         } catch (Exception e) {
             BeEcompErrorManager.getInstance().logBeRestApiGeneralError("downloadResourceArtifactBase64");
             log.debug("downloadResourceArtifactBase64 unexpected exception", e);
@@ -346,7 +353,8 @@ public class ArtifactServlet extends BeGenericServlet {
         @Parameter(description = "valid values: resources / services", schema = @Schema(allowableValues = {ComponentTypeEnum.RESOURCE_PARAM_NAME,
             ComponentTypeEnum.SERVICE_PARAM_NAME})) @PathParam("containerComponentType") final String containerComponentType,
         @PathParam("componentId") final String componentId, @PathParam("componentInstanceId") final String componentInstanceId,
-        @PathParam("artifactId") final String artifactId, @Context final HttpServletRequest request) {
+        @PathParam("artifactId") final String artifactId, @Context final HttpServletRequest request,
+        @HeaderParam(value = Constants.RANGE_HEADER) final String range) {
         Response response;
         String url = request.getMethod() + " " + request.getRequestURI();
         log.debug(START_HANDLE_REQUEST_OF, url);
@@ -354,7 +362,7 @@ public class ArtifactServlet extends BeGenericServlet {
             " Starting to download Resource Instance Artifact for component {} ", componentId);
         try {
             response = handleDownloadRequest(request, componentInstanceId, artifactId, componentId, ComponentTypeEnum.RESOURCE_INSTANCE,
-                containerComponentType);
+                containerComponentType, range);
         } catch (Exception e) {
             BeEcompErrorManager.getInstance().logBeRestApiGeneralError(DOWNLOAD_RESOURCE_INSTANCE_ARTIFACT_BASE64);
             log.debug(DOWNLOAD_RESOURCE_INSTANCE_ARTIFACT_BASE64_EXCEPTION, e);
@@ -685,20 +693,60 @@ public class ArtifactServlet extends BeGenericServlet {
     }
 
     private Response handleDownloadRequest(HttpServletRequest request, String componentId, String artifactId, String parentId,
-                                           ComponentTypeEnum componentType, String containerComponentType) {
+                                           ComponentTypeEnum componentType, String containerComponentType, String range) {
         String userId = request.getHeader(Constants.USER_ID_HEADER);
-        ImmutablePair<String, byte[]> actionResult = artifactsBusinessLogic
-            .handleDownloadRequestById(componentId, artifactId, userId, componentType, parentId, containerComponentType);
-        Response response;
-        byte[] file = actionResult.getRight();
+        if (range == null) {
+            ImmutablePair<String, byte[]> actionResult = artifactsBusinessLogic
+                .handleDownloadRequestById(componentId, artifactId, userId, componentType, parentId, containerComponentType);
+            return buildDownloadResponse(actionResult.getLeft(), actionResult.getRight());
+        }
+        ArtifactDefinition artifactDefinition = artifactsBusinessLogic
+            .getArtifactToDownload(componentId, artifactId, userId, componentType, parentId, containerComponentType);
+        return handleDownloadRangeRequest(artifactDefinition, range);
+    }
+
+    /**
+     * Serves a single byte range of the artifact payload (RFC 7233), reading only the needed payload chunks. The range applies to the payload,
+     * the base64 contents of the 206 response hold the requested bytes only.
+     */
+    private Response handleDownloadRangeRequest(ArtifactDefinition artifactDefinition, String range) {
+        byte[] generatedPayload = artifactDefinition.getPayloadData();
+        long size = generatedPayload != null ? generatedPayload.length : artifactsBusinessLogic.getArtifactPayloadSize(artifactDefinition);
+        ByteRange byteRange = ByteRange.parse(range, size);
+        if (byteRange == null) {
+            log.debug("Range {} is not supported, the whole artifact {} is served", range, artifactDefinition.getUniqueId());
+            ImmutablePair<String, byte[]> actionResult = artifactsBusinessLogic.downloadArtifactPayload(artifactDefinition);
+            return buildDownloadResponse(actionResult.getLeft(), actionResult.getRight());
+        }
+        if (!byteRange.isSatisfiable()) {
+            log.debug("Range {} can not be satisfied for artifact {} of {} bytes", range, artifactDefinition.getUniqueId(), size);
+            return Response.status(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(Constants.CONTENT_RANGE_HEADER, byteRange.getContentRange()).build();
+        }
+        byte[] payloadRange;
+        if (generatedPayload != null) {
+            payloadRange = Arrays.copyOfRange(generatedPayload, (int) byteRange.getStart(), (int) byteRange.getEnd() + 1);
+        } else {
+            try (InputStream payload = artifactsBusinessLogic
+                .downloadArtifactRange(artifactDefinition, byteRange.getStart(), byteRange.getLength())) {
+                payloadRange = IOUtils.toByteArray(payload);
+            } catch (IOException e) {
+                log.debug("Failed to read range {} of artifact {}", range, artifactDefinition.getUniqueId(), e);
+                throw new ByActionStatusComponentException(ActionStatus.GENERAL_ERROR);
+            }
+        }
+        return Response.fromResponse(buildDownloadResponse(artifactDefinition.getArtifactName(), payloadRange))
+            .status(Response.Status.PARTIAL_CONTENT).header(Constants.ACCEPT_RANGES_HEADER, "bytes")
+            .header(Constants.CONTENT_RANGE_HEADER, byteRange.getContentRange()).build();
+    }
+
+    private Response buildDownloadResponse(String artifactName, byte[] file) {
         String base64Contents = new String(Base64.encodeBase64(file));
-        String artifactName = actionResult.getLeft();
         ResponseFormat responseFormat = getComponentsUtils().getResponseFormat(ActionStatus.OK);
         ArtifactUiDownloadData artifactUiDownloadData = new ArtifactUiDownloadData();
         artifactUiDownloadData.setArtifactName(artifactName);
         artifactUiDownloadData.setBase64Contents(base64Contents);
-        response = buildOkResponse(responseFormat, artifactUiDownloadData);
-        return response;
+        return buildOkResponse(responseFormat, artifactUiDownloadData);
     }
 
     private Response handleGetArtifactsRequest(HttpServletRequest request, String componentId, String parentId, String artifactGroupType,
@@ -0,0 +1,101 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.servlets;
+
+/**
+ * A single byte range requested by a Range header (RFC 7233) on an artifact payload download.
+ * <p>
+ * Only single ranges in bytes are supported: other forms, like multiple ranges, and malformed headers are ignored and the whole payload is
+ * served with 200. A well-formed range that does not overlap the payload is answered with 416.
+ */
+public final class ByteRange {
+
+    private static final String BYTES_RANGE_UNIT = "bytes=";
+    private final long start;
+    private final long end;
+    private final long size;
+
+    private ByteRange(long start, long end, long size) {
+        this.start = start;
+        this.end = end;
+        this.size = size;
+    }
+
+    /**
+     * @param range the Range header value
+     * @param size  the payload size
+     * @return the requested range, or null when the header is absent, malformed or of an unsupported form
+     */
+    public static ByteRange parse(String range, long size) {
+        if (range == null) {
+            return null;
+        }
+        String rangeValue = range.trim();
+        if (!rangeValue.startsWith(BYTES_RANGE_UNIT) || rangeValue.contains(",")) {
+            return null;
+        }
+        String[] bounds = rangeValue.substring(BYTES_RANGE_UNIT.length()).split("-", -1);
+        if (bounds.length != 2 || (bounds[0].isBlank() && bounds[1].isBlank())) {
+            return null;
+        }
+        try {
+            if (bounds[0].isBlank()) {
+                long suffixLength = Long.parseLong(bounds[1].trim());
+                if (suffixLength < 0) {
+                    return null;
+                }
+                return suffixLength == 0 || size == 0 ? unsatisfiable(size) : new ByteRange(Math.max(0, size - suffixLength), size - 1, size);
+            }
+            long first = Long.parseLong(bounds[0].trim());
+            long last = bounds[1].isBlank() ? Long.MAX_VALUE : Long.parseLong(bounds[1].trim());
+            if (first < 0 || last < first) {
+                return null;
+            }
+            return first >= size ? unsatisfiable(size) : new ByteRange(first, Math.min(last, size - 1), size);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static ByteRange unsatisfiable(long size) {
+        return new ByteRange(-1, -1, size);
+    }
+
+    public boolean isSatisfiable() {
+        return start >= 0;
+    }
+
+    public long getStart() {
+        return start;
+    }
+
+    public long getEnd() {
+        return end;
+    }
+
+    public long getLength() {
+        return end - start + 1;
+    }
+
+    /**
+     * @return the Content-Range header value of the 206 or 416 response
+     */
+    public String getContentRange() {
+        return isSatisfiable() ? "bytes " + start + "-" + end + "/" + size : "bytes */" + size;
+    }
+}
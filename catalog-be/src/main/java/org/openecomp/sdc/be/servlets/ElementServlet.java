@@ -21,9 +21,13 @@ package org.openecomp.sdc.be.servlets;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
 
 import javax.inject.Inject;
 import javax.servlet.ServletContext;
@@ -38,6 +42,7 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
@@ -543,23 +548,33 @@ public class ElementServlet extends BeGenericServlet {
     @Operation(description = "Retrieve catalog resources and services", method = "GET", summary = "Retrieve catalog resources and services", responses = {
         @ApiResponse(content = @Content(array = @ArraySchema(schema = @Schema(implementation = User.class)))),
         @ApiResponse(responseCode = "200", description = "Returns resources and services Ok"),
+        @ApiResponse(responseCode = "304", description = "Resources and services did not change since the version in If-None-Match"),
         @ApiResponse(responseCode = "404", description = "No resources and services were found"),
         @ApiResponse(responseCode = "404", description = "User not found"),
         @ApiResponse(responseCode = "500", description = "Internal Server Error")})
     @PermissionAllowed(AafPermission.PermNames.INTERNAL_ALL_VALUE)
     public Response getCatalogComponents(@Context final HttpServletRequest request, @HeaderParam(value = Constants.USER_ID_HEADER) String userId,
-                                         @QueryParam("excludeTypes") List<OriginTypeEnum> excludeTypes) throws IOException {
+                                         @QueryParam("excludeTypes") List<OriginTypeEnum> excludeTypes,
+                                         @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+                                         @Parameter(description = "Catalog version of a previous response, only the changes since that version are returned")
+                                         @QueryParam("since") String sinceVersion) throws IOException {
         try {
             String url = request.getMethod() + " " + request.getRequestURI();
             log.debug(START_HANDLE_REQUEST_OF, url);
-            Either<Map<String, List<CatalogComponent>>, ResponseFormat> catalogData = getElementBL(request.getSession().getServletContext())
-                .getCatalogComponents(userId, excludeTypes);
+            ElementBusinessLogic elementBL = getElementBL(request.getSession().getServletContext());
+            String eTag = elementBL.getCatalogVersion().map(version -> buildCatalogETag(version, excludeTypes, sinceVersion)).orElse(null);
+            if (eTag != null && isETagMatching(eTag, ifNoneMatch)) {
+                return Response.notModified().header(HttpHeaders.ETAG, eTag).build();
+            }
+            Either<? extends Map<String, ?>, ResponseFormat> catalogData = sinceVersion == null ? elementBL.getCatalogComponents(userId, excludeTypes)
+                : elementBL.getCatalogComponentsDelta(userId, excludeTypes, sinceVersion);
             if (catalogData.isRight()) {
                 log.debug("failed to get catalog data");
                 return buildErrorResponse(catalogData.right().value());
             }
             Object data = RepresentationUtils.toRepresentation(catalogData.left().value());
-            return buildOkResponse(getComponentsUtils().getResponseFormat(ActionStatus.OK), data);
+            Map<String, String> headers = eTag == null ? null : Collections.singletonMap(HttpHeaders.ETAG, eTag);
+            return buildOkResponse(getComponentsUtils().getResponseFormat(ActionStatus.OK), data, headers);
         } catch (Exception e) {
             BeEcompErrorManager.getInstance().logBeRestApiGeneralError("Get Catalog Components");
             log.debug("Getting catalog components failed with exception", e);
@@ -567,6 +582,16 @@ public class ElementServlet extends BeGenericServlet {
         }
     }
 
+    private static String buildCatalogETag(String catalogVersion, List<OriginTypeEnum> excludeTypes, String sinceVersion) {
+        // the excluded types and the delta base shape the response, so they are part of the tag
+        int variant = Objects.hash(excludeTypes == null ? null : new TreeSet<>(excludeTypes), sinceVersion);
+        return "W/\"" + catalogVersion + "-" + Integer.toHexString(variant) + "\"";
+    }
+
+    private static boolean isETagMatching(String eTag, String ifNoneMatch) {
+        return ifNoneMatch != null && Arrays.stream(ifNoneMatch.split(",")).map(String::trim).anyMatch(eTag::equals);
+    }
+
     @DELETE
     @Path("/inactiveComponents/{componentType}")
     @PermissionAllowed(AafPermission.PermNames.INTERNAL_ALL_VALUE)
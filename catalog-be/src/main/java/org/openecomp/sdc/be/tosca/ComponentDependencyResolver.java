@@ -0,0 +1,209 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.tosca;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import fj.data.Either;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.openecomp.sdc.be.config.Configuration.ToscaDependencyResolutionConfig;
+import org.openecomp.sdc.be.config.ConfigurationManager;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphDao;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphTransactionContext;
+import org.openecomp.sdc.be.model.Component;
+import org.openecomp.sdc.be.model.ComponentInstance;
+import org.openecomp.sdc.be.model.jsonjanusgraph.utils.ModelConverter;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Fetches the origin components of an exported component concurrently, ahead of the (sequential) traversal which assembles the export.
+ * <p>
+ * The results are keyed by component id in discovery order, so callers replay their usual traversal against them and produce exactly the
+ * same output as when fetching one instance at a time. The workers read in one shared threaded transaction: the explicit transaction of
+ * the caller when it runs in one, otherwise a read only transaction opened for the fetch and rolled back once it is over. Such a transaction
+ * does not see the writes the caller has not committed yet in its thread-bound transaction, e.g. the components created by an import which
+ * generates its artifacts before committing, so in that case the components are fetched one at a time on the calling thread.
+ */
+@org.springframework.stereotype.Component("component-dependency-resolver")
+public class ComponentDependencyResolver {
+
+    private static final Logger log = Logger.getLogger(ComponentDependencyResolver.class);
+    private static final int QUEUE_CAPACITY_PER_THREAD = 64;
+    private final JanusGraphDao janusGraphDao;
+    private ThreadPoolExecutor executor;
+    private long timeoutInSeconds;
+
+    @Autowired
+    public ComponentDependencyResolver(final JanusGraphDao janusGraphDao) {
+        this.janusGraphDao = janusGraphDao;
+    }
+
+    @PostConstruct
+    public void init() {
+        final ToscaDependencyResolutionConfig config = getConfig();
+        init(config.getPoolSize(), config.getTimeoutInSeconds());
+    }
+
+    void init(final int poolSize, final long timeoutInSeconds) {
+        this.timeoutInSeconds = timeoutInSeconds;
+        if (poolSize > 1) {
+            executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(poolSize * QUEUE_CAPACITY_PER_THREAD),
+                new ThreadFactoryBuilder().setNameFormat("tosca-dependency-resolver-%d").setDaemon(true).build(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+            executor.allowCoreThreadTimeOut(true);
+        }
+        log.info("Tosca dependency resolution initialized with pool size {}", poolSize);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Resolves the origin components of all the instances of the given roots and, recursively, of the instances of every non atomic origin
+     * found on the way, one level at a time.
+     *
+     * @param roots   the components whose instances are resolved
+     * @param fetcher fetches a component by its unique id
+     * @return the fetch result of every origin component, keyed by component id
+     */
+    public <T extends Component> Map<String, Either<T, StorageOperationStatus>> resolveOrigins(final Collection<? extends Component> roots,
+                                                                                              final Function<String, Either<T, StorageOperationStatus>> fetcher) {
+        final Map<String, Either<T, StorageOperationStatus>> resolved = new LinkedHashMap<>();
+        List<String> pending = instanceOrigins(roots, resolved);
+        while (!pending.isEmpty()) {
+            final Map<String, Either<T, StorageOperationStatus>> fetched = fetchAll(pending, fetcher);
+            resolved.putAll(fetched);
+            final List<Component> nonAtomic = new ArrayList<>();
+            fetched.values().stream().filter(Either::isLeft).map(either -> either.left().value())
+                .filter(component -> !ModelConverter.isAtomicComponent(component)).forEach(nonAtomic::add);
+            pending = instanceOrigins(nonAtomic, resolved);
+        }
+        return resolved;
+    }
+
+    /**
+     * Fetches the given components, concurrently when a pool is configured and the caller has no uncommitted writes in its thread-bound
+     * transaction.
+     *
+     * @param componentIds the ids of the components to fetch, duplicates are fetched once
+     * @param fetcher      fetches a component by its unique id
+     * @return the fetch result of every component, keyed by component id in the given order
+     */
+    public <T extends Component> Map<String, Either<T, StorageOperationStatus>> fetchAll(final Collection<String> componentIds,
+                                                                                        final Function<String, Either<T, StorageOperationStatus>> fetcher) {
+        final Set<String> distinctIds = new LinkedHashSet<>(componentIds);
+        distinctIds.remove(null);
+        final Map<String, Either<T, StorageOperationStatus>> fetched = new LinkedHashMap<>();
+        final Optional<JanusGraphTransactionContext> explicitTransaction = janusGraphDao.getExplicitTransaction();
+        if (executor == null || distinctIds.size() < 2 || (explicitTransaction.isEmpty() && janusGraphDao.hasPendingChanges())) {
+            distinctIds.forEach(id -> fetched.put(id, fetcher.apply(id)));
+            return fetched;
+        }
+        final JanusGraphTransactionContext transaction;
+        if (explicitTransaction.isPresent()) {
+            transaction = explicitTransaction.get();
+        } else {
+            final Either<JanusGraphTransactionContext, JanusGraphOperationStatus> opened = janusGraphDao.openTransaction(true);
+            if (opened.isRight()) {
+                log.debug("Failed to open a transaction for the concurrent fetch: {}, fetching on the request thread", opened.right().value());
+                distinctIds.forEach(id -> fetched.put(id, fetcher.apply(id)));
+                return fetched;
+            }
+            transaction = opened.left().value();
+        }
+        try {
+            final Map<String, Future<Either<T, StorageOperationStatus>>> futures = new LinkedHashMap<>();
+            distinctIds.forEach(id -> futures.put(id, executor.submit(() -> janusGraphDao.callInTransaction(transaction, () -> fetcher.apply(id)))));
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutInSeconds);
+            for (final Map.Entry<String, Future<Either<T, StorageOperationStatus>>> future : futures.entrySet()) {
+                fetched.put(future.getKey(), await(future.getKey(), future.getValue(), deadline, fetcher));
+            }
+            return fetched;
+        } finally {
+            // the explicit transaction of the caller is only ended by its owner
+            if (explicitTransaction.isEmpty()) {
+                janusGraphDao.rollback(transaction);
+            }
+        }
+    }
+
+    private <T extends Component> Either<T, StorageOperationStatus> await(final String componentId,
+                                                                         final Future<Either<T, StorageOperationStatus>> future, final long deadline,
+                                                                         final Function<String, Either<T, StorageOperationStatus>> fetcher) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Failed to fetch component " + componentId, e.getCause());
+        } catch (final TimeoutException e) {
+            log.warn("Timed out waiting for the concurrent fetch of component {}, fetching it on the request thread", componentId);
+            future.cancel(true);
+            return fetcher.apply(componentId);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("Interrupted while fetching component " + componentId, e);
+        }
+    }
+
+    private static List<String> instanceOrigins(final Collection<? extends Component> components, final Map<String, ?> resolved) {
+        final Set<String> origins = new LinkedHashSet<>();
+        for (final Component component : components) {
+            final List<ComponentInstance> instances = component.getComponentInstances();
+            if (instances != null) {
+                instances.stream().map(ComponentInstance::getComponentUid).filter(Objects::nonNull).filter(uid -> !resolved.containsKey(uid))
+                    .forEach(origins::add);
+            }
+        }
+        return new ArrayList<>(origins);
+    }
+
+    private static ToscaDependencyResolutionConfig getConfig() {
+        final ConfigurationManager configurationManager = ConfigurationManager.getConfigurationManager();
+        if (configurationManager == null || configurationManager.getConfiguration() == null
+            || configurationManager.getConfiguration().getToscaDependencyResolution() == null) {
+            return new ToscaDependencyResolutionConfig();
+        }
+        return configurationManager.getConfiguration().getToscaDependencyResolution();
+    }
+}
@@ -30,9 +30,13 @@ import io.vavr.control.Try;
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -53,13 +57,14 @@ import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.io.output.ByteArrayOutputStream;
@@ -99,6 +104,7 @@ import org.openecomp.sdc.be.model.operations.impl.DaoStatusConverter;
 import org.openecomp.sdc.be.model.operations.impl.ModelOperation;
 import org.openecomp.sdc.be.plugins.CsarEntryGenerator;
 import org.openecomp.sdc.be.resources.data.DAOArtifactData;
+import org.openecomp.sdc.be.tosca.model.ToscaTemplate;
 import org.openecomp.sdc.be.tosca.utils.OperationArtifactUtil;
 import org.openecomp.sdc.be.utils.TypeUtils.ToscaTagNamesEnum;
 import org.openecomp.sdc.common.api.ArtifactGroupTypeEnum;
@@ -170,6 +176,8 @@ public class CsarUtils {
     private final List<CsarEntryGenerator> generators;
     private final ModelOperation modelOperation;
     private final String versionFirstThreeOctets;
+    @Autowired(required = false)
+    private ComponentDependencyResolver dependencyResolver;
 
     @Autowired
     public CsarUtils(final ToscaOperationFacade toscaOperationFacade, final SdcSchemaFilesCassandraDao sdcSchemaFilesCassandraDao,
@@ -369,6 +377,27 @@ public class CsarUtils {
      * @return
      */
     public Either<byte[], ResponseFormat> createCsar(Component component, boolean getFromCS, boolean isInCertificationRequest) {
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            return createCsar(component, getFromCS, isInCertificationRequest, out).left().map(created -> out.toByteArray());
+        } catch (IOException e) {
+            log.debug("Failed with IOexception to create CSAR zip for component {}. Please fix DB table accordingly ", component.getUniqueId(), e);
+            return Either.right(componentsUtils.getResponseFormat(ActionStatus.GENERAL_ERROR));
+        }
+    }
+
+    /**
+     * Generates the CSAR of the given component writing each zip entry directly to the given output stream, so the archive is never held
+     * in memory as a whole. Artifact payloads are fetched from Cassandra one by one, only when their entry is written. The given stream is
+     * not closed.
+     *
+     * @param component                the component to generate the CSAR for
+     * @param getFromCS                if the TOSCA templates should be fetched from Cassandra instead of being generated
+     * @param isInCertificationRequest if the CSAR is generated during a certification
+     * @param outputStream             the stream the CSAR content is written to
+     * @return true if the CSAR was fully written, the error response format otherwise
+     */
+    public Either<Boolean, ResponseFormat> createCsar(final Component component, final boolean getFromCS, final boolean isInCertificationRequest,
+                                                      final OutputStream outputStream) {
         loggerSupportability
             .log(LoggerSupportabilityActions.GENERATE_CSAR, StatusCode.STARTED, "Starting to create Csar for component {} ", component.getName());
         final String createdBy = component.getCreatorFullName();
@@ -381,16 +410,18 @@ public class CsarUtils {
         byte[] csarBlock0Byte = csarBlock0.getBytes();
         final String toscaBlock0 = createToscaBlock0(TOSCA_META_VERSION, CSAR_VERSION, createdBy, fileName);
         byte[] toscaBlock0Byte = toscaBlock0.getBytes();
-        return generateCsarZip(csarBlock0Byte, toscaBlock0Byte, component, getFromCS, isInCertificationRequest).left().map(responseFormat -> {
-            loggerSupportability
-                .log(LoggerSupportabilityActions.GENERATE_CSAR, StatusCode.COMPLETE, "Ended create Csar for component {} ", component.getName());
-            return responseFormat;
-        });
+        return generateCsarZip(csarBlock0Byte, toscaBlock0Byte, component, getFromCS, isInCertificationRequest, outputStream).left()
+            .map(created -> {
+                loggerSupportability
+                    .log(LoggerSupportabilityActions.GENERATE_CSAR, StatusCode.COMPLETE, "Ended create Csar for component {} ", component.getName());
+                return created;
+            });
     }
 
-    private Either<byte[], ResponseFormat> generateCsarZip(byte[] csarBlock0Byte, byte[] toscaBlock0Byte, Component component, boolean getFromCS,
-                                                           boolean isInCertificationRequest) {
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream(); ZipOutputStream zip = new ZipOutputStream(out)) {
+    private Either<Boolean, ResponseFormat> generateCsarZip(byte[] csarBlock0Byte, byte[] toscaBlock0Byte, Component component, boolean getFromCS,
+                                                            boolean isInCertificationRequest, OutputStream out) {
+        // the zip stream must not close the caller's stream, only finish the archive on it
+        try (ZipOutputStream zip = new ZipOutputStream(new NonClosingOutputStream(out))) {
             zip.putNextEntry(new ZipEntry(CSAR_META_PATH_FILE_NAME));
             zip.write(csarBlock0Byte);
             zip.putNextEntry(new ZipEntry(TOSCA_META_PATH_FILE_NAME));
@@ -401,8 +432,7 @@ public class CsarUtils {
                 return Either.right(populateZip.right().value());
             }
             zip.finish();
-            byte[] byteArray = out.toByteArray();
-            return Either.left(byteArray);
+            return Either.left(true);
         } catch (IOException e) {
             log.debug("Failed with IOexception to create CSAR zip for component {}. Please fix DB table accordingly ", component.getUniqueId(), e);
             ResponseFormat responseFormat = componentsUtils.getResponseFormat(ActionStatus.GENERAL_ERROR);
@@ -413,23 +443,19 @@ public class CsarUtils {
     private Either<ZipOutputStream, ResponseFormat> populateZip(Component component, boolean getFromCS, ZipOutputStream zip,
                                                                 boolean isInCertificationRequest) throws IOException {
         ArtifactDefinition artifactDef = component.getToscaArtifacts().get(ToscaExportHandler.ASSET_TOSCA_TEMPLATE);
-        Either<ToscaRepresentation, ResponseFormat> toscaRepresentation = fetchToscaRepresentation(component, getFromCS, artifactDef);
-        // This should not be done but in order to keep the refactoring small enough we stop here.
-
-        // TODO: Refactor the rest of this function
-        byte[] mainYaml;
-        List<Triple<String, String, Component>> dependencies;
-        if (toscaRepresentation.isLeft()) {
-            mainYaml = toscaRepresentation.left().value().getMainYaml();
-            dependencies = toscaRepresentation.left().value().getDependencies().getOrElse(new ArrayList<>());
-        } else {
-            return Either.right(toscaRepresentation.right().value());
-        }
         String fileName = artifactDef.getArtifactName();
         zip.putNextEntry(new ZipEntry(DEFINITIONS_PATH + fileName));
-        zip.write(mainYaml);
+        // the main template is written to the zip as it is produced, its digest is needed for the service manifest
+        MessageDigest mainYamlDigest = DigestUtils.getMd5Digest();
+        Either<List<Triple<String, String, Component>>, ResponseFormat> mainTemplate = writeMainTemplate(component, getFromCS, artifactDef,
+            new DigestOutputStream(zip, mainYamlDigest));
+        if (mainTemplate.isRight()) {
+            return Either.right(mainTemplate.right().value());
+        }
+        List<Triple<String, String, Component>> dependencies = mainTemplate.left().value();
+        String mainYamlHash = new String(Base64.encodeBase64(Hex.encodeHexString(mainYamlDigest.digest()).getBytes()));
         LifecycleStateEnum lifecycleState = component.getLifecycleState();
-        addServiceMf(component, zip, lifecycleState, isInCertificationRequest, fileName, mainYaml);
+        addServiceMf(component, zip, lifecycleState, isInCertificationRequest, fileName, mainYamlHash);
         //US798487 - Abstraction of complex types
         if (!ModelConverter.isAtomicComponent(component)) {
             log.debug("Component {} is complex - generating abstract type for it..", component.getName());
@@ -472,7 +498,7 @@ public class CsarUtils {
     }
 
     private void addServiceMf(Component component, ZipOutputStream zip, LifecycleStateEnum lifecycleState, boolean isInCertificationRequest,
-                              String fileName, byte[] mainYaml) throws IOException {
+                              String fileName, String mainYamlHash) throws IOException {
         // add mf
         if ((component.getComponentType() == ComponentTypeEnum.SERVICE) && (lifecycleState != LifecycleStateEnum.NOT_CERTIFIED_CHECKOUT)) {
             String serviceName = component.getName();
@@ -494,24 +520,48 @@ public class CsarUtils {
             String serviceType = component.getCategories().get(0).getName();
             String description = component.getDescription();
             String serviceTemplate = DEFINITIONS_PATH + fileName;
-            String hash = GeneralUtility.calculateMD5Base64EncodedByByteArray(mainYaml);
             String nsMfBlock0 = createNsMfBlock0(serviceName, createdBy, serviceVersion, releaseTime, serviceType, description, serviceTemplate,
-                hash);
+                mainYamlHash);
             byte[] nsMfBlock0Byte = nsMfBlock0.getBytes();
             zip.putNextEntry(new ZipEntry(SERVICE_MANIFEST));
             zip.write(nsMfBlock0Byte);
         }
     }
 
-    private Either<ToscaRepresentation, ResponseFormat> fetchToscaRepresentation(Component component, boolean getFromCS,
-                                                                                 ArtifactDefinition artifactDef) {
+    /**
+     * Writes the main TOSCA template of the component to {@code out}: the stored artifact when it has to be fetched from Cassandra,
+     * otherwise the template is exported and streamed without being buffered.
+     *
+     * @return the dependencies of the template
+     */
+    private Either<List<Triple<String, String, Component>>, ResponseFormat> writeMainTemplate(Component component, boolean getFromCS,
+                                                                                              ArtifactDefinition artifactDef, OutputStream out)
+        throws IOException {
         LifecycleStateEnum lifecycleState = component.getLifecycleState();
         boolean shouldBeFetchedFromCassandra =
             getFromCS || !(lifecycleState == LifecycleStateEnum.NOT_CERTIFIED_CHECKIN || lifecycleState == LifecycleStateEnum.NOT_CERTIFIED_CHECKOUT);
-        Either<ToscaRepresentation, ResponseFormat> toscaRepresentation =
-            shouldBeFetchedFromCassandra ? fetchToscaRepresentation(artifactDef) : generateToscaRepresentation(component);
-        return toscaRepresentation.left()
-            .bind(iff(myd -> !myd.getDependencies().isDefined(), myd -> fetchToscaTemplateDependencies(myd.getMainYaml(), component)));
+        if (shouldBeFetchedFromCassandra) {
+            Either<ToscaRepresentation, ResponseFormat> toscaRepresentation = fetchToscaRepresentation(artifactDef).left()
+                .bind(iff(myd -> !myd.getDependencies().isDefined(), myd -> fetchToscaTemplateDependencies(myd.getMainYaml(), component)));
+            if (toscaRepresentation.isRight()) {
+                return Either.right(toscaRepresentation.right().value());
+            }
+            out.write(toscaRepresentation.left().value().getMainYaml());
+            return Either.left(toscaRepresentation.left().value().getDependencies().getOrElse(new ArrayList<>()));
+        }
+        Either<ToscaTemplate, ToscaError> exported = toscaExportUtils.exportComponent(component, out);
+        if (exported.isRight()) {
+            log.debug("exportComponent failed {}", exported.right().value());
+            return Either.right(componentsUtils.getResponseFormat(componentsUtils.convertFromToscaError(exported.right().value())));
+        }
+        List<Triple<String, String, Component>> dependencies = exported.left().value().getDependencies();
+        if (dependencies != null) {
+            return Either.left(new ArrayList<>(dependencies));
+        }
+        return toscaExportUtils.getDependencies(component).right().map(toscaError -> {
+            log.debug("Failed to retrieve dependencies for component {}, error {}", component.getUniqueId(), toscaError);
+            return componentsUtils.getResponseFormat(componentsUtils.convertFromToscaError(toscaError));
+        }).left().map(tt -> tt.getDependencies() == null ? new ArrayList<>() : new ArrayList<>(tt.getDependencies()));
     }
 
     private Either<ToscaRepresentation, ResponseFormat> fetchToscaTemplateDependencies(byte[] mainYml, Component component) {
@@ -521,13 +571,6 @@ public class CsarUtils {
         }).left().map(tt -> ToscaRepresentation.make(mainYml, tt));
     }
 
-    private Either<ToscaRepresentation, ResponseFormat> generateToscaRepresentation(Component component) {
-        return toscaExportUtils.exportComponent(component).right().map(toscaError -> {
-            log.debug("exportComponent failed {}", toscaError);
-            return componentsUtils.getResponseFormat(componentsUtils.convertFromToscaError(toscaError));
-        });
-    }
-
     private Either<ToscaRepresentation, ResponseFormat> fetchToscaRepresentation(ArtifactDefinition artifactDef) {
         return getFromCassandra(artifactDef.getEsId()).right().map(as -> {
             log.debug(ARTIFACT_NAME_UNIQUE_ID, artifactDef.getArtifactName(), artifactDef.getUniqueId());
@@ -612,6 +655,7 @@ public class CsarUtils {
                 newValue.getComponentVersion());
         });
         if (dependencies != null && !dependencies.isEmpty()) {
+            Map<String, Either<Resource, StorageOperationStatus>> origins = resolveOrigins(dependencies);
             for (Triple<String, String, Component> d : dependencies) {
                 String cassandraId = d.getMiddle();
                 Component childComponent = d.getRight();
@@ -623,7 +667,7 @@ public class CsarUtils {
                 //fill innerComponentsCache
                 String fileName = d.getLeft();
                 innerComponentsCache.put(cassandraId, fileName, childComponent);
-                addInnerComponentsToCache(innerComponentsCache, childComponent);
+                addInnerComponentsToCache(innerComponentsCache, childComponent, origins);
             }
             //add inner components to CSAR
             return addInnerComponentsToCSAR(zip, innerComponentsCache);
@@ -732,10 +776,24 @@ public class CsarUtils {
         updateZipEntry(byteArrayOutputStream, nodesYaml);
     }
 
-    private void addInnerComponentsToCache(ComponentCache componentCache, Component childComponent) {
+    /**
+     * Fetches the origin components of all the dependencies up front, so that the inner components cache is then filled in the usual order
+     * without waiting on the graph for every single instance.
+     */
+    private Map<String, Either<Resource, StorageOperationStatus>> resolveOrigins(List<Triple<String, String, Component>> dependencies) {
+        if (dependencyResolver == null) {
+            return new HashMap<>();
+        }
+        List<Component> roots = dependencies.stream().map(Triple::getRight).filter(Objects::nonNull).collect(Collectors.toList());
+        return new HashMap<>(dependencyResolver.resolveOrigins(roots, toscaOperationFacade::getToscaElement));
+    }
+
+    private void addInnerComponentsToCache(ComponentCache componentCache, Component childComponent,
+                                           Map<String, Either<Resource, StorageOperationStatus>> origins) {
         javaListToVavrList(childComponent.getComponentInstances()).filter(ci -> componentCache.notCached(ci.getComponentUid())).forEach(ci -> {
             // all resource must be only once!
-            Either<Resource, StorageOperationStatus> resource = toscaOperationFacade.getToscaElement(ci.getComponentUid());
+            Either<Resource, StorageOperationStatus> resource = origins
+                .computeIfAbsent(ci.getComponentUid(), componentUid -> toscaOperationFacade.getToscaElement(componentUid));
             Component componentRI = checkAndAddComponent(componentCache, ci, resource);
             //if not atomic - insert inner components as well
 
@@ -743,7 +801,7 @@ public class CsarUtils {
 
             // happens to be too large. Tail-recursive optimization should be used here.
             if (!ModelConverter.isAtomicComponent(componentRI)) {
-                addInnerComponentsToCache(componentCache, componentRI);
+                addInnerComponentsToCache(componentCache, componentRI, origins);
             }
         });
     }
@@ -1039,41 +1097,38 @@ public class CsarUtils {
                 // TODO: We should not do this but in order to keep this refactoring small enough,
 
                 // we'll leave this as is for now
-                List<ArtifactDefinition> collect = filterArtifactDefinitionToZip(mainComponent, artifactDefinitionList, isInCertificationRequest)
-                    .collect(Collectors.toList());
-                for (ArtifactDefinition ad : collect) {
+                final List<ArtifactDefinition> artifactsToZip = artifactDefinitionList.stream()
+                    .filter(shouldBeInZip(isInCertificationRequest, mainComponent)).collect(Collectors.toList());
+                for (final ArtifactDefinition ad : artifactsToZip) {
+                    // the payload is fetched only when its entry is written and is not kept on the artifact definition,
+                    // so at most one artifact payload is held in memory at a time
+                    final Either<byte[], ActionStatus> payload = fetchPayLoadData(ad);
+                    if (payload.isRight()) {
+                        continue;
+                    }
                     zip.putNextEntry(new ZipEntry(artifactTypeFolder + ad.getArtifactName()));
-                    zip.write(ad.getPayloadData());
+                    zip.write(payload.left().value());
                 }
             }
         }
         return Either.left(zip);
     }
 
-    private Stream<ArtifactDefinition> filterArtifactDefinitionToZip(Component mainComponent, List<ArtifactDefinition> artifactDefinitionList,
-                                                                     boolean isInCertificationRequest) {
-        return artifactDefinitionList.stream().filter(shouldBeInZip(isInCertificationRequest, mainComponent)).map(this::fetchPayLoadData)
-            .filter(Either::isLeft).map(e -> e.left().value());
-    }
-
     private Predicate<ArtifactDefinition> shouldBeInZip(boolean isInCertificationRequest, Component component) {
         return artifactDefinition -> !(!isInCertificationRequest && component.isService() && artifactDefinition.isHeatEnvType() || artifactDefinition
             .hasNoMandatoryEsId());
     }
 
-    private Either<ArtifactDefinition, ActionStatus> fetchPayLoadData(ArtifactDefinition ad) {
+    private Either<byte[], ActionStatus> fetchPayLoadData(ArtifactDefinition ad) {
         byte[] payloadData = ad.getPayloadData();
         if (payloadData == null) {
-            return getFromCassandra(ad.getEsId()).left().map(pd -> {
-                ad.setPayload(pd);
-                return ad;
-            }).right().map(as -> {
+            return getFromCassandra(ad.getEsId()).right().map(as -> {
                 log.debug(ARTIFACT_NAME_UNIQUE_ID, ad.getArtifactName(), ad.getUniqueId());
                 log.debug("Failed to get {} payload from DB reason: {}", ad.getArtifactName(), as);
                 return as;
             });
         } else {
-            return Either.left(ad);
+            return Either.left(payloadData);
         }
     }
 
@@ -1313,6 +1368,26 @@ public class CsarUtils {
         return artifactsByType;
     }
 
+    /**
+     * Output stream that flushes instead of closing the wrapped stream, as the stream a CSAR is written to belongs to the caller.
+     */
+    private static class NonClosingOutputStream extends FilterOutputStream {
+
+        NonClosingOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
     public static class ToscaErrorException extends Exception {
 
         ToscaErrorException(ToscaError error) {
@@ -28,6 +28,14 @@ import static org.openecomp.sdc.tosca.datatypes.ToscaFunctions.GET_INPUT;
 import static org.openecomp.sdc.tosca.datatypes.ToscaFunctions.GET_PROPERTY;
 
 import fj.data.Either;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -127,11 +135,13 @@ import org.openecomp.sdc.be.tosca.model.ToscaTopolgyTemplate;
 import org.openecomp.sdc.be.tosca.utils.ForwardingPathToscaUtil;
 import org.openecomp.sdc.be.tosca.utils.InputConverter;
 import org.openecomp.sdc.be.tosca.utils.OutputConverter;
+import org.openecomp.sdc.be.tosca.utils.ToscaModelCopier;
 import org.openecomp.sdc.common.log.enums.EcompLoggerErrorCode;
 import org.openecomp.sdc.common.log.wrappers.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.DumperOptions.FlowStyle;
+import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.Yaml;
 import org.yaml.snakeyaml.introspector.BeanAccess;
 import org.yaml.snakeyaml.introspector.Property;
@@ -159,6 +169,9 @@ public class ToscaExportHandler {
     private static final List<String> EXCLUDED_CATEGORY_SPECIFIC_METADATA = List
         .of("Service Function", "Service Role", "Naming Policy", "Service Type");
     private static final YamlUtil yamlUtil = new YamlUtil();
+    // Yaml instances are not thread safe, each exporting thread reuses its own instead of building one per parsed value
+    private static final ThreadLocal<Yaml> CONSTRAINT_PARSER = ThreadLocal.withInitial(ToscaExportHandler::createConstraintParser);
+    private static final ThreadLocal<Yaml> FUNCTION_PARSER = ThreadLocal.withInitial(Yaml::new);
     private final ApplicationDataTypeCache applicationDataTypeCache;
     private final ToscaOperationFacade toscaOperationFacade;
     private final CapabilityRequirementConverter capabilityRequirementConverter;
@@ -171,6 +184,8 @@ public class ToscaExportHandler {
     private final InterfaceLifecycleOperation interfaceLifecycleOperation;
     private final InterfacesOperationsConverter interfacesOperationsConverter;
     private final ModelOperation modelOperation;
+    @Autowired(required = false)
+    private ComponentDependencyResolver dependencyResolver;
 
     @Autowired
     public ToscaExportHandler(final ApplicationDataTypeCache applicationDataTypeCache,
@@ -251,22 +266,61 @@ public class ToscaExportHandler {
         return Either.left(toscaRepresentation);
     }
 
+    /**
+     * Exports the main TOSCA template of the component straight to {@code out}, without building it in memory first. The stream is
+     * flushed but left open.
+     *
+     * @return the exported template, holding the dependencies needed to package it
+     */
+    public Either<ToscaTemplate, ToscaError> exportComponent(Component component, OutputStream out) throws IOException {
+        Either<ToscaTemplate, ToscaError> toscaTemplate = convertToToscaTemplate(component);
+        if (toscaTemplate.isLeft()) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writeToscaRepresentation(toscaTemplate.left().value(), writer);
+            writer.flush();
+        }
+        return toscaTemplate;
+    }
+
     public ToscaRepresentation createToscaRepresentation(ToscaTemplate toscaTemplate) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+            writeToscaRepresentation(toscaTemplate, writer);
+        } catch (IOException e) {
+            // not thrown when writing to memory
+            throw new UncheckedIOException(e);
+        }
+        return ToscaRepresentation.make(out.toByteArray(), toscaTemplate);
+    }
+
+    /**
+     * Writes the YAML of the template, wrapped in the configured header and footer, to {@code writer}. The writer is neither flushed nor
+     * closed.
+     */
+    public void writeToscaRepresentation(ToscaTemplate toscaTemplate, Writer writer) throws IOException {
+        Yaml yaml = createToscaYaml();
+        writer.write(String.valueOf(getConfiguration().getHeatEnvArtifactHeader()));
+        yaml.dump(toscaTemplate, writer);
+        writer.write(String.valueOf(getConfiguration().getHeatEnvArtifactFooter()));
+    }
+
+    /**
+     * @return the Yaml the templates are dumped with. Its representer is set up like {@code dumpAsMap} does while dumping, i.e. the MAP tag
+     * for the template and the BLOCK flow style, so that {@code dump} emits the same document as {@code dumpAsMap}
+     */
+    Yaml createToscaYaml() {
         CustomRepresenter representer = new CustomRepresenter();
         DumperOptions options = new DumperOptions();
         options.setAllowReadOnlyProperties(false);
         options.setPrettyFlow(true);
         options.setDefaultFlowStyle(FlowStyle.FLOW);
         options.setCanonical(false);
-        representer.addClassTag(toscaTemplate.getClass(), Tag.MAP);
+        representer.addClassTag(ToscaTemplate.class, Tag.MAP);
         representer.setPropertyUtils(new UnsortedPropertyUtils());
         Yaml yaml = new Yaml(representer, options);
-        String yamlAsString = yaml.dumpAsMap(toscaTemplate);
-        StringBuilder sb = new StringBuilder();
-        sb.append(getConfiguration().getHeatEnvArtifactHeader());
-        sb.append(yamlAsString);
-        sb.append(getConfiguration().getHeatEnvArtifactFooter());
-        return ToscaRepresentation.make(sb.toString().getBytes(), toscaTemplate);
+        // the Yaml constructor sets the representer flow style from the options
+        representer.setDefaultFlowStyle(FlowStyle.BLOCK);
+        return yaml;
     }
 
     public Either<ToscaTemplate, ToscaError> getDependencies(Component component) {
@@ -559,7 +613,8 @@ public class ToscaExportHandler {
             }
             List<ComponentInstance> componentInstances = component.getComponentInstances();
             if (componentInstances != null && !componentInstances.isEmpty()) {
-                componentInstances.forEach(ci -> createDependency(componentCache, additionalImports, dependencies, ci));
+                final Map<String, Either<Component, StorageOperationStatus>> fetchedComponents = prefetchDependencies(componentInstances);
+                componentInstances.forEach(ci -> createDependency(componentCache, fetchedComponents, additionalImports, dependencies, ci));
             }
             toscaTemplate.setDependencies(dependencies);
             toscaTemplate.setImports(additionalImports);
@@ -573,20 +628,41 @@ public class ToscaExportHandler {
         return getConfiguration().getDefaultImports();
     }
 
-    private void createDependency(final Map<String, Component> componentCache, final List<Map<String, Map<String, String>>> imports,
+    /**
+     * Fetches the origin components (and the source services of proxies) of all the instances up front, the dependencies are then created
+     * in the instances order from the fetched components.
+     */
+    private Map<String, Either<Component, StorageOperationStatus>> prefetchDependencies(final List<ComponentInstance> componentInstances) {
+        if (dependencyResolver == null) {
+            return new HashMap<>();
+        }
+        final List<String> componentIds = new ArrayList<>();
+        componentInstances.forEach(ci -> {
+            componentIds.add(ci.getComponentUid());
+            if (ci.getOriginType() == OriginTypeEnum.ServiceProxy || ci.getOriginType() == OriginTypeEnum.ServiceSubstitution) {
+                componentIds.add(ci.getSourceModelUid());
+            }
+        });
+        return new HashMap<>(dependencyResolver.fetchAll(componentIds, toscaOperationFacade::getToscaFullElement));
+    }
+
+    private void createDependency(final Map<String, Component> componentCache,
+                                  final Map<String, Either<Component, StorageOperationStatus>> fetchedComponents,
+                                  final List<Map<String, Map<String, String>>> imports,
                                   final List<Triple<String, String, Component>> dependencies, final ComponentInstance componentInstance) {
         log.debug("createDependency componentCache {}", componentCache);
         Component componentRI = componentCache.get(componentInstance.getComponentUid());
         if (componentRI == null || componentInstance.getOriginType() == OriginTypeEnum.ServiceSubstitution) {
             // all resource must be only once!
-            final Either<Component, StorageOperationStatus> resource = toscaOperationFacade.getToscaFullElement(componentInstance.getComponentUid());
+            final Either<Component, StorageOperationStatus> resource = fetchedComponents
+                .computeIfAbsent(componentInstance.getComponentUid(), toscaOperationFacade::getToscaFullElement);
             if ((resource.isRight()) && (log.isDebugEnabled())) {
                 log.debug("Failed to fetch resource with id {} for instance {}", componentInstance.getComponentUid(),
                     componentInstance.getUniqueId());
                 return;
             }
             final Component fetchedComponent = resource.left().value();
-            componentRI = setComponentCache(componentCache, componentInstance, fetchedComponent);
+            componentRI = setComponentCache(componentCache, fetchedComponents, componentInstance, fetchedComponent);
             addDependencies(imports, dependencies, componentRI);
         }
     }
@@ -594,13 +670,14 @@ public class ToscaExportHandler {
     /**
      * Sets a componentCache from the given component/resource.
      */
-    private Component setComponentCache(final Map<String, Component> componentCache, final ComponentInstance componentInstance,
-                                        final Component fetchedComponent) {
+    private Component setComponentCache(final Map<String, Component> componentCache,
+                                        final Map<String, Either<Component, StorageOperationStatus>> fetchedComponents,
+                                        final ComponentInstance componentInstance, final Component fetchedComponent) {
         componentCache.put(fetchedComponent.getUniqueId(), fetchedComponent);
         if (componentInstance.getOriginType() == OriginTypeEnum.ServiceProxy
             || componentInstance.getOriginType() == OriginTypeEnum.ServiceSubstitution) {
-            final Either<Component, StorageOperationStatus> sourceService = toscaOperationFacade
-                .getToscaFullElement(componentInstance.getSourceModelUid());
+            final Either<Component, StorageOperationStatus> sourceService = fetchedComponents
+                .computeIfAbsent(componentInstance.getSourceModelUid(), toscaOperationFacade::getToscaFullElement);
             if (sourceService.isRight() && (log.isDebugEnabled())) {
                 log.debug("Failed to fetch source service with id {} for proxy {}", componentInstance.getSourceModelUid(),
                     componentInstance.getUniqueId());
@@ -1516,9 +1593,8 @@ public class ToscaExportHandler {
         if (CollectionUtils.isNotEmpty(propertiesCopy)) {
             nodeFilter.setProperties(propertiesCopy);
         }
-        nodeFilter.setTosca_id(cloneToscaId(inNodeFilter.getTosca_id()));
-        nodeFilter = (NodeFilter) cloneObjectFromYml(nodeFilter, NodeFilter.class);
-        return nodeFilter;
+        nodeFilter.setTosca_id(inNodeFilter.getTosca_id());
+        return ToscaModelCopier.copy(nodeFilter);
     }
 
     private NodeFilter convertToSubstitutionFilterComponent(final SubstitutionFilterDataDefinition substitutionFilterDataDefinition) {
@@ -1532,17 +1608,8 @@ public class ToscaExportHandler {
         if (CollectionUtils.isNotEmpty(propertiesCopy)) {
             nodeFilter.setProperties(propertiesCopy);
         }
-        nodeFilter.setTosca_id(cloneToscaId(substitutionFilterDataDefinition.getTosca_id()));
-        return (NodeFilter) cloneObjectFromYml(nodeFilter, NodeFilter.class);
-    }
-
-    private Object cloneToscaId(Object toscaId) {
-        return Objects.isNull(toscaId) ? null : cloneObjectFromYml(toscaId, toscaId.getClass());
-    }
-
-    private Object cloneObjectFromYml(Object objToClone, Class classOfObj) {
-        String objectAsYml = yamlUtil.objectToYaml(objToClone);
-        return yamlUtil.yamlToObject(objectAsYml, classOfObj);
+        nodeFilter.setTosca_id(substitutionFilterDataDefinition.getTosca_id());
+        return ToscaModelCopier.copy(nodeFilter);
     }
 
     private void copyNodeFilterCapabilitiesTemplate(ListDataDefinition<RequirementNodeFilterCapabilityDataDefinition> origCapabilities,
@@ -1570,7 +1637,7 @@ public class ToscaExportHandler {
         Map<String, List<Object>> propertyMapCopy = new HashMap<>();
         for (RequirementNodeFilterPropertyDataDefinition propertyDataDefinition : origProperties.getListToscaDataDefinition()) {
             for (String propertyInfoEntry : propertyDataDefinition.getConstraints()) {
-                Map<String, List<Object>> propertyValObj = new YamlUtil().yamlToObject(propertyInfoEntry, Map.class);
+                Map<String, List<Object>> propertyValObj = parseConstraint(propertyInfoEntry);
                 String propertyName = propertyDataDefinition.getName();
                 if (propertyMapCopy.containsKey(propertyName)) {
                     addPropertyConstraintValueToList(propertyName, propertyValObj, propertyMapCopy.get(propertyName));
@@ -1596,7 +1663,7 @@ public class ToscaExportHandler {
         final Map<String, List<Object>> propertyMapCopy = new HashMap<>();
         for (final RequirementSubstitutionFilterPropertyDataDefinition propertyDataDefinition : origProperties.getListToscaDataDefinition()) {
             for (final String propertyInfoEntry : propertyDataDefinition.getConstraints()) {
-                final Map<String, List<Object>> propertyValObj = new YamlUtil().yamlToObject(propertyInfoEntry, Map.class);
+                final Map<String, List<Object>> propertyValObj = parseConstraint(propertyInfoEntry);
                 final String propertyName = propertyDataDefinition.getName();
                 if (propertyMapCopy.containsKey(propertyName)) {
                     addPropertyConstraintValueToList(propertyName, propertyValObj, propertyMapCopy.get(propertyName));
@@ -1614,6 +1681,19 @@ public class ToscaExportHandler {
         propertyMapCopy.entrySet().forEach(entry -> addCalculatedConstraintsIntoPropertiesList(propertiesCopy, entry));
     }
 
+    private static Yaml createConstraintParser() {
+        // same strict parsing as YamlUtil#yamlToObject: duplicate keys are rejected
+        final LoaderOptions loaderOptions = new LoaderOptions();
+        loaderOptions.setAllowDuplicateKeys(false);
+        loaderOptions.setMaxAliasesForCollections(9999);
+        return new Yaml(yamlUtil.getConstructor(Map.class), new Representer(), new DumperOptions(), loaderOptions);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, List<Object>> parseConstraint(final String constraint) {
+        return CONSTRAINT_PARSER.get().load(constraint);
+    }
+
     private void addPropertyConstraintValueToList(String propertyName, Map<String, List<Object>> propertyValObj, List<Object> propsList) {
         if (propertyValObj.containsKey(propertyName)) {
             propsList.add(propertyValObj.get(propertyName));
@@ -1785,13 +1865,12 @@ public class ToscaExportHandler {
             }
 
             public Node representGetAttribute(final String getAttributeFunction) {
-                return represent(new Yaml().load(getAttributeFunction));
+                return represent(FUNCTION_PARSER.get().load(getAttributeFunction));
             }
 
             public boolean isPropertyOrAttributeFunction(final String value) {
                 try {
-                    final Yaml yaml = new Yaml();
-                    final Object yamlObj = yaml.load(value);
+                    final Object yamlObj = FUNCTION_PARSER.get().load(value);
                     if (!(yamlObj instanceof Map)) {
                         return false;
                     }
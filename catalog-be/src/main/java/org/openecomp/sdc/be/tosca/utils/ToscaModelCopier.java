@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openecomp.sdc.be.tosca.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.onap.sdc.tosca.services.YamlUtil;
+import org.openecomp.sdc.be.tosca.model.CapabilityFilter;
+import org.openecomp.sdc.be.tosca.model.NodeFilter;
+
+/**
+ * Deep copies the values placed in the exported TOSCA model.
+ * <p>
+ * The copies have the same shape as the former dump-and-load YAML round trip: nested maps, lists and sets are replaced by plain
+ * {@link LinkedHashMap}, {@link ArrayList} and {@link LinkedHashSet} instances, and {@link CapabilityFilter} beans nested in node
+ * filters become maps, so the emitted YAML does not change. Values of any other type still go through the YAML round trip.
+ */
+public final class ToscaModelCopier {
+
+    private static final String PROPERTIES = "properties";
+    private static final YamlUtil yamlUtil = new YamlUtil();
+
+    private ToscaModelCopier() {
+    }
+
+    /**
+     * Copies a node or substitution filter.
+     *
+     * @param nodeFilter the filter to copy
+     * @return the copy, or {@code null} if {@code nodeFilter} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static NodeFilter copy(final NodeFilter nodeFilter) {
+        if (nodeFilter == null) {
+            return null;
+        }
+        final NodeFilter copy = new NodeFilter();
+        copy.setTosca_id(copyValue(nodeFilter.getTosca_id()));
+        copy.setProperties((List<Map<String, List<Object>>>) copyValue(nodeFilter.getProperties()));
+        copy.setCapabilities((List<Map<String, CapabilityFilter>>) copyValue(nodeFilter.getCapabilities()));
+        return copy;
+    }
+
+    /**
+     * Copies a value built from YAML scalars, maps, lists and sets.
+     *
+     * @param value the value to copy
+     * @return the copy; immutable scalars are returned as they are
+     */
+    public static Object copyValue(final Object value) {
+        if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof Map) {
+            final Map<Object, Object> copy = new LinkedHashMap<>();
+            ((Map<?, ?>) value).forEach((key, entryValue) -> copy.put(copyValue(key), copyValue(entryValue)));
+            return copy;
+        }
+        if (value instanceof List) {
+            final List<Object> copy = new ArrayList<>(((List<?>) value).size());
+            ((List<?>) value).forEach(element -> copy.add(copyValue(element)));
+            return copy;
+        }
+        if (value instanceof Set) {
+            final Set<Object> copy = new LinkedHashSet<>();
+            ((Collection<?>) value).forEach(element -> copy.add(copyValue(element)));
+            return copy;
+        }
+        if (value instanceof CapabilityFilter) {
+            final Map<Object, Object> copy = new LinkedHashMap<>();
+            final List<Map<String, List<Object>>> properties = ((CapabilityFilter) value).getProperties();
+            if (properties != null) {
+                copy.put(PROPERTIES, copyValue(properties));
+            }
+            return copy;
+        }
+        return yamlUtil.yamlToObject(yamlUtil.objectToYaml(value), value.getClass());
+    }
+}
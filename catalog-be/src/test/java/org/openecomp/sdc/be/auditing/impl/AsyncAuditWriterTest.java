@@ -0,0 +1,135 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.auditing.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openecomp.sdc.be.config.Configuration;
+import org.openecomp.sdc.be.config.Configuration.AsyncAuditConfig;
+import org.openecomp.sdc.be.dao.cassandra.AuditCassandraDao;
+import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingGenericEvent;
+import org.openecomp.sdc.be.resources.data.auditing.ResourceAdminEvent;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncAuditWriterTest {
+
+    @Mock
+    private AuditCassandraDao cassandraDao;
+    @Mock
+    private ConfigurationProvider configurationProvider;
+    private final Configuration configuration = new Configuration();
+    private final List<AuditingGenericEvent> savedEvents = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(configurationProvider.getConfiguration()).thenReturn(configuration);
+    }
+
+    @Test
+    void disabledWriterWritesOnCallerTest() {
+        AsyncAuditWriter asyncAuditWriter = new AsyncAuditWriter(cassandraDao, configurationProvider);
+        asyncAuditWriter.init();
+        AuditingGenericEvent event = new ResourceAdminEvent();
+        Mockito.when(cassandraDao.saveRecord(event)).thenReturn(CassandraOperationStatus.OK);
+
+        assertFalse(asyncAuditWriter.isEnabled());
+        asyncAuditWriter.write(event);
+        Mockito.verify(cassandraDao).saveRecord(event);
+        assertEquals(1, asyncAuditWriter.getWrittenEvents());
+    }
+
+    @Test
+    void shutdownDrainsQueuedEventsTest() {
+        AsyncAuditConfig asyncAuditConfig = new AsyncAuditConfig();
+        asyncAuditConfig.setEnabled(true);
+        asyncAuditConfig.setBatchSize(10);
+        configuration.setAsyncAudit(asyncAuditConfig);
+        Mockito.when(cassandraDao.saveRecords(Mockito.anyList())).thenAnswer(invocation -> {
+            synchronized (savedEvents) {
+                savedEvents.addAll(invocation.getArgument(0));
+            }
+            return CassandraOperationStatus.OK;
+        });
+        AsyncAuditWriter asyncAuditWriter = new AsyncAuditWriter(cassandraDao, configurationProvider);
+        asyncAuditWriter.init();
+        assertTrue(asyncAuditWriter.isEnabled());
+
+        List<AuditingGenericEvent> events = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            AuditingGenericEvent event = new ResourceAdminEvent();
+            events.add(event);
+            asyncAuditWriter.write(event);
+        }
+        asyncAuditWriter.shutdown();
+
+        assertFalse(asyncAuditWriter.isEnabled());
+        assertEquals(events, savedEvents);
+        assertEquals(100, asyncAuditWriter.getWrittenEvents());
+        assertEquals(0, asyncAuditWriter.getQueueDepth());
+        Mockito.verify(cassandraDao, Mockito.never()).saveRecord(Mockito.any());
+    }
+
+    @Test
+    void eventsAfterShutdownAreWrittenOnCallerTest() {
+        AsyncAuditConfig asyncAuditConfig = new AsyncAuditConfig();
+        asyncAuditConfig.setEnabled(true);
+        configuration.setAsyncAudit(asyncAuditConfig);
+        AuditingGenericEvent event = new ResourceAdminEvent();
+        Mockito.when(cassandraDao.saveRecord(event)).thenReturn(CassandraOperationStatus.OK);
+        AsyncAuditWriter asyncAuditWriter = new AsyncAuditWriter(cassandraDao, configurationProvider);
+        asyncAuditWriter.init();
+        asyncAuditWriter.shutdown();
+
+        asyncAuditWriter.write(event);
+
+        Mockito.verify(cassandraDao).saveRecord(event);
+        Mockito.verify(cassandraDao, Mockito.never()).saveRecords(Mockito.anyList());
+        assertEquals(1, asyncAuditWriter.getWrittenEvents());
+        assertEquals(0, asyncAuditWriter.getQueueDepth());
+    }
+
+    @Test
+    void failedBatchIsRetriedPerEventTest() {
+        AsyncAuditConfig asyncAuditConfig = new AsyncAuditConfig();
+        asyncAuditConfig.setEnabled(true);
+        configuration.setAsyncAudit(asyncAuditConfig);
+        AuditingGenericEvent event = new ResourceAdminEvent();
+        Mockito.when(cassandraDao.saveRecords(Mockito.anyList())).thenReturn(CassandraOperationStatus.GENERAL_ERROR);
+        Mockito.when(cassandraDao.saveRecord(event)).thenReturn(CassandraOperationStatus.OK);
+        AsyncAuditWriter asyncAuditWriter = new AsyncAuditWriter(cassandraDao, configurationProvider);
+        asyncAuditWriter.init();
+
+        asyncAuditWriter.write(event);
+        asyncAuditWriter.shutdown();
+
+        Mockito.verify(cassandraDao).saveRecord(event);
+        assertEquals(1, asyncAuditWriter.getWrittenEvents());
+        assertEquals(0, asyncAuditWriter.getFailedEvents());
+    }
+}
@@ -40,6 +40,7 @@ import org.openecomp.sdc.be.model.operations.impl.InterfaceLifecycleOperation;
 import org.openecomp.sdc.common.api.ArtifactTypeEnum;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -123,8 +124,8 @@ public class ServiceDistributionArtifactsBuilderTest extends BeConfDependentTest
 		ci.setDeploymentArtifacts(createDeploymentArtifactList(deploymentArtifactTimeout));
 		service.setComponentInstances(Arrays.asList(ci));
 
-		when(toscaOperationFacade.getToscaElement(Mockito.eq(ci.getComponentUid()), Mockito.any(ComponentParametersView.class)))
-				.thenReturn(Either.left(createDefaultResource()));
+		when(toscaOperationFacade.getToscaElements(Mockito.eq(Arrays.asList(ci.getComponentUid())), Mockito.any(ComponentParametersView.class)))
+				.thenReturn(Either.left(Collections.singletonMap(ci.getComponentUid(), createDefaultResource())));
 
 		INotificationData notificationData = testInstance.buildResourceInstanceForDistribution(service, "did", "workload");
 		assertThat(notificationData.getResources().get(0).getArtifacts().get(0).getArtifactTimeout())
@@ -52,7 +52,10 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import fj.data.Either;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -2217,6 +2220,52 @@ public class ArtifactsBusinessLogicTest extends BaseBusinessLogicMock {
         assertEquals(csarArtifact.getArtifactName(), result.getKey());
     }
 
+    @Test
+    public void testWriteToscaModelStreamsGeneratedCsar() throws IOException {
+        ArtifactsBusinessLogic testSubject = getTestSubject();
+        byte[] generatedCsar = "test.csar".getBytes();
+
+        Resource resource = new Resource();
+        resource.setComponentType(ComponentTypeEnum.RESOURCE);
+
+        ArtifactDefinition csarArtifact = new ArtifactDefinition();
+        csarArtifact.setArtifactName("csarArtifact");
+        csarArtifact.setArtifactType(ArtifactTypeEnum.HEAT_ENV.getType());
+        csarArtifact.setArtifactGroupType(ArtifactGroupTypeEnum.TOSCA);
+
+        when(csarUtils.createCsar(any(Component.class), anyBoolean(), anyBoolean(), any(OutputStream.class))).thenAnswer(invocation -> {
+            invocation.getArgument(3, OutputStream.class).write(generatedCsar);
+            return Either.left(true);
+        });
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(csarArtifact.getArtifactName(), testSubject.writeToscaModel(resource, csarArtifact, out));
+        assertArrayEquals(generatedCsar, out.toByteArray());
+        verify(csarUtils, times(0)).createCsar(any(Component.class), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    public void testWriteToscaModelCopiesStoredCsar() {
+        ArtifactsBusinessLogic testSubject = getTestSubject();
+        byte[] storedCsar = "stored.csar".getBytes();
+
+        Service service = new Service();
+        service.setComponentType(ComponentTypeEnum.SERVICE);
+        service.setLifecycleState(LifecycleStateEnum.CERTIFIED);
+
+        ArtifactDefinition csarArtifact = new ArtifactDefinition();
+        csarArtifact.setArtifactName("csarArtifact");
+        csarArtifact.setArtifactType(ArtifactTypeEnum.TOSCA_CSAR.getType());
+        csarArtifact.setArtifactGroupType(ArtifactGroupTypeEnum.TOSCA);
+        csarArtifact.setEsId("esId");
+
+        when(artifactCassandraDao.getArtifactStream("esId")).thenReturn(Either.left(new ByteArrayInputStream(storedCsar)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(csarArtifact.getArtifactName(), testSubject.writeToscaModel(service, csarArtifact, out));
+        assertArrayEquals(storedCsar, out.toByteArray());
+    }
+
     @Test
     public void testHandleDownloadRequestById_returnsSuccessful() {
         String componentId = "componentId";
@@ -0,0 +1,67 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.servlets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ByteRangeTest {
+
+    @Test
+    void testSingleRanges() {
+        assertRange(ByteRange.parse("bytes=0-99", 1000), 0, 99, "bytes 0-99/1000");
+        assertRange(ByteRange.parse("bytes=900-", 1000), 900, 999, "bytes 900-999/1000");
+        assertRange(ByteRange.parse("bytes=900-5000", 1000), 900, 999, "bytes 900-999/1000");
+        assertRange(ByteRange.parse("bytes=-100", 1000), 900, 999, "bytes 900-999/1000");
+        assertRange(ByteRange.parse("bytes=-5000", 1000), 0, 999, "bytes 0-999/1000");
+    }
+
+    @Test
+    void testUnsupportedRangesAreIgnored() {
+        assertNull(ByteRange.parse(null, 1000));
+        assertNull(ByteRange.parse("bytes=0-9,20-29", 1000));
+        assertNull(ByteRange.parse("items=0-9", 1000));
+        assertNull(ByteRange.parse("bytes=a-9", 1000));
+        assertNull(ByteRange.parse("bytes=9-0", 1000));
+        assertNull(ByteRange.parse("bytes=-", 1000));
+    }
+
+    @Test
+    void testUnsatisfiableRanges() {
+        assertUnsatisfiable(ByteRange.parse("bytes=1000-", 1000));
+        assertUnsatisfiable(ByteRange.parse("bytes=-0", 1000));
+        assertUnsatisfiable(ByteRange.parse("bytes=0-9", 0));
+    }
+
+    private void assertRange(ByteRange byteRange, long start, long end, String contentRange) {
+        assertTrue(byteRange.isSatisfiable());
+        assertEquals(start, byteRange.getStart());
+        assertEquals(end, byteRange.getEnd());
+        assertEquals(end - start + 1, byteRange.getLength());
+        assertEquals(contentRange, byteRange.getContentRange());
+    }
+
+    private void assertUnsatisfiable(ByteRange byteRange) {
+        assertFalse(byteRange.isSatisfiable());
+        assertTrue(byteRange.getContentRange().startsWith("bytes */"));
+    }
+}
@@ -25,19 +25,24 @@ package org.openecomp.sdc.be.servlets;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import javax.servlet.ServletContext;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.Application;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
@@ -1092,6 +1097,80 @@ class ElementServletTest extends JerseyTest {
         assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_OK);
     }
 
+    @Test
+    void screenReturnsCatalogVersionAsETagTest() {
+        String path = "/v1/screen";
+
+        Either<Map<String, List<CatalogComponent>>, ResponseFormat> screenEither = Either.left(new HashMap<>());
+        when(elementBusinessLogic.getCatalogVersion()).thenReturn(Optional.of("7"));
+        when(elementBusinessLogic.getCatalogComponents(eq(designerUser.getUserId()), any()))
+            .thenReturn(screenEither);
+
+        Response response = target()
+            .path(path)
+            .request()
+            .accept(MediaType.APPLICATION_JSON)
+            .header(Constants.USER_ID_HEADER, designerUser.getUserId())
+            .get();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(response.getHeaderString(HttpHeaders.ETAG)).startsWith("W/\"7-");
+    }
+
+    @Test
+    void screenNotModifiedWhenETagMatchesTest() {
+        String path = "/v1/screen";
+
+        Either<Map<String, List<CatalogComponent>>, ResponseFormat> screenEither = Either.left(new HashMap<>());
+        when(elementBusinessLogic.getCatalogVersion()).thenReturn(Optional.of("7"));
+        when(elementBusinessLogic.getCatalogComponents(eq(designerUser.getUserId()), any()))
+            .thenReturn(screenEither);
+        String eTag = target()
+            .path(path)
+            .request()
+            .accept(MediaType.APPLICATION_JSON)
+            .header(Constants.USER_ID_HEADER, designerUser.getUserId())
+            .get()
+            .getHeaderString(HttpHeaders.ETAG);
+
+        Response response = target()
+            .path(path)
+            .request()
+            .accept(MediaType.APPLICATION_JSON)
+            .header(Constants.USER_ID_HEADER, designerUser.getUserId())
+            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            .get();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_NOT_MODIFIED);
+        assertThat(response.getHeaderString(HttpHeaders.ETAG)).isEqualTo(eTag);
+        verify(elementBusinessLogic, times(1)).getCatalogComponents(eq(designerUser.getUserId()), any());
+    }
+
+    @Test
+    void screenSinceVersionReturnsChangedComponentsTest() {
+        String path = "/v1/screen";
+
+        Map<String, Object> delta = new HashMap<>();
+        delta.put("version", "7");
+        delta.put("full", false);
+        delta.put("removed", Lists.newArrayList("removedComponentId"));
+        when(elementBusinessLogic.getCatalogVersion()).thenReturn(Optional.of("7"));
+        when(elementBusinessLogic.getCatalogComponentsDelta(eq(designerUser.getUserId()), any(), eq("5")))
+            .thenReturn(Either.left(delta));
+
+        Response response = target()
+            .path(path)
+            .queryParam("since", "5")
+            .request()
+            .accept(MediaType.APPLICATION_JSON)
+            .header(Constants.USER_ID_HEADER, designerUser.getUserId())
+            .get();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(response.readEntity(String.class)).contains("removedComponentId");
+        verify(elementBusinessLogic, never()).getCatalogComponents(any(), any());
+    }
+
     @Override
     protected Application configure() {
         ApplicationContext context = new AnnotationConfigApplicationContext(SpringConfig.class);
@@ -0,0 +1,216 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.tosca;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import fj.data.Either;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphDao;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphTransactionContext;
+import org.openecomp.sdc.be.datatypes.enums.ResourceTypeEnum;
+import org.openecomp.sdc.be.model.Component;
+import org.openecomp.sdc.be.model.ComponentInstance;
+import org.openecomp.sdc.be.model.Resource;
+import org.openecomp.sdc.be.model.Service;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+
+class ComponentDependencyResolverTest {
+
+    private final Map<String, Component> graph = new HashMap<>();
+    private final Map<String, AtomicInteger> fetchCounts = new ConcurrentHashMap<>();
+    private final Function<String, Either<Component, StorageOperationStatus>> fetcher = id -> {
+        fetchCounts.computeIfAbsent(id, key -> new AtomicInteger()).incrementAndGet();
+        final Component component = graph.get(id);
+        return component == null ? Either.right(StorageOperationStatus.NOT_FOUND) : Either.left(component);
+    };
+    private final Map<Thread, JanusGraphTransactionContext> transactionOfThread = new ConcurrentHashMap<>();
+    private JanusGraphDao janusGraphDao;
+    private JanusGraphTransactionContext readTransaction;
+    private ComponentDependencyResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        janusGraphDao = mock(JanusGraphDao.class);
+        readTransaction = mock(JanusGraphTransactionContext.class);
+        when(janusGraphDao.getExplicitTransaction()).thenReturn(Optional.empty());
+        when(janusGraphDao.openTransaction(true)).thenReturn(Either.left(readTransaction));
+        when(janusGraphDao.callInTransaction(any(), any())).thenAnswer(invocation -> {
+            transactionOfThread.put(Thread.currentThread(), invocation.getArgument(0));
+            try {
+                return invocation.<Supplier<?>>getArgument(1).get();
+            } finally {
+                transactionOfThread.remove(Thread.currentThread());
+            }
+        });
+        resolver = new ComponentDependencyResolver(janusGraphDao);
+    }
+
+    @AfterEach
+    void tearDown() {
+        resolver.shutdown();
+    }
+
+    @Test
+    void resolvesAllLevelsOnceInDiscoveryOrder() {
+        resolver.init(4, 30);
+        graph.put("vfc1", resource("vfc1", ResourceTypeEnum.VFC));
+        graph.put("vfc2", resource("vfc2", ResourceTypeEnum.VFC));
+        graph.put("vf1", resource("vf1", ResourceTypeEnum.VF, "vfc1", "vfc2"));
+        graph.put("vf2", resource("vf2", ResourceTypeEnum.VF, "vfc2", "vf1"));
+        final Service service = service("vf2", "vf1", "vf2", "missing");
+
+        final Map<String, Either<Component, StorageOperationStatus>> resolved = resolver
+            .resolveOrigins(Collections.singletonList(service), fetcher);
+
+        assertEquals(Arrays.asList("vf2", "vf1", "missing", "vfc2", "vfc1"), new ArrayList<>(resolved.keySet()));
+        assertTrue(resolved.get("missing").isRight());
+        assertEquals(graph.get("vf1"), resolved.get("vf1").left().value());
+        fetchCounts.values().forEach(count -> assertEquals(1, count.get()));
+        assertEquals(5, fetchCounts.size());
+    }
+
+    @Test
+    void doesNotDescendIntoAtomicOrigins() {
+        resolver.init(4, 30);
+        graph.put("vfc1", resource("vfc1", ResourceTypeEnum.VFC, "cp1"));
+        graph.put("cp1", resource("cp1", ResourceTypeEnum.CP));
+
+        final Map<String, Either<Component, StorageOperationStatus>> resolved = resolver
+            .resolveOrigins(Collections.singletonList(service("vfc1")), fetcher);
+
+        assertEquals(Collections.singletonList("vfc1"), new ArrayList<>(resolved.keySet()));
+    }
+
+    @Test
+    void fetchesInOneSharedReadTransactionWhichIsClosedAfterwards() {
+        resolver.init(2, 30);
+        final List<String> ids = new ArrayList<>();
+        final List<JanusGraphTransactionContext> usedTransactions = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 20; i++) {
+            ids.add("id" + i);
+            graph.put("id" + i, resource("id" + i, ResourceTypeEnum.VFC));
+        }
+
+        final Map<String, Either<Component, StorageOperationStatus>> fetched = resolver.fetchAll(ids, id -> {
+            usedTransactions.add(transactionOfThread.get(Thread.currentThread()));
+            return fetcher.apply(id);
+        });
+
+        assertEquals(ids, new ArrayList<>(fetched.keySet()));
+        assertEquals(Collections.nCopies(20, readTransaction), usedTransactions);
+        verify(janusGraphDao, times(1)).openTransaction(true);
+        verify(janusGraphDao, times(1)).rollback(readTransaction);
+        verify(janusGraphDao, never()).rollback();
+    }
+
+    @Test
+    void fetchesUncommittedOriginsOnTheRequestThread() {
+        resolver.init(4, 30);
+        // the nested vfcs are created by the same import, only the request transaction sees them until it is committed
+        final Thread requestThread = Thread.currentThread();
+        graph.put("vfc1", resource("vfc1", ResourceTypeEnum.VFC));
+        graph.put("vfc2", resource("vfc2", ResourceTypeEnum.VFC));
+        graph.put("vf1", resource("vf1", ResourceTypeEnum.VF, "vfc1", "vfc2"));
+        when(janusGraphDao.hasPendingChanges()).thenReturn(true);
+        final Function<String, Either<Component, StorageOperationStatus>> requestTransactionFetcher = id -> Thread.currentThread() == requestThread
+            ? fetcher.apply(id) : Either.right(StorageOperationStatus.NOT_FOUND);
+
+        final Map<String, Either<Component, StorageOperationStatus>> resolved = resolver
+            .resolveOrigins(Collections.singletonList(service("vf1", "vfc1")), requestTransactionFetcher);
+
+        assertEquals(Arrays.asList("vf1", "vfc1", "vfc2"), new ArrayList<>(resolved.keySet()));
+        resolved.values().forEach(result -> assertTrue(result.isLeft()));
+        verify(janusGraphDao, never()).openTransaction(true);
+    }
+
+    @Test
+    void sharesTheExplicitTransactionOfTheCallerWithoutClosingIt() {
+        resolver.init(4, 30);
+        final JanusGraphTransactionContext callerTransaction = mock(JanusGraphTransactionContext.class);
+        when(janusGraphDao.getExplicitTransaction()).thenReturn(Optional.of(callerTransaction));
+        graph.put("vfc1", resource("vfc1", ResourceTypeEnum.VFC));
+        graph.put("vfc2", resource("vfc2", ResourceTypeEnum.VFC));
+        final Function<String, Either<Component, StorageOperationStatus>> callerTransactionFetcher = id ->
+            transactionOfThread.get(Thread.currentThread()) == callerTransaction ? fetcher.apply(id) : Either.right(StorageOperationStatus.NOT_FOUND);
+
+        final Map<String, Either<Component, StorageOperationStatus>> fetched = resolver
+            .fetchAll(Arrays.asList("vfc1", "vfc2"), callerTransactionFetcher);
+
+        fetched.values().forEach(result -> assertTrue(result.isLeft()));
+        verify(janusGraphDao, never()).openTransaction(true);
+        verify(janusGraphDao, never()).rollback(callerTransaction);
+    }
+
+    @Test
+    void fetchesOnTheRequestThreadWithoutPool() {
+        resolver.init(1, 30);
+        graph.put("vfc1", resource("vfc1", ResourceTypeEnum.VFC));
+        graph.put("vfc2", resource("vfc2", ResourceTypeEnum.VFC));
+
+        final Map<String, Either<Component, StorageOperationStatus>> fetched = resolver
+            .fetchAll(Arrays.asList("vfc1", "vfc2", "vfc1"), fetcher);
+
+        assertEquals(Arrays.asList("vfc1", "vfc2"), new ArrayList<>(fetched.keySet()));
+        verify(janusGraphDao, never()).rollback();
+    }
+
+    private static Resource resource(final String id, final ResourceTypeEnum type, final String... origins) {
+        final Resource resource = new Resource();
+        resource.setUniqueId(id);
+        resource.setResourceType(type);
+        resource.setComponentInstances(instances(origins));
+        return resource;
+    }
+
+    private static Service service(final String... origins) {
+        final Service service = new Service();
+        service.setComponentInstances(instances(origins));
+        return service;
+    }
+
+    private static List<ComponentInstance> instances(final String... origins) {
+        final List<ComponentInstance> instances = new ArrayList<>();
+        for (final String origin : origins) {
+            final ComponentInstance instance = new ComponentInstance();
+            instance.setComponentUid(origin);
+            instances.add(instance);
+        }
+        return instances;
+    }
+}
@@ -213,6 +213,36 @@ public class CsarUtilsTest extends BeConfDependentTest {
 		testSubject.createCsar(component, false, true);
 	}
 
+	@Test
+	public void testCreateCsarToOutputStreamDoesNotCloseTheStream() {
+		Component component = new Resource();
+		Map<String, ArtifactDefinition> toscaArtifacts = new HashMap<>();
+		ArtifactDefinition artifact = new ArtifactDefinition();
+		artifact.setArtifactName("artifactName");
+		artifact.setEsId("esId");
+		toscaArtifacts.put("assettoscatemplate", artifact);
+
+		component.setToscaArtifacts(toscaArtifacts);
+
+		Mockito.when(artifactCassandraDao.getArtifact(Mockito.any(String.class)))
+				.thenReturn(Either.right(CassandraOperationStatus.GENERAL_ERROR));
+
+		Mockito.when(componentsUtils.convertFromStorageResponse(Mockito.any(StorageOperationStatus.class)))
+				.thenReturn(ActionStatus.GENERAL_ERROR);
+
+		final boolean[] closed = {false};
+		final ByteArrayOutputStream out = new ByteArrayOutputStream() {
+			@Override
+			public void close() throws IOException {
+				closed[0] = true;
+				super.close();
+			}
+		};
+		Either<Boolean, ResponseFormat> output = testSubject.createCsar(component, true, true, out);
+		assertEquals(testSubject.createCsar(component, true, true).isLeft(), output.isLeft());
+		assertFalse(closed[0]);
+	}
+
 	@Test
 	public void testPopulateZipWhenGetDependenciesIsRight() {
 		Component component = new Service();
@@ -533,7 +563,7 @@ public class CsarUtilsTest extends BeConfDependentTest {
 		Mockito.when(toscaOperationFacade.getToscaElement(Mockito.any(String.class)))
 				.thenReturn(Either.left(componentRI));
 
-		Deencapsulation.invoke(testSubject, "addInnerComponentsToCache", componentCache, childComponent);
+		Deencapsulation.invoke(testSubject, "addInnerComponentsToCache", componentCache, childComponent, new HashMap<>());
 
 		io.vavr.collection.List<CacheEntry> expected = io.vavr.collection.List.of(entry("esId","artifactName",componentRI));
 		assertEquals(expected, componentCache.all().toList());
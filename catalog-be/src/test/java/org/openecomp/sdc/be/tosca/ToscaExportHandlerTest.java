@@ -23,6 +23,7 @@
 package org.openecomp.sdc.be.tosca;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
@@ -44,6 +45,8 @@ import static org.openecomp.sdc.be.datatypes.enums.ResourceTypeEnum.VF;
 import static org.openecomp.sdc.be.tosca.PropertyConvertor.PropertyType.PROPERTY;
 
 import fj.data.Either;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -65,6 +68,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.openecomp.sdc.be.components.BeConfDependentTest;
 import org.openecomp.sdc.be.components.utils.PropertyDataDefinitionBuilder;
+import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
 import org.openecomp.sdc.be.datatypes.elements.ArtifactDataDefinition;
 import org.openecomp.sdc.be.datatypes.elements.OperationDataDefinition;
@@ -328,6 +332,29 @@ public class ToscaExportHandlerTest extends BeConfDependentTest {
         Assert.assertNotNull(result);
     }
 
+    @Test
+    public void testWriteToscaRepresentation() throws Exception {
+        ToscaTemplate toscaTemplate = new ToscaTemplate(TOSCA_VERSION);
+        ToscaTopolgyTemplate topologyTemplate = new ToscaTopolgyTemplate();
+        ToscaNodeTemplate nodeTemplate = new ToscaNodeTemplate();
+        nodeTemplate.setType("org.openecomp.resource.vf.Test");
+        topologyTemplate.setNode_templates(Collections.singletonMap("node", nodeTemplate));
+        toscaTemplate.setTopology_template(topologyTemplate);
+        StringWriter writer = new StringWriter();
+
+        testSubject.writeToscaRepresentation(toscaTemplate, writer);
+
+        String yaml = writer.toString();
+        String header = String.valueOf(ConfigurationManager.getConfigurationManager().getConfiguration().getHeatEnvArtifactHeader());
+        String footer = String.valueOf(ConfigurationManager.getConfigurationManager().getConfiguration().getHeatEnvArtifactFooter());
+        assertTrue(yaml.startsWith(header + "tosca_definitions_version: " + TOSCA_VERSION));
+        assertFalse(yaml.contains("!!"));
+        assertFalse(yaml.contains("{"));
+        // same document as the one previously built in memory with dumpAsMap
+        assertEquals(header + testSubject.createToscaYaml().dumpAsMap(toscaTemplate) + footer, yaml);
+        assertArrayEquals(yaml.getBytes(StandardCharsets.UTF_8), testSubject.createToscaRepresentation(toscaTemplate).getMainYaml());
+    }
+
     @Test
     public void testGetDependencies() throws Exception {
 
@@ -559,7 +586,7 @@ public class ToscaExportHandlerTest extends BeConfDependentTest {
         when(toscaOperationFacade.getToscaFullElement("modelName")).thenReturn(Either.left(new Service()));
 
         // default test
-        Deencapsulation.invoke(testSubject, "createDependency", componentCache, imports, dependecies, ci);
+        Deencapsulation.invoke(testSubject, "createDependency", componentCache, new HashMap<>(), imports, dependecies, ci);
         Assert.assertFalse(componentCache.isEmpty());
     }
 
@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openecomp.sdc.be.tosca.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.onap.sdc.tosca.services.YamlUtil;
+import org.openecomp.sdc.be.tosca.model.CapabilityFilter;
+import org.openecomp.sdc.be.tosca.model.NodeFilter;
+
+class ToscaModelCopierTest {
+
+    private final YamlUtil yamlUtil = new YamlUtil();
+
+    @Test
+    void copyMatchesYamlRoundTrip() {
+        final NodeFilter nodeFilter = createNodeFilter();
+
+        final NodeFilter copy = ToscaModelCopier.copy(nodeFilter);
+        final NodeFilter roundTrip = yamlUtil.yamlToObject(yamlUtil.objectToYaml(nodeFilter), NodeFilter.class);
+
+        assertEquals(roundTrip.getTosca_id(), copy.getTosca_id());
+        assertEquals(roundTrip.getProperties(), copy.getProperties());
+        assertEquals((Object) roundTrip.getCapabilities(), copy.getCapabilities());
+        assertEquals(yamlUtil.objectToYaml(roundTrip), yamlUtil.objectToYaml(copy));
+    }
+
+    @Test
+    void copyDoesNotShareMutableValues() {
+        final NodeFilter nodeFilter = createNodeFilter();
+
+        final NodeFilter copy = ToscaModelCopier.copy(nodeFilter);
+        nodeFilter.getProperties().get(0).get("size").add("changed");
+
+        assertNotSame(nodeFilter.getProperties(), copy.getProperties());
+        assertEquals(1, copy.getProperties().get(0).get("size").size());
+        assertTrue(copy.getCapabilities().get(0).get("scalable") instanceof Map);
+    }
+
+    @Test
+    void copyNull() {
+        assertNull(ToscaModelCopier.copy(null));
+        assertNull(ToscaModelCopier.copyValue(null));
+    }
+
+    private NodeFilter createNodeFilter() {
+        final Map<String, List<Object>> property = new HashMap<>();
+        final List<Object> constraints = new ArrayList<>();
+        constraints.add(Collections.singletonMap("equal", Collections.singletonMap("get_input", List.of("SELF", "size"))));
+        property.put("size", constraints);
+        final List<Map<String, List<Object>>> properties = new ArrayList<>();
+        properties.add(property);
+
+        final CapabilityFilter capabilityFilter = new CapabilityFilter();
+        capabilityFilter.addProperty(Map.of("min_instances", new ArrayList<>(List.of(Map.of("greater_than", 1)))));
+        final List<Map<String, CapabilityFilter>> capabilities = new ArrayList<>();
+        capabilities.add(Map.of("scalable", capabilityFilter));
+
+        final NodeFilter nodeFilter = new NodeFilter();
+        nodeFilter.setTosca_id("toscaId");
+        nodeFilter.setProperties(properties);
+        nodeFilter.setCapabilities(capabilities);
+        return nodeFilter;
+    }
+}
@@ -20,6 +20,9 @@
 package org.openecomp.sdc.be.dao.cassandra;
 
 import com.datastax.driver.core.ResultSet;
+import java.nio.ByteBuffer;
+import java.util.Date;
+import java.util.List;
 import com.datastax.driver.mapping.annotations.Accessor;
 import com.datastax.driver.mapping.annotations.Param;
 import com.datastax.driver.mapping.annotations.Query;
@@ -33,4 +36,54 @@ public interface ArtifactAccessor {
     // *****  get the number of artifacts with a specific id
     @Query("SELECT COUNT(*) FROM sdcartifact.resources WHERE ID = :uniqueId")
     ResultSet getNumOfArtifactsById(@Param("uniqueId") String uniqueId);
+
+    // *****  chunked artifact payloads
+    @Query("SELECT data FROM sdcartifact.resource_chunks WHERE id = :chunksId AND chunk_index = :chunkIndex")
+    ResultSet getChunk(@Param("chunksId") String chunksId, @Param("chunkIndex") int chunkIndex);
+
+    @Query("INSERT INTO sdcartifact.resource_chunks (id, chunk_index, data) VALUES (:chunksId, :chunkIndex, :data)")
+    ResultSet saveChunk(@Param("chunksId") String chunksId, @Param("chunkIndex") int chunkIndex, @Param("data") ByteBuffer data);
+
+    @Query("DELETE FROM sdcartifact.resource_chunks WHERE id = :chunksId AND chunk_index IN :chunkIndexes")
+    ResultSet deleteChunks(@Param("chunksId") String chunksId, @Param("chunkIndexes") List<Integer> chunkIndexes);
+
+    // *****  content-addressed artifact payloads
+    @Query("SELECT data, size, chunk_size, chunk_count, chunks_id FROM sdcartifact.resource_contents WHERE hash = :hash")
+    ResultSet getContent(@Param("hash") String hash);
+
+    @Query("INSERT INTO sdcartifact.resource_contents (hash, data, size, chunk_size, chunk_count, chunks_id) "
+        + "VALUES (:hash, :data, :size, :chunkSize, :chunkCount, :chunksId) IF NOT EXISTS")
+    ResultSet saveContent(@Param("hash") String hash, @Param("data") ByteBuffer data, @Param("size") long size,
+                          @Param("chunkSize") Integer chunkSize, @Param("chunkCount") Integer chunkCount, @Param("chunksId") String chunksId);
+
+    @Query("UPDATE sdcartifact.resource_contents SET unreferenced_since = null WHERE hash = :hash IF EXISTS")
+    ResultSet touchContent(@Param("hash") String hash);
+
+    @Query("UPDATE sdcartifact.resource_contents SET unreferenced_since = :since WHERE hash = :hash IF unreferenced_since = null")
+    ResultSet markContentUnreferenced(@Param("hash") String hash, @Param("since") Date since);
+
+    @Query("DELETE FROM sdcartifact.resource_contents WHERE hash = :hash IF unreferenced_since = :since")
+    ResultSet deleteContent(@Param("hash") String hash, @Param("since") Date since);
+
+    @Query("SELECT hash, chunk_count, chunks_id, unreferenced_since FROM sdcartifact.resource_contents")
+    ResultSet getAllContents();
+
+    @Query("INSERT INTO sdcartifact.resources (id, size, checksum, content_hash) VALUES (:id, :size, :checksum, :contentHash) IF NOT EXISTS")
+    ResultSet insertContentReference(@Param("id") String id, @Param("contentHash") String contentHash, @Param("size") long size,
+                                     @Param("checksum") String checksum);
+
+    @Query("UPDATE sdcartifact.resources SET content_hash = :contentHash, size = :size, checksum = :checksum, data = null, chunk_size = null, "
+        + "chunk_count = null, chunks_id = null WHERE id = :id IF content_hash = :previousContentHash AND chunks_id = :previousChunksId")
+    ResultSet swapContentReference(@Param("id") String id, @Param("contentHash") String contentHash, @Param("size") long size,
+                                   @Param("checksum") String checksum, @Param("previousContentHash") String previousContentHash,
+                                   @Param("previousChunksId") String previousChunksId);
+
+    @Query("SELECT refs FROM sdcartifact.resource_content_refs WHERE hash = :hash")
+    ResultSet getContentRefs(@Param("hash") String hash);
+
+    @Query("UPDATE sdcartifact.resource_content_refs SET refs = refs + 1 WHERE hash = :hash")
+    ResultSet incrementContentRefs(@Param("hash") String hash);
+
+    @Query("UPDATE sdcartifact.resource_content_refs SET refs = refs - 1 WHERE hash = :hash")
+    ResultSet decrementContentRefs(@Param("hash") String hash);
 }
@@ -20,11 +20,30 @@
 package org.openecomp.sdc.be.dao.cassandra;
 
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.mapping.MappingManager;
 import fj.data.Either;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.annotation.PostConstruct;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.openecomp.sdc.be.config.Configuration.CassandrConfig;
+import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.resources.data.DAOArtifactData;
 import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
 import org.openecomp.sdc.common.log.wrappers.Logger;
@@ -35,6 +54,9 @@ import org.springframework.stereotype.Component;
 public class ArtifactCassandraDao extends CassandraDao {
 
     private static Logger logger = Logger.getLogger(ArtifactCassandraDao.class.getName());
+    private static final String CHECKSUM_ALGORITHM = "SHA-256";
+    private static final String CONTENT_CHUNKS_PREFIX = "content" + DAOArtifactData.delim;
+    private static final int MAX_CONTENT_SWAP_ATTEMPTS = 3;
     private ArtifactAccessor artifactAccessor;
 
     @Autowired
@@ -62,16 +84,315 @@ public class ArtifactCassandraDao extends CassandraDao {
         }
     }
 
+    /**
+     * Saves the artifact. When chunked storage is enabled and the payload is bigger than the configured chunk size, the payload is stored in
+     * fixed-size chunks and the artifact row only keeps the manifest (size, chunk size, chunk count and checksum).
+     */
     public CassandraOperationStatus saveArtifact(DAOArtifactData artifact) {
-        return client.save(artifact, DAOArtifactData.class, manager);
+        final int chunkSize = getArtifactChunkSize();
+        if (artifact != null && artifact.getData() != null && isContentAddressed()) {
+            return saveContent(artifact.getId(), artifact.getData(), chunkSize);
+        }
+        if (artifact != null && artifact.getData() != null && chunkSize > 0 && artifact.getData().remaining() > chunkSize) {
+            return saveArtifact(artifact.getId(), new ByteBufferInputStream(artifact.getData()), chunkSize);
+        }
+        final DAOArtifactData previous = getStoredArtifact(artifact == null ? null : artifact.getId());
+        final CassandraOperationStatus status = client.save(toDataRow(artifact), DAOArtifactData.class, manager);
+        if (status == CassandraOperationStatus.OK) {
+            releaseStorage(previous);
+        }
+        return status;
+    }
+
+    /**
+     * Saves the artifact payload read from the given stream in chunks of the given size, without holding the whole payload in memory. The
+     * manifest row is written last, so readers never see a partially written artifact.
+     *
+     * @param artifactId the artifact id
+     * @param payload    the artifact payload, the stream is not closed
+     * @param chunkSize  the chunk size in bytes
+     * @return the operation status
+     * @throws IllegalArgumentException if the chunk size is not positive
+     */
+    public CassandraOperationStatus saveArtifact(final String artifactId, final InputStream payload, final int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunk size must be positive, got " + chunkSize);
+        }
+        if (isContentAddressed()) {
+            return saveContent(artifactId, payload, chunkSize);
+        }
+        final DAOArtifactData previous = getStoredArtifact(artifactId);
+        final MessageDigest digest = createDigest(artifactId);
+        if (digest == null) {
+            return CassandraOperationStatus.GENERAL_ERROR;
+        }
+        // every save writes a new set of chunks, the previous set stays readable until the new manifest replaces it
+        final String chunksId = artifactId + DAOArtifactData.delim + UUID.randomUUID();
+        final long size = writeChunks(artifactId, chunksId, payload, chunkSize, digest);
+        if (size < 0) {
+            return CassandraOperationStatus.GENERAL_ERROR;
+        }
+        final int chunkCount = countChunks(size, chunkSize);
+        final DAOArtifactData manifest = new DAOArtifactData(artifactId);
+        manifest.setSize(size);
+        manifest.setChunkSize(chunkSize);
+        manifest.setChunkCount(chunkCount);
+        manifest.setChecksum(Base64.getEncoder().encodeToString(digest.digest()));
+        manifest.setChunksId(chunksId);
+        final CassandraOperationStatus status = client.save(manifest, DAOArtifactData.class, manager);
+        if (status != CassandraOperationStatus.OK) {
+            deleteChunks(chunksId, chunkCount);
+        } else {
+            releaseStorage(previous);
+        }
+        return status;
+    }
+
+    /**
+     * A row read back still carries the location of its payload (chunks or content reference). Saving it as is would make two rows share
+     * that storage, and replacing or deleting either of them would release the payload of the other, so only the id and data are saved.
+     */
+    private static DAOArtifactData toDataRow(final DAOArtifactData artifact) {
+        if (artifact == null) {
+            return null;
+        }
+        final DAOArtifactData row = new DAOArtifactData(artifact.getId());
+        row.setData(artifact.getData());
+        return row;
+    }
+
+    private CassandraOperationStatus saveContent(final String artifactId, final ByteBuffer data, final int chunkSize) {
+        final MessageDigest digest = createDigest(artifactId);
+        if (digest == null) {
+            return CassandraOperationStatus.GENERAL_ERROR;
+        }
+        final long size = data.remaining();
+        digest.update(data.duplicate());
+        final byte[] hash = digest.digest();
+        return linkContent(artifactId, Hex.encodeHexString(hash), size, Base64.getEncoder().encodeToString(hash),
+            contentHash -> writeContent(artifactId, contentHash, data, chunkSize));
+    }
+
+    private CassandraOperationStatus saveContent(final String artifactId, final InputStream payload, final int chunkSize) {
+        final MessageDigest digest = createDigest(artifactId);
+        if (digest == null) {
+            return CassandraOperationStatus.GENERAL_ERROR;
+        }
+        // the hash is only known once the payload is read, so the chunks are written first and dropped if the content already exists
+        final String chunksId = CONTENT_CHUNKS_PREFIX + UUID.randomUUID();
+        final long size = writeChunks(artifactId, chunksId, payload, chunkSize, digest);
+        if (size < 0) {
+            return CassandraOperationStatus.GENERAL_ERROR;
+        }
+        final int chunkCount = countChunks(size, chunkSize);
+        final byte[] hash = digest.digest();
+        final AtomicBoolean chunksUsed = new AtomicBoolean();
+        final CassandraOperationStatus status = linkContent(artifactId, Hex.encodeHexString(hash), size,
+            Base64.getEncoder().encodeToString(hash), contentHash -> {
+                chunksUsed.set(insertContent(contentHash, null, size, chunkSize, chunkCount, chunksId));
+                return CassandraOperationStatus.OK;
+            });
+        if (!chunksUsed.get()) {
+            deleteChunks(chunksId, chunkCount);
+        }
+        return status;
+    }
+
+    /**
+     * Points the artifact at the content with the given hash. The content is only written, by {@code contentWriter}, when it is not stored
+     * yet; re-saving an artifact with the payload it already refers to writes nothing. The artifact row is swapped with a conditional update,
+     * so that the storage it referred to is released only by the save that actually replaced it.
+     */
+    private CassandraOperationStatus linkContent(final String artifactId, final String contentHash, final long size, final String checksum,
+                                                 final Function<String, CassandraOperationStatus> contentWriter) {
+        DAOArtifactData previous = getStoredArtifact(artifactId);
+        if (previous != null && contentHash.equals(previous.getContentHash())) {
+            return CassandraOperationStatus.OK;
+        }
+        boolean referenced = false;
+        try {
+            // the reference is counted before the content is checked, so that the garbage collector never drops a content being reused
+            artifactAccessor.incrementContentRefs(contentHash);
+            referenced = true;
+            if (!artifactAccessor.touchContent(contentHash).wasApplied()) {
+                final CassandraOperationStatus status = contentWriter.apply(contentHash);
+                if (status != CassandraOperationStatus.OK) {
+                    releaseContent(contentHash);
+                    return status;
+                }
+            }
+            for (int attempt = 0; attempt < MAX_CONTENT_SWAP_ATTEMPTS; attempt++) {
+                if (swapContentReference(artifactId, previous, contentHash, size, checksum)) {
+                    releaseStorage(previous);
+                    return CassandraOperationStatus.OK;
+                }
+                // another save replaced the artifact row since it was read
+                previous = getStoredArtifact(artifactId);
+                if (previous != null && contentHash.equals(previous.getContentHash())) {
+                    releaseContent(contentHash);
+                    return CassandraOperationStatus.OK;
+                }
+            }
+            logger.debug("Failed to link content {} to artifact {}, the artifact was concurrently modified", contentHash, artifactId);
+        } catch (final Exception e) {
+            logger.debug("Failed to store content {} of artifact {}", contentHash, artifactId, e);
+        }
+        if (referenced) {
+            releaseContent(contentHash);
+        }
+        return CassandraOperationStatus.GENERAL_ERROR;
     }
 
+    /**
+     * @return false when the artifact row is no longer the given previous row
+     */
+    private boolean swapContentReference(final String artifactId, final DAOArtifactData previous, final String contentHash, final long size,
+                                         final String checksum) {
+        if (previous == null) {
+            return artifactAccessor.insertContentReference(artifactId, contentHash, size, checksum).wasApplied();
+        }
+        return artifactAccessor.swapContentReference(artifactId, contentHash, size, checksum, previous.getContentHash(), previous.getChunksId())
+            .wasApplied();
+    }
+
+    private CassandraOperationStatus writeContent(final String artifactId, final String contentHash, final ByteBuffer data, final int chunkSize) {
+        final long size = data.remaining();
+        if (chunkSize <= 0 || size <= chunkSize) {
+            insertContent(contentHash, data.duplicate(), size, null, null, null);
+            return CassandraOperationStatus.OK;
+        }
+        final String chunksId = CONTENT_CHUNKS_PREFIX + UUID.randomUUID();
+        if (writeChunks(artifactId, chunksId, new ByteBufferInputStream(data), chunkSize, null) < 0) {
+            return CassandraOperationStatus.GENERAL_ERROR;
+        }
+        final int chunkCount = countChunks(size, chunkSize);
+        if (!insertContent(contentHash, null, size, chunkSize, chunkCount, chunksId)) {
+            deleteChunks(chunksId, chunkCount);
+        }
+        return CassandraOperationStatus.OK;
+    }
+
+    /**
+     * @return false when another save stored the same content first
+     */
+    private boolean insertContent(final String contentHash, final ByteBuffer data, final long size, final Integer chunkSize,
+                                  final Integer chunkCount, final String chunksId) {
+        return artifactAccessor.saveContent(contentHash, data, size, chunkSize, chunkCount, chunksId).wasApplied();
+    }
+
+    /**
+     * Deletes the payloads of the content-addressed storage no artifact refers to any more. An unreferenced payload is first marked and
+     * only deleted by a later run once the configured grace period has elapsed. The conditional updates make a concurrent save that
+     * reuses the payload win over the deletion.
+     *
+     * @return the number of deleted payloads
+     */
+    public int collectUnreferencedContents() {
+        if (artifactAccessor == null) {
+            return 0;
+        }
+        final long graceMillis = TimeUnit.MINUTES.toMillis(getArtifactContentGcGraceInMinutes());
+        final Date now = new Date();
+        int deleted = 0;
+        try {
+            for (final Row content : artifactAccessor.getAllContents()) {
+                final String contentHash = content.getString("hash");
+                final Date unreferencedSince = content.getTimestamp("unreferenced_since");
+                if (getContentRefs(contentHash) > 0) {
+                    if (unreferencedSince != null) {
+                        artifactAccessor.touchContent(contentHash);
+                    }
+                } else if (unreferencedSince == null) {
+                    artifactAccessor.markContentUnreferenced(contentHash, now);
+                } else if (now.getTime() - unreferencedSince.getTime() >= graceMillis && artifactAccessor
+                    .deleteContent(contentHash, unreferencedSince).wasApplied()) {
+                    deleteChunks(content.getString("chunks_id"), content.isNull("chunk_count") ? 0 : content.getInt("chunk_count"));
+                    deleted++;
+                }
+            }
+        } catch (final Exception e) {
+            logger.warn("Failed to collect unreferenced artifact contents", e);
+        }
+        logger.debug("Deleted {} unreferenced artifact contents", deleted);
+        return deleted;
+    }
+
+    /**
+     * Gets the artifact with its whole payload. Chunked artifacts are reassembled and verified against their checksum.
+     */
     public Either<DAOArtifactData, CassandraOperationStatus> getArtifact(String artifactId) {
-        return client.getById(artifactId, DAOArtifactData.class, manager);
+        final Either<DAOArtifactData, CassandraOperationStatus> artifact = getArtifactRow(artifactId);
+        if (artifact == null || artifact.isRight() || !artifact.left().value().isChunked()) {
+            return artifact;
+        }
+        final DAOArtifactData manifest = artifact.left().value();
+        if (manifest.getSize() > Integer.MAX_VALUE) {
+            logger.debug("Artifact {} of {} bytes is too big to be loaded in memory, it must be streamed", artifactId, manifest.getSize());
+            return Either.right(CassandraOperationStatus.GENERAL_ERROR);
+        }
+        try (InputStream payload = new ChunkedArtifactInputStream(manifest, 0, manifest.getSize(),
+            chunkIndex -> getChunk(manifest.getChunksId(), chunkIndex))) {
+            final byte[] data = payload.readAllBytes();
+            final MessageDigest digest = MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+            if (!Base64.getEncoder().encodeToString(digest.digest(data)).equals(manifest.getChecksum())) {
+                logger.debug("Checksum mismatch for chunked artifact {}", artifactId);
+                return Either.right(CassandraOperationStatus.GENERAL_ERROR);
+            }
+            manifest.setData(ByteBuffer.wrap(data));
+            return Either.left(manifest);
+        } catch (final IOException | NoSuchAlgorithmException e) {
+            logger.debug("Failed to read chunked artifact {}", artifactId, e);
+            return Either.right(CassandraOperationStatus.GENERAL_ERROR);
+        }
+    }
+
+    /**
+     * Gets the size in bytes of the artifact payload, without reading a chunked payload.
+     */
+    public Either<Long, CassandraOperationStatus> getArtifactSize(final String artifactId) {
+        return getArtifactRow(artifactId).left().map(artifact -> {
+            if (artifact.isChunked()) {
+                return artifact.getSize();
+            }
+            return artifact.getData() == null ? 0L : (long) artifact.getData().remaining();
+        });
+    }
+
+    /**
+     * Opens a stream on a range of the artifact payload. Chunked artifacts are read chunk by chunk, only the chunks covering the requested
+     * range are fetched. Artifacts stored as a single blob are served from the loaded blob.
+     *
+     * @param artifactId the artifact id
+     * @param offset     the first byte to read
+     * @param length     the maximum number of bytes to read, it is truncated to the payload size
+     * @return the stream on the requested range
+     */
+    public Either<InputStream, CassandraOperationStatus> getArtifactStream(final String artifactId, final long offset, final long length) {
+        return getArtifactRow(artifactId).left().map(artifact -> {
+            if (artifact.isChunked()) {
+                final long start = Math.min(offset, artifact.getSize());
+                return new ChunkedArtifactInputStream(artifact, start, Math.min(length, artifact.getSize() - start),
+                    chunkIndex -> getChunk(artifact.getChunksId(), chunkIndex));
+            }
+            final ByteBuffer data = artifact.getData() == null ? ByteBuffer.allocate(0) : artifact.getData().duplicate();
+            final int start = (int) Math.min(offset, data.remaining());
+            data.position(data.position() + start);
+            data.limit(data.position() + (int) Math.min(length, data.remaining()));
+            return new ByteBufferInputStream(data);
+        });
+    }
+
+    public Either<InputStream, CassandraOperationStatus> getArtifactStream(final String artifactId) {
+        return getArtifactStream(artifactId, 0, Long.MAX_VALUE);
     }
 
     public CassandraOperationStatus deleteArtifact(String artifactId) {
-        return client.delete(artifactId, DAOArtifactData.class, manager);
+        final DAOArtifactData previous = getStoredArtifact(artifactId);
+        final CassandraOperationStatus status = client.delete(artifactId, DAOArtifactData.class, manager);
+        if (status == CassandraOperationStatus.OK) {
+            releaseStorage(previous);
+        }
+        return status;
     }
 
     /**
@@ -84,6 +405,9 @@ public class ArtifactCassandraDao extends CassandraDao {
         String query = "truncate sdcartifact.resources;";
         try {
             session.execute(query);
+            session.execute("truncate sdcartifact.resource_chunks;");
+            session.execute("truncate sdcartifact.resource_contents;");
+            session.execute("truncate sdcartifact.resource_content_refs;");
         } catch (Exception e) {
             logger.debug("Failed to clean artifacts", e);
             return CassandraOperationStatus.GENERAL_ERROR;
@@ -109,4 +433,203 @@ public class ArtifactCassandraDao extends CassandraDao {
         }
         return Either.left(artifactCount.one().getLong(0));
     }
+
+    private Either<ByteBuffer, CassandraOperationStatus> getChunk(final String chunksId, final int chunkIndex) {
+        try {
+            final Row row = artifactAccessor.getChunk(chunksId, chunkIndex).one();
+            if (row == null || row.getBytes(0) == null) {
+                return Either.right(CassandraOperationStatus.NOT_FOUND);
+            }
+            return Either.left(row.getBytes(0));
+        } catch (final Exception e) {
+            logger.debug("Failed to get chunk {} of {}", chunkIndex, chunksId, e);
+            return Either.right(CassandraOperationStatus.GENERAL_ERROR);
+        }
+    }
+
+    /**
+     * Gets the artifact row, with the payload location of a content-addressed artifact resolved: its data, or its chunk manifest, is
+     * taken from the content it refers to.
+     */
+    private Either<DAOArtifactData, CassandraOperationStatus> getArtifactRow(final String artifactId) {
+        final Either<DAOArtifactData, CassandraOperationStatus> artifact = client.getById(artifactId, DAOArtifactData.class, manager);
+        if (artifact == null || artifact.isRight() || !artifact.left().value().isContentAddressed()) {
+            return artifact;
+        }
+        final DAOArtifactData reference = artifact.left().value();
+        try {
+            final Row content = artifactAccessor.getContent(reference.getContentHash()).one();
+            if (content == null) {
+                logger.debug("Content {} of artifact {} not found", reference.getContentHash(), artifactId);
+                return Either.right(CassandraOperationStatus.NOT_FOUND);
+            }
+            final int chunkCount = content.isNull("chunk_count") ? 0 : content.getInt("chunk_count");
+            if (chunkCount > 0) {
+                reference.setChunkSize(content.getInt("chunk_size"));
+                reference.setChunkCount(chunkCount);
+                reference.setChunksId(content.getString("chunks_id"));
+            } else {
+                reference.setData(content.isNull("data") ? ByteBuffer.allocate(0) : content.getBytes("data"));
+            }
+            return Either.left(reference);
+        } catch (final Exception e) {
+            logger.debug("Failed to get content {} of artifact {}", reference.getContentHash(), artifactId, e);
+            return Either.right(CassandraOperationStatus.GENERAL_ERROR);
+        }
+    }
+
+    private DAOArtifactData getStoredArtifact(final String artifactId) {
+        if (artifactId == null) {
+            return null;
+        }
+        final Either<DAOArtifactData, CassandraOperationStatus> artifact = client.getById(artifactId, DAOArtifactData.class, manager);
+        if (artifact == null || artifact.isRight()) {
+            return null;
+        }
+        return artifact.left().value();
+    }
+
+    /**
+     * Releases the payload storage of an artifact row that was replaced or deleted.
+     */
+    private void releaseStorage(final DAOArtifactData previous) {
+        if (previous == null) {
+            return;
+        }
+        if (previous.isContentAddressed()) {
+            releaseContent(previous.getContentHash());
+        } else if (previous.isChunked()) {
+            deleteChunks(previous.getChunksId(), previous.getChunkCount());
+        }
+    }
+
+    private void releaseContent(final String contentHash) {
+        try {
+            artifactAccessor.decrementContentRefs(contentHash);
+        } catch (final Exception e) {
+            logger.warn("Failed to release content {}, it will not be garbage collected", contentHash, e);
+        }
+    }
+
+    private long getContentRefs(final String contentHash) {
+        final Row row = artifactAccessor.getContentRefs(contentHash).one();
+        return row == null || row.isNull(0) ? 0 : row.getLong(0);
+    }
+
+    /**
+     * Writes the payload in chunks of the given size.
+     *
+     * @return the payload size, or -1 if a chunk could not be written; the chunks already written are then deleted
+     */
+    private long writeChunks(final String artifactId, final String chunksId, final InputStream payload, final int chunkSize,
+                             final MessageDigest digest) {
+        long size = 0;
+        int chunkCount = 0;
+        try {
+            final byte[] buffer = new byte[chunkSize];
+            int read;
+            while ((read = readChunk(payload, buffer)) > 0) {
+                if (digest != null) {
+                    digest.update(buffer, 0, read);
+                }
+                artifactAccessor.saveChunk(chunksId, chunkCount, ByteBuffer.wrap(Arrays.copyOf(buffer, read)));
+                size += read;
+                chunkCount++;
+            }
+        } catch (final Exception e) {
+            logger.debug("Failed to save chunk {} of artifact {}", chunkCount, artifactId, e);
+            deleteChunks(chunksId, chunkCount + 1);
+            return -1;
+        }
+        return size;
+    }
+
+    private static int countChunks(final long size, final int chunkSize) {
+        return (int) ((size + chunkSize - 1) / chunkSize);
+    }
+
+    private MessageDigest createDigest(final String artifactId) {
+        try {
+            return MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+        } catch (final NoSuchAlgorithmException e) {
+            logger.debug("Failed to create {} digest for artifact {}", CHECKSUM_ALGORITHM, artifactId, e);
+            return null;
+        }
+    }
+
+    private void deleteChunks(final String chunksId, final int chunkCount) {
+        if (chunksId == null || chunkCount <= 0) {
+            return;
+        }
+        final List<Integer> chunkIndexes = IntStream.range(0, chunkCount).boxed().collect(Collectors.toList());
+        try {
+            artifactAccessor.deleteChunks(chunksId, chunkIndexes);
+        } catch (final Exception e) {
+            logger.warn("Failed to delete {} chunks of {}", chunkCount, chunksId, e);
+        }
+    }
+
+    private int getArtifactChunkSize() {
+        final CassandrConfig cassandraConfig = getCassandraConfig();
+        return cassandraConfig == null ? 0 : cassandraConfig.getArtifactChunkSize();
+    }
+
+    private boolean isContentAddressed() {
+        final CassandrConfig cassandraConfig = getCassandraConfig();
+        return cassandraConfig != null && cassandraConfig.isArtifactContentAddressed();
+    }
+
+    private int getArtifactContentGcGraceInMinutes() {
+        final CassandrConfig cassandraConfig = getCassandraConfig();
+        return cassandraConfig == null ? 0 : cassandraConfig.getArtifactContentGcGraceInMinutes();
+    }
+
+    private CassandrConfig getCassandraConfig() {
+        final ConfigurationManager configurationManager = ConfigurationManager.getConfigurationManager();
+        if (configurationManager == null || configurationManager.getConfiguration() == null) {
+            return null;
+        }
+        return configurationManager.getConfiguration().getCassandraConfig();
+    }
+
+    private static int readChunk(final InputStream payload, final byte[] buffer) throws IOException {
+        int total = 0;
+        int read;
+        while (total < buffer.length && (read = payload.read(buffer, total, buffer.length - total)) != -1) {
+            total += read;
+        }
+        return total;
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(final ByteBuffer buffer) {
+            this.buffer = buffer.duplicate();
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final int read = Math.min(len, buffer.remaining());
+            buffer.get(b, off, read);
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
 }
@@ -19,12 +19,17 @@
  */
 package org.openecomp.sdc.be.dao.cassandra;
 
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.mapping.Mapper;
 import com.datastax.driver.mapping.MappingManager;
 import com.datastax.driver.mapping.Result;
 import fj.data.Either;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import javax.annotation.PostConstruct;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.openecomp.sdc.be.config.BeEcompErrorManager;
@@ -77,6 +82,37 @@ public class AuditCassandraDao extends CassandraDao {
         return client.save(entity, (Class<T>) entity.getClass(), manager);
     }
 
+    /**
+     * Saves the given records grouped per table, executing the inserts asynchronously and waiting for all of them to complete.
+     *
+     * @param entities the records to save
+     * @return OK if all the records were saved, the failure status otherwise
+     */
+    @SuppressWarnings("unchecked")
+    public CassandraOperationStatus saveRecords(List<? extends AuditingGenericEvent> entities) {
+        if (!client.isConnected()) {
+            return CassandraOperationStatus.CLUSTER_NOT_CONNECTED;
+        }
+        try {
+            Map<Class<?>, List<AuditingGenericEvent>> entitiesPerTable = entities.stream()
+                .collect(Collectors.groupingBy(Object::getClass, LinkedHashMap::new, Collectors.toList()));
+            List<ResultSetFuture> futures = new ArrayList<>(entities.size());
+            for (Map.Entry<Class<?>, List<AuditingGenericEvent>> tableEntities : entitiesPerTable.entrySet()) {
+                Mapper<AuditingGenericEvent> mapper = manager.mapper((Class<AuditingGenericEvent>) tableEntities.getKey());
+                for (AuditingGenericEvent entity : tableEntities.getValue()) {
+                    futures.add(session.executeAsync(mapper.saveQuery(entity)));
+                }
+            }
+            for (ResultSetFuture future : futures) {
+                future.getUninterruptibly();
+            }
+        } catch (Exception e) {
+            logger.debug("Failed to save {} audit records", entities.size(), e);
+            return CassandraOperationStatus.GENERAL_ERROR;
+        }
+        return CassandraOperationStatus.OK;
+    }
+
     /**
      * @param did
      * @return
@@ -0,0 +1,107 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.dao.cassandra;
+
+import fj.data.Either;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.function.IntFunction;
+import org.openecomp.sdc.be.resources.data.DAOArtifactData;
+
+/**
+ * Reads a range of a chunked artifact payload, loading each chunk from Cassandra only when the reader reaches it. At most one chunk is held
+ * in memory at a time.
+ */
+public class ChunkedArtifactInputStream extends InputStream {
+
+    private final String artifactId;
+    private final IntFunction<Either<ByteBuffer, CassandraOperationStatus>> chunkLoader;
+    private long remaining;
+    private int nextChunkIndex;
+    private long skipInNextChunk;
+    private ByteBuffer currentChunk;
+
+    /**
+     * @param manifest    the chunked artifact manifest row
+     * @param offset      the first byte of the payload to read
+     * @param length      the number of bytes to read
+     * @param chunkLoader loads the chunk of the given index
+     */
+    public ChunkedArtifactInputStream(final DAOArtifactData manifest, final long offset, final long length,
+                                      final IntFunction<Either<ByteBuffer, CassandraOperationStatus>> chunkLoader) {
+        this.artifactId = manifest.getId();
+        final int chunkSize = manifest.getChunkSize();
+        this.chunkLoader = chunkLoader;
+        this.remaining = length;
+        this.nextChunkIndex = (int) (offset / chunkSize);
+        this.skipInNextChunk = offset % chunkSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final byte[] single = new byte[1];
+        final int read = read(single, 0, 1);
+        return read == -1 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (remaining <= 0) {
+            return -1;
+        }
+        if (currentChunk == null || !currentChunk.hasRemaining()) {
+            loadNextChunk();
+        }
+        final int read = (int) Math.min(Math.min(len, currentChunk.remaining()), remaining);
+        currentChunk.get(b, off, read);
+        remaining -= read;
+        return read;
+    }
+
+    @Override
+    public int available() {
+        return currentChunk == null ? 0 : (int) Math.min(currentChunk.remaining(), remaining);
+    }
+
+    @Override
+    public void close() {
+        currentChunk = null;
+        remaining = 0;
+    }
+
+    private void loadNextChunk() throws IOException {
+        final Either<ByteBuffer, CassandraOperationStatus> chunk = chunkLoader.apply(nextChunkIndex);
+        if (chunk.isRight()) {
+            throw new IOException(String.format("Failed to read chunk %d of artifact %s, error: %s", nextChunkIndex, artifactId,
+                chunk.right().value()));
+        }
+        currentChunk = chunk.left().value().duplicate();
+        if (skipInNextChunk > 0) {
+            currentChunk.position(currentChunk.position() + (int) Math.min(skipInNextChunk, currentChunk.remaining()));
+            skipInNextChunk = 0;
+        }
+        if (!currentChunk.hasRemaining()) {
+            throw new IOException(String.format("Chunk %d of artifact %s is shorter than expected", nextChunkIndex, artifactId));
+        }
+        nextChunkIndex++;
+    }
+}
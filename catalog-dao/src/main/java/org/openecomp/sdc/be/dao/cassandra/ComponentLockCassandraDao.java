@@ -0,0 +1,88 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.dao.cassandra;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.mapping.MappingManager;
+import fj.data.Either;
+import java.util.function.Supplier;
+import javax.annotation.PostConstruct;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lease based component locks stored with lightweight transactions. Every method returns whether the conditional statement was applied,
+ * i.e. whether the lock is (still) owned by the caller.
+ */
+@Component("component-lock-cassandra-dao")
+public class ComponentLockCassandraDao extends CassandraDao {
+
+    private static final Logger logger = Logger.getLogger(ComponentLockCassandraDao.class.getName());
+    private ComponentLockAccessor componentLockAccessor;
+
+    public ComponentLockCassandraDao(CassandraClient cassandraClient) {
+        super(cassandraClient);
+    }
+
+    @PostConstruct
+    public void init() {
+        String keyspace = AuditingTypesConstants.REPO_KEYSPACE;
+        if (client.isConnected()) {
+            Either<ImmutablePair<Session, MappingManager>, CassandraOperationStatus> result = client.connect(keyspace);
+            if (result.isLeft()) {
+                session = result.left().value().left;
+                manager = result.left().value().right;
+                componentLockAccessor = manager.createAccessor(ComponentLockAccessor.class);
+                logger.info("** ComponentLockCassandraDao created");
+            } else {
+                logger.info("** ComponentLockCassandraDao failed");
+                throw new RuntimeException("Repo keyspace [" + keyspace + "] failed to connect with error : " + result.right().value());
+            }
+        } else {
+            logger.info("** Cassandra client isn't connected");
+            logger.info("** ComponentLockCassandraDao created, but not connected");
+        }
+    }
+
+    public Either<Boolean, CassandraOperationStatus> acquire(String lockId, String owner, long fencingToken, int ttlInSeconds) {
+        return execute("acquire", lockId, () -> componentLockAccessor.acquire(lockId, owner, fencingToken, ttlInSeconds));
+    }
+
+    public Either<Boolean, CassandraOperationStatus> renew(String lockId, String owner, long fencingToken, int ttlInSeconds) {
+        return execute("renew", lockId, () -> componentLockAccessor.renew(ttlInSeconds, owner, fencingToken, lockId));
+    }
+
+    public Either<Boolean, CassandraOperationStatus> release(String lockId, String owner, long fencingToken) {
+        return execute("release", lockId, () -> componentLockAccessor.release(lockId, owner, fencingToken));
+    }
+
+    private Either<Boolean, CassandraOperationStatus> execute(String action, String lockId, Supplier<ResultSet> statement) {
+        if (componentLockAccessor == null) {
+            return Either.right(CassandraOperationStatus.CLUSTER_NOT_CONNECTED);
+        }
+        try {
+            return Either.left(statement.get().wasApplied());
+        } catch (Exception e) {
+            logger.debug("failed to {} lock {}", action, lockId, e);
+            return Either.right(CassandraOperationStatus.GENERAL_ERROR);
+        }
+    }
+}
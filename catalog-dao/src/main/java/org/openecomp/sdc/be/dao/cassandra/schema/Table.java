@@ -19,9 +19,13 @@
  */
 package org.openecomp.sdc.be.dao.cassandra.schema;
 
+import org.openecomp.sdc.be.dao.cassandra.schema.tables.ArtifactChunkTableDescription;
+import org.openecomp.sdc.be.dao.cassandra.schema.tables.ArtifactContentRefTableDescription;
+import org.openecomp.sdc.be.dao.cassandra.schema.tables.ArtifactContentTableDescription;
 import org.openecomp.sdc.be.dao.cassandra.schema.tables.ArtifactTableDescription;
 import org.openecomp.sdc.be.dao.cassandra.schema.tables.AuthEventTableDescription;
 import org.openecomp.sdc.be.dao.cassandra.schema.tables.CategoryEventTableDescription;
+import org.openecomp.sdc.be.dao.cassandra.schema.tables.ComponentLockTableDescription;
 import org.openecomp.sdc.be.dao.cassandra.schema.tables.DistribDeployEventTableDesc;
 import org.openecomp.sdc.be.dao.cassandra.schema.tables.DistribDownloadEventTableDesc;
 import org.openecomp.sdc.be.dao.cassandra.schema.tables.DistribEngineEventTableDesc;
@@ -44,6 +48,9 @@ import org.openecomp.sdc.be.dao.cassandra.schema.tables.UserAdminEventTableDescr
 public enum Table {
     // @formatter:off
     ARTIFACT(new ArtifactTableDescription()),
+    ARTIFACT_CHUNK(new ArtifactChunkTableDescription()),
+    ARTIFACT_CONTENT(new ArtifactContentTableDescription()),
+    ARTIFACT_CONTENT_REF(new ArtifactContentRefTableDescription()),
     USER_ADMIN_EVENT(new UserAdminEventTableDescription()),
     USER_ACCESS_EVENT(new UserAccessEventTableDescription()),
     RESOURCE_ADMIN_EVENT(new ResAdminEventTableDescription()),
@@ -63,7 +70,8 @@ public enum Table {
     SDC_OPERATIONAL_ENVIRONMENT(new OperationalEnvironmentsTableDescription()),
     AUDIT_ECOMP_OPERATIONAL_ENVIRONMENT(new EcompOperationalEnvironmentEventTableDesc()),
     FEATURE_TOGGLE_STATE(new FeatureToggleEventTableDesc()),
-    TOSCA_IMPORT_BY_MODEL(new ToscaImportByModelTableDescription());
+    TOSCA_IMPORT_BY_MODEL(new ToscaImportByModelTableDescription()),
+    COMPONENT_LOCK(new ComponentLockTableDescription());
     // @formatter:on
 
     ITableDescription tableDescription;
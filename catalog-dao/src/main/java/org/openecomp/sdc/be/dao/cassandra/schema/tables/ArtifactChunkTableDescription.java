@@ -0,0 +1,78 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.dao.cassandra.schema.tables;
+
+import com.datastax.driver.core.DataType;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.openecomp.sdc.be.dao.cassandra.schema.ITableDescription;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
+
+/**
+ * Holds the payload chunks of artifacts stored in chunked mode, keyed by the chunks id of the artifact manifest and the chunk index. Both
+ * are part of the partition key so that a big artifact is spread over many small partitions.
+ */
+public class ArtifactChunkTableDescription implements ITableDescription {
+
+    public static final String TABLE_NAME = "resource_chunks";
+    private static final String CHUNK_INDEX_FIELD = "chunk_index";
+
+    @Override
+    public List<ImmutablePair<String, DataType>> primaryKeys() {
+        return List.of(
+            new ImmutablePair<>(ID_FIELD, DataType.varchar()),
+            new ImmutablePair<>(CHUNK_INDEX_FIELD, DataType.cint())
+        );
+    }
+
+    @Override
+    public List<ImmutablePair<String, DataType>> clusteringKeys() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public Map<String, ImmutablePair<DataType, Boolean>> getColumnDescription() {
+        return Stream.of(ArtifactChunkFieldsDescription.values())
+            .collect(Collectors.toMap(ArtifactChunkFieldsDescription::getName, field -> new ImmutablePair<>(field.type, field.indexed)));
+    }
+
+    @Override
+    public String getKeyspace() {
+        return AuditingTypesConstants.ARTIFACT_KEYSPACE;
+    }
+
+    @Override
+    public String getTableName() {
+        return TABLE_NAME;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    enum ArtifactChunkFieldsDescription {
+        DATA("data", DataType.blob(), false);
+        private final String name;
+        private final DataType type;
+        private final boolean indexed;
+    }
+}
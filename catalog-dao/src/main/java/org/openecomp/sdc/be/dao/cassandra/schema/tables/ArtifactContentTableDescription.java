@@ -0,0 +1,81 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.dao.cassandra.schema.tables;
+
+import com.datastax.driver.core.DataType;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.openecomp.sdc.be.dao.cassandra.schema.ITableDescription;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
+
+/**
+ * Holds the artifact payloads of the content-addressed storage, keyed by the hex SHA-256 hash of the payload. A payload is either kept in
+ * the data column or, when bigger than the chunk size, in sdcartifact.resource_chunks. The unreferenced_since column is set by the garbage
+ * collector once no artifact refers to the payload any more.
+ */
+public class ArtifactContentTableDescription implements ITableDescription {
+
+    public static final String TABLE_NAME = "resource_contents";
+    public static final String HASH_FIELD = "hash";
+
+    @Override
+    public List<ImmutablePair<String, DataType>> primaryKeys() {
+        return List.of(new ImmutablePair<>(HASH_FIELD, DataType.varchar()));
+    }
+
+    @Override
+    public List<ImmutablePair<String, DataType>> clusteringKeys() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public Map<String, ImmutablePair<DataType, Boolean>> getColumnDescription() {
+        return Stream.of(ArtifactContentFieldsDescription.values())
+            .collect(Collectors.toMap(ArtifactContentFieldsDescription::getName, field -> new ImmutablePair<>(field.type, field.indexed)));
+    }
+
+    @Override
+    public String getKeyspace() {
+        return AuditingTypesConstants.ARTIFACT_KEYSPACE;
+    }
+
+    @Override
+    public String getTableName() {
+        return TABLE_NAME;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    enum ArtifactContentFieldsDescription {
+        DATA("data", DataType.blob(), false),
+        SIZE("size", DataType.bigint(), false),
+        CHUNK_SIZE("chunk_size", DataType.cint(), false),
+        CHUNK_COUNT("chunk_count", DataType.cint(), false),
+        CHUNKS_ID("chunks_id", DataType.varchar(), false),
+        UNREFERENCED_SINCE("unreferenced_since", DataType.timestamp(), false);
+        private final String name;
+        private final DataType type;
+        private final boolean indexed;
+    }
+}
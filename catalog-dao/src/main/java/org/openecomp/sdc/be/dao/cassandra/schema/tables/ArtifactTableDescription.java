@@ -66,7 +66,13 @@ public class ArtifactTableDescription implements ITableDescription {
     @Getter
     @AllArgsConstructor
     enum ArtifactFieldsDescription {
-        DATA("data", DataType.blob(), false);
+        DATA("data", DataType.blob(), false),
+        SIZE("size", DataType.bigint(), false),
+        CHUNK_SIZE("chunk_size", DataType.cint(), false),
+        CHUNK_COUNT("chunk_count", DataType.cint(), false),
+        CHECKSUM("checksum", DataType.varchar(), false),
+        CHUNKS_ID("chunks_id", DataType.varchar(), false),
+        CONTENT_HASH("content_hash", DataType.varchar(), false);
         private final String name;
         private final DataType type;
         private final boolean indexed;
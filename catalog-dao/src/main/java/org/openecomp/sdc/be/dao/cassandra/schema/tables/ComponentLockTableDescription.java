@@ -0,0 +1,75 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.dao.cassandra.schema.tables;
+
+import com.datastax.driver.core.DataType;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.openecomp.sdc.be.dao.cassandra.schema.ITableDescription;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
+
+/**
+ * Holds the component lock leases. Rows are always written with a TTL so that a lock held by a crashed node expires by itself.
+ */
+public class ComponentLockTableDescription implements ITableDescription {
+
+    public static final String TABLE_NAME = "component_locks";
+    private static final String LOCK_ID_FIELD = "lock_id";
+
+    @Override
+    public List<ImmutablePair<String, DataType>> primaryKeys() {
+        return List.of(new ImmutablePair<>(LOCK_ID_FIELD, DataType.varchar()));
+    }
+
+    @Override
+    public List<ImmutablePair<String, DataType>> clusteringKeys() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public Map<String, ImmutablePair<DataType, Boolean>> getColumnDescription() {
+        return Stream.of(ComponentLockFieldsDescription.values())
+            .collect(Collectors.toMap(ComponentLockFieldsDescription::getName, field -> new ImmutablePair<>(field.type, field.indexed)));
+    }
+
+    @Override
+    public String getKeyspace() {
+        return AuditingTypesConstants.REPO_KEYSPACE;
+    }
+
+    @Override
+    public String getTableName() {
+        return TABLE_NAME;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    enum ComponentLockFieldsDescription {
+        OWNER("owner", DataType.varchar(), false),
+        FENCING_TOKEN("fencing_token", DataType.bigint(), false);
+        private final String name;
+        private final DataType type;
+        private final boolean indexed;
+    }
+}
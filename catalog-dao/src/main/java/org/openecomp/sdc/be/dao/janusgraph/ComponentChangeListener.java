@@ -0,0 +1,35 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.dao.janusgraph;
+
+import java.util.Set;
+
+/**
+ * Gets notified by {@link JanusGraphClient} about the components whose vertex, data vertices, catalog or archive membership was changed by a
+ * transaction, once that transaction has been committed. Only the changes committed by this node are reported.
+ */
+@FunctionalInterface
+public interface ComponentChangeListener {
+
+    /**
+     * Called on the committing thread, implementations should return quickly.
+     *
+     * @param componentIds unique ids of the changed component vertices
+     */
+    void componentsChanged(Set<String> componentIds);
+}
@@ -0,0 +1,176 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.dao.janusgraph;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.janusgraph.core.JanusGraphVertex;
+import org.janusgraph.core.Transaction;
+import org.openecomp.sdc.be.dao.jsongraph.types.EdgeLabelEnum;
+import org.openecomp.sdc.be.dao.jsongraph.types.VertexTypeEnum;
+import org.openecomp.sdc.be.dao.jsongraph.utils.JsonParserUtils;
+import org.openecomp.sdc.be.datatypes.enums.GraphPropertyEnum;
+
+/**
+ * Sharded layout of the data vertices which hold the data of every component instance of a component.
+ * <p>
+ * The json of a sharded data vertex is not stored on the data vertex itself: each top level entry, i.e. the data of one component instance, is
+ * stored on its own shard vertex, linked from the data vertex by a {@link EdgeLabelEnum#DATA_SHARD} edge. An update only rewrites the shards
+ * whose json changed. Like data vertices, shards are shared between the versions of a component, so a shard linked from more than one data
+ * vertex is copied on update instead of being changed in place.
+ */
+final class DataVertexShards {
+
+    static final Set<VertexTypeEnum> SHARDED_LABELS = Collections.unmodifiableSet(EnumSet
+        .of(VertexTypeEnum.INST_PROPERTIES, VertexTypeEnum.INST_INPUTS, VertexTypeEnum.CALCULATED_CAP_PROPERTIES,
+            VertexTypeEnum.INST_DEPLOYMENT_ARTIFACTS));
+
+    private DataVertexShards() {
+    }
+
+    static boolean isSharded(Vertex dataVertex) {
+        Property<Object> sharded = dataVertex.property(GraphPropertyEnum.IS_SHARDED.getProperty());
+        return sharded.isPresent() && Boolean.TRUE.equals(sharded.value());
+    }
+
+    /**
+     * @return the json of the data vertex assembled from its shards, the entries ordered by key
+     */
+    static String readJson(Vertex dataVertex) throws IOException {
+        Map<String, String> entries = new TreeMap<>();
+        for (Edge shardEdge : getShardEdges(dataVertex)) {
+            Vertex shard = shardEdge.inVertex();
+            entries.put(shard.value(GraphPropertyEnum.SHARD_KEY.getProperty()), shard.value(GraphPropertyEnum.JSON.getProperty()));
+        }
+        StringBuilder json = new StringBuilder().append('{');
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append(JsonParserUtils.toJson(entry.getKey())).append(':').append(entry.getValue());
+        }
+        return json.append('}').toString();
+    }
+
+    /**
+     * Writes the json entries of the data vertex to its shards. Shards with an unchanged json are left untouched, the shards of removed entries
+     * are unlinked and deleted once no data vertex links them anymore.
+     */
+    static void write(Vertex dataVertex, Map<String, String> entries) {
+        Map<String, Edge> shardEdges = new HashMap<>();
+        for (Edge shardEdge : getShardEdges(dataVertex)) {
+            shardEdges.put(shardEdge.inVertex().value(GraphPropertyEnum.SHARD_KEY.getProperty()), shardEdge);
+        }
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            Edge shardEdge = shardEdges.remove(entry.getKey());
+            if (shardEdge == null) {
+                addShard(dataVertex, entry.getKey(), entry.getValue());
+            } else if (!entry.getValue().equals(shardEdge.inVertex().value(GraphPropertyEnum.JSON.getProperty()))) {
+                Vertex shard = shardEdge.inVertex();
+                if (isShared(shard)) {
+                    shardEdge.remove();
+                    addShard(dataVertex, entry.getKey(), entry.getValue());
+                } else {
+                    shard.property(GraphPropertyEnum.JSON.getProperty(), entry.getValue());
+                }
+            }
+        }
+        shardEdges.values().forEach(DataVertexShards::unlink);
+        dataVertex.property(GraphPropertyEnum.IS_SHARDED.getProperty(), true);
+        dataVertex.property(GraphPropertyEnum.JSON.getProperty()).remove();
+    }
+
+    /**
+     * Links the shards of the source data vertex to the target data vertex as well, the target is then written with copy on update of the
+     * shards it changes.
+     */
+    static void share(Vertex source, Vertex target) {
+        target.property(GraphPropertyEnum.IS_SHARDED.getProperty(), true);
+        source.edges(Direction.OUT, EdgeLabelEnum.DATA_SHARD.name())
+            .forEachRemaining(shardEdge -> target.addEdge(EdgeLabelEnum.DATA_SHARD.name(), shardEdge.inVertex()));
+    }
+
+    /**
+     * Unlinks all the shards of the data vertex, deleting the ones no other data vertex links.
+     */
+    static void removeShards(Vertex dataVertex) {
+        List<Edge> shardEdges = new ArrayList<>();
+        dataVertex.edges(Direction.OUT, EdgeLabelEnum.DATA_SHARD.name()).forEachRemaining(shardEdges::add);
+        shardEdges.forEach(DataVertexShards::unlink);
+    }
+
+    private static List<Edge> getShardEdges(Vertex dataVertex) {
+        List<Edge> shardEdges = new ArrayList<>();
+        Set<JanusGraphVertex> shards = new LinkedHashSet<>();
+        Iterator<Edge> edges = dataVertex.edges(Direction.OUT, EdgeLabelEnum.DATA_SHARD.name());
+        while (edges.hasNext()) {
+            Edge shardEdge = edges.next();
+            shardEdges.add(shardEdge);
+            shards.add((JanusGraphVertex) shardEdge.inVertex());
+        }
+        if (shards.size() > 1) {
+            // loads the properties of all the shards into the transaction cache in a single round trip
+            getTransaction(dataVertex).multiQuery(shards).properties();
+        }
+        return shardEdges;
+    }
+
+    private static void addShard(Vertex dataVertex, String key, String json) {
+        JanusGraphVertex shard = getTransaction(dataVertex).addVertex();
+        shard.property(GraphPropertyEnum.LABEL.getProperty(), VertexTypeEnum.DATA_SHARD.getName());
+        shard.property(GraphPropertyEnum.SHARD_KEY.getProperty(), key);
+        shard.property(GraphPropertyEnum.JSON.getProperty(), json);
+        dataVertex.addEdge(EdgeLabelEnum.DATA_SHARD.name(), shard);
+    }
+
+    /**
+     * @return the transaction the data vertex was read or created in, so that its shards are read and written in the same transaction
+     */
+    private static Transaction getTransaction(Vertex dataVertex) {
+        return (Transaction) dataVertex.graph();
+    }
+
+    private static boolean isShared(Vertex shard) {
+        Iterator<Edge> edges = shard.edges(Direction.IN, EdgeLabelEnum.DATA_SHARD.name());
+        if (edges.hasNext()) {
+            edges.next();
+        }
+        return edges.hasNext();
+    }
+
+    private static void unlink(Edge shardEdge) {
+        Vertex shard = shardEdge.inVertex();
+        shardEdge.remove();
+        if (!shard.edges(Direction.IN, EdgeLabelEnum.DATA_SHARD.name()).hasNext()) {
+            shard.remove();
+        }
+    }
+}
@@ -22,7 +22,11 @@ package org.openecomp.sdc.be.dao.janusgraph;
 import fj.data.Either;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -42,6 +46,7 @@ import org.janusgraph.core.JanusGraphVertex;
 import org.janusgraph.core.PropertyKey;
 import org.janusgraph.core.QueryException;
 import org.janusgraph.core.SchemaViolationException;
+import org.janusgraph.core.TransactionBuilder;
 import org.janusgraph.core.schema.ConsistencyModifier;
 import org.janusgraph.core.schema.JanusGraphIndex;
 import org.janusgraph.core.schema.JanusGraphManagement;
@@ -84,6 +89,9 @@ public class JanusGraphClient {
     @SuppressWarnings("rawtypes")
     private Future reconnectFuture;
     private String janusGraphCfgFile = null;
+    // every dao commits the thread-bound transaction through this client, so the changes are tracked here
+    private final List<ComponentChangeListener> componentChangeListeners = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<Set<String>> changedComponents = ThreadLocal.withInitial(HashSet::new);
     public JanusGraphClient() {
     }
     public JanusGraphClient(JanusGraphClientStrategy janusGraphClientStrategy) {
@@ -244,20 +252,55 @@ public class JanusGraphClient {
         }
     }
 
+    /**
+     * Opens a threaded transaction, not bound to the calling thread. It can be shared by several threads and must be committed or rolled back
+     * through {@link JanusGraphDao#commit(JanusGraphTransactionContext)} or {@link JanusGraphDao#rollback(JanusGraphTransactionContext)}.
+     *
+     * @param readOnly whether the transaction rejects writes
+     */
+    public Either<JanusGraphTransactionContext, JanusGraphOperationStatus> openTransaction(boolean readOnly) {
+        if (graph == null) {
+            return Either.right(JanusGraphOperationStatus.NOT_CREATED);
+        }
+        try {
+            TransactionBuilder builder = graph.buildTransaction();
+            if (readOnly) {
+                builder.readOnly();
+            }
+            return Either.left(new JanusGraphTransactionContext(builder.start(), readOnly));
+        } catch (Exception e) {
+            return Either.right(handleJanusGraphException(e));
+        }
+    }
+
+    /**
+     * @return a handle on the transaction bound to the calling thread, the one the commit and rollback of this client act on
+     */
+    public Either<JanusGraphTransactionContext, JanusGraphOperationStatus> getThreadBoundTransaction() {
+        if (graph == null) {
+            return Either.right(JanusGraphOperationStatus.NOT_CREATED);
+        }
+        return Either.left(new JanusGraphTransactionContext(graph));
+    }
+
     public JanusGraphOperationStatus commit() {
         if (graph != null) {
             try {
                 graph.tx().commit();
+                publishComponentChanges(true);
                 return JanusGraphOperationStatus.OK;
             } catch (Exception e) {
+                publishComponentChanges(false);
                 return handleJanusGraphException(e);
             }
         } else {
+            publishComponentChanges(false);
             return JanusGraphOperationStatus.NOT_CREATED;
         }
     }
 
     public JanusGraphOperationStatus rollback() {
+        publishComponentChanges(false);
         if (graph != null) {
             try {
                 graph.tx().rollback();
@@ -270,6 +313,53 @@ public class JanusGraphClient {
         }
     }
 
+    /**
+     * Registers a listener to be notified about the components changed by each committed transaction. Changes are only tracked while at least
+     * one listener is registered.
+     */
+    public void addComponentChangeListener(ComponentChangeListener listener) {
+        componentChangeListeners.add(listener);
+    }
+
+    public boolean isTrackingComponentChanges() {
+        return !componentChangeListeners.isEmpty();
+    }
+
+    /**
+     * Records a change of the component in the transaction bound to the calling thread, it is published once that transaction is committed.
+     */
+    public void markComponentChanged(String componentId) {
+        if (isTrackingComponentChanges() && componentId != null) {
+            changedComponents.get().add(componentId);
+        }
+    }
+
+    /**
+     * Publishes, or drops when not committed, the changes recorded in the transaction bound to the calling thread. Called by the commit and
+     * rollback of this client, and by the transaction managers that end the thread-bound transaction on their own.
+     */
+    public void publishComponentChanges(boolean committed) {
+        publishComponentChanges(changedComponents.get(), committed);
+    }
+
+    void publishComponentChanges(Set<String> changed, boolean committed) {
+        if (componentChangeListeners.isEmpty() || changed.isEmpty()) {
+            return;
+        }
+        Set<String> componentIds = new HashSet<>(changed);
+        changed.clear();
+        if (!committed) {
+            return;
+        }
+        for (ComponentChangeListener listener : componentChangeListeners) {
+            try {
+                listener.componentsChanged(componentIds);
+            } catch (Exception e) {
+                logger.error("Component change listener failed for {}", componentIds, e);
+            }
+        }
+    }
+
     public boolean getHealth() {
         return this.lastHealthState;
     }
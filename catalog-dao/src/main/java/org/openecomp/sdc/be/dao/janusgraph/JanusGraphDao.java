@@ -24,15 +24,23 @@ import static org.apache.commons.collections.CollectionUtils.isEmpty;
 import fj.data.Either;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -48,7 +56,10 @@ import org.janusgraph.core.JanusGraphQuery;
 import org.janusgraph.core.JanusGraphVertex;
 import org.janusgraph.core.JanusGraphVertexQuery;
 import org.janusgraph.core.PropertyKey;
+import org.janusgraph.core.Transaction;
+import org.janusgraph.core.attribute.Contain;
 import org.janusgraph.graphdb.query.JanusGraphPredicate;
+import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.dao.jsongraph.GraphVertex;
 import org.openecomp.sdc.be.dao.jsongraph.types.EdgeLabelEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.EdgePropertyEnum;
@@ -69,6 +80,9 @@ import org.springframework.beans.factory.annotation.Qualifier;
 public class JanusGraphDao {
 
     private static final Logger logger = Logger.getLogger(JanusGraphDao.class);
+    private static final int MULTI_ID_QUERY_BATCH_SIZE = 500;
+    // shared by all the dao instances, as they all work on the same graph
+    private static final ThreadLocal<JanusGraphTransactionContext> boundTransaction = new ThreadLocal<>();
     JanusGraphClient janusGraphClient;
 
     public JanusGraphDao(@Qualifier("janusgraph-client") JanusGraphClient janusGraphClient) {
@@ -76,16 +90,176 @@ public class JanusGraphDao {
         logger.info("** JanusGraphDao created");
     }
 
+    /**
+     * Commits the transaction bound to the calling thread. Inside {@link #callInTransaction} the explicit transaction is left untouched, it is
+     * only committed by its owner through {@link #commit(JanusGraphTransactionContext)}.
+     */
     public JanusGraphOperationStatus commit() {
+        if (isInExplicitTransaction()) {
+            logger.debug("#commit - Running in an explicit transaction, the commit is left to its owner");
+            return JanusGraphOperationStatus.OK;
+        }
         logger.debug("#commit - The operation succeeded. Doing commit...");
         return janusGraphClient.commit();
     }
 
+    /**
+     * Rolls back the transaction bound to the calling thread. Inside {@link #callInTransaction} the explicit transaction is only marked as
+     * rollback only, it is rolled back by its owner, either through {@link #rollback(JanusGraphTransactionContext)} or when trying to commit
+     * it.
+     */
     public JanusGraphOperationStatus rollback() {
+        if (isInExplicitTransaction()) {
+            logger.debug("#rollback - Running in an explicit transaction, it is marked as rollback only");
+            boundTransaction.get().setRollbackOnly();
+            return JanusGraphOperationStatus.OK;
+        }
         logger.debug("#rollback - The operation failed. Doing rollback...");
         return janusGraphClient.rollback();
     }
 
+    /**
+     * Opens a threaded transaction, see {@link JanusGraphClient#openTransaction(boolean)}.
+     */
+    public Either<JanusGraphTransactionContext, JanusGraphOperationStatus> openTransaction(boolean readOnly) {
+        return janusGraphClient.openTransaction(readOnly);
+    }
+
+    /**
+     * Runs the call with every operation of this dao, on the calling thread, going through the given transaction instead of the thread-bound
+     * one. Several threads may run calls in the same threaded transaction at once.
+     */
+    public <T> T callInTransaction(JanusGraphTransactionContext transaction, Supplier<T> call) {
+        JanusGraphTransactionContext previous = boundTransaction.get();
+        boundTransaction.set(transaction);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                boundTransaction.remove();
+            } else {
+                boundTransaction.set(previous);
+            }
+        }
+    }
+
+    public JanusGraphOperationStatus commit(JanusGraphTransactionContext transaction) {
+        if (!transaction.isThreaded()) {
+            return callInTransaction(null, this::commit);
+        }
+        if (transaction.isRollbackOnly()) {
+            logger.debug("#commit - The explicit transaction is marked as rollback only. Doing rollback...");
+            rollback(transaction);
+            return JanusGraphOperationStatus.GENERAL_ERROR;
+        }
+        logger.debug("#commit - The operation succeeded. Doing commit of the explicit transaction...");
+        JanusGraphOperationStatus status = transaction.commit();
+        janusGraphClient.publishComponentChanges(transaction.getChangedComponents(), status == JanusGraphOperationStatus.OK);
+        return status;
+    }
+
+    public JanusGraphOperationStatus rollback(JanusGraphTransactionContext transaction) {
+        if (!transaction.isThreaded()) {
+            return callInTransaction(null, this::rollback);
+        }
+        logger.debug("#rollback - The operation failed. Doing rollback of the explicit transaction...");
+        janusGraphClient.publishComponentChanges(transaction.getChangedComponents(), false);
+        return transaction.rollback();
+    }
+
+    /**
+     * @return the threaded transaction the calling thread runs in through {@link #callInTransaction}, if any
+     */
+    public Optional<JanusGraphTransactionContext> getExplicitTransaction() {
+        return isInExplicitTransaction() ? Optional.of(boundTransaction.get()) : Optional.empty();
+    }
+
+    /**
+     * @return whether the transaction of the calling thread holds writes which are not committed yet. Other transactions do not see them.
+     */
+    public boolean hasPendingChanges() {
+        JanusGraphTransactionContext transaction = boundTransaction.get();
+        if (transaction != null) {
+            return transaction.hasPendingChanges();
+        }
+        Either<JanusGraphTransactionContext, JanusGraphOperationStatus> threadBound = janusGraphClient.getThreadBoundTransaction();
+        return threadBound.isLeft() && threadBound.left().value().hasPendingChanges();
+    }
+
+    private boolean isInExplicitTransaction() {
+        JanusGraphTransactionContext transaction = boundTransaction.get();
+        return transaction != null && transaction.isThreaded();
+    }
+
+    private Either<Transaction, JanusGraphOperationStatus> getTransactionGraph() {
+        JanusGraphTransactionContext transaction = boundTransaction.get();
+        if (transaction != null) {
+            return Either.left(transaction.getGraph());
+        }
+        return janusGraphClient.getGraph().left().map(Transaction.class::cast);
+    }
+
+    /**
+     * Registers a listener to be notified about the components changed by each committed transaction, see
+     * {@link JanusGraphClient#addComponentChangeListener}. The changes of the thread-bound transaction are published by whichever dao commits
+     * it.
+     */
+    public void addComponentChangeListener(ComponentChangeListener listener) {
+        janusGraphClient.addComponentChangeListener(listener);
+    }
+
+    /**
+     * Records a change of the component in the transaction of the current thread, for changes that are not done through this dao, e.g. the
+     * removal of the component vertex.
+     */
+    public void markComponentChanged(String componentId) {
+        if (janusGraphClient.isTrackingComponentChanges() && componentId != null) {
+            JanusGraphTransactionContext transaction = boundTransaction.get();
+            if (transaction != null && transaction.isThreaded()) {
+                transaction.getChangedComponents().add(componentId);
+            } else {
+                janusGraphClient.markComponentChanged(componentId);
+            }
+        }
+    }
+
+    /**
+     * Records a change of the given component vertex, or of the components owning the given data vertex.
+     */
+    private void markComponentChanged(Vertex vertex) {
+        if (!janusGraphClient.isTrackingComponentChanges() || vertex == null) {
+            return;
+        }
+        if (isComponentVertex(vertex)) {
+            markComponentChanged((String) vertex.property(GraphPropertyEnum.UNIQUE_ID.getProperty()).orElse(null));
+        } else if (isDataVertex(vertex)) {
+            vertex.vertices(Direction.IN).forEachRemaining(owner -> {
+                if (isComponentVertex(owner)) {
+                    markComponentChanged((String) owner.property(GraphPropertyEnum.UNIQUE_ID.getProperty()).orElse(null));
+                }
+            });
+        }
+    }
+
+    private static boolean isComponentVertex(Vertex vertex) {
+        VertexTypeEnum type = getVertexType(vertex);
+        return type == VertexTypeEnum.TOPOLOGY_TEMPLATE || type == VertexTypeEnum.NODE_TYPE;
+    }
+
+    private static boolean isDataVertex(Vertex vertex) {
+        VertexTypeEnum type = getVertexType(vertex);
+        return type != null && type != VertexTypeEnum.TOPOLOGY_TEMPLATE && type.getClassOfJson() != null;
+    }
+
+    private static VertexTypeEnum getVertexType(Vertex vertex) {
+        Object label = vertex.property(GraphPropertyEnum.LABEL.getProperty()).orElse(null);
+        return label instanceof String ? VertexTypeEnum.getByName((String) label) : null;
+    }
+
+    private static boolean isCatalogMembershipLabel(EdgeLabelEnum label) {
+        return label == EdgeLabelEnum.CATALOG_ELEMENT || label == EdgeLabelEnum.ARCHIVE_ELEMENT;
+    }
+
     public Either<JanusGraph, JanusGraphOperationStatus> getGraph() {
         return janusGraphClient.getGraph();
     }
@@ -95,14 +269,30 @@ public class JanusGraphDao {
      * @return
      */
     public Either<GraphVertex, JanusGraphOperationStatus> createVertex(GraphVertex graphVertex) {
+        return createVertex(graphVertex, null);
+    }
+
+    /**
+     * Creates the vertex as a copy of another data vertex. When the copied vertex is sharded, its shards are shared with the new vertex and only
+     * the shards whose json differs are written.
+     *
+     * @param graphVertex   the vertex to create, holding the json of the copy
+     * @param copiedVertex  the data vertex being copied, or null
+     * @return
+     */
+    public Either<GraphVertex, JanusGraphOperationStatus> createVertex(GraphVertex graphVertex, GraphVertex copiedVertex) {
         logger.trace("try to create vertex for ID [{}]", graphVertex.getUniqueId());
-        Either<JanusGraph, JanusGraphOperationStatus> graph = janusGraphClient.getGraph();
+        Either<Transaction, JanusGraphOperationStatus> graph = getTransactionGraph();
         if (graph.isLeft()) {
             try {
-                JanusGraph tGraph = graph.left().value();
+                Transaction tGraph = graph.left().value();
                 JanusGraphVertex vertex = tGraph.addVertex();
+                if (copiedVertex != null && DataVertexShards.isSharded(copiedVertex.getVertex())) {
+                    DataVertexShards.share(copiedVertex.getVertex(), vertex);
+                }
                 setVertexProperties(vertex, graphVertex);
                 graphVertex.setVertex(vertex);
+                markComponentChanged(vertex);
                 return Either.left(graphVertex);
             } catch (Exception e) {
                 logger
@@ -127,7 +317,7 @@ public class JanusGraphDao {
     }
 
     public Either<GraphVertex, JanusGraphOperationStatus> getVertexByLabel(VertexTypeEnum label) {
-        return janusGraphClient.getGraph().left().map(graph -> graph.query().has(GraphPropertyEnum.LABEL.getProperty(), label.getName()).vertices())
+        return getTransactionGraph().left().map(graph -> graph.query().has(GraphPropertyEnum.LABEL.getProperty(), label.getName()).vertices())
             .left().bind(janusGraphVertices -> getFirstFoundVertex(JsonParseFlagEnum.NoParse, janusGraphVertices));
     }
 
@@ -150,10 +340,10 @@ public class JanusGraphDao {
      */
     public Either<GraphVertex, JanusGraphOperationStatus> getVertexByPropertyAndLabel(GraphPropertyEnum name, Object value, VertexTypeEnum label,
                                                                                       JsonParseFlagEnum parseFlag) {
-        Either<JanusGraph, JanusGraphOperationStatus> graph = janusGraphClient.getGraph();
+        Either<Transaction, JanusGraphOperationStatus> graph = getTransactionGraph();
         if (graph.isLeft()) {
             try {
-                JanusGraph tGraph = graph.left().value();
+                Transaction tGraph = graph.left().value();
                 @SuppressWarnings("unchecked") Iterable<JanusGraphVertex> vertecies = tGraph.query().has(name.getProperty(), value)
                     .has(GraphPropertyEnum.LABEL.getProperty(), label.getName()).vertices();
                 java.util.Iterator<JanusGraphVertex> iterator = vertecies.iterator();
@@ -194,7 +384,7 @@ public class JanusGraphDao {
      * @return
      */
     public Either<GraphVertex, JanusGraphOperationStatus> getVertexById(String id, JsonParseFlagEnum parseFlag) {
-        Either<JanusGraph, JanusGraphOperationStatus> graph = janusGraphClient.getGraph();
+        Either<Transaction, JanusGraphOperationStatus> graph = getTransactionGraph();
         if (id == null) {
             if (logger.isDebugEnabled()) {
                 logger.debug("No vertex in graph for id = {} ", id);
@@ -203,7 +393,7 @@ public class JanusGraphDao {
         }
         if (graph.isLeft()) {
             try {
-                JanusGraph tGraph = graph.left().value();
+                Transaction tGraph = graph.left().value();
                 @SuppressWarnings("unchecked") Iterable<JanusGraphVertex> vertecies = tGraph.query()
                     .has(GraphPropertyEnum.UNIQUE_ID.getProperty(), id).vertices();
                 java.util.Iterator<JanusGraphVertex> iterator = vertecies.iterator();
@@ -231,6 +421,49 @@ public class JanusGraphDao {
         }
     }
 
+    /**
+     * Fetches the vertices of all received unique ids. The ids are looked up in slices of {@link #MULTI_ID_QUERY_BATCH_SIZE} using a single index
+     * query per slice and the properties of the found vertices are loaded in one round trip per slice instead of one per vertex.
+     *
+     * @param ids       the unique ids to look for
+     * @param parseFlag the parse flag applied to every found vertex
+     * @return map of unique id to vertex; ids that were not found are not part of the map
+     */
+    public Either<Map<String, GraphVertex>, JanusGraphOperationStatus> getVerticesByIds(Collection<String> ids, JsonParseFlagEnum parseFlag) {
+        Map<String, GraphVertex> result = new LinkedHashMap<>();
+        if (isEmpty(ids)) {
+            return Either.left(result);
+        }
+        Either<Transaction, JanusGraphOperationStatus> graph = getTransactionGraph();
+        if (graph.isRight()) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("No vertices in graph for ids {} error : {}", ids, graph.right().value());
+            }
+            return Either.right(graph.right().value());
+        }
+        List<String> distinctIds = ids.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+        try {
+            Transaction tGraph = graph.left().value();
+            for (int from = 0; from < distinctIds.size(); from += MULTI_ID_QUERY_BATCH_SIZE) {
+                List<String> slice = distinctIds.subList(from, Math.min(from + MULTI_ID_QUERY_BATCH_SIZE, distinctIds.size()));
+                @SuppressWarnings("unchecked") Iterable<JanusGraphVertex> vertices = tGraph.query()
+                    .has(GraphPropertyEnum.UNIQUE_ID.getProperty(), Contain.IN, slice).vertices();
+                List<JanusGraphVertex> found = new ArrayList<>();
+                vertices.forEach(found::add);
+                fillVertices(tGraph, found, parseFlag).forEach(graphVertex -> result.put(graphVertex.getUniqueId(), graphVertex));
+            }
+        } catch (Exception e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Failed to get vertices in graph for ids {} ", ids);
+            }
+            return Either.right(JanusGraphClient.handleJanusGraphException(e));
+        }
+        if (logger.isDebugEnabled() && result.size() < distinctIds.size()) {
+            logger.debug("Found {} out of {} requested vertices", result.size(), distinctIds.size());
+        }
+        return Either.left(result);
+    }
+
     private void setVertexProperties(JanusGraphVertex vertex, GraphVertex graphVertex) throws IOException {
         if (graphVertex.getMetadataProperties() != null) {
             for (Map.Entry<GraphPropertyEnum, Object> entry : graphVertex.getMetadataProperties().entrySet()) {
@@ -242,8 +475,12 @@ public class JanusGraphDao {
         vertex.property(GraphPropertyEnum.LABEL.getProperty(), graphVertex.getLabel().getName());
         Map<String, ? extends ToscaDataDefinition> json = graphVertex.getJson();
         if (json != null) {
-            String jsonStr = JsonParserUtils.toJson(json);
-            vertex.property(GraphPropertyEnum.JSON.getProperty(), jsonStr);
+            if (isShardedLayout(vertex, graphVertex.getLabel())) {
+                DataVertexShards.write(vertex, JsonParserUtils.toJsonEntries(json));
+            } else {
+                String jsonStr = JsonParserUtils.toJson(json);
+                vertex.property(GraphPropertyEnum.JSON.getProperty(), jsonStr);
+            }
         }
         Map<String, Object> jsonMetadata = graphVertex.getMetadataJson();
         if (jsonMetadata != null) {
@@ -260,6 +497,42 @@ public class JanusGraphDao {
         }
     }
 
+    /**
+     * @return the labels of the data vertices which are stored one shard per component instance when the sharded layout is enabled
+     */
+    public static Set<VertexTypeEnum> getShardedDataVertexLabels() {
+        return DataVertexShards.SHARDED_LABELS;
+    }
+
+    private static boolean isShardedLayout(Vertex vertex, VertexTypeEnum label) {
+        return DataVertexShards.SHARDED_LABELS.contains(label) && (isShardedDataVerticesEnabled() || DataVertexShards.isSharded(vertex));
+    }
+
+    private static boolean isShardedDataVerticesEnabled() {
+        ConfigurationManager configurationManager = ConfigurationManager.getConfigurationManager();
+        return configurationManager != null && configurationManager.getConfiguration() != null && configurationManager.getConfiguration()
+            .isJanusGraphShardedDataVertices();
+    }
+
+    /**
+     * @return the json stored on the data vertex, or assembled from its shards when it is sharded
+     */
+    private String getJsonProperty(Vertex vertex) {
+        Property<Object> json = vertex.property(GraphPropertyEnum.JSON.getProperty());
+        if (json.isPresent()) {
+            return (String) json.value();
+        }
+        if (!DataVertexShards.isSharded(vertex)) {
+            return null;
+        }
+        try {
+            return DataVertexShards.readJson(vertex);
+        } catch (Exception e) {
+            logger.debug("Failed to read the shards of vertex {}", vertex.id(), e);
+            return null;
+        }
+    }
+
     private GraphVertex createAndFill(JanusGraphVertex vertex, JsonParseFlagEnum parseFlag) {
         GraphVertex graphVertex = new GraphVertex();
         graphVertex.setVertex(vertex);
@@ -289,7 +562,7 @@ public class JanusGraphDao {
                 case JSON:
                     if (parseFlag == JsonParseFlagEnum.ParseAll || parseFlag == JsonParseFlagEnum.ParseJson) {
                         String json = (String) entry.getValue();
-                        Map<String, ? extends ToscaDataDefinition> jsonObj = JsonParserUtils.toMap(json, label.getClassOfJson());
+                        Map<String, ? extends ToscaDataDefinition> jsonObj = JsonParserUtils.toLazyMap(json, label.getClassOfJson());
                         graphVertex.setJson(jsonObj);
                     }
                     break;
@@ -305,6 +578,10 @@ public class JanusGraphDao {
                     break;
             }
         }
+        if ((parseFlag == JsonParseFlagEnum.ParseAll || parseFlag == JsonParseFlagEnum.ParseJson) && label != null
+            && Boolean.TRUE.equals(properties.get(GraphPropertyEnum.IS_SHARDED))) {
+            graphVertex.setJson(JsonParserUtils.toLazyMap(getJsonProperty(vertex), label.getClassOfJson()));
+        }
     }
 
     public JanusGraphOperationStatus createEdge(GraphVertex from, GraphVertex to, EdgeLabelEnum label, Map<EdgePropertyEnum, Object> properties) {
@@ -324,6 +601,9 @@ public class JanusGraphDao {
             return JanusGraphOperationStatus.NOT_FOUND;
         }
         Edge edge = from.addEdge(label.name(), to);
+        if (isCatalogMembershipLabel(label) || (janusGraphClient.isTrackingComponentChanges() && isDataVertex(to))) {
+            markComponentChanged(to);
+        }
         JanusGraphOperationStatus status;
         try {
             setEdgeProperties(edge, properties);
@@ -397,10 +677,10 @@ public class JanusGraphDao {
 
     public Either<List<GraphVertex>, JanusGraphOperationStatus> getByCriteria(VertexTypeEnum type, Map<GraphPropertyEnum, Object> props,
                                                                               JsonParseFlagEnum parseFlag) {
-        Either<JanusGraph, JanusGraphOperationStatus> graph = janusGraphClient.getGraph();
+        Either<Transaction, JanusGraphOperationStatus> graph = getTransactionGraph();
         if (graph.isLeft()) {
             try {
-                JanusGraph tGraph = graph.left().value();
+                Transaction tGraph = graph.left().value();
                 JanusGraphQuery<? extends JanusGraphQuery> query = tGraph.query();
                 if (type != null) {
                     query = query.has(GraphPropertyEnum.LABEL.getProperty(), type.getName());
@@ -475,10 +755,10 @@ public class JanusGraphDao {
                                                                               final JsonParseFlagEnum parseFlag,
                                                                               final String model,
                                                                               final boolean includeNormativeExtensionModels) {
-        Either<JanusGraph, JanusGraphOperationStatus> graph = janusGraphClient.getGraph();
+        Either<Transaction, JanusGraphOperationStatus> graph = getTransactionGraph();
         if (graph.isLeft()) {
             try {
-                JanusGraph tGraph = graph.left().value();
+                Transaction tGraph = graph.left().value();
                 JanusGraphQuery<? extends JanusGraphQuery> query = tGraph.query();
                 
                 if (type != null) {
@@ -546,10 +826,10 @@ public class JanusGraphDao {
     public Either<List<GraphVertex>, JanusGraphOperationStatus> getByCriteria(final VertexTypeEnum type,
             final Map<GraphPropertyEnum, Object> hasProps, final Map<GraphPropertyEnum, Object> hasNotProps,
             final Map<String, Entry<JanusGraphPredicate, Object>> predicates, final JsonParseFlagEnum parseFlag) {
-        Either<JanusGraph, JanusGraphOperationStatus> graph = janusGraphClient.getGraph();
+        Either<Transaction, JanusGraphOperationStatus> graph = getTransactionGraph();
         if (graph.isLeft()) {
             try {
-                JanusGraph tGraph = graph.left().value();
+                Transaction tGraph = graph.left().value();
                 JanusGraphQuery<? extends JanusGraphQuery> query = tGraph.query();
 
                 if (type != null) {
@@ -666,10 +946,10 @@ public class JanusGraphDao {
     }
 
     public Either<Iterator<Vertex>, JanusGraphOperationStatus> getCatalogOrArchiveVerticies(boolean isCatalog) {
-        Either<JanusGraph, JanusGraphOperationStatus> graph = janusGraphClient.getGraph();
+        Either<Transaction, JanusGraphOperationStatus> graph = getTransactionGraph();
         if (graph.isLeft()) {
             try {
-                JanusGraph tGraph = graph.left().value();
+                Transaction tGraph = graph.left().value();
                 String name = isCatalog ? VertexTypeEnum.CATALOG_ROOT.getName() : VertexTypeEnum.ARCHIVE_ROOT.getName();
                 Iterable<JanusGraphVertex> vCatalogIter = tGraph.query().has(GraphPropertyEnum.LABEL.getProperty(), name).vertices();
                 if (vCatalogIter == null) {
@@ -705,6 +985,54 @@ public class JanusGraphDao {
         }
     }
 
+    /**
+     * Gets the first child vertex of each of the given edge labels with a single adjacency query on the parent vertex. The properties of the
+     * children are read in one round trip on the calling thread, then their json payloads, which no longer need the graph, are decoded in
+     * parallel.
+     *
+     * @return the child vertices with their json parsed, labels without a child are absent
+     */
+    public Either<Map<EdgeLabelEnum, GraphVertex>, JanusGraphOperationStatus> getChildVerticesByLabels(GraphVertex parentVertex,
+                                                                                                      Set<EdgeLabelEnum> edgeLabels) {
+        Map<EdgeLabelEnum, GraphVertex> result = new EnumMap<>(EdgeLabelEnum.class);
+        if (isEmpty(edgeLabels)) {
+            return Either.left(result);
+        }
+        Either<Transaction, JanusGraphOperationStatus> graphRes = getTransactionGraph();
+        if (graphRes.isRight()) {
+            logger.error("Failed to retrieve graph. status is {}", graphRes);
+            return Either.right(graphRes.right().value());
+        }
+        try {
+            Map<EdgeLabelEnum, JanusGraphVertex> childVertices = new EnumMap<>(EdgeLabelEnum.class);
+            Iterator<Edge> edges = parentVertex.getVertex()
+                .edges(Direction.OUT, edgeLabels.stream().map(EdgeLabelEnum::name).toArray(String[]::new));
+            while (edges.hasNext()) {
+                Edge edge = edges.next();
+                childVertices.putIfAbsent(EdgeLabelEnum.getEdgeLabelEnum(edge.label()), (JanusGraphVertex) edge.inVertex());
+            }
+            List<EdgeLabelEnum> labels = new ArrayList<>(childVertices.keySet());
+            List<GraphVertex> children = fillVertices(graphRes.left().value(), new ArrayList<>(childVertices.values()), JsonParseFlagEnum.NoParse);
+            List<String> payloads = new ArrayList<>(children.size());
+            for (GraphVertex child : children) {
+                payloads.add(getJsonProperty(child.getVertex()));
+            }
+            IntStream.range(0, children.size()).parallel().forEach(index -> {
+                GraphVertex child = children.get(index);
+                if (child.getLabel() != null) {
+                    child.setJson(JsonParserUtils.toLazyMap(payloads.get(index), child.getLabel().getClassOfJson()));
+                }
+            });
+            for (int index = 0; index < children.size(); index++) {
+                result.put(labels.get(index), children.get(index));
+            }
+            return Either.left(result);
+        } catch (Exception e) {
+            logger.debug("Failed to get children vertices of {} for labels {}", parentVertex.getUniqueId(), edgeLabels, e);
+            return Either.right(JanusGraphClient.handleJanusGraphException(e));
+        }
+    }
+
     /**
      * @param parentVertex
      * @param edgeLabel
@@ -782,7 +1110,7 @@ public class JanusGraphDao {
                                                                                 JsonParseFlagEnum parseFlag, Direction direction) {
         List<Vertex> list = new ArrayList<>();
         try {
-            Either<JanusGraph, JanusGraphOperationStatus> graphRes = janusGraphClient.getGraph();
+            Either<Transaction, JanusGraphOperationStatus> graphRes = getTransactionGraph();
             if (graphRes.isRight()) {
                 logger.error("Failed to retrieve graph. status is {}", graphRes);
                 return Either.right(graphRes.right().value());
@@ -836,6 +1164,81 @@ public class JanusGraphDao {
         return Either.left(list);
     }
 
+    /**
+     * Batched variant of {@link #getChildrenVertices(GraphVertex, EdgeLabelEnum, JsonParseFlagEnum)}. The adjacency of all parents is read in a
+     * single multi vertex query.
+     *
+     * @return map of parent unique id to its children; parents without children are not part of the map
+     */
+    public Either<Map<String, List<GraphVertex>>, JanusGraphOperationStatus> getChildrenVertices(Collection<GraphVertex> parentVertices,
+                                                                                               EdgeLabelEnum edgeLabel,
+                                                                                               JsonParseFlagEnum parseFlag) {
+        return getAdjacentVertices(parentVertices, edgeLabel, parseFlag, Direction.OUT);
+    }
+
+    /**
+     * Batched variant of {@link #getParentVertices(GraphVertex, EdgeLabelEnum, JsonParseFlagEnum)}. The adjacency of all children is read in a
+     * single multi vertex query.
+     *
+     * @return map of child unique id to its parents; children without parents are not part of the map
+     */
+    public Either<Map<String, List<GraphVertex>>, JanusGraphOperationStatus> getParentVertices(Collection<GraphVertex> childVertices,
+                                                                                             EdgeLabelEnum edgeLabel,
+                                                                                             JsonParseFlagEnum parseFlag) {
+        return getAdjacentVertices(childVertices, edgeLabel, parseFlag, Direction.IN);
+    }
+
+    private Either<Map<String, List<GraphVertex>>, JanusGraphOperationStatus> getAdjacentVertices(Collection<GraphVertex> vertices,
+                                                                                                EdgeLabelEnum edgeLabel,
+                                                                                                JsonParseFlagEnum parseFlag,
+                                                                                                Direction direction) {
+        Map<String, List<GraphVertex>> result = new HashMap<>();
+        if (isEmpty(vertices)) {
+            return Either.left(result);
+        }
+        Either<Transaction, JanusGraphOperationStatus> graphRes = getTransactionGraph();
+        if (graphRes.isRight()) {
+            logger.error("Failed to retrieve graph. status is {}", graphRes);
+            return Either.right(graphRes.right().value());
+        }
+        try {
+            Transaction tGraph = graphRes.left().value();
+            Map<JanusGraphVertex, String> uniqueIds = new HashMap<>();
+            vertices.forEach(graphVertex -> uniqueIds.put(graphVertex.getVertex(), graphVertex.getUniqueId()));
+            Map<JanusGraphVertex, Iterable<JanusGraphVertex>> adjacency = tGraph.multiQuery(uniqueIds.keySet()).direction(direction)
+                .labels(edgeLabel.name()).vertices();
+            Map<JanusGraphVertex, GraphVertex> filled = new HashMap<>();
+            List<JanusGraphVertex> adjacent = new ArrayList<>();
+            adjacency.values().forEach(iterable -> iterable.forEach(adjacent::add));
+            for (GraphVertex graphVertex : fillVertices(tGraph, adjacent, parseFlag)) {
+                filled.put(graphVertex.getVertex(), graphVertex);
+            }
+            for (Map.Entry<JanusGraphVertex, Iterable<JanusGraphVertex>> entry : adjacency.entrySet()) {
+                List<GraphVertex> list = new ArrayList<>();
+                entry.getValue().forEach(vertex -> list.add(filled.get(vertex)));
+                if (!list.isEmpty()) {
+                    result.put(uniqueIds.get(entry.getKey()), list);
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Failed to perform graph operation ", e);
+            return Either.right(JanusGraphClient.handleJanusGraphException(e));
+        }
+        return Either.left(result);
+    }
+
+    private List<GraphVertex> fillVertices(Transaction tGraph, List<JanusGraphVertex> vertices, JsonParseFlagEnum parseFlag) {
+        List<GraphVertex> graphVertices = new ArrayList<>(vertices.size());
+        if (vertices.size() > 1) {
+            // loads the properties of all the vertices into the transaction cache in a single round trip
+            tGraph.multiQuery(new LinkedHashSet<>(vertices)).properties();
+        }
+        for (JanusGraphVertex vertex : vertices) {
+            graphVertices.add(createAndFill(vertex, parseFlag));
+        }
+        return graphVertices;
+    }
+
     /**
      * Searches Edge by received label and criteria
      *
@@ -1008,6 +1411,9 @@ public class JanusGraphDao {
                         label.name(), uniqueIdFrom, uniqueIdTo);
                     edge.remove();
                     result = Either.left(edge);
+                    if (isCatalogMembershipLabel(label)) {
+                        markComponentChanged(uniqueIdTo);
+                    }
                     if (!deleteAll) {
                         break;
                     }
@@ -1052,6 +1458,7 @@ public class JanusGraphDao {
         try {
             graphVertex.updateMetadataJsonWithCurrentMetadataProperties();
             setVertexProperties(graphVertex.getVertex(), graphVertex);
+            markComponentChanged(graphVertex.getVertex());
         } catch (Exception e) {
             CommonUtility
                 .addRecordToLog(logger, LogLevelEnum.DEBUG, "Failed to update metadata of vertex with uniqueId {}. ", graphVertex.getUniqueId(), e);
@@ -1167,6 +1574,7 @@ public class JanusGraphDao {
                     jsonMetadataMap.put(property.getKey().getProperty(), property.getValue());
                 }
                 vertex.property(GraphPropertyEnum.METADATA.getProperty(), JsonParserUtils.toJson(jsonMetadataMap));
+                markComponentChanged(vertex);
             }
         } catch (Exception e) {
             CommonUtility.addRecordToLog(logger, LogLevelEnum.DEBUG, "Exception occurred during update vertex metadata properties with json{}. {}",
@@ -1195,7 +1603,7 @@ public class JanusGraphDao {
                     vertex.getVertex());
                 Iterator<Edge> restOfEdges = secondVertex.edges(reverseDirection, label.name());
                 if (!restOfEdges.hasNext()) {
-                    secondVertex.remove();
+                    removeDataVertex(secondVertex);
                     CommonUtility.addRecordToLog(logger, LogLevelEnum.TRACE, "This was last edge . Vertex  {} was removed ", vertex.getUniqueId());
                 }
             }
@@ -1208,8 +1616,18 @@ public class JanusGraphDao {
         return JanusGraphOperationStatus.OK;
     }
 
+    /**
+     * Removes a data vertex, together with its shards no other data vertex links.
+     */
+    public void removeDataVertex(Vertex dataVertex) {
+        if (DataVertexShards.isSharded(dataVertex)) {
+            DataVertexShards.removeShards(dataVertex);
+        }
+        dataVertex.remove();
+    }
+
     public Object getProperty(JanusGraphVertex vertex, String key) {
-        PropertyKey propertyKey = janusGraphClient.getGraph().left().value().getPropertyKey(key);
+        PropertyKey propertyKey = getTransactionGraph().left().value().getPropertyKey(key);
         return vertex.valueOrNull(propertyKey);
     }
 
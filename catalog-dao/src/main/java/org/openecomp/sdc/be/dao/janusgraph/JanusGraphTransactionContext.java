@@ -0,0 +1,146 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.dao.janusgraph;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.janusgraph.core.JanusGraph;
+import org.janusgraph.core.JanusGraphTransaction;
+import org.janusgraph.core.Transaction;
+import org.janusgraph.graphdb.tinkerpop.JanusGraphBlueprintsGraph;
+import org.janusgraph.graphdb.transaction.StandardJanusGraphTx;
+
+/**
+ * Handle on a graph transaction, passed explicitly to {@link JanusGraphDao#callInTransaction} instead of relying on the transaction bound to the
+ * calling thread.
+ * <p>
+ * A threaded transaction, opened by {@link JanusGraphClient#openTransaction(boolean)}, is not bound to any thread: it can be used by several
+ * threads at once, e.g. to run reads in parallel, and is only committed or rolled back by its owner. The thread-bound transaction of the calling
+ * thread is wrapped by {@link JanusGraphClient#getThreadBoundTransaction()}, so that code written against this handle also runs in the default
+ * mode.
+ */
+public class JanusGraphTransactionContext implements AutoCloseable {
+
+    private final Transaction graph;
+    private final boolean threaded;
+    private final boolean readOnly;
+    private final Set<String> changedComponents = ConcurrentHashMap.newKeySet();
+    private volatile boolean rollbackOnly;
+
+    JanusGraphTransactionContext(JanusGraphTransaction transaction, boolean readOnly) {
+        this.graph = transaction;
+        this.threaded = true;
+        this.readOnly = readOnly;
+    }
+
+    JanusGraphTransactionContext(JanusGraph graph) {
+        this.graph = graph;
+        this.threaded = false;
+        this.readOnly = false;
+    }
+
+    /**
+     * @return the graph view all the reads and writes of this transaction go through
+     */
+    public Transaction getGraph() {
+        return graph;
+    }
+
+    public boolean isThreaded() {
+        return threaded;
+    }
+
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    public boolean isOpen() {
+        return !threaded || ((JanusGraphTransaction) graph).isOpen();
+    }
+
+    /**
+     * @return whether the transaction holds writes which are not committed yet, and so are only visible to the reads made in it
+     */
+    public boolean hasPendingChanges() {
+        if (threaded) {
+            return !readOnly && hasModifications((JanusGraphTransaction) graph);
+        }
+        if (!graph.tx().isOpen()) {
+            return false;
+        }
+        return !(graph instanceof JanusGraphBlueprintsGraph) || hasModifications(((JanusGraphBlueprintsGraph) graph).getCurrentThreadTx());
+    }
+
+    private static boolean hasModifications(JanusGraphTransaction transaction) {
+        // a transaction of an unknown kind is assumed to hold writes
+        return !(transaction instanceof StandardJanusGraphTx) || ((StandardJanusGraphTx) transaction).hasModifications();
+    }
+
+    JanusGraphOperationStatus commit() {
+        try {
+            if (threaded) {
+                ((JanusGraphTransaction) graph).commit();
+            } else {
+                graph.tx().commit();
+            }
+            return JanusGraphOperationStatus.OK;
+        } catch (Exception e) {
+            return JanusGraphClient.handleJanusGraphException(e);
+        }
+    }
+
+    JanusGraphOperationStatus rollback() {
+        try {
+            if (threaded) {
+                ((JanusGraphTransaction) graph).rollback();
+            } else {
+                graph.tx().rollback();
+            }
+            return JanusGraphOperationStatus.OK;
+        } catch (Exception e) {
+            return JanusGraphClient.handleJanusGraphException(e);
+        }
+    }
+
+    /**
+     * @return whether a call running in this transaction asked for a rollback, the transaction can then no longer be committed
+     */
+    public boolean isRollbackOnly() {
+        return rollbackOnly;
+    }
+
+    void setRollbackOnly() {
+        rollbackOnly = true;
+    }
+
+    Set<String> getChangedComponents() {
+        return changedComponents;
+    }
+
+    /**
+     * Rolls back a threaded transaction that was neither committed nor rolled back. The thread-bound transaction is left to the thread-bound
+     * commit and rollback.
+     */
+    @Override
+    public void close() {
+        if (threaded && isOpen()) {
+            rollback();
+            changedComponents.clear();
+        }
+    }
+}
@@ -63,7 +63,9 @@ public class SimpleJanusGraphTransactionManager implements PlatformTransactionMa
         log.debug("#commit - committing transaction");
         try {
             janusGraph.tx().commit();
+            janusGraphClient.publishComponentChanges(true);
         } catch (JanusGraphException e) {
+            janusGraphClient.publishComponentChanges(false);
             log.debug("#commit - failed to commit transaction", e);
             throw new TransactionSystemException("failed to commit transaction", e);
         }
@@ -72,6 +74,7 @@ public class SimpleJanusGraphTransactionManager implements PlatformTransactionMa
     @Override
     public void rollback(TransactionStatus transactionStatus) {
         log.debug("#rollback - committing transaction");
+        janusGraphClient.publishComponentChanges(false);
         try {
             janusGraph.tx().rollback();
         } catch (JanusGraphException e) {
@@ -71,7 +71,8 @@ public enum EdgeLabelEnum {
     SUBSTITUTION_FILTER_TEMPLATE,
     DATA_TYPES,
     MODEL_ELEMENT,
-    MODEL;
+    MODEL,
+    DATA_SHARD;
     // @formatter:on
 
     /**
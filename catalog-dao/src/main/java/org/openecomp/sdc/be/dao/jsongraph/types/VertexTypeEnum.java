@@ -93,7 +93,8 @@ public enum VertexTypeEnum {
 	SUBSTITUTION_FILTER_TEMPLATE ("substitution_mapping",     SubstitutionFilterDataDefinition.class),
 	INST_INTERFACES             ("InstInterfaces",            MapInterfaceDataDefinition.class),
 	DATA_TYPES					("data_types", 				DataTypeDataDefinition.class),
-	MODEL                       ("model",                   null);
+	MODEL                       ("model",                   null),
+	DATA_SHARD                  ("dataShard",               null);
     // @formatter:on
 
     private final String name;
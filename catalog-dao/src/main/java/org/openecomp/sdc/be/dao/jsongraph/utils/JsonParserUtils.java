@@ -27,6 +27,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.google.common.base.Strings;
 import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.openecomp.sdc.be.datatypes.tosca.ToscaDataDefinition;
@@ -47,9 +48,27 @@ public class JsonParserUtils {
     }
 
     public static <T> String toJson(T object) throws IOException {
+        if (object instanceof LazyJsonMap) {
+            return ((LazyJsonMap<?>) object).toJson(mapper.writer());
+        }
         return mapper.writer().writeValueAsString(object);
     }
 
+    /**
+     * Serializes every value of the map on its own, keyed by its key in the map. Values of a {@link LazyJsonMap} which were never read are
+     * copied verbatim.
+     */
+    public static Map<String, String> toJsonEntries(Map<String, ? extends ToscaDataDefinition> map) throws IOException {
+        if (map instanceof LazyJsonMap) {
+            return ((LazyJsonMap<?>) map).toJsonEntries(mapper.writer());
+        }
+        Map<String, String> entries = new LinkedHashMap<>();
+        for (Map.Entry<String, ? extends ToscaDataDefinition> entry : map.entrySet()) {
+            entries.put(entry.getKey(), mapper.writer().writeValueAsString(entry.getValue()));
+        }
+        return entries;
+    }
+
     public static Map<String, Object> toMap(String json) {
         if (Strings.isNullOrEmpty(json)) {
             return null;
@@ -79,6 +98,21 @@ public class JsonParserUtils {
         return object;
     }
 
+    /**
+     * Same as {@link #toMap(String, Class)} but the values are only bound when they are read, see {@link LazyJsonMap}.
+     */
+    public static <T extends ToscaDataDefinition> Map<String, T> toLazyMap(String json, Class<T> clazz) {
+        if (Strings.isNullOrEmpty(json)) {
+            return null;
+        }
+        try {
+            return LazyJsonMap.parse(json, mapper.readerFor(clazz));
+        } catch (Exception e) {
+            log.debug("Failed to parse json {} to map", json, e);
+        }
+        return null;
+    }
+
     public static <T> List<T> toList(String json, Class<T> clazz) {
         if (Strings.isNullOrEmpty(json)) {
             return null;
@@ -0,0 +1,270 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.dao.jsongraph.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.openecomp.sdc.be.datatypes.tosca.ToscaDataDefinition;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+
+/**
+ * Map view over the json property of a vertex which only decodes the entries that are actually read.
+ * <p>
+ * The top level keys and the offsets of their values are indexed once with the streaming parser; a value is bound to its tosca data class
+ * the first time it is accessed. When the map is written back, the entries that were never accessed are copied verbatim from the original
+ * json and only the accessed (and so possibly modified) or added entries are serialized again.
+ * <p>
+ * Like {@link java.util.HashMap} the map is not safe for concurrent modification. Reads are, though: the vertices of a cached element
+ * may be read by several threads, so binding a value on first access is synchronized on its slot and published through a volatile flag.
+ */
+public class LazyJsonMap<T extends ToscaDataDefinition> extends AbstractMap<String, T> {
+
+    private static final Logger log = Logger.getLogger(LazyJsonMap.class.getName());
+    private final String json;
+    private final ObjectReader reader;
+    private final Map<String, Slot<T>> slots = new LinkedHashMap<>();
+    private final EntrySet entrySet = new EntrySet();
+
+    private LazyJsonMap(String json, ObjectReader reader) {
+        this.json = json;
+        this.reader = reader;
+    }
+
+    /**
+     * @throws IOException if the json is not an object
+     */
+    static <T extends ToscaDataDefinition> LazyJsonMap<T> parse(String json, ObjectReader reader) throws IOException {
+        LazyJsonMap<T> map = new LazyJsonMap<>(json, reader);
+        try (JsonParser parser = reader.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("json of vertex is not an object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String key = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (valueToken == JsonToken.START_OBJECT || valueToken == JsonToken.START_ARRAY) {
+                    int start = (int) parser.getTokenLocation().getCharOffset();
+                    parser.skipChildren();
+                    int end = (int) parser.getTokenLocation().getCharOffset() + 1;
+                    map.slots.put(key, new Slot<>(start, end));
+                } else {
+                    // scalars and nulls are cheap, bind them right away
+                    map.slots.put(key, new Slot<>(reader.<T>readValue(parser)));
+                }
+            }
+            if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+                throw new IOException("json of vertex is not a well formed object");
+            }
+        }
+        return map;
+    }
+
+    @Override
+    public int size() {
+        return slots.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return slots.containsKey(key);
+    }
+
+    @Override
+    public T get(Object key) {
+        Slot<T> slot = slots.get(key);
+        return slot == null ? null : decode((String) key, slot);
+    }
+
+    @Override
+    public T put(String key, T value) {
+        Slot<T> previous = slots.put(key, new Slot<>(value));
+        return previous == null ? null : decode(key, previous);
+    }
+
+    @Override
+    public T remove(Object key) {
+        Slot<T> previous = slots.remove(key);
+        return previous == null ? null : decode((String) key, previous);
+    }
+
+    @Override
+    public void clear() {
+        slots.clear();
+    }
+
+    @Override
+    public Set<Entry<String, T>> entrySet() {
+        return entrySet;
+    }
+
+    /**
+     * @return the number of entries which were bound to objects so far
+     */
+    public int getDecodedCount() {
+        return (int) slots.values().stream().filter(slot -> slot.decoded).count();
+    }
+
+    String toJson(ObjectWriter writer) throws IOException {
+        StringBuilder result = new StringBuilder(json.length() + 16).append('{');
+        boolean first = true;
+        for (Map.Entry<String, Slot<T>> entry : slots.entrySet()) {
+            if (!first) {
+                result.append(',');
+            }
+            first = false;
+            result.append(writer.writeValueAsString(entry.getKey())).append(':');
+            Slot<T> slot = entry.getValue();
+            if (slot.decoded) {
+                result.append(writer.writeValueAsString(slot.value));
+            } else {
+                result.append(json, slot.start, slot.end);
+            }
+        }
+        return result.append('}').toString();
+    }
+
+    Map<String, String> toJsonEntries(ObjectWriter writer) throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        for (Map.Entry<String, Slot<T>> entry : slots.entrySet()) {
+            Slot<T> slot = entry.getValue();
+            entries.put(entry.getKey(), slot.decoded ? writer.writeValueAsString(slot.value) : json.substring(slot.start, slot.end));
+        }
+        return entries;
+    }
+
+    private T decode(String key, Slot<T> slot) {
+        if (!slot.decoded) {
+            synchronized (slot) {
+                if (!slot.decoded) {
+                    try {
+                        slot.value = reader.readValue(json.substring(slot.start, slot.end));
+                    } catch (IOException e) {
+                        // the slot is left undecoded, so that the original json of the entry is written back rather than a null
+                        log.debug("Failed to parse json of key {}", key, e);
+                        return null;
+                    }
+                    // written after the value so that a reader seeing the flag also sees the bound value
+                    slot.decoded = true;
+                }
+            }
+        }
+        return slot.value;
+    }
+
+    private static final class Slot<T> {
+
+        private final int start;
+        private final int end;
+        private T value;
+        private volatile boolean decoded;
+
+        private Slot(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        private Slot(T value) {
+            this(-1, -1);
+            this.value = value;
+            this.decoded = true;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, T>> {
+
+        @Override
+        public Iterator<Entry<String, T>> iterator() {
+            Iterator<Map.Entry<String, Slot<T>>> slotIterator = slots.entrySet().iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return slotIterator.hasNext();
+                }
+
+                @Override
+                public Entry<String, T> next() {
+                    return new LazyEntry(slotIterator.next());
+                }
+
+                @Override
+                public void remove() {
+                    slotIterator.remove();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return slots.size();
+        }
+    }
+
+    private final class LazyEntry implements Entry<String, T> {
+
+        private final Map.Entry<String, Slot<T>> slotEntry;
+
+        private LazyEntry(Map.Entry<String, Slot<T>> slotEntry) {
+            this.slotEntry = slotEntry;
+        }
+
+        @Override
+        public String getKey() {
+            return slotEntry.getKey();
+        }
+
+        @Override
+        public T getValue() {
+            return decode(slotEntry.getKey(), slotEntry.getValue());
+        }
+
+        @Override
+        public T setValue(T value) {
+            T previous = getValue();
+            slotEntry.setValue(new Slot<>(value));
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+            return eq(getKey(), other.getKey()) && eq(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            T value = getValue();
+            return getKey().hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+
+        private boolean eq(Object first, Object second) {
+            return first == null ? second == null : first.equals(second);
+        }
+    }
+}
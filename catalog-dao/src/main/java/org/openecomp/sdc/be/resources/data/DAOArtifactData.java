@@ -47,6 +47,30 @@ public class DAOArtifactData {
      */
     @Column
     private ByteBuffer data;
+    /*
+     * Chunked storage manifest, only set when the payload is stored in sdcartifact.resource_chunks instead of the data column
+     */
+    @Column(name = "size")
+    @Setter
+    private Long size;
+    @Column(name = "chunk_size")
+    @Setter
+    private Integer chunkSize;
+    @Column(name = "chunk_count")
+    @Setter
+    private Integer chunkCount;
+    @Column(name = "checksum")
+    @Setter
+    private String checksum;
+    @Column(name = "chunks_id")
+    @Setter
+    private String chunksId;
+    /*
+     * Content-addressed storage, only set when the payload is kept once in sdcartifact.resource_contents under its SHA-256 hash
+     */
+    @Column(name = "content_hash")
+    @Setter
+    private String contentHash;
 
     public DAOArtifactData(String id) {
         this.id = id;
@@ -61,6 +85,16 @@ public class DAOArtifactData {
         }
     }
 
+    @Transient
+    public boolean isChunked() {
+        return chunkCount != null && chunkCount > 0;
+    }
+
+    @Transient
+    public boolean isContentAddressed() {
+        return contentHash != null;
+    }
+
     @Transient
     public byte[] getDataAsArray() {
         // return data;
@@ -24,16 +24,32 @@ import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.mapping.MappingManager;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
 import fj.data.Either;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.resources.data.DAOArtifactData;
 import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
+import org.openecomp.sdc.common.impl.ExternalConfiguration;
+import org.openecomp.sdc.common.impl.FSConfigurationSource;
 
 public class ArtifactCassandraDaoTest {
 
@@ -54,6 +70,192 @@ public class ArtifactCassandraDaoTest {
 		MockitoAnnotations.initMocks(this);
 	}
 
+	@After
+	public void tearDown() {
+		if (ConfigurationManager.getConfigurationManager() != null) {
+			ConfigurationManager.getConfigurationManager().getConfiguration().getCassandraConfig().setArtifactContentAddressed(false);
+		}
+	}
+
+	@Test
+	public void testSaveArtifactContentAddressedSamePayloadNotRewritten() throws Exception {
+		enableContentAddressedStorage();
+		byte[] payload = "payload".getBytes(StandardCharsets.UTF_8);
+		DAOArtifactData stored = new DAOArtifactData("artifactId");
+		stored.setContentHash(sha256(payload));
+		Mockito.when(client.getById("artifactId", DAOArtifactData.class, mappingManager)).thenReturn(Either.left(stored));
+
+		CassandraOperationStatus result = testSubject.saveArtifact(new DAOArtifactData("artifactId", payload));
+
+		assertEquals(CassandraOperationStatus.OK, result);
+		Mockito.verify(client, Mockito.never()).save(Mockito.any(), Mockito.any(), Mockito.any());
+		Mockito.verifyNoMoreInteractions(artifactAccessor);
+	}
+
+	@Test
+	public void testSaveArtifactContentAddressedNewPayload() throws Exception {
+		enableContentAddressedStorage();
+		byte[] payload = "payload".getBytes(StandardCharsets.UTF_8);
+		String hash = sha256(payload);
+		Mockito.when(client.getById("artifactId", DAOArtifactData.class, mappingManager))
+			.thenReturn(Either.right(CassandraOperationStatus.NOT_FOUND));
+		ResultSet notApplied = lwtResult(false);
+		ResultSet applied = lwtResult(true);
+		Mockito.when(artifactAccessor.touchContent(hash)).thenReturn(notApplied);
+		Mockito.when(artifactAccessor.saveContent(Mockito.eq(hash), Mockito.any(), Mockito.eq(7L), Mockito.isNull(), Mockito.isNull(),
+			Mockito.isNull())).thenReturn(applied);
+		Mockito.when(artifactAccessor.insertContentReference(Mockito.eq("artifactId"), Mockito.eq(hash), Mockito.eq(7L), Mockito.anyString()))
+			.thenReturn(applied);
+
+		CassandraOperationStatus result = testSubject.saveArtifact(new DAOArtifactData("artifactId", payload));
+
+		assertEquals(CassandraOperationStatus.OK, result);
+		Mockito.verify(artifactAccessor).incrementContentRefs(hash);
+		Mockito.verify(artifactAccessor).insertContentReference(Mockito.eq("artifactId"), Mockito.eq(hash), Mockito.eq(7L), Mockito.anyString());
+		Mockito.verify(artifactAccessor, Mockito.never()).decrementContentRefs(Mockito.anyString());
+	}
+
+	@Test
+	public void testSaveArtifactContentAddressedReleasesReplacedContent() throws Exception {
+		enableContentAddressedStorage();
+		byte[] payload = "payload".getBytes(StandardCharsets.UTF_8);
+		String hash = sha256(payload);
+		DAOArtifactData stored = new DAOArtifactData("artifactId");
+		stored.setContentHash("previousHash");
+		Mockito.when(client.getById("artifactId", DAOArtifactData.class, mappingManager)).thenReturn(Either.left(stored));
+		ResultSet applied = lwtResult(true);
+		Mockito.when(artifactAccessor.touchContent(hash)).thenReturn(applied);
+		Mockito.when(artifactAccessor.swapContentReference(Mockito.eq("artifactId"), Mockito.eq(hash), Mockito.eq(7L), Mockito.anyString(),
+			Mockito.eq("previousHash"), Mockito.isNull())).thenReturn(applied);
+
+		CassandraOperationStatus result = testSubject.saveArtifact(new DAOArtifactData("artifactId", payload));
+
+		assertEquals(CassandraOperationStatus.OK, result);
+		Mockito.verify(artifactAccessor).decrementContentRefs("previousHash");
+		Mockito.verify(artifactAccessor, Mockito.never()).decrementContentRefs(hash);
+		Mockito.verify(artifactAccessor, Mockito.never()).saveContent(Mockito.any(), Mockito.any(), Mockito.anyLong(), Mockito.any(),
+			Mockito.any(), Mockito.any());
+	}
+
+	@Test
+	public void testSaveArtifactContentAddressedConcurrentlyReplacedKeepsContent() throws Exception {
+		enableContentAddressedStorage();
+		byte[] payload = "payload".getBytes(StandardCharsets.UTF_8);
+		String hash = sha256(payload);
+		DAOArtifactData stored = new DAOArtifactData("artifactId");
+		stored.setContentHash("previousHash");
+		DAOArtifactData concurrentlySaved = new DAOArtifactData("artifactId");
+		concurrentlySaved.setContentHash(hash);
+		Mockito.when(client.getById("artifactId", DAOArtifactData.class, mappingManager)).thenReturn(Either.left(stored),
+			Either.left(concurrentlySaved));
+		ResultSet applied = lwtResult(true);
+		ResultSet notApplied = lwtResult(false);
+		Mockito.when(artifactAccessor.touchContent(hash)).thenReturn(applied);
+		Mockito.when(artifactAccessor.swapContentReference(Mockito.eq("artifactId"), Mockito.eq(hash), Mockito.eq(7L), Mockito.anyString(),
+			Mockito.eq("previousHash"), Mockito.isNull())).thenReturn(notApplied);
+
+		CassandraOperationStatus result = testSubject.saveArtifact(new DAOArtifactData("artifactId", payload));
+
+		assertEquals(CassandraOperationStatus.OK, result);
+		// the concurrent save released the previous content, this save only drops its own extra reference
+		Mockito.verify(artifactAccessor, Mockito.never()).decrementContentRefs("previousHash");
+		Mockito.verify(artifactAccessor).incrementContentRefs(hash);
+		Mockito.verify(artifactAccessor).decrementContentRefs(hash);
+	}
+
+	@Test
+	public void testSaveArtifactContentAddressedReleasesOnlyAcquiredReference() throws Exception {
+		enableContentAddressedStorage();
+		byte[] payload = "payload".getBytes(StandardCharsets.UTF_8);
+		String hash = sha256(payload);
+		Mockito.when(client.getById("artifactId", DAOArtifactData.class, mappingManager))
+			.thenReturn(Either.right(CassandraOperationStatus.NOT_FOUND));
+		Mockito.when(artifactAccessor.incrementContentRefs(hash)).thenThrow(new IllegalStateException("write timeout"));
+
+		CassandraOperationStatus result = testSubject.saveArtifact(new DAOArtifactData("artifactId", payload));
+
+		assertEquals(CassandraOperationStatus.GENERAL_ERROR, result);
+		Mockito.verify(artifactAccessor, Mockito.never()).decrementContentRefs(Mockito.anyString());
+	}
+
+	@Test
+	public void testCollectUnreferencedContents() throws Exception {
+		enableContentAddressedStorage();
+		Row unmarked = contentRow("unmarked", null);
+		Date expiredSince = new Date(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(2));
+		Row expired = contentRow("expired", expiredSince);
+		ResultSet contents = Mockito.mock(ResultSet.class);
+		Mockito.when(contents.iterator()).thenReturn(Arrays.asList(unmarked, expired).iterator());
+		Mockito.when(artifactAccessor.getAllContents()).thenReturn(contents);
+		ResultSet noRefs = Mockito.mock(ResultSet.class);
+		Mockito.when(artifactAccessor.getContentRefs(Mockito.anyString())).thenReturn(noRefs);
+		ResultSet applied = lwtResult(true);
+		Mockito.when(artifactAccessor.deleteContent("expired", expiredSince)).thenReturn(applied);
+
+		assertEquals(1, testSubject.collectUnreferencedContents());
+		Mockito.verify(artifactAccessor).markContentUnreferenced(Mockito.eq("unmarked"), Mockito.any(Date.class));
+		Mockito.verify(artifactAccessor, Mockito.never()).deleteContent(Mockito.eq("unmarked"), Mockito.any());
+		Mockito.verify(artifactAccessor).deleteChunks(Mockito.eq("chunks"), Mockito.eq(Arrays.asList(0, 1)));
+	}
+
+	@Test
+	public void testSaveArtifactReadBackRowDoesNotShareStorage() throws Exception {
+		byte[] payload = "payload".getBytes(StandardCharsets.UTF_8);
+		// a chunked artifact read back with its payload and saved again under another id
+		DAOArtifactData readBack = new DAOArtifactData("otherArtifactId", payload);
+		readBack.setChunksId("otherArtifactId:chunks");
+		readBack.setChunkCount(2);
+		readBack.setChunkSize(4);
+		readBack.setContentHash("otherHash");
+		readBack.setId("artifactId");
+		Mockito.when(client.getById("artifactId", DAOArtifactData.class, mappingManager))
+			.thenReturn(Either.right(CassandraOperationStatus.NOT_FOUND));
+		ArgumentCaptor<DAOArtifactData> saved = ArgumentCaptor.forClass(DAOArtifactData.class);
+		Mockito.when(client.save(saved.capture(), Mockito.eq(DAOArtifactData.class), Mockito.any())).thenReturn(CassandraOperationStatus.OK);
+
+		CassandraOperationStatus result = testSubject.saveArtifact(readBack);
+
+		assertEquals(CassandraOperationStatus.OK, result);
+		assertEquals("artifactId", saved.getValue().getId());
+		assertArrayEquals(payload, saved.getValue().getDataAsArray());
+		assertNull(saved.getValue().getChunksId());
+		assertNull(saved.getValue().getChunkCount());
+		assertNull(saved.getValue().getContentHash());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSaveArtifactStreamRejectsNonPositiveChunkSize() throws Exception {
+		testSubject.saveArtifact("artifactId", new ByteArrayInputStream(new byte[1]), 0);
+	}
+
+	private void enableContentAddressedStorage() {
+		Mockito.when(client.isConnected()).thenReturn(true);
+		Mockito.when(client.connect(AuditingTypesConstants.ARTIFACT_KEYSPACE)).thenReturn(Either.left(ImmutablePair.of(null, mappingManager)));
+		Mockito.when(mappingManager.createAccessor(ArtifactAccessor.class)).thenReturn(artifactAccessor);
+		testSubject.init();
+		new ConfigurationManager(new FSConfigurationSource(ExternalConfiguration.getChangeListener(), "src/test/resources/config/catalog-dao"));
+		ConfigurationManager.getConfigurationManager().getConfiguration().getCassandraConfig().setArtifactContentAddressed(true);
+	}
+
+	private static String sha256(byte[] payload) throws Exception {
+		return Hex.encodeHexString(MessageDigest.getInstance("SHA-256").digest(payload));
+	}
+
+	private static ResultSet lwtResult(boolean applied) {
+		ResultSet resultSet = Mockito.mock(ResultSet.class);
+		Mockito.when(resultSet.wasApplied()).thenReturn(applied);
+		return resultSet;
+	}
+
+	private static Row contentRow(String hash, Date unreferencedSince) {
+		Row row = Mockito.mock(Row.class);
+		Mockito.when(row.getString("hash")).thenReturn(hash);
+		Mockito.when(row.getTimestamp("unreferenced_since")).thenReturn(unreferencedSince);
+		Mockito.when(row.getString("chunks_id")).thenReturn("chunks");
+		Mockito.when(row.getInt("chunk_count")).thenReturn(2);
+		return row;
+	}
+
 	@Test(expected = RuntimeException.class)
 	public void testInit() throws Exception {
 		Mockito.when(client.isConnected()).thenReturn(true);
@@ -0,0 +1,89 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.dao.cassandra;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import fj.data.Either;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.Test;
+import org.openecomp.sdc.be.resources.data.DAOArtifactData;
+
+class ChunkedArtifactInputStreamTest {
+
+    private static final int CHUNK_SIZE = 4;
+    private static final byte[] PAYLOAD = "0123456789".getBytes();
+
+    @Test
+    void readWholePayloadTest() throws IOException {
+        final List<Integer> loadedChunks = new ArrayList<>();
+        try (final InputStream inputStream = new ChunkedArtifactInputStream(createManifest(), 0, PAYLOAD.length, loader(loadedChunks))) {
+            assertArrayEquals(PAYLOAD, inputStream.readAllBytes());
+        }
+        assertEquals(List.of(0, 1, 2), loadedChunks);
+    }
+
+    @Test
+    void readRangeLoadsOnlyCoveringChunksTest() throws IOException {
+        final List<Integer> loadedChunks = new ArrayList<>();
+        try (final InputStream inputStream = new ChunkedArtifactInputStream(createManifest(), 5, 2, loader(loadedChunks))) {
+            assertArrayEquals("56".getBytes(), inputStream.readAllBytes());
+        }
+        assertEquals(List.of(1), loadedChunks);
+    }
+
+    @Test
+    void readRangeAcrossChunksTest() throws IOException {
+        try (final InputStream inputStream = new ChunkedArtifactInputStream(createManifest(), 3, 6, loader(new ArrayList<>()))) {
+            assertArrayEquals("345678".getBytes(), inputStream.readAllBytes());
+        }
+    }
+
+    @Test
+    void missingChunkFailsTest() {
+        final InputStream inputStream = new ChunkedArtifactInputStream(createManifest(), 0, PAYLOAD.length,
+            chunkIndex -> Either.right(CassandraOperationStatus.NOT_FOUND));
+        assertThrows(IOException.class, inputStream::readAllBytes);
+    }
+
+    private DAOArtifactData createManifest() {
+        final DAOArtifactData manifest = new DAOArtifactData("artifactId");
+        manifest.setSize((long) PAYLOAD.length);
+        manifest.setChunkSize(CHUNK_SIZE);
+        manifest.setChunkCount(3);
+        manifest.setChunksId("artifactId:chunks");
+        return manifest;
+    }
+
+    private IntFunction<Either<ByteBuffer, CassandraOperationStatus>> loader(final List<Integer> loadedChunks) {
+        return chunkIndex -> {
+            loadedChunks.add(chunkIndex);
+            final int from = chunkIndex * CHUNK_SIZE;
+            return Either.left(ByteBuffer.wrap(Arrays.copyOfRange(PAYLOAD, from, Math.min(from + CHUNK_SIZE, PAYLOAD.length))));
+        };
+    }
+}
@@ -20,7 +20,11 @@
 
 package org.openecomp.sdc.be.dao.janusgraph;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import fj.data.Either;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -30,7 +34,10 @@ import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.janusgraph.core.JanusGraph;
+import org.janusgraph.core.JanusGraphQuery;
+import org.janusgraph.core.JanusGraphTransaction;
 import org.janusgraph.core.JanusGraphVertex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -542,4 +549,93 @@ class JanusGraphDaoMockTest extends DAOConfDependentTest {
 
         result = testSubject.moveEdge(vertexA, vertexB, EdgeLabelEnum.ADDITIONAL_INFORMATION, Direction.BOTH);
     }
+
+    @Test
+    void testCallInTransactionUsesTheGivenTransaction() throws Exception {
+        JanusGraphTransaction transaction = Mockito.mock(JanusGraphTransaction.class);
+        JanusGraphQuery query = Mockito.mock(JanusGraphQuery.class);
+        Mockito.doReturn(query).when(transaction).query();
+        Mockito.when(query.has(Mockito.anyString(), Mockito.any())).thenReturn(query);
+        Mockito.when(query.vertices()).thenReturn(Collections.emptyList());
+        JanusGraphTransactionContext context = new JanusGraphTransactionContext(transaction, true);
+
+        Either<GraphVertex, JanusGraphOperationStatus> result = testSubject
+            .callInTransaction(context, () -> testSubject.getVertexById("id", JsonParseFlagEnum.NoParse));
+
+        assertEquals(JanusGraphOperationStatus.NOT_FOUND, result.right().value());
+        Mockito.verify(transaction).query();
+        Mockito.verify(janusGraphClient, Mockito.never()).getGraph();
+    }
+
+    @Test
+    void testCommitInExplicitTransactionIsLeftToItsOwner() throws Exception {
+        JanusGraphTransaction transaction = Mockito.mock(JanusGraphTransaction.class);
+        JanusGraphTransactionContext context = new JanusGraphTransactionContext(transaction, false);
+        Mockito.when(janusGraphClient.isTrackingComponentChanges()).thenReturn(true);
+
+        testSubject.callInTransaction(context, () -> {
+            testSubject.markComponentChanged("componentId");
+            return testSubject.commit();
+        });
+
+        Mockito.verify(janusGraphClient, Mockito.never()).commit();
+        Mockito.verify(janusGraphClient, Mockito.never()).markComponentChanged(Mockito.anyString());
+        Mockito.verify(transaction, Mockito.never()).commit();
+        Mockito.verify(janusGraphClient, Mockito.never()).publishComponentChanges(Mockito.anySet(), Mockito.anyBoolean());
+
+        assertEquals(JanusGraphOperationStatus.OK, testSubject.commit(context));
+        Mockito.verify(transaction).commit();
+        Mockito.verify(janusGraphClient).publishComponentChanges(Collections.singleton("componentId"), true);
+    }
+
+    @Test
+    void testRollbackInExplicitTransactionPreventsItsCommit() throws Exception {
+        JanusGraphTransaction transaction = Mockito.mock(JanusGraphTransaction.class);
+        JanusGraphTransactionContext context = new JanusGraphTransactionContext(transaction, false);
+        Mockito.when(janusGraphClient.isTrackingComponentChanges()).thenReturn(true);
+
+        testSubject.callInTransaction(context, () -> {
+            testSubject.markComponentChanged("componentId");
+            return testSubject.rollback();
+        });
+
+        Mockito.verify(janusGraphClient, Mockito.never()).rollback();
+        Mockito.verify(transaction, Mockito.never()).rollback();
+        assertTrue(context.isRollbackOnly());
+
+        assertEquals(JanusGraphOperationStatus.GENERAL_ERROR, testSubject.commit(context));
+        Mockito.verify(transaction, Mockito.never()).commit();
+        Mockito.verify(transaction).rollback();
+        Mockito.verify(janusGraphClient).publishComponentChanges(Collections.singleton("componentId"), false);
+        Mockito.verify(janusGraphClient, Mockito.never()).publishComponentChanges(Mockito.anySet(), Mockito.eq(true));
+    }
+
+    @Test
+    void testDataVertexUpdateIsReportedAsChangeOfItsOwner() throws Exception {
+        Mockito.when(janusGraphClient.isTrackingComponentChanges()).thenReturn(true);
+        JanusGraphVertex owner = mockVertex(VertexTypeEnum.TOPOLOGY_TEMPLATE, "componentId");
+        JanusGraphVertex dataVertex = mockVertex(VertexTypeEnum.PROPERTIES, "dataId");
+        Mockito.when(dataVertex.vertices(Direction.IN)).thenReturn(Collections.<Vertex>singletonList(owner).iterator());
+        GraphVertex graphVertex = new GraphVertex(VertexTypeEnum.PROPERTIES);
+        graphVertex.setVertex(dataVertex);
+
+        testSubject.updateVertex(graphVertex);
+
+        // published by the client when the thread-bound transaction is committed, through whichever dao
+        Mockito.verify(janusGraphClient).markComponentChanged("componentId");
+    }
+
+    private static JanusGraphVertex mockVertex(VertexTypeEnum label, String uniqueId) {
+        JanusGraphVertex vertex = Mockito.mock(JanusGraphVertex.class);
+        Mockito.doReturn(mockProperty(label.getName())).when(vertex).property(GraphPropertyEnum.LABEL.getProperty());
+        Mockito.doReturn(mockProperty(uniqueId)).when(vertex).property(GraphPropertyEnum.UNIQUE_ID.getProperty());
+        return vertex;
+    }
+
+    private static VertexProperty<Object> mockProperty(Object value) {
+        @SuppressWarnings("unchecked")
+        VertexProperty<Object> property = Mockito.mock(VertexProperty.class);
+        Mockito.when(property.orElse(Mockito.any())).thenReturn(value);
+        return property;
+    }
 }
@@ -20,10 +20,22 @@
 
 package org.openecomp.sdc.be.dao.janusgraph;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import fj.data.Either;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Property;
@@ -39,6 +51,8 @@ import org.openecomp.sdc.be.dao.jsongraph.types.EdgeLabelEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.EdgePropertyEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.JsonParseFlagEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.VertexTypeEnum;
+import org.openecomp.sdc.be.datatypes.elements.MapPropertiesDataDefinition;
+import org.openecomp.sdc.be.datatypes.elements.PropertyDataDefinition;
 import org.openecomp.sdc.be.datatypes.enums.GraphPropertyEnum;
 import org.openecomp.sdc.be.utils.DAOConfDependentTest;
 import org.slf4j.Logger;
@@ -89,6 +103,23 @@ class JanusGraphDaoTest extends DAOConfDependentTest {
         result = dao.commit();
     }
 
+    @Test
+    void testChangesCommittedThroughTheGenericDaoArePublished() {
+        List<Set<String>> published = new ArrayList<>();
+        dao.addComponentChangeListener(published::add);
+        GraphVertex component = new GraphVertex(VertexTypeEnum.TOPOLOGY_TEMPLATE);
+        component.setUniqueId("componentId");
+        dao.createVertex(component);
+        assertTrue(published.isEmpty());
+
+        assertEquals(JanusGraphOperationStatus.OK, new JanusGraphGenericDao(dao.janusGraphClient).commit());
+
+        assertEquals(Collections.singletonList(Collections.singleton("componentId")), published);
+        // nothing is left over for the next transaction of the thread
+        assertEquals(JanusGraphOperationStatus.OK, dao.commit());
+        assertEquals(1, published.size());
+    }
+
     @Test
     void testRollback() throws Exception {
 
@@ -266,6 +297,57 @@ class JanusGraphDaoTest extends DAOConfDependentTest {
         result = dao.getChildrenVertices(parentVertex, edgeLabel, parseFlag);
     }
 
+    @Test
+    void testGetVerticesByIds() {
+        createVertexWithId("id1");
+        createVertexWithId("id2");
+        createVertexWithId("id3");
+
+        Either<Map<String, GraphVertex>, JanusGraphOperationStatus> result = dao
+            .getVerticesByIds(Arrays.asList("id1", "id3", "id3", "missing", null), JsonParseFlagEnum.ParseMetadata);
+
+        assertTrue(result.isLeft());
+        assertEquals(new HashSet<>(Arrays.asList("id1", "id3")), result.left().value().keySet());
+        assertEquals("id3", result.left().value().get("id3").getUniqueId());
+        assertEquals(VertexTypeEnum.TOPOLOGY_TEMPLATE, result.left().value().get("id3").getLabel());
+        assertTrue(dao.getVerticesByIds(Collections.emptyList(), JsonParseFlagEnum.NoParse).left().value().isEmpty());
+    }
+
+    @Test
+    void testGetChildrenAndParentVerticesOfCollection() {
+        GraphVertex parent1 = createVertexWithId("parent1");
+        GraphVertex parent2 = createVertexWithId("parent2");
+        GraphVertex childless = createVertexWithId("childless");
+        GraphVertex child1 = createVertexWithId("child1");
+        GraphVertex child2 = createVertexWithId("child2");
+        dao.createEdge(parent1, child1, EdgeLabelEnum.INSTANCE_OF, null);
+        dao.createEdge(parent1, child2, EdgeLabelEnum.INSTANCE_OF, null);
+        dao.createEdge(parent2, child2, EdgeLabelEnum.INSTANCE_OF, null);
+
+        Either<Map<String, List<GraphVertex>>, JanusGraphOperationStatus> children = dao
+            .getChildrenVertices(Arrays.asList(parent1, parent2, childless), EdgeLabelEnum.INSTANCE_OF, JsonParseFlagEnum.NoParse);
+        assertTrue(children.isLeft());
+        assertEquals(2, children.left().value().size());
+        assertEquals(new HashSet<>(Arrays.asList("child1", "child2")), uniqueIds(children.left().value().get("parent1")));
+        assertEquals(Collections.singleton("child2"), uniqueIds(children.left().value().get("parent2")));
+
+        Either<Map<String, List<GraphVertex>>, JanusGraphOperationStatus> parents = dao
+            .getParentVertices(Arrays.asList(child1, child2), EdgeLabelEnum.INSTANCE_OF, JsonParseFlagEnum.NoParse);
+        assertTrue(parents.isLeft());
+        assertEquals(Collections.singleton("parent1"), uniqueIds(parents.left().value().get("child1")));
+        assertEquals(new HashSet<>(Arrays.asList("parent1", "parent2")), uniqueIds(parents.left().value().get("child2")));
+    }
+
+    private GraphVertex createVertexWithId(String uniqueId) {
+        GraphVertex graphVertex = new GraphVertex(VertexTypeEnum.TOPOLOGY_TEMPLATE);
+        graphVertex.setUniqueId(uniqueId);
+        return dao.createVertex(graphVertex).left().value();
+    }
+
+    private Set<String> uniqueIds(List<GraphVertex> vertices) {
+        return vertices.stream().map(GraphVertex::getUniqueId).collect(Collectors.toSet());
+    }
+
     @Test
     void testUpdateVertexMetadataPropertiesWithJson() throws Exception {
 
@@ -326,4 +408,61 @@ class JanusGraphDaoTest extends DAOConfDependentTest {
 
         result = dao.getBelongingEdgeByCriteria(parentId, label, properties);
     }
+
+    @Test
+    void testShardedDataVertexCopyOnUpdate() throws Exception {
+        configurationManager.getConfiguration().setJanusGraphShardedDataVertices(true);
+        try {
+            GraphVertex dataVertex = new GraphVertex(VertexTypeEnum.INST_PROPERTIES);
+            dataVertex.setUniqueId("instProperties1");
+            Map<String, MapPropertiesDataDefinition> json = new HashMap<>();
+            json.put("instance1", instanceProperties("value1"));
+            json.put("instance2", instanceProperties("value2"));
+            dataVertex.setJson(json);
+            assertTrue(dao.createVertex(dataVertex).isLeft());
+
+            GraphVertex original = dao.getVertexById("instProperties1", JsonParseFlagEnum.ParseJson).left().value();
+            assertFalse(original.getVertex().property(GraphPropertyEnum.JSON.getProperty()).isPresent());
+            assertEquals(2, getShards(original).size());
+            assertEquals("value2", getPropertyValue(original, "instance2"));
+
+            ((MapPropertiesDataDefinition) original.getJson().get("instance1")).getMapToscaDataDefinition().get("prop").setValue("changed");
+            GraphVertex copy = new GraphVertex(VertexTypeEnum.INST_PROPERTIES);
+            copy.cloneData(original);
+            copy.setUniqueId("instProperties2");
+            assertTrue(dao.createVertex(copy, original).isLeft());
+
+            copy = dao.getVertexById("instProperties2", JsonParseFlagEnum.ParseJson).left().value();
+            original = dao.getVertexById("instProperties1", JsonParseFlagEnum.ParseJson).left().value();
+            assertEquals("changed", getPropertyValue(copy, "instance1"));
+            assertEquals("value1", getPropertyValue(original, "instance1"));
+            Set<Object> sharedShards = getShards(original);
+            sharedShards.retainAll(getShards(copy));
+            assertEquals(1, sharedShards.size());
+
+            dao.removeDataVertex(original.getVertex());
+            copy = dao.getVertexById("instProperties2", JsonParseFlagEnum.ParseJson).left().value();
+            assertEquals(2, getShards(copy).size());
+            assertEquals("value2", getPropertyValue(copy, "instance2"));
+        } finally {
+            configurationManager.getConfiguration().setJanusGraphShardedDataVertices(false);
+        }
+    }
+
+    private MapPropertiesDataDefinition instanceProperties(String value) {
+        PropertyDataDefinition property = new PropertyDataDefinition();
+        property.setName("prop");
+        property.setValue(value);
+        return new MapPropertiesDataDefinition(Collections.singletonMap("prop", property));
+    }
+
+    private String getPropertyValue(GraphVertex dataVertex, String instance) {
+        return ((MapPropertiesDataDefinition) dataVertex.getJson().get(instance)).getMapToscaDataDefinition().get("prop").getValue();
+    }
+
+    private Set<Object> getShards(GraphVertex dataVertex) {
+        Set<Object> shards = new HashSet<>();
+        dataVertex.getVertex().edges(Direction.OUT, EdgeLabelEnum.DATA_SHARD.name()).forEachRemaining(edge -> shards.add(edge.inVertex().id()));
+        return shards;
+    }
 }
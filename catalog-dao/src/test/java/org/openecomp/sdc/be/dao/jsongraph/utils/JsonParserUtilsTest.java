@@ -0,0 +1,83 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.dao.jsongraph.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.openecomp.sdc.be.datatypes.elements.PropertyDataDefinition;
+
+class JsonParserUtilsTest {
+
+    private static final String JSON = "{\"p1\":{\"name\":\"p1\",\"type\":\"string\"},\"p2\":{\"name\":\"p2\",\"type\":\"integer\"},"
+        + "\"p3\":{\"name\":\"p3\",\"type\":\"boolean\"}}";
+
+    @Test
+    void lazyMapDecodesOnlyAccessedEntries() {
+        Map<String, PropertyDataDefinition> properties = JsonParserUtils.toLazyMap(JSON, PropertyDataDefinition.class);
+
+        assertEquals(3, properties.size());
+        assertTrue(properties.containsKey("p3"));
+        assertEquals(0, ((LazyJsonMap<?>) properties).getDecodedCount());
+        assertEquals("integer", properties.get("p2").getType());
+        assertEquals(1, ((LazyJsonMap<?>) properties).getDecodedCount());
+    }
+
+    @Test
+    void lazyMapIsEqualToEagerMap() {
+        assertEquals(JsonParserUtils.toMap(JSON, PropertyDataDefinition.class), JsonParserUtils.toLazyMap(JSON, PropertyDataDefinition.class));
+    }
+
+    @Test
+    void lazyMapSerializesModifiedEntriesAndCopiesTheOthers() throws Exception {
+        Map<String, PropertyDataDefinition> properties = JsonParserUtils.toLazyMap(JSON, PropertyDataDefinition.class);
+        properties.get("p1").setType("float");
+        properties.remove("p2");
+        PropertyDataDefinition added = new PropertyDataDefinition();
+        added.setName("p4");
+        properties.put("p4", added);
+
+        Map<String, PropertyDataDefinition> reparsed = JsonParserUtils.toMap(JsonParserUtils.toJson(properties), PropertyDataDefinition.class);
+
+        assertEquals(3, reparsed.size());
+        assertEquals("float", reparsed.get("p1").getType());
+        assertEquals("boolean", reparsed.get("p3").getType());
+        assertEquals("p4", reparsed.get("p4").getName());
+    }
+
+    @Test
+    void lazyMapWritesBackEntriesWhichFailedToDecodeVerbatim() throws Exception {
+        Map<String, PropertyDataDefinition> properties = JsonParserUtils
+            .toLazyMap("{\"p1\":{\"name\":\"p1\"},\"p2\":[1,2]}", PropertyDataDefinition.class);
+
+        assertNull(properties.get("p2"));
+        assertEquals(0, ((LazyJsonMap<?>) properties).getDecodedCount());
+        assertEquals("[1,2]", JsonParserUtils.toJsonEntries(properties).get("p2"));
+        assertEquals("{\"p1\":{\"name\":\"p1\"},\"p2\":[1,2]}", JsonParserUtils.toJson(properties));
+    }
+
+    @Test
+    void lazyMapOfInvalidJsonIsNull() {
+        assertNull(JsonParserUtils.toLazyMap("{\"p1\":{\"name\":", PropertyDataDefinition.class));
+        assertNull(JsonParserUtils.toLazyMap("[]", PropertyDataDefinition.class));
+        assertNull(JsonParserUtils.toLazyMap("", PropertyDataDefinition.class));
+    }
+}
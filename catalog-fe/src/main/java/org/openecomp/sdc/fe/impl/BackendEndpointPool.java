@@ -0,0 +1,200 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.fe.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import org.apache.commons.collections.CollectionUtils;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.openecomp.sdc.fe.config.Configuration;
+import org.openecomp.sdc.fe.config.Configuration.BackendEndpointConfig;
+import org.openecomp.sdc.fe.config.Configuration.BackendLoadBalancingConfig;
+import org.openecomp.sdc.fe.utils.BeProtocol;
+
+/**
+ * The catalog backends the FE proxy balances requests between. A backend is skipped while it is ejected, after too many failed or slow
+ * responses in a row, or while the health check task reports it down. When no backend is available all of them are used, so a flapping
+ * health check does not take the whole UI down.
+ */
+public class BackendEndpointPool {
+
+    private static final Logger log = Logger.getLogger(BackendEndpointPool.class.getName());
+    private final List<Endpoint> endpoints;
+    private final Policy policy;
+    private final int maxConsecutiveFailures;
+    private final long slowResponseThresholdMs;
+    private final long ejectionTimeMs;
+    private final LongSupplier clock;
+    private final AtomicLong requestCounter = new AtomicLong();
+
+    public BackendEndpointPool(Configuration config) {
+        this(toEndpoints(config), config.getBeLoadBalancing(), System::currentTimeMillis);
+    }
+
+    BackendEndpointPool(List<Endpoint> endpoints, BackendLoadBalancingConfig loadBalancing, LongSupplier clock) {
+        BackendLoadBalancingConfig lbConfig = loadBalancing == null ? new BackendLoadBalancingConfig() : loadBalancing;
+        this.endpoints = Collections.unmodifiableList(new ArrayList<>(endpoints));
+        this.policy = Policy.valueOf(lbConfig.getPolicy());
+        this.maxConsecutiveFailures = lbConfig.getMaxConsecutiveFailures();
+        this.slowResponseThresholdMs = lbConfig.getSlowResponseThresholdInMs();
+        this.ejectionTimeMs = lbConfig.getEjectionTimeInSeconds() * 1000L;
+        this.clock = clock;
+    }
+
+    private static List<Endpoint> toEndpoints(Configuration config) {
+        if (CollectionUtils.isEmpty(config.getBeEndpoints())) {
+            return Collections.singletonList(new Endpoint(config.getBeHost(), config.getBeHttpPort(), config.getBeSslPort(), 1));
+        }
+        return config.getBeEndpoints().stream().map(endpoint -> toEndpoint(config, endpoint)).collect(Collectors.toList());
+    }
+
+    private static Endpoint toEndpoint(Configuration config, BackendEndpointConfig endpoint) {
+        Integer httpPort = endpoint.getHttpPort() == null ? config.getBeHttpPort() : endpoint.getHttpPort();
+        Integer sslPort = endpoint.getSslPort() == null ? config.getBeSslPort() : endpoint.getSslPort();
+        return new Endpoint(endpoint.getHost(), httpPort, sslPort, Math.max(1, endpoint.getWeight()));
+    }
+
+    public List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * Selects the backend for a request. Every acquired backend must be {@link #release(Endpoint, boolean, long) released} once the
+     * response is completed.
+     */
+    public Endpoint acquire() {
+        List<Endpoint> candidates = getAvailableEndpoints();
+        long requestNumber = requestCounter.getAndIncrement();
+        Endpoint selected;
+        if (policy == Policy.WEIGHTED_ROUND_ROBIN) {
+            selected = selectWeightedRoundRobin(candidates, requestNumber);
+        } else {
+            selected = selectLeastOutstandingRequests(candidates, requestNumber);
+        }
+        selected.outstandingRequests.incrementAndGet();
+        return selected;
+    }
+
+    public void release(Endpoint endpoint, boolean failed, long responseTimeMs) {
+        endpoint.outstandingRequests.decrementAndGet();
+        boolean slow = slowResponseThresholdMs > 0 && responseTimeMs > slowResponseThresholdMs;
+        if (!failed && !slow) {
+            endpoint.consecutiveFailures.set(0);
+            return;
+        }
+        if (endpoint.consecutiveFailures.incrementAndGet() >= maxConsecutiveFailures) {
+            endpoint.consecutiveFailures.set(0);
+            endpoint.ejectedUntil = clock.getAsLong() + ejectionTimeMs;
+            log.warn("Backend {} is ejected for {} ms after {} failed or slow responses", endpoint, ejectionTimeMs, maxConsecutiveFailures);
+        }
+    }
+
+    /**
+     * Updates the backend status according to the last health check.
+     */
+    public void setHealthy(Endpoint endpoint, boolean healthy) {
+        if (endpoint.healthy != healthy) {
+            log.info("Backend {} health check status changed to {}", endpoint, healthy ? "UP" : "DOWN");
+        }
+        endpoint.healthy = healthy;
+    }
+
+    private List<Endpoint> getAvailableEndpoints() {
+        long now = clock.getAsLong();
+        List<Endpoint> available = endpoints.stream().filter(endpoint -> endpoint.healthy && endpoint.ejectedUntil <= now)
+            .collect(Collectors.toList());
+        if (!available.isEmpty()) {
+            return available;
+        }
+        List<Endpoint> healthy = endpoints.stream().filter(endpoint -> endpoint.healthy).collect(Collectors.toList());
+        return healthy.isEmpty() ? endpoints : healthy;
+    }
+
+    private Endpoint selectLeastOutstandingRequests(List<Endpoint> candidates, long requestNumber) {
+        // start from a rotating position so that ties are spread between the backends
+        int start = (int) (requestNumber % candidates.size());
+        Endpoint selected = null;
+        double selectedLoad = Double.MAX_VALUE;
+        for (int i = 0; i < candidates.size(); i++) {
+            Endpoint candidate = candidates.get((start + i) % candidates.size());
+            double load = (double) candidate.outstandingRequests.get() / candidate.weight;
+            if (load < selectedLoad) {
+                selected = candidate;
+                selectedLoad = load;
+            }
+        }
+        return selected;
+    }
+
+    private Endpoint selectWeightedRoundRobin(List<Endpoint> candidates, long requestNumber) {
+        int totalWeight = candidates.stream().mapToInt(endpoint -> endpoint.weight).sum();
+        long position = requestNumber % totalWeight;
+        for (Endpoint candidate : candidates) {
+            position -= candidate.weight;
+            if (position < 0) {
+                return candidate;
+            }
+        }
+        return candidates.get(0);
+    }
+
+    public enum Policy {LEAST_OUTSTANDING_REQUESTS, WEIGHTED_ROUND_ROBIN}
+
+    public static class Endpoint {
+
+        private final String host;
+        private final Integer httpPort;
+        private final Integer sslPort;
+        private final int weight;
+        private final AtomicInteger outstandingRequests = new AtomicInteger();
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private volatile long ejectedUntil;
+        private volatile boolean healthy = true;
+
+        public Endpoint(String host, Integer httpPort, Integer sslPort, int weight) {
+            this.host = host;
+            this.httpPort = httpPort;
+            this.sslPort = sslPort;
+            this.weight = weight;
+        }
+
+        public String getHost() {
+            return host;
+        }
+
+        public Integer getPort(String protocol) {
+            return BeProtocol.HTTP.getProtocolName().equals(protocol) ? httpPort : sslPort;
+        }
+
+        public int getOutstandingRequests() {
+            return outstandingRequests.get();
+        }
+
+        @Override
+        public String toString() {
+            return host + ":" + httpPort + "/" + sslPort;
+        }
+    }
+}
@@ -103,6 +103,33 @@ public class HealthCheckScheduledTask implements Runnable {
         }
         // Anyway, update latest response
         service.setLastHealthStatus(currentHealth);
+        checkBackendEndpoints();
+    }
+
+    /**
+     * Checks each of the backends the FE proxy balances between, so that a backend which is down is not selected until it recovers.
+     */
+    @VisibleForTesting
+    void checkBackendEndpoints() {
+        BackendEndpointPool backendEndpointPool = service.getBackendEndpointPool();
+        if (backendEndpointPool == null || backendEndpointPool.getEndpoints().size() < 2) {
+            return;
+        }
+        Configuration config = service.getConfig();
+        int connectTimeoutMs = 3000;
+        int readTimeoutMs = config.getHealthCheckSocketTimeoutInMs(5000);
+        for (BackendEndpointPool.Endpoint endpoint : backendEndpointPool.getEndpoints()) {
+            String healthCheckUrl = String.format(URL, config.getBeProtocol(), endpoint.getHost(), endpoint.getPort(config.getBeProtocol()));
+            boolean healthy;
+            try {
+                HttpResponse<String> response = HttpRequest.get(healthCheckUrl, new HttpClientConfig(new Timeouts(connectTimeoutMs, readTimeoutMs)));
+                healthy = response.getStatusCode() == HttpStatus.SC_OK;
+            } catch (Exception e) {
+                log.debug("Health Check error when trying to connect to BE {}. Error: {}", endpoint, e.getMessage());
+                healthy = false;
+            }
+            backendEndpointPool.setHealthy(endpoint, healthy);
+        }
     }
 
     private List<HealthCheckInfo> addHostedComponentsFeHealthCheck(String baseComponent, boolean requestedByBE) {
@@ -50,6 +50,10 @@ public class HealthCheckService {
         return ((ConfigurationManager) context.getAttribute(Constants.CONFIGURATION_MANAGER_ATTR)).getConfiguration();
     }
 
+    public BackendEndpointPool getBackendEndpointPool() {
+        return (BackendEndpointPool) context.getAttribute(Constants.BACKEND_ENDPOINT_POOL_ATTR);
+    }
+
     public void start(int interval) {
         this.healthCheckExecutor.scheduleAtFixedRate(getTask(), 0, interval, TimeUnit.SECONDS);
     }
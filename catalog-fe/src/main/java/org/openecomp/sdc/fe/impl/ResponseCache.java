@@ -0,0 +1,295 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.fe.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.openecomp.sdc.fe.config.Configuration.ResponseCacheConfig;
+
+/**
+ * Short lived cache of the read-heavy backend responses proxied by the FE (catalog, archive and followed screens). Fresh responses are
+ * served from memory, stale responses are revalidated against the backend with their ETag, and concurrent requests for the same missing
+ * response wait for a single backend call. Bodies are kept gzip compressed.
+ * <p>
+ * Responses that do not depend on the user are shared by all the users, but are served only to users the backend served recently
+ * (see {@link #validateUser(String)}), so that users are still authorized by the backend.
+ */
+public class ResponseCache implements ResponseCacheMBean {
+
+    private static final Logger log = Logger.getLogger(ResponseCache.class.getName());
+    private static final String MBEAN_NAME = "org.openecomp.sdc.fe.impl:type=ResponseCache";
+    private static final String SHARED_KEY_PREFIX = "shared|";
+    private static final String USER_KEY_PREFIX = "user|";
+    private final Map<String, CachedResponse> responses;
+    private final Map<String, CompletableFuture<CachedResponse>> loadingResponses = new ConcurrentHashMap<>();
+    private final Map<String, Long> validatedUsers;
+    private final long timeToLiveMs;
+    private final long userValidationTimeMs;
+    private final LongSupplier clock;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong coalescedRequests = new AtomicLong();
+    private final AtomicLong revalidatedResponses = new AtomicLong();
+
+    public ResponseCache(ResponseCacheConfig config) {
+        this(config, System::currentTimeMillis);
+    }
+
+    ResponseCache(ResponseCacheConfig config, LongSupplier clock) {
+        this.timeToLiveMs = config.getTimeToLiveInSeconds() * 1000L;
+        this.userValidationTimeMs = config.getUserValidationTimeInSeconds() * 1000L;
+        this.clock = clock;
+        int maxEntries = config.getMaxEntries();
+        this.responses = Collections.synchronizedMap(new LinkedHashMap<String, CachedResponse>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > maxEntries;
+            }
+        });
+        int maxValidatedUsers = config.getMaxValidatedUsers();
+        // in insertion order, as a validation is moved to the end when renewed the eldest validation expires first
+        this.validatedUsers = Collections.synchronizedMap(new LinkedHashMap<String, Long>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxValidatedUsers || eldest.getValue() <= clock.getAsLong();
+            }
+        });
+    }
+
+    public static String sharedKey(String requestKey) {
+        return SHARED_KEY_PREFIX + requestKey;
+    }
+
+    public static String userKey(String userId, String requestKey) {
+        return USER_KEY_PREFIX + userId + "|" + requestKey;
+    }
+
+    public boolean isUserValidated(String userId) {
+        Long validUntil = validatedUsers.get(userId);
+        if (validUntil == null) {
+            return false;
+        }
+        if (validUntil <= clock.getAsLong()) {
+            validatedUsers.remove(userId, validUntil);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Marks the user as served by the backend, so the shared responses may be served to the user for a while. Only the most recently
+     * validated users are kept, and expired validations are dropped.
+     */
+    public void validateUser(String userId) {
+        synchronized (validatedUsers) {
+            validatedUsers.remove(userId);
+            validatedUsers.put(userId, clock.getAsLong() + userValidationTimeMs);
+        }
+    }
+
+    int getValidatedUsersCount() {
+        return validatedUsers.size();
+    }
+
+    /**
+     * Gets the response of the key. When there is no fresh response, the loader is called with the stale response (or null) and returns
+     * either a new response or the given stale one when the backend revalidated it.
+     */
+    public CachedResponse get(String key, UnaryOperator<CachedResponse> loader) {
+        CachedResponse cachedResponse = responses.get(key);
+        if (cachedResponse != null && cachedResponse.expiresAt > clock.getAsLong()) {
+            hits.incrementAndGet();
+            return cachedResponse;
+        }
+        misses.incrementAndGet();
+        CompletableFuture<CachedResponse> loading = new CompletableFuture<>();
+        CompletableFuture<CachedResponse> alreadyLoading = loadingResponses.putIfAbsent(key, loading);
+        if (alreadyLoading != null) {
+            coalescedRequests.incrementAndGet();
+            return join(alreadyLoading);
+        }
+        try {
+            CachedResponse loadedResponse = loader.apply(cachedResponse);
+            if (cachedResponse != null && loadedResponse == cachedResponse) {
+                revalidatedResponses.incrementAndGet();
+            }
+            if (loadedResponse.isCacheable()) {
+                loadedResponse.expiresAt = clock.getAsLong() + timeToLiveMs;
+                responses.put(key, loadedResponse);
+            }
+            loading.complete(loadedResponse);
+            return loadedResponse;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            loadingResponses.remove(key, loading);
+        }
+    }
+
+    /**
+     * Drops the shared responses and the responses of the user, after the user changed something through the FE.
+     */
+    public void invalidate(String userId) {
+        String userKeyPrefix = userKey(userId, "");
+        synchronized (responses) {
+            responses.keySet().removeIf(key -> key.startsWith(SHARED_KEY_PREFIX) || key.startsWith(userKeyPrefix));
+        }
+    }
+
+    private static CachedResponse join(CompletableFuture<CachedResponse> loading) {
+        try {
+            return loading.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    public void registerMBean() {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(MBEAN_NAME);
+            if (!mBeanServer.isRegistered(objectName)) {
+                mBeanServer.registerMBean(this, objectName);
+            }
+        } catch (Exception e) {
+            log.debug("Failed to register the response cache metrics MBean", e);
+        }
+    }
+
+    public void unregisterMBean() {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(MBEAN_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+        } catch (Exception e) {
+            log.debug("Failed to unregister the response cache metrics MBean", e);
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return responses.size();
+    }
+
+    @Override
+    public long getHits() {
+        return hits.get();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.get();
+    }
+
+    @Override
+    public double getHitRatio() {
+        long requests = hits.get() + misses.get();
+        return requests == 0 ? 0 : (double) hits.get() / requests;
+    }
+
+    @Override
+    public long getCoalescedRequests() {
+        return coalescedRequests.get();
+    }
+
+    @Override
+    public long getRevalidatedResponses() {
+        return revalidatedResponses.get();
+    }
+
+    public static class CachedResponse {
+
+        private final int status;
+        private final String contentType;
+        private final String etag;
+        private final byte[] gzippedBody;
+        private volatile long expiresAt;
+
+        public CachedResponse(int status, String contentType, String etag, byte[] body) {
+            this.status = status;
+            this.contentType = contentType;
+            this.etag = etag;
+            this.gzippedBody = gzip(body);
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public byte[] getGzippedBody() {
+            return gzippedBody;
+        }
+
+        public byte[] getBody() {
+            try (InputStream body = new GZIPInputStream(new ByteArrayInputStream(gzippedBody))) {
+                return body.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        boolean isCacheable() {
+            return status == 200;
+        }
+
+        private static byte[] gzip(byte[] body) {
+            ByteArrayOutputStream gzippedBody = new ByteArrayOutputStream();
+            try (OutputStream gzip = new GZIPOutputStream(gzippedBody)) {
+                gzip.write(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return gzippedBody.toByteArray();
+        }
+    }
+}
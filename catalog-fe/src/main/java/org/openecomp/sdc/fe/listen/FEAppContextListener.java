@@ -28,8 +28,10 @@ import org.openecomp.sdc.common.impl.ExternalConfiguration;
 import org.openecomp.sdc.common.listener.AppContextListener;
 import org.openecomp.sdc.common.log.wrappers.Logger;
 import org.openecomp.sdc.fe.config.ConfigurationManager;
+import org.openecomp.sdc.fe.impl.BackendEndpointPool;
 import org.openecomp.sdc.fe.impl.HealthCheckService;
 import org.openecomp.sdc.fe.impl.PluginStatusBL;
+import org.openecomp.sdc.fe.impl.ResponseCache;
 import org.openecomp.sdc.fe.monitoring.FeMonitoringService;
 
 public class FEAppContextListener extends AppContextListener implements ServletContextListener {
@@ -45,6 +47,8 @@ public class FEAppContextListener extends AppContextListener implements ServletC
         context.getServletContext().setAttribute(Constants.CONFIGURATION_MANAGER_ATTR, configurationManager);
         PluginStatusBL pbl = new PluginStatusBL();
         context.getServletContext().setAttribute(Constants.PLUGIN_BL_COMPONENT, pbl);
+        context.getServletContext()
+            .setAttribute(Constants.BACKEND_ENDPOINT_POOL_ATTR, new BackendEndpointPool(configurationManager.getConfiguration()));
         // Health Check service
         HealthCheckService hcs = new HealthCheckService(context.getServletContext());
         hcs.start(configurationManager.getConfiguration().getHealthCheckIntervalInSeconds(HEALTH_CHECHK_INTERVALE));
@@ -58,6 +62,12 @@ public class FEAppContextListener extends AppContextListener implements ServletC
         }
         ExecutorService executorPool = Executors.newFixedThreadPool(configurationManager.getConfiguration().getThreadpoolSize());
         context.getServletContext().setAttribute(Constants.THREAD_EXECUTOR_ATTR, executorPool);
+        if (configurationManager.getConfiguration().getResponseCache() != null && configurationManager.getConfiguration().getResponseCache()
+            .isEnabled()) {
+            ResponseCache responseCache = new ResponseCache(configurationManager.getConfiguration().getResponseCache());
+            responseCache.registerMBean();
+            context.getServletContext().setAttribute(Constants.RESPONSE_CACHE_ATTR, responseCache);
+        }
         log.debug("After executing {}", this.getClass());
     }
 
@@ -66,6 +76,10 @@ public class FEAppContextListener extends AppContextListener implements ServletC
         if (executorPool != null) {
             executorPool.shutdown();
         }
+        ResponseCache responseCache = (ResponseCache) context.getServletContext().getAttribute(Constants.RESPONSE_CACHE_ATTR);
+        if (responseCache != null) {
+            responseCache.unregisterMBean();
+        }
         super.contextDestroyed(context);
     }
 }
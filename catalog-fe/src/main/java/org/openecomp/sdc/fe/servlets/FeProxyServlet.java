@@ -22,15 +22,25 @@ package org.openecomp.sdc.fe.servlets;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Base64;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import org.apache.commons.lang3.NotImplementedException;
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.jetty.client.api.ContentResponse;
 import org.eclipse.jetty.client.api.Request;
 import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.client.util.FutureResponseListener;
 import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.http.HttpStatus;
 import org.openecomp.sdc.common.api.Constants;
 import org.openecomp.sdc.common.log.enums.EcompLoggerErrorCode;
 import org.openecomp.sdc.common.log.wrappers.Logger;
@@ -41,8 +51,10 @@ import org.openecomp.sdc.fe.config.ConfigurationManager;
 import org.openecomp.sdc.fe.config.FeEcompErrorManager;
 import org.openecomp.sdc.fe.config.PluginsConfiguration;
 import org.openecomp.sdc.fe.config.PluginsConfiguration.Plugin;
+import org.openecomp.sdc.fe.impl.BackendEndpointPool;
 import org.openecomp.sdc.fe.impl.LogHandler;
-import org.openecomp.sdc.fe.utils.BeProtocol;
+import org.openecomp.sdc.fe.impl.ResponseCache;
+import org.openecomp.sdc.fe.impl.ResponseCache.CachedResponse;
 
 public class FeProxyServlet extends SSLProxyServlet {
 
@@ -60,15 +72,23 @@ public class FeProxyServlet extends SSLProxyServlet {
     private static final String CATALOG_REQUEST_IDENTIFIER = "/v1/catalog";
     private static final String ARCHIVE_PATH_IDENTIFIER = String.format("%s/archive/", CATALOG_REQUEST_IDENTIFIER);
     private static final String HOME_REQUEST_IDENTIFIER = "/v1/followed";
+    private static final String BACKEND_ENDPOINT_ATTR = FeProxyServlet.class.getName() + ".backendEndpoint";
+    private static final String BACKEND_REQUEST_START_ATTR = FeProxyServlet.class.getName() + ".backendRequestStart";
+    private static final int MAX_CACHED_RESPONSE_SIZE = 32 * 1024 * 1024;
+    private static final String GZIP_ENCODING = "gzip";
     private static Logger log = Logger.getLogger(FeProxyServlet.class.getName());
     private static String msUrl;
 
     @Override
     protected String rewriteTarget(HttpServletRequest request) {
+        logFeRequest(request);
+        return getTarget(request);
+    }
+
+    private String getTarget(HttpServletRequest request) {
         String originalUrl = "";
         String redirectedUrl = "";
         try {
-            logFeRequest(request);
             originalUrl = request.getRequestURL().toString();
             Configuration config = getConfiguration(request);
             if (config == null) {
@@ -77,13 +97,18 @@ public class FeProxyServlet extends SSLProxyServlet {
             if (isMsRequest(request.getRequestURL().toString())) {
                 redirectedUrl = redirectMsRequestToMservice(request, config);
             } else {
-                redirectedUrl = getModifiedUrl(config, getPluginConfiguration(request), request.getRequestURI(), getQueryString(request));
+                redirectedUrl = getModifiedUrl(request, config, getPluginConfiguration(request), request.getRequestURI(), getQueryString(request));
             }
         } catch (MalformedURLException mue) {
             FeEcompErrorManager.getInstance().logFeHttpLoggingError("FE Request");
             log.error(EcompLoggerErrorCode.DATA_ERROR, "FeProxyServlet rewriteTarget", "sdc-FE", "Malformed URL Exception: ", mue);
         } catch (Exception e) {
             log.error(EcompLoggerErrorCode.UNKNOWN_ERROR, "FeProxyServlet rewriteTarget", "sdc-FE", "Unexpected FE request processing error: ", e);
+        } finally {
+            if (StringUtils.isEmpty(redirectedUrl)) {
+                // the request is not sent when its target could not be rewritten, so the backend acquired for it is not used
+                releaseBackend(request, false);
+            }
         }
         if (log.isDebugEnabled()) {
             log.debug("FeProxyServlet Redirecting request from: {} , to: {}", originalUrl, redirectedUrl);
@@ -91,6 +116,35 @@ public class FeProxyServlet extends SSLProxyServlet {
         return redirectedUrl;
     }
 
+    /**
+     * Serves the catalog, archive and followed screens through the response cache, when enabled. Any failure to do so falls back to
+     * proxying the request.
+     */
+    @Override
+    protected void service(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+        ResponseCache responseCache = getResponseCache(request);
+        String cacheKey = responseCache == null ? null : getCacheKey(request, responseCache);
+        if (cacheKey == null) {
+            proxy(request, response);
+            return;
+        }
+        logFeRequest(request);
+        CachedResponse cachedResponse;
+        try {
+            cachedResponse = responseCache.get(cacheKey, staleResponse -> fetchResponse(request, staleResponse));
+        } catch (RuntimeException e) {
+            log.debug("Failed to serve {} through the response cache, proxying it", request.getRequestURI(), e);
+            proxy(request, response);
+            return;
+        }
+        writeCachedResponse(request, response, cachedResponse);
+    }
+
+    @VisibleForTesting
+    void proxy(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+        super.service(request, response);
+    }
+
     @Override
     protected void addProxyHeaders(HttpServletRequest clientRequest, Request proxyRequest) {
         Configuration config = getConfiguration(clientRequest);
@@ -112,8 +166,12 @@ public class FeProxyServlet extends SSLProxyServlet {
     }
 
     private void logFeResponse(HttpServletRequest request, Response proxyResponse) {
+        logFeResponse(request, proxyResponse.getStatus());
+    }
+
+    private void logFeResponse(HttpServletRequest request, int status) {
         LogHandler.logFeResponse(request);
-        outHttpResponse(proxyResponse);
+        outHttpResponse(status);
     }
 
     // Extracted for purpose of clear method name, for logback %M parameter
@@ -122,12 +180,12 @@ public class FeProxyServlet extends SSLProxyServlet {
     }
 
     // Extracted for purpose of clear method name, for logback %M parameter
-    private void outHttpResponse(Response proxyResponse) {
-        log.info("SC=\"{}\"", proxyResponse.getStatus());
+    private void outHttpResponse(int status) {
+        log.info("SC=\"{}\"", status);
     }
 
-    private String getModifiedUrl(Configuration config, PluginsConfiguration pluginConf, String uri, String queryString)
-        throws MalformedURLException {
+    private String getModifiedUrl(HttpServletRequest request, Configuration config, PluginsConfiguration pluginConf, String uri,
+                                  String queryString) throws MalformedURLException {
         if (config == null) {
             log.error(EcompLoggerErrorCode.UNKNOWN_ERROR, "FeProxyServlet getModifiedUrl", "sdc-FE", "failed to retrieve configuration.");
             throw new RuntimeException("failed to read FE configuration");
@@ -144,12 +202,9 @@ public class FeProxyServlet extends SSLProxyServlet {
         } else if (uri.contains(DCAED_CONTEXT)) {
             uri = uri.replace(SDC1_FE_PROXY + DCAED_CONTEXT, DCAED_CONTEXT);
             protocol = config.getBeProtocol();
-            host = config.getBeHost();
-            if (config.getBeProtocol().equals(BeProtocol.HTTP.getProtocolName())) {
-                port = config.getBeHttpPort().toString();
-            } else {
-                port = config.getBeSslPort().toString();
-            }
+            BackendEndpointPool.Endpoint backend = acquireBackend(request, config);
+            host = backend.getHost();
+            port = backend.getPort(protocol).toString();
         } else if (uri.contains(WORKFLOW_CONTEXT)) {
             uri = uri.replace(SDC1_FE_PROXY + WORKFLOW_CONTEXT, WORKFLOW_CONTEXT);
             String workflowPluginURL = pluginConf.getPluginsList().stream()
@@ -163,12 +218,9 @@ public class FeProxyServlet extends SSLProxyServlet {
         } else {
             uri = uri.replace(SDC1_FE_PROXY, "/sdc2");
             protocol = config.getBeProtocol();
-            host = config.getBeHost();
-            if (config.getBeProtocol().equals(BeProtocol.HTTP.getProtocolName())) {
-                port = config.getBeHttpPort().toString();
-            } else {
-                port = config.getBeSslPort().toString();
-            }
+            BackendEndpointPool.Endpoint backend = acquireBackend(request, config);
+            host = backend.getHost();
+            port = backend.getPort(protocol).toString();
         }
         final String authority = getAuthority(host, port);
         String modifiedUrl = String.format(URL, protocol, authority, path, uri);
@@ -178,6 +230,153 @@ public class FeProxyServlet extends SSLProxyServlet {
         return modifiedUrl;
     }
 
+    @Override
+    protected void onProxyResponseSuccess(HttpServletRequest clientRequest, HttpServletResponse proxyResponse, Response serverResponse) {
+        releaseBackend(clientRequest, HttpStatus.isServerError(serverResponse.getStatus()));
+        updateResponseCache(clientRequest, serverResponse.getStatus());
+        super.onProxyResponseSuccess(clientRequest, proxyResponse, serverResponse);
+    }
+
+    @Override
+    protected void onProxyResponseFailure(HttpServletRequest clientRequest, HttpServletResponse proxyResponse, Response serverResponse,
+                                          Throwable failure) {
+        releaseBackend(clientRequest, true);
+        super.onProxyResponseFailure(clientRequest, proxyResponse, serverResponse, failure);
+    }
+
+    private BackendEndpointPool.Endpoint acquireBackend(HttpServletRequest request, Configuration config) {
+        BackendEndpointPool backendEndpointPool = getBackendEndpointPool(request);
+        if (backendEndpointPool == null) {
+            return new BackendEndpointPool.Endpoint(config.getBeHost(), config.getBeHttpPort(), config.getBeSslPort(), 1);
+        }
+        BackendEndpointPool.Endpoint backend = backendEndpointPool.acquire();
+        request.setAttribute(BACKEND_ENDPOINT_ATTR, backend);
+        request.setAttribute(BACKEND_REQUEST_START_ATTR, System.currentTimeMillis());
+        return backend;
+    }
+
+    private void releaseBackend(HttpServletRequest request, boolean failed) {
+        BackendEndpointPool.Endpoint backend = (BackendEndpointPool.Endpoint) request.getAttribute(BACKEND_ENDPOINT_ATTR);
+        BackendEndpointPool backendEndpointPool = getBackendEndpointPool(request);
+        if (backend == null || backendEndpointPool == null) {
+            return;
+        }
+        request.removeAttribute(BACKEND_ENDPOINT_ATTR);
+        long responseTimeMs = System.currentTimeMillis() - (Long) request.getAttribute(BACKEND_REQUEST_START_ATTR);
+        backendEndpointPool.release(backend, failed, responseTimeMs);
+    }
+
+    private String getCacheKey(HttpServletRequest request, ResponseCache responseCache) {
+        String userId = request.getHeader(Constants.USER_ID_HEADER);
+        if (!HttpMethod.GET.is(request.getMethod()) || StringUtils.isEmpty(userId)) {
+            return null;
+        }
+        String requestKey = request.getRequestURI() + "?" + getQueryString(request);
+        if (request.getRequestURI().endsWith(HOME_REQUEST_IDENTIFIER)) {
+            return ResponseCache.userKey(userId, requestKey);
+        }
+        if (isCatalogRequest(request) && responseCache.isUserValidated(userId)) {
+            return ResponseCache.sharedKey(requestKey);
+        }
+        return null;
+    }
+
+    private boolean isCatalogRequest(HttpServletRequest request) {
+        return isMsRequest(request.getRequestURL().toString()) || request.getRequestURI().endsWith(CATALOG_REQUEST_IDENTIFIER);
+    }
+
+    /**
+     * Gets the response from the backend, the request was already logged when the cache was looked up.
+     */
+    @VisibleForTesting
+    CachedResponse fetchResponse(HttpServletRequest request, CachedResponse staleResponse) {
+        String target = getTarget(request);
+        if (StringUtils.isEmpty(target)) {
+            throw new IllegalStateException("Failed to rewrite the target of " + request.getRequestURI());
+        }
+        Request proxyRequest = getHttpClient().newRequest(target).method(HttpMethod.GET);
+        copyRequestHeaders(request, proxyRequest);
+        addProxyHeaders(request, proxyRequest);
+        // the cached body is compressed by the FE, and revalidated with the ETag of the cached response only
+        proxyRequest.getHeaders().remove(HttpHeader.ACCEPT_ENCODING);
+        proxyRequest.getHeaders().remove(HttpHeader.IF_NONE_MATCH);
+        if (staleResponse != null && staleResponse.getEtag() != null) {
+            proxyRequest.header(HttpHeader.IF_NONE_MATCH, staleResponse.getEtag());
+        }
+        boolean failed = true;
+        try {
+            FutureResponseListener listener = new FutureResponseListener(proxyRequest, MAX_CACHED_RESPONSE_SIZE);
+            proxyRequest.send(listener);
+            ContentResponse backendResponse = listener.get(getTimeout(), TimeUnit.MILLISECONDS);
+            failed = HttpStatus.isServerError(backendResponse.getStatus());
+            updateResponseCache(request, backendResponse.getStatus());
+            if (backendResponse.getStatus() == HttpStatus.NOT_MODIFIED_304 && staleResponse != null) {
+                return staleResponse;
+            }
+            return new CachedResponse(backendResponse.getStatus(), backendResponse.getHeaders().get(HttpHeader.CONTENT_TYPE),
+                backendResponse.getHeaders().get(HttpHeader.ETAG), backendResponse.getContent());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching " + target, e);
+        } catch (ExecutionException | TimeoutException e) {
+            proxyRequest.abort(e);
+            throw new IllegalStateException("Failed to fetch " + target, e);
+        } finally {
+            releaseBackend(request, failed);
+        }
+    }
+
+    private void writeCachedResponse(HttpServletRequest request, HttpServletResponse response, CachedResponse cachedResponse)
+        throws IOException {
+        try {
+            writeResponse(request, response, cachedResponse);
+        } finally {
+            logFeResponse(request, response.getStatus());
+        }
+    }
+
+    private void writeResponse(HttpServletRequest request, HttpServletResponse response, CachedResponse cachedResponse) throws IOException {
+        response.setStatus(cachedResponse.getStatus());
+        if (cachedResponse.getContentType() != null) {
+            response.setContentType(cachedResponse.getContentType());
+        }
+        if (cachedResponse.getEtag() != null) {
+            response.setHeader(HttpHeader.ETAG.asString(), cachedResponse.getEtag());
+            if (cachedResponse.getStatus() == HttpStatus.OK_200 && cachedResponse.getEtag()
+                .equals(request.getHeader(HttpHeader.IF_NONE_MATCH.asString()))) {
+                response.setStatus(HttpStatus.NOT_MODIFIED_304);
+                return;
+            }
+        }
+        byte[] body;
+        String acceptEncoding = request.getHeader(HttpHeader.ACCEPT_ENCODING.asString());
+        if (acceptEncoding != null && acceptEncoding.contains(GZIP_ENCODING)) {
+            response.setHeader(HttpHeader.CONTENT_ENCODING.asString(), GZIP_ENCODING);
+            body = cachedResponse.getGzippedBody();
+        } else {
+            body = cachedResponse.getBody();
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * A user the backend served may be served the shared cached responses, and a change made by a user drops the cached responses it may
+     * affect.
+     */
+    private void updateResponseCache(HttpServletRequest request, int status) {
+        ResponseCache responseCache = getResponseCache(request);
+        String userId = request.getHeader(Constants.USER_ID_HEADER);
+        if (responseCache == null || StringUtils.isEmpty(userId) || !HttpStatus.isSuccess(status)) {
+            return;
+        }
+        if (HttpMethod.GET.is(request.getMethod())) {
+            responseCache.validateUser(userId);
+        } else {
+            responseCache.invalidate(userId);
+        }
+    }
+
     @VisibleForTesting
     String redirectMsRequestToMservice(HttpServletRequest request, Configuration config) throws MalformedURLException {
         boolean isMsToggledOn = isMsToggleOn(config);
@@ -223,16 +422,16 @@ public class FeProxyServlet extends SSLProxyServlet {
             if (currentURI.endsWith(CATALOG_REQUEST_IDENTIFIER)) {
                 String facadeSuffix = String.format("%s%s", FACADE_PATH_IDENTIFIER, CATALOG_REQUEST_IDENTIFIER);
                 String nonFacadeUrl = currentURI.replace(facadeSuffix, "rest/v1/screen");
-                redirectValue = getModifiedUrl(config, getPluginConfiguration(request), nonFacadeUrl,
+                redirectValue = getModifiedUrl(request, config, getPluginConfiguration(request), nonFacadeUrl,
                     "excludeTypes=VFCMT&excludeTypes=Configuration");
             }
             // Home
             else if (currentURI.endsWith(HOME_REQUEST_IDENTIFIER)) {
-                redirectValue = getModifiedUrl(config, getPluginConfiguration(request), currentURI, getQueryString(request));
+                redirectValue = getModifiedUrl(request, config, getPluginConfiguration(request), currentURI, getQueryString(request));
             }
             // Archive
             else if (currentURI.endsWith(ARCHIVE_PATH_IDENTIFIER)) {
-                redirectValue = getModifiedUrl(config, getPluginConfiguration(request), currentURI, getQueryString(request));
+                redirectValue = getModifiedUrl(request, config, getPluginConfiguration(request), currentURI, getQueryString(request));
             } else {
                 String message = String.format("facade is toggled off, Could not rediret url %s", currentURI);
                 log.error(message);
@@ -242,13 +441,13 @@ public class FeProxyServlet extends SSLProxyServlet {
             // Left Pallet
             if (currentURI.contains("/latestversion/notabstract/metadata")) {
                 String nonFacadeUrl = currentURI.replace(FACADE_PATH_IDENTIFIER, "rest");
-                redirectValue = getModifiedUrl(config, getPluginConfiguration(request), nonFacadeUrl, getQueryString(request));
+                redirectValue = getModifiedUrl(request, config, getPluginConfiguration(request), nonFacadeUrl, getQueryString(request));
             }
             // Catalog with Query Params
             else if (currentURI.endsWith(CATALOG_REQUEST_IDENTIFIER)) {
                 String facadeSuffix = String.format("%s%s", FACADE_PATH_IDENTIFIER, CATALOG_REQUEST_IDENTIFIER);
                 String nonFacadeUrl = currentURI.replace(facadeSuffix, "rest/v1/screen");
-                redirectValue = getModifiedUrl(config, getPluginConfiguration(request), nonFacadeUrl,
+                redirectValue = getModifiedUrl(request, config, getPluginConfiguration(request), nonFacadeUrl,
                     "excludeTypes=VFCMT&excludeTypes=Configuration");
             } else {
                 String message = String
@@ -291,6 +490,14 @@ public class FeProxyServlet extends SSLProxyServlet {
         return currentUrl.contains(FACADE_PATH_IDENTIFIER) || currentUrl.endsWith(ARCHIVE_PATH_IDENTIFIER);
     }
 
+    private ResponseCache getResponseCache(HttpServletRequest request) {
+        return (ResponseCache) request.getSession().getServletContext().getAttribute(Constants.RESPONSE_CACHE_ATTR);
+    }
+
+    private BackendEndpointPool getBackendEndpointPool(HttpServletRequest request) {
+        return (BackendEndpointPool) request.getSession().getServletContext().getAttribute(Constants.BACKEND_ENDPOINT_POOL_ATTR);
+    }
+
     private Configuration getConfiguration(HttpServletRequest request) {
         return ((ConfigurationManager) request.getSession().getServletContext().getAttribute(Constants.CONFIGURATION_MANAGER_ATTR))
             .getConfiguration();
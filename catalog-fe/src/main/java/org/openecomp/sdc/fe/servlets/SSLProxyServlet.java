@@ -25,6 +25,7 @@ import org.eclipse.jetty.proxy.ProxyServlet;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
 import org.openecomp.sdc.common.api.Constants;
 import org.openecomp.sdc.fe.config.Configuration;
+import org.openecomp.sdc.fe.config.Configuration.BackendLoadBalancingConfig;
 import org.openecomp.sdc.fe.config.ConfigurationManager;
 import org.openecomp.sdc.fe.utils.BeProtocol;
 import org.slf4j.Logger;
@@ -45,9 +46,23 @@ public abstract class SSLProxyServlet extends ProxyServlet {
         setTimeout(TIMEOUT);
         client.setIdleTimeout(TIMEOUT);
         client.setStopTimeout(TIMEOUT);
+        setConnectionPoolLimits(client, config.getBeLoadBalancing());
         return client;
     }
 
+    private void setConnectionPoolLimits(HttpClient client, BackendLoadBalancingConfig loadBalancing) {
+        // a destination is a single backend host and port
+        if (loadBalancing == null) {
+            return;
+        }
+        if (loadBalancing.getMaxConnectionsPerBackend() != null) {
+            client.setMaxConnectionsPerDestination(loadBalancing.getMaxConnectionsPerBackend());
+        }
+        if (loadBalancing.getMaxRequestsQueuedPerBackend() != null) {
+            client.setMaxRequestsQueuedPerDestination(loadBalancing.getMaxRequestsQueuedPerBackend());
+        }
+    }
+
     private HttpClient getSecureHttpClient() throws ServletException {
         // Instantiate and configure the SslContextFactory
         SslContextFactory sslContextFactory = new SslContextFactory(true);
@@ -0,0 +1,123 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.fe.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+import org.openecomp.sdc.fe.config.Configuration.BackendLoadBalancingConfig;
+import org.openecomp.sdc.fe.impl.BackendEndpointPool.Endpoint;
+
+public class BackendEndpointPoolTest {
+
+    private final Endpoint backend1 = new Endpoint("be1", 8080, 8443, 1);
+    private final Endpoint backend2 = new Endpoint("be2", 8080, 8443, 1);
+    private final AtomicLong now = new AtomicLong(1000);
+
+    @Test
+    public void shouldSelectBackendWithLeastOutstandingRequests() {
+        BackendEndpointPool pool = createPool("LEAST_OUTSTANDING_REQUESTS", backend1, backend2);
+        Endpoint first = pool.acquire();
+        Endpoint second = pool.acquire();
+        assertNotEquals(first, second);
+
+        pool.release(first, false, 10);
+        assertEquals(first, pool.acquire());
+    }
+
+    @Test
+    public void shouldDistributeByWeightInRoundRobin() {
+        Endpoint heavyBackend = new Endpoint("be3", 8080, 8443, 3);
+        BackendEndpointPool pool = createPool("WEIGHTED_ROUND_ROBIN", backend1, heavyBackend);
+        int heavyBackendRequests = 0;
+        for (int i = 0; i < 8; i++) {
+            Endpoint selected = pool.acquire();
+            pool.release(selected, false, 10);
+            if (selected == heavyBackend) {
+                heavyBackendRequests++;
+            }
+        }
+        assertEquals(6, heavyBackendRequests);
+    }
+
+    @Test
+    public void shouldEjectBackendAfterConsecutiveFailuresUntilEjectionTimePassed() {
+        BackendEndpointPool pool = createPool("WEIGHTED_ROUND_ROBIN", backend1, backend2);
+        pool.release(backend1, true, 10);
+        pool.release(backend1, true, 10);
+        assertEquals(Set.of(backend2), acquireMany(pool, 4));
+
+        now.addAndGet(30_000);
+        assertEquals(Set.of(backend1, backend2), acquireMany(pool, 4));
+    }
+
+    @Test
+    public void shouldCountSlowResponsesAsFailures() {
+        BackendEndpointPool pool = createPool("WEIGHTED_ROUND_ROBIN", backend1, backend2);
+        pool.release(backend1, false, 5000);
+        pool.release(backend1, false, 5000);
+        assertEquals(Set.of(backend2), acquireMany(pool, 4));
+    }
+
+    @Test
+    public void shouldNotEjectBackendWhenFailuresAreNotConsecutive() {
+        BackendEndpointPool pool = createPool("WEIGHTED_ROUND_ROBIN", backend1, backend2);
+        pool.release(backend1, true, 10);
+        pool.release(backend1, false, 10);
+        pool.release(backend1, true, 10);
+        assertEquals(Set.of(backend1, backend2), acquireMany(pool, 4));
+    }
+
+    @Test
+    public void shouldSkipUnhealthyBackendAndUseAllWhenNoneIsHealthy() {
+        BackendEndpointPool pool = createPool("LEAST_OUTSTANDING_REQUESTS", backend1, backend2);
+        pool.setHealthy(backend2, false);
+        assertEquals(Set.of(backend1), acquireMany(pool, 4));
+
+        pool.setHealthy(backend1, false);
+        assertEquals(Set.of(backend1, backend2), acquireMany(pool, 4));
+    }
+
+    private Set<Endpoint> acquireMany(BackendEndpointPool pool, int requests) {
+        Set<Endpoint> selected = new HashSet<>();
+        for (int i = 0; i < requests; i++) {
+            Endpoint endpoint = pool.acquire();
+            selected.add(endpoint);
+            pool.release(endpoint, false, 10);
+        }
+        return selected;
+    }
+
+    private BackendEndpointPool createPool(String policy, Endpoint... endpoints) {
+        BackendLoadBalancingConfig loadBalancing = new BackendLoadBalancingConfig();
+        loadBalancing.setPolicy(policy);
+        loadBalancing.setMaxConsecutiveFailures(2);
+        loadBalancing.setSlowResponseThresholdInMs(1000);
+        loadBalancing.setEjectionTimeInSeconds(30);
+        List<Endpoint> endpointList = Arrays.asList(endpoints);
+        return new BackendEndpointPool(endpointList, loadBalancing, now::get);
+    }
+}
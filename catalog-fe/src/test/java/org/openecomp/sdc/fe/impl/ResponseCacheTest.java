@@ -0,0 +1,167 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.fe.impl;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+import org.openecomp.sdc.fe.config.Configuration.ResponseCacheConfig;
+import org.openecomp.sdc.fe.impl.ResponseCache.CachedResponse;
+
+public class ResponseCacheTest {
+
+    private static final String KEY = ResponseCache.sharedKey("/sdc1/feProxy/rest/v1/catalog?");
+    private static final byte[] BODY = "{\"resources\":[]}".getBytes(StandardCharsets.UTF_8);
+    private final AtomicLong now = new AtomicLong(1000);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final ResponseCache responseCache = new ResponseCache(new ResponseCacheConfig(), now::get);
+
+    @Test
+    public void shouldServeFreshResponseFromCache() {
+        CachedResponse first = responseCache.get(KEY, stale -> load(200, null));
+        CachedResponse second = responseCache.get(KEY, stale -> load(200, null));
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, responseCache.getHits());
+        assertEquals(1, responseCache.getMisses());
+        assertEquals(0.5, responseCache.getHitRatio(), 0);
+    }
+
+    @Test
+    public void shouldRevalidateExpiredResponse() {
+        CachedResponse first = responseCache.get(KEY, stale -> load(200, "\"v1\""));
+        now.addAndGet(5000);
+
+        CachedResponse revalidated = responseCache.get(KEY, stale -> {
+            assertSame(first, stale);
+            return stale;
+        });
+
+        assertSame(first, revalidated);
+        assertEquals(1, responseCache.getRevalidatedResponses());
+        assertSame(first, responseCache.get(KEY, stale -> load(200, null)));
+    }
+
+    @Test
+    public void shouldNotCacheErrorResponse() {
+        responseCache.get(KEY, stale -> load(500, null));
+        responseCache.get(KEY, stale -> load(500, null));
+
+        assertEquals(2, loads.get());
+        assertEquals(0, responseCache.getSize());
+    }
+
+    @Test
+    public void shouldCoalesceConcurrentLoadsOfTheSameResponse() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<CachedResponse> first = CompletableFuture.supplyAsync(() -> responseCache.get(KEY, stale -> {
+            loading.countDown();
+            await(release);
+            return load(200, null);
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        CompletableFuture<CachedResponse> second = CompletableFuture.supplyAsync(() -> responseCache.get(KEY, stale -> load(200, null)));
+        while (responseCache.getCoalescedRequests() == 0) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+
+        assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void shouldDropSharedAndUserResponsesOnInvalidate() {
+        String userKey = ResponseCache.userKey("cs0008", "/sdc1/feProxy/rest/v1/followed?");
+        String otherUserKey = ResponseCache.userKey("jh0003", "/sdc1/feProxy/rest/v1/followed?");
+        responseCache.get(KEY, stale -> load(200, null));
+        responseCache.get(userKey, stale -> load(200, null));
+        responseCache.get(otherUserKey, stale -> load(200, null));
+
+        responseCache.invalidate("cs0008");
+
+        assertEquals(1, responseCache.getSize());
+    }
+
+    @Test
+    public void shouldExpireUserValidation() {
+        assertFalse(responseCache.isUserValidated("cs0008"));
+        responseCache.validateUser("cs0008");
+        assertTrue(responseCache.isUserValidated("cs0008"));
+
+        now.addAndGet(300_000);
+        assertFalse(responseCache.isUserValidated("cs0008"));
+    }
+
+    @Test
+    public void shouldBoundAndDropExpiredUserValidations() {
+        ResponseCacheConfig config = new ResponseCacheConfig();
+        config.setMaxValidatedUsers(2);
+        ResponseCache boundedCache = new ResponseCache(config, now::get);
+        boundedCache.validateUser("cs0008");
+        boundedCache.validateUser("jh0003");
+        boundedCache.validateUser("cs0008");
+        boundedCache.validateUser("jm0007");
+
+        assertEquals(2, boundedCache.getValidatedUsersCount());
+        assertTrue(boundedCache.isUserValidated("cs0008"));
+        assertFalse(boundedCache.isUserValidated("jh0003"));
+
+        now.addAndGet(300_000);
+        boundedCache.validateUser("op0001");
+
+        assertEquals(2, boundedCache.getValidatedUsersCount());
+        assertFalse(boundedCache.isUserValidated("jm0007"));
+        assertEquals(1, boundedCache.getValidatedUsersCount());
+    }
+
+    @Test
+    public void shouldKeepBodyCompressed() {
+        CachedResponse cachedResponse = responseCache.get(KEY, stale -> load(200, null));
+
+        assertArrayEquals(BODY, cachedResponse.getBody());
+        assertEquals(0x1f, cachedResponse.getGzippedBody()[0] & 0xff);
+    }
+
+    private CachedResponse load(int status, String etag) {
+        loads.incrementAndGet();
+        return new CachedResponse(status, "application/json", etag, BODY);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -30,18 +30,33 @@ import org.openecomp.sdc.common.api.Constants;
 import org.openecomp.sdc.fe.config.Configuration;
 import org.openecomp.sdc.fe.config.ConfigurationManager;
 import org.openecomp.sdc.fe.config.PluginsConfiguration;
+import org.openecomp.sdc.fe.impl.BackendEndpointPool;
+import org.openecomp.sdc.fe.impl.ResponseCache;
+import org.openecomp.sdc.fe.impl.ResponseCache.CachedResponse;
 
 import javax.servlet.ServletContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.net.MalformedURLException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class FeProxyServletTest {
@@ -81,6 +96,7 @@ public class FeProxyServletTest {
 	final static String HEADER_2_VAL = "Header2_Val";
 	final static String HEADER_3_VAL = "Header3_Val";
 	final static String REQUEST_ID_VAL = "4867495a-5ed7-49e4-8be2-cc8d66fdd52b";
+	private final static byte[] CATALOG_BODY = "{\"resources\":[]}".getBytes(StandardCharsets.UTF_8);
 	private final static String msProtocol = "http";
 	private final static String msHealth = "/healthCheck";
 	private final static String msHost = "localhost";
@@ -149,6 +165,45 @@ public class FeProxyServletTest {
 		assertTrue(rewriteURI.equals(expectedChangedUrl));
 	}
 
+	@Test
+	public void testRewriteURI_APIRequestIsBalancedBetweenBackends() {
+		Configuration.BackendEndpointConfig backend1 = new Configuration.BackendEndpointConfig();
+		backend1.setHost("172.20.43.127");
+		Configuration.BackendEndpointConfig backend2 = new Configuration.BackendEndpointConfig();
+		backend2.setHost("172.20.43.128");
+		when(configuration.getBeEndpoints()).thenReturn(Arrays.asList(backend1, backend2));
+		BackendEndpointPool backendEndpointPool = new BackendEndpointPool(configuration);
+		when(servletContext.getAttribute(Constants.BACKEND_ENDPOINT_POOL_ATTR)).thenReturn(backendEndpointPool);
+		try {
+			when(servletRequest.getRequestURI()).thenReturn("/sdc1/feProxy/rest/dummyBeAPI");
+			when(servletRequest.getRequestURL()).thenReturn(new StringBuffer("http://localhost:8080/sdc1/feProxy/rest/dummyBeAPI"));
+
+			assertEquals(BE_PROTOCOL + "://172.20.43.127:" + BE_PORT + "/sdc2/rest/dummyBeAPI", feProxy.rewriteTarget(servletRequest));
+			assertEquals(BE_PROTOCOL + "://172.20.43.128:" + BE_PORT + "/sdc2/rest/dummyBeAPI", feProxy.rewriteTarget(servletRequest));
+		} finally {
+			when(configuration.getBeEndpoints()).thenReturn(null);
+			when(servletContext.getAttribute(Constants.BACKEND_ENDPOINT_POOL_ATTR)).thenReturn(null);
+		}
+	}
+
+	@Test
+	public void testRewriteURI_BackendIsReleasedWhenRewriteFails() {
+		Configuration poolConfiguration = Mockito.mock(Configuration.class);
+		when(poolConfiguration.getBeHost()).thenReturn(BE_HOST);
+		when(poolConfiguration.getBeHttpPort()).thenReturn(null);
+		BackendEndpointPool backendEndpointPool = new BackendEndpointPool(poolConfiguration);
+		HttpServletRequest request = mockRequestWithAttributes();
+		when(request.getRequestURI()).thenReturn("/sdc1/feProxy/rest/dummyBeAPI");
+		when(request.getRequestURL()).thenReturn(new StringBuffer("http://localhost:8080/sdc1/feProxy/rest/dummyBeAPI"));
+		when(servletContext.getAttribute(Constants.BACKEND_ENDPOINT_POOL_ATTR)).thenReturn(backendEndpointPool);
+		try {
+			assertEquals("", feProxy.rewriteTarget(request));
+			assertEquals(0, backendEndpointPool.getEndpoints().get(0).getOutstandingRequests());
+		} finally {
+			when(servletContext.getAttribute(Constants.BACKEND_ENDPOINT_POOL_ATTR)).thenReturn(null);
+		}
+	}
+
 	@Test
 	public void testRewriteURIWithOnboardingAPIRequest() {
 		when(servletRequest.getRequestURI()).thenReturn("/sdc1/feProxy/onboarding-api/gg%20g?subtype=VF");
@@ -258,6 +313,108 @@ public class FeProxyServletTest {
 		feProxy.redirectMsRequestToMservice(servletRequest, configuration);
 	}
 
+	@Test
+	public void testCatalogResponseIsFetchedOnMissAndServedFromCacheOnHit() throws Exception {
+		CachingFeProxyServletForTest cachingFeProxy = new CachingFeProxyServletForTest(200);
+		HttpServletRequest request = mockCatalogRequest("GET", "cs0008");
+		ResponseCache responseCache = mockResponseCache(request);
+		responseCache.validateUser("cs0008");
+
+		ByteArrayOutputStream missBody = new ByteArrayOutputStream();
+		cachingFeProxy.service(request, mockResponse(missBody));
+		ByteArrayOutputStream hitBody = new ByteArrayOutputStream();
+		HttpServletResponse hitResponse = mockResponse(hitBody);
+		cachingFeProxy.service(request, hitResponse);
+
+		assertEquals(1, cachingFeProxy.fetches.get());
+		assertEquals(0, cachingFeProxy.proxied.get());
+		assertArrayEquals(CATALOG_BODY, missBody.toByteArray());
+		assertArrayEquals(CATALOG_BODY, hitBody.toByteArray());
+		verify(hitResponse).setStatus(200);
+		assertEquals(1, responseCache.getHits());
+		assertEquals(1, responseCache.getMisses());
+	}
+
+	@Test
+	public void testUncacheableCatalogResponseIsFetchedEveryTime() throws Exception {
+		CachingFeProxyServletForTest cachingFeProxy = new CachingFeProxyServletForTest(500);
+		HttpServletRequest request = mockCatalogRequest("GET", "cs0008");
+		ResponseCache responseCache = mockResponseCache(request);
+		responseCache.validateUser("cs0008");
+
+		HttpServletResponse response = mockResponse(new ByteArrayOutputStream());
+		cachingFeProxy.service(request, response);
+		cachingFeProxy.service(request, mockResponse(new ByteArrayOutputStream()));
+
+		assertEquals(2, cachingFeProxy.fetches.get());
+		assertEquals(0, responseCache.getSize());
+		verify(response).setStatus(500);
+	}
+
+	@Test
+	public void testCatalogRequestOfUnvalidatedUserIsProxied() throws Exception {
+		CachingFeProxyServletForTest cachingFeProxy = new CachingFeProxyServletForTest(200);
+		HttpServletRequest request = mockCatalogRequest("GET", "cs0008");
+		mockResponseCache(request);
+
+		cachingFeProxy.service(request, mockResponse(new ByteArrayOutputStream()));
+
+		assertEquals(0, cachingFeProxy.fetches.get());
+		assertEquals(1, cachingFeProxy.proxied.get());
+	}
+
+	private HttpServletRequest mockCatalogRequest(String method, String userId) {
+		HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+		HttpSession session = Mockito.mock(HttpSession.class);
+		when(request.getSession()).thenReturn(session);
+		when(session.getServletContext()).thenReturn(Mockito.mock(ServletContext.class));
+		when(request.getMethod()).thenReturn(method);
+		when(request.getHeader(Constants.USER_ID_HEADER)).thenReturn(userId);
+		when(request.getRequestURI()).thenReturn("/sdc1/feProxy/rest/v1/catalog");
+		when(request.getRequestURL()).thenReturn(new StringBuffer("http://localhost:8080/sdc1/feProxy/rest/v1/catalog"));
+		return request;
+	}
+
+	private HttpServletRequest mockRequestWithAttributes() {
+		HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+		Map<String, Object> attributes = new HashMap<>();
+		when(request.getSession()).thenReturn(httpSession);
+		when(request.getHeaderNames()).thenReturn(Collections.emptyEnumeration());
+		when(request.getAttribute(Mockito.anyString())).thenAnswer(invocation -> attributes.get(invocation.<String>getArgument(0)));
+		Mockito.doAnswer(invocation -> attributes.put(invocation.getArgument(0), invocation.getArgument(1))).when(request)
+			.setAttribute(Mockito.anyString(), Mockito.any());
+		Mockito.doAnswer(invocation -> attributes.remove(invocation.<String>getArgument(0))).when(request).removeAttribute(Mockito.anyString());
+		return request;
+	}
+
+	private ResponseCache mockResponseCache(HttpServletRequest request) {
+		Configuration.ResponseCacheConfig config = new Configuration.ResponseCacheConfig();
+		config.setEnabled(true);
+		ResponseCache responseCache = new ResponseCache(config);
+		when(request.getSession().getServletContext().getAttribute(Constants.RESPONSE_CACHE_ATTR)).thenReturn(responseCache);
+		return responseCache;
+	}
+
+	private HttpServletResponse mockResponse(ByteArrayOutputStream body) throws IOException {
+		HttpServletResponse response = Mockito.mock(HttpServletResponse.class);
+		when(response.getOutputStream()).thenReturn(new ServletOutputStream() {
+			@Override
+			public boolean isReady() {
+				return true;
+			}
+
+			@Override
+			public void setWriteListener(WriteListener writeListener) {
+			}
+
+			@Override
+			public void write(int b) {
+				body.write(b);
+			}
+		});
+		return response;
+	}
+
 	private void setUpConfigMocks() {
 		when(catalogFacadeMsConfig.getPath()).thenReturn(msPath);
 		when(catalogFacadeMsConfig.getProtocol()).thenReturn(msProtocol);
@@ -266,6 +423,29 @@ public class FeProxyServletTest {
 		when(catalogFacadeMsConfig.getHealthCheckUri()).thenReturn(msHealth);
 	}
 	
+	/* class for testing the response cache, the backend calls are counted instead of being sent.*/
+	public static class CachingFeProxyServletForTest extends FeProxyServlet {
+		private static final long serialVersionUID = 1L;
+		private final int backendStatus;
+		private final AtomicInteger fetches = new AtomicInteger();
+		private final AtomicInteger proxied = new AtomicInteger();
+
+		CachingFeProxyServletForTest(int backendStatus) {
+			this.backendStatus = backendStatus;
+		}
+
+		@Override
+		CachedResponse fetchResponse(HttpServletRequest request, CachedResponse staleResponse) {
+			fetches.incrementAndGet();
+			return new CachedResponse(backendStatus, "application/json", "\"v1\"", CATALOG_BODY);
+		}
+
+		@Override
+		void proxy(HttpServletRequest request, HttpServletResponse response) {
+			proxied.incrementAndGet();
+		}
+	}
+
 	/* class for testing only exposes the protected method.*/
 	public static class FeProxyServletForTest extends FeProxyServlet{
 		private static final long serialVersionUID = 1L;
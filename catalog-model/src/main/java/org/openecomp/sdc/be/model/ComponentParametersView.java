@@ -20,6 +20,7 @@
 package org.openecomp.sdc.be.model;
 
 import java.util.List;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -30,6 +31,7 @@ import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
 @Getter
 @Setter
 @NoArgsConstructor
+@EqualsAndHashCode
 public class ComponentParametersView {
 
     private boolean ignoreUsers = false;
@@ -26,11 +26,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import lombok.AccessLevel;
@@ -53,29 +55,37 @@ import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+/**
+ * Cache of the data types by model.
+ * <p>
+ * The cached data types are an immutable snapshot, replaced as a whole on every refresh, so reads take no lock. A {@link DataTypeChange}
+ * received from the {@link DataTypeChangeTransport} reloads the changed model and the models deriving from it. The periodic polling of the
+ * data types remains as a safety net for the changes not carried by the transport.
+ */
 @Component("application-datatype-cache")
 public class ApplicationDataTypeCache implements ApplicationCache<DataTypeDefinition>, Runnable {
 
     private static final String APPLICATION_DATA_TYPES_CACHE = "ApplicationDataTypesCache";
     private static final Logger log = Logger.getLogger(ApplicationDataTypeCache.class);
 
-    private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
     private final PropertyOperation propertyOperation;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final DataTypeChangeTransport dataTypeChangeTransport;
     @Getter(AccessLevel.PACKAGE)
     private final ScheduledExecutorService scheduledPollingService;
     @Getter(AccessLevel.PACKAGE)
     private ScheduledFuture<?> scheduledFuture = null;
-    private Map<String, Map<String, DataTypeDefinition>> dataTypesByModelCacheMap = new HashMap<>();
+    private final AtomicReference<DataTypesSnapshot> dataTypesSnapshot = new AtomicReference<>(DataTypesSnapshot.EMPTY);
     private final DataTypeOperation dataTypeOperation;
     private int firstRunDelayInSec = 30;
     private int pollingIntervalInSec = 60;
 
     public ApplicationDataTypeCache(final PropertyOperation propertyOperation, final ApplicationEventPublisher applicationEventPublisher,
-                                    final DataTypeOperation dataTypeOperation) {
+                                    final DataTypeOperation dataTypeOperation, final DataTypeChangeTransport dataTypeChangeTransport) {
         this.propertyOperation = propertyOperation;
         this.applicationEventPublisher = applicationEventPublisher;
         this.dataTypeOperation = dataTypeOperation;
+        this.dataTypeChangeTransport = dataTypeChangeTransport;
         scheduledPollingService = Executors
             .newScheduledThreadPool(1, new BasicThreadFactory.Builder().namingPattern("ApplicationDataTypeCacheThread-%d").build());
     }
@@ -100,6 +110,7 @@ public class ApplicationDataTypeCache implements ApplicationCache<DataTypeDefini
             scheduledFuture = scheduledPollingService
                 .scheduleAtFixedRate(this, firstRunDelayInSec, pollingIntervalInSec, TimeUnit.SECONDS);
         }
+        dataTypeChangeTransport.subscribe(this::onDataTypeChange);
     }
 
     private void loadConfigurationValues(final ApplicationL1CacheInfo dataTypesCacheInfo) {
@@ -166,41 +177,50 @@ public class ApplicationDataTypeCache implements ApplicationCache<DataTypeDefini
     }
 
     public Either<Map<String, DataTypeDefinition>, JanusGraphOperationStatus> getAll(final String model) {
-        try {
-            readWriteLock.readLock().lock();
-            if (MapUtils.isEmpty(dataTypesByModelCacheMap) || !dataTypesByModelCacheMap.containsKey(model)) {
-                final var dataTypesFound = getAllDataTypesFromGraph();
-                if (dataTypesFound.isRight()) {
-                    return Either.right(dataTypesFound.right().value());
-                }
-                dataTypesByModelCacheMap = dataTypesFound.left().value();
+        final DataTypesSnapshot snapshot = dataTypesSnapshot.get();
+        if (MapUtils.isEmpty(snapshot.dataTypesByModel)) {
+            final long version = System.currentTimeMillis();
+            final var dataTypesFound = getAllDataTypesFromGraph();
+            if (dataTypesFound.isRight()) {
+                return Either.right(dataTypesFound.right().value());
             }
-            return Either.left(getDataTypeDefinitionMapByModel(model));
-        } finally {
-            readWriteLock.readLock().unlock();
+            return Either.left(getDataTypeDefinitionMapByModel(replaceAll(dataTypesFound.left().value(), version), model));
+        }
+        if (!snapshot.dataTypesByModel.containsKey(model)) {
+            final long version = System.currentTimeMillis();
+            final var dataTypesFound = propertyOperation.getAllDataTypesOfModel(model);
+            if (dataTypesFound.isRight()) {
+                return Either.right(dataTypesFound.right().value());
+            }
+            return Either.left(getDataTypeDefinitionMapByModel(replaceModel(model, dataTypesFound.left().value(), version), model));
         }
+        return Either.left(getDataTypeDefinitionMapByModel(snapshot, model));
     }
 
     @Override
     public Either<DataTypeDefinition, JanusGraphOperationStatus> get(final String model, final String uniqueId) {
-        try {
-            readWriteLock.readLock().lock();
-            if (MapUtils.isEmpty(dataTypesByModelCacheMap)) {
-                return propertyOperation.getDataTypeByUid(uniqueId);
-            }
-            final Optional<DataTypeDefinition> dataTypeDefinition = getDataTypeDefinitionMapByModel(model).values().stream()
-                .filter(p -> p.getUniqueId().equals(uniqueId)).findFirst();
-            if (dataTypeDefinition.isEmpty()) {
-                return propertyOperation.getDataTypeByUid(uniqueId);
-            }
-            return Either.left(new DataTypeDefinition(dataTypeDefinition.get()));
-        } finally {
-            readWriteLock.readLock().unlock();
+        final DataTypesSnapshot snapshot = dataTypesSnapshot.get();
+        if (MapUtils.isEmpty(snapshot.dataTypesByModel)) {
+            return propertyOperation.getDataTypeByUid(uniqueId);
+        }
+        final Optional<DataTypeDefinition> dataTypeDefinition = getDataTypeDefinitionMapByModel(snapshot, model).values().stream()
+            .filter(p -> p.getUniqueId().equals(uniqueId)).findFirst();
+        if (dataTypeDefinition.isEmpty()) {
+            return propertyOperation.getDataTypeByUid(uniqueId);
         }
+        return Either.left(new DataTypeDefinition(dataTypeDefinition.get()));
+    }
+
+    private Map<String, DataTypeDefinition> getDataTypeDefinitionMapByModel(final DataTypesSnapshot snapshot, final String model) {
+        return snapshot.dataTypesByModel.containsKey(model) ? snapshot.dataTypesByModel.get(model) : new HashMap<>();
+    }
+
+    private DataTypesSnapshot replaceAll(final Map<String, Map<String, DataTypeDefinition>> dataTypesByModel, final long version) {
+        return dataTypesSnapshot.updateAndGet(snapshot -> snapshot.withAll(dataTypesByModel, version));
     }
 
-    private Map<String, DataTypeDefinition> getDataTypeDefinitionMapByModel(final String model) {
-        return dataTypesByModelCacheMap.containsKey(model) ? dataTypesByModelCacheMap.get(model) : new HashMap<>();
+    private DataTypesSnapshot replaceModel(final String model, final Map<String, DataTypeDefinition> dataTypes, final long version) {
+        return dataTypesSnapshot.updateAndGet(snapshot -> snapshot.withModel(model, dataTypes, version));
     }
 
     @Override
@@ -227,6 +247,54 @@ public class ApplicationDataTypeCache implements ApplicationCache<DataTypeDefini
         }
     }
 
+    /**
+     * Reloads the models affected by the change on the polling thread, unless they were already reloaded after the change.
+     */
+    void onDataTypeChange(final DataTypeChange dataTypeChange) {
+        try {
+            scheduledPollingService.execute(() -> refreshModels(dataTypeChange));
+        } catch (final RejectedExecutionException e) {
+            log.debug("Ignoring {}, the data types cache is stopped", dataTypeChange);
+        }
+    }
+
+    private void refreshModels(final DataTypeChange dataTypeChange) {
+        try {
+            var changed = false;
+            final Set<String> models = dataTypeOperation.getModelsDerivedFrom(dataTypeChange.getModel());
+            for (final String model : models) {
+                if (dataTypesSnapshot.get().getVersion(model) > dataTypeChange.getVersion()) {
+                    log.trace("Data types of model {} already reloaded after {}", model, dataTypeChange);
+                    continue;
+                }
+                final long version = System.currentTimeMillis();
+                final var dataTypesFound = propertyOperation.getAllDataTypesOfModel(model);
+                if (dataTypesFound.isRight()) {
+                    log.debug("Failed to reload the data types of model {} on {}, left to the polling. Status is {}", model, dataTypeChange,
+                        dataTypesFound.right().value());
+                    continue;
+                }
+                replaceModel(model, dataTypesFound.left().value(), version);
+                changed = true;
+            }
+            if (changed) {
+                log.info("Reloaded the data types of models {} on {}", models, dataTypeChange);
+                onDataChangeEventEmit();
+            }
+        } catch (final Exception e) {
+            var errorMsg = "Failed to reload the data types cache on " + dataTypeChange;
+            log.error(EcompLoggerErrorCode.UNKNOWN_ERROR, ApplicationDataTypeCache.class.getName(), errorMsg, e);
+            BeEcompErrorManager.getInstance().logInternalUnexpectedError(APPLICATION_DATA_TYPES_CACHE, errorMsg, ErrorSeverity.INFO);
+        } finally {
+            try {
+                propertyOperation.getJanusGraphGenericDao().commit();
+            } catch (final Exception e) {
+                log.error(EcompLoggerErrorCode.UNKNOWN_ERROR, ApplicationDataTypeCache.class.getName(),
+                    "Failed to commit ApplicationDataTypeCache", e);
+            }
+        }
+    }
+
     private boolean hasDataTypesChanged() {
         final List<DataTypeData> dataTypeListFromDatabase = findAllDataTypesLazy();
         final int dataTypesCacheCopyMap = dataTypesCacheMapSize();
@@ -284,28 +352,19 @@ public class ApplicationDataTypeCache implements ApplicationCache<DataTypeDefini
     }
 
     private Map<String, Map<String, DataTypeDefinition>> copyDataTypeCache() {
-        try {
-            readWriteLock.readLock().lock();
-            return new HashMap<>(this.dataTypesByModelCacheMap);
-        } finally {
-            readWriteLock.readLock().unlock();
-        }
+        return new HashMap<>(dataTypesSnapshot.get().dataTypesByModel);
     }
 
     private void refreshDataTypesCache() {
+        final long version = System.currentTimeMillis();
         final Map<String, Map<String, DataTypeDefinition>> dataTypesDefinitionMap = findAllDataTypesEager();
         if (dataTypesDefinitionMap.isEmpty()) {
             return;
         }
-        try {
-            readWriteLock.writeLock().lock();
-            dataTypesByModelCacheMap = dataTypesDefinitionMap;
-            onDataChangeEventEmit();
-            BeEcompErrorManager.getInstance()
-                .logInternalFlowError("ReplaceDataTypesCache", "Succeed to replace the data types cache", ErrorSeverity.INFO);
-        } finally {
-            readWriteLock.writeLock().unlock();
-        }
+        replaceAll(dataTypesDefinitionMap, version);
+        onDataChangeEventEmit();
+        BeEcompErrorManager.getInstance()
+            .logInternalFlowError("ReplaceDataTypesCache", "Succeed to replace the data types cache", ErrorSeverity.INFO);
     }
 
     private Map<String, Map<String, DataTypeDefinition>> findAllDataTypesEager() {
@@ -336,6 +395,51 @@ public class ApplicationDataTypeCache implements ApplicationCache<DataTypeDefini
         applicationEventPublisher.publishEvent(new DataTypesCacheChangedEvent(this, copyDataTypeCache()));
     }
 
+    /**
+     * The cached data types by model, with the time each model was loaded at.
+     */
+    private static final class DataTypesSnapshot {
+
+        private static final DataTypesSnapshot EMPTY = new DataTypesSnapshot(Collections.emptyMap(), Collections.emptyMap());
+        private final Map<String, Map<String, DataTypeDefinition>> dataTypesByModel;
+        private final Map<String, Long> versionByModel;
+
+        private DataTypesSnapshot(final Map<String, Map<String, DataTypeDefinition>> dataTypesByModel, final Map<String, Long> versionByModel) {
+            this.dataTypesByModel = Collections.unmodifiableMap(dataTypesByModel);
+            this.versionByModel = Collections.unmodifiableMap(versionByModel);
+        }
+
+        private long getVersion(final String model) {
+            return versionByModel.getOrDefault(model, 0L);
+        }
+
+        private DataTypesSnapshot withAll(final Map<String, Map<String, DataTypeDefinition>> dataTypesByModel, final long version) {
+            final Map<String, Map<String, DataTypeDefinition>> newDataTypesByModel = new HashMap<>(dataTypesByModel);
+            final Map<String, Long> versions = new HashMap<>();
+            dataTypesByModel.keySet().forEach(model -> versions.put(model, version));
+            // keeps the models loaded after this load started
+            versionByModel.forEach((model, modelVersion) -> {
+                if (modelVersion > version && this.dataTypesByModel.containsKey(model)) {
+                    newDataTypesByModel.put(model, this.dataTypesByModel.get(model));
+                    versions.put(model, modelVersion);
+                }
+            });
+            return new DataTypesSnapshot(newDataTypesByModel, versions);
+        }
+
+        private DataTypesSnapshot withModel(final String model, final Map<String, DataTypeDefinition> dataTypes, final long version) {
+            if (getVersion(model) > version) {
+                // a concurrent load of the model started after this one
+                return this;
+            }
+            final Map<String, Map<String, DataTypeDefinition>> newDataTypesByModel = new HashMap<>(dataTypesByModel);
+            newDataTypesByModel.put(model, dataTypes);
+            final Map<String, Long> versions = new HashMap<>(versionByModel);
+            versions.put(model, version);
+            return new DataTypesSnapshot(newDataTypesByModel, versions);
+        }
+    }
+
     /**
      * Custom event to notify all interested in cached data changes
      */
@@ -0,0 +1,337 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.cache;
+
+import fj.data.Either;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import org.apache.commons.collections.CollectionUtils;
+import org.openecomp.sdc.be.config.Configuration.ApplicationL2CacheCatalogProjectionInfo;
+import org.openecomp.sdc.be.config.Configuration.ApplicationL2CacheConfig;
+import org.openecomp.sdc.be.config.ConfigurationManager;
+import org.openecomp.sdc.be.dao.janusgraph.HealingJanusGraphDao;
+import org.openecomp.sdc.be.datatypes.enums.ResourceTypeEnum;
+import org.openecomp.sdc.be.model.catalog.CatalogComponent;
+import org.openecomp.sdc.be.model.catalog.CatalogComponentsDelta;
+import org.openecomp.sdc.be.model.jsonjanusgraph.operations.TopologyTemplateOperation;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+
+/**
+ * In memory projection of the catalog and archive screens.
+ * <p>
+ * The projection is built from the graph on first use and is then kept up to date by re-reading only the components that
+ * {@link HealingJanusGraphDao} reports as changed by committed transactions. Every refresh that changes something bumps the version of the
+ * projection, which is used as ETag of the catalog screen and allows clients to ask for the components changed since the version they
+ * hold. A periodic full rebuild picks up the changes committed by other back end instances.
+ * <p>
+ * Version stamps have the form {@code <epoch>.<version>}, where the epoch identifies this projection instance, so stamps handed out by
+ * another instance or before a restart are never mistaken for local ones.
+ */
+@org.springframework.stereotype.Component("catalog-projection")
+public class CatalogProjection {
+
+    private static final Logger log = Logger.getLogger(CatalogProjection.class.getName());
+    private final HealingJanusGraphDao janusGraphDao;
+    private final TopologyTemplateOperation topologyTemplateOperation;
+    private final Set<String> changedComponents = ConcurrentHashMap.newKeySet();
+    private final String epoch = UUID.randomUUID().toString().substring(0, 8);
+    // all the fields below are guarded by this
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final LinkedHashMap<String, Long> removed = new LinkedHashMap<>();
+    private boolean enabled;
+    private long fullRefreshIntervalInMillis;
+    private int maxRemovedHistory;
+    private boolean built;
+    private long lastFullRefresh;
+    private long version;
+    private long oldestDeltaVersion;
+
+    public CatalogProjection(@Qualifier("janusgraph-dao") HealingJanusGraphDao janusGraphDao, TopologyTemplateOperation topologyTemplateOperation) {
+        this.janusGraphDao = janusGraphDao;
+        this.topologyTemplateOperation = topologyTemplateOperation;
+    }
+
+    @PostConstruct
+    public void init() {
+        ApplicationL2CacheCatalogProjectionInfo config = getCatalogProjectionConfig();
+        if (config == null || !config.isEnabled()) {
+            log.info("Catalog projection is disabled");
+            return;
+        }
+        init(config.getFullRefreshIntervalInMinutes(), config.getMaxRemovedHistory());
+    }
+
+    void init(int fullRefreshIntervalInMinutes, int maxRemovedHistory) {
+        this.fullRefreshIntervalInMillis = TimeUnit.MINUTES.toMillis(fullRefreshIntervalInMinutes);
+        this.maxRemovedHistory = maxRemovedHistory;
+        janusGraphDao.addComponentChangeListener(changedComponents::addAll);
+        enabled = true;
+        log.info("Catalog projection is enabled with a full refresh every {} minutes", fullRefreshIntervalInMinutes);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the version stamp of the up to date projection
+     */
+    public synchronized Either<String, StorageOperationStatus> getVersion() {
+        StorageOperationStatus status = refresh();
+        if (status != StorageOperationStatus.OK) {
+            return Either.right(status);
+        }
+        return Either.left(getVersionStamp());
+    }
+
+    /**
+     * @return the components of the catalog or archive, without the excluded resource types
+     */
+    public synchronized Either<List<CatalogComponent>, StorageOperationStatus> getComponents(boolean isCatalog,
+                                                                                             List<ResourceTypeEnum> excludeTypes) {
+        StorageOperationStatus status = refresh();
+        if (status != StorageOperationStatus.OK) {
+            return Either.right(status);
+        }
+        List<CatalogComponent> components = new ArrayList<>();
+        for (Entry entry : entries.values()) {
+            if (entry.isIn(isCatalog, excludeTypes)) {
+                components.add(entry.component);
+            }
+        }
+        return Either.left(components);
+    }
+
+    /**
+     * @param sinceVersion version stamp the client holds, {@code null} for the whole catalog
+     * @return the components of the catalog or archive changed since the given version together with the ones that left it, or all of them
+     * when the given version is unknown to this projection
+     */
+    public synchronized Either<CatalogComponentsDelta, StorageOperationStatus> getChanges(boolean isCatalog, List<ResourceTypeEnum> excludeTypes,
+                                                                                         String sinceVersion) {
+        StorageOperationStatus status = refresh();
+        if (status != StorageOperationStatus.OK) {
+            return Either.right(status);
+        }
+        long since = parseVersion(sinceVersion);
+        boolean full = since < oldestDeltaVersion || since > version;
+        List<CatalogComponent> changed = new ArrayList<>();
+        List<String> left = new ArrayList<>();
+        for (Map.Entry<String, Entry> mapEntry : entries.entrySet()) {
+            Entry entry = mapEntry.getValue();
+            if (full || entry.version > since) {
+                if (entry.isIn(isCatalog, excludeTypes)) {
+                    changed.add(entry.component);
+                } else if (!full) {
+                    left.add(mapEntry.getKey());
+                }
+            }
+        }
+        if (!full) {
+            removed.forEach((componentId, removedVersion) -> {
+                if (removedVersion > since) {
+                    left.add(componentId);
+                }
+            });
+        }
+        return Either.left(new CatalogComponentsDelta(getVersionStamp(), full, changed, left));
+    }
+
+    private StorageOperationStatus refresh() {
+        long now = System.currentTimeMillis();
+        if (!built || now - lastFullRefresh >= fullRefreshIntervalInMillis) {
+            changedComponents.clear();
+            StorageOperationStatus status = rebuild();
+            if (status == StorageOperationStatus.OK) {
+                built = true;
+                lastFullRefresh = now;
+            }
+            return status;
+        }
+        if (changedComponents.isEmpty()) {
+            return StorageOperationStatus.OK;
+        }
+        Set<String> componentIds = new HashSet<>(changedComponents);
+        changedComponents.removeAll(componentIds);
+        StorageOperationStatus status = refresh(componentIds);
+        if (status != StorageOperationStatus.OK) {
+            // retried on the next call
+            changedComponents.addAll(componentIds);
+        }
+        return status;
+    }
+
+    private StorageOperationStatus rebuild() {
+        Either<List<CatalogComponent>, StorageOperationStatus> catalog = topologyTemplateOperation
+            .getElementCatalogData(true, Collections.emptyList());
+        if (catalog.isRight()) {
+            return catalog.right().value();
+        }
+        Either<List<CatalogComponent>, StorageOperationStatus> archive = topologyTemplateOperation
+            .getElementCatalogData(false, Collections.emptyList());
+        if (archive.isRight()) {
+            return archive.right().value();
+        }
+        Map<String, Entry> current = new HashMap<>();
+        archive.left().value().forEach(component -> current.put(component.getUniqueId(), new Entry(component, true)));
+        catalog.left().value().forEach(component -> current.put(component.getUniqueId(), new Entry(component, false)));
+        if (!built) {
+            // stamps handed out before the first build can not be answered with a delta
+            version = 1;
+            oldestDeltaVersion = 1;
+        }
+        long nextVersion = version + 1;
+        boolean changed = false;
+        for (String componentId : new ArrayList<>(entries.keySet())) {
+            if (!current.containsKey(componentId)) {
+                changed |= apply(componentId, null, nextVersion);
+            }
+        }
+        for (Map.Entry<String, Entry> entry : current.entrySet()) {
+            changed |= apply(entry.getKey(), entry.getValue(), nextVersion);
+        }
+        if (changed) {
+            version = nextVersion;
+        }
+        log.debug("Catalog projection was rebuilt with {} components, version {}", entries.size(), version);
+        return StorageOperationStatus.OK;
+    }
+
+    private StorageOperationStatus refresh(Collection<String> componentIds) {
+        Either<Map<String, CatalogComponent>, StorageOperationStatus> catalog = topologyTemplateOperation
+            .getElementCatalogDataByIds(true, componentIds);
+        if (catalog.isRight()) {
+            return catalog.right().value();
+        }
+        Either<Map<String, CatalogComponent>, StorageOperationStatus> archive = topologyTemplateOperation
+            .getElementCatalogDataByIds(false, componentIds);
+        if (archive.isRight()) {
+            return archive.right().value();
+        }
+        long nextVersion = version + 1;
+        boolean changed = false;
+        for (String componentId : componentIds) {
+            CatalogComponent component = catalog.left().value().get(componentId);
+            if (component != null) {
+                changed |= apply(componentId, new Entry(component, false), nextVersion);
+            } else {
+                component = archive.left().value().get(componentId);
+                changed |= apply(componentId, component == null ? null : new Entry(component, true), nextVersion);
+            }
+        }
+        if (changed) {
+            version = nextVersion;
+        }
+        log.debug("Catalog projection refreshed {} changed components, version {}", componentIds.size(), version);
+        return StorageOperationStatus.OK;
+    }
+
+    /**
+     * @param entry the current state of the component, {@code null} if it is no longer part of the catalog or archive
+     * @return whether the projection changed
+     */
+    private boolean apply(String componentId, Entry entry, long nextVersion) {
+        Entry previous = entries.get(componentId);
+        if (entry == null) {
+            if (previous == null) {
+                return false;
+            }
+            entries.remove(componentId);
+            removed.remove(componentId);
+            removed.put(componentId, nextVersion);
+            pruneRemoved();
+            return true;
+        }
+        if (previous != null && previous.archived == entry.archived && previous.component.equals(entry.component)) {
+            return false;
+        }
+        entry.version = nextVersion;
+        entries.put(componentId, entry);
+        removed.remove(componentId);
+        return true;
+    }
+
+    private void pruneRemoved() {
+        Iterator<Map.Entry<String, Long>> iterator = removed.entrySet().iterator();
+        while (removed.size() > maxRemovedHistory && iterator.hasNext()) {
+            oldestDeltaVersion = Math.max(oldestDeltaVersion, iterator.next().getValue());
+            iterator.remove();
+        }
+    }
+
+    private String getVersionStamp() {
+        return epoch + "." + version;
+    }
+
+    private long parseVersion(String versionStamp) {
+        String prefix = epoch + ".";
+        if (versionStamp == null || !versionStamp.startsWith(prefix)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(versionStamp.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static ApplicationL2CacheCatalogProjectionInfo getCatalogProjectionConfig() {
+        ConfigurationManager configurationManager = ConfigurationManager.getConfigurationManager();
+        if (configurationManager == null || configurationManager.getConfiguration() == null) {
+            return null;
+        }
+        ApplicationL2CacheConfig l2CacheConfig = configurationManager.getConfiguration().getApplicationL2Cache();
+        return l2CacheConfig == null || !l2CacheConfig.isEnabled() ? null : l2CacheConfig.getCatalogProjection();
+    }
+
+    private static final class Entry {
+
+        private final CatalogComponent component;
+        private final boolean archived;
+        private long version;
+
+        private Entry(CatalogComponent component, boolean archived) {
+            this.component = component;
+            this.archived = archived;
+        }
+
+        private boolean isIn(boolean isCatalog, List<ResourceTypeEnum> excludeTypes) {
+            if (archived == isCatalog) {
+                return false;
+            }
+            if (CollectionUtils.isEmpty(excludeTypes) || component.getResourceType() == null) {
+                return true;
+            }
+            return !excludeTypes.contains(ResourceTypeEnum.getType(component.getResourceType()));
+        }
+    }
+}
@@ -0,0 +1,338 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.openecomp.sdc.be.config.Configuration.ApplicationL2CacheComponentInfo;
+import org.openecomp.sdc.be.config.Configuration.ApplicationL2CacheConfig;
+import org.openecomp.sdc.be.config.ConfigurationManager;
+import org.openecomp.sdc.be.dao.janusgraph.HealingJanusGraphDao;
+import org.openecomp.sdc.be.dao.jsongraph.GraphVertex;
+import org.openecomp.sdc.be.datatypes.enums.GraphPropertyEnum;
+import org.openecomp.sdc.be.model.Component;
+import org.openecomp.sdc.be.model.ComponentParametersView;
+import org.openecomp.sdc.be.model.LifecycleStateEnum;
+import org.openecomp.sdc.be.model.utils.DeepCopyUtils;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+
+/**
+ * Size and weight bounded cache of the fully assembled certified and archived components, keyed by the component unique id and the
+ * {@link ComponentParametersView} they were loaded with.
+ * <p>
+ * An entry is only served while the metadata of the component vertex, which the caller reads anyway, is still the one the entry was
+ * loaded with, so lifecycle transitions, archiving and the highest version flag are caught without explicit invalidation. Changes of the
+ * data vertices of a cached component invalidate it once their transaction is committed, as reported by {@link HealingJanusGraphDao}. A
+ * component loaded before such a commit is not cached after it, see {@link #getLoadStamp()}. Those changes are only reported on the node
+ * committing them, so every view expires a fixed time after it was loaded, which bounds how long other nodes serve a changed component.
+ * Components are copied on the way in and on the way out, callers are free to modify what they get.
+ */
+@org.springframework.stereotype.Component("certified-component-cache")
+public class CertifiedComponentCache implements CertifiedComponentCacheMBean {
+
+    private static final Logger log = Logger.getLogger(CertifiedComponentCache.class.getName());
+    private static final String MBEAN_NAME = "org.openecomp.sdc.be.model.cache:type=CertifiedComponentCache";
+    private static final int INVALIDATION_HISTORY_IN_MINUTES = 10;
+    private final HealingJanusGraphDao janusGraphDao;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong stale = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong loadStamps = new AtomicLong();
+    // all the cached views of a component are kept in a single entry, so that a component is invalidated without scanning the cache
+    private Cache<String, ComponentEntry> cache;
+    private Cache<String, Long> invalidatedAt;
+    private long expireAfterWriteInNanos;
+
+    public CertifiedComponentCache(@Qualifier("janusgraph-dao") HealingJanusGraphDao janusGraphDao) {
+        this.janusGraphDao = janusGraphDao;
+    }
+
+    @PostConstruct
+    public void init() {
+        ApplicationL2CacheComponentInfo config = getComponentCacheConfig();
+        if (config == null || !config.isEnabled()) {
+            log.info("Certified component cache is disabled");
+            return;
+        }
+        init(config.getMaxWeight(), config.getExpireAfterWriteInMinutes());
+        registerMBean();
+    }
+
+    void init(long maxWeight, int expireAfterWriteInMinutes) {
+        expireAfterWriteInNanos = TimeUnit.MINUTES.toNanos(expireAfterWriteInMinutes);
+        cache = CacheBuilder.newBuilder().maximumWeight(maxWeight).weigher((String componentId, ComponentEntry entry) -> entry.weight)
+            .expireAfterWrite(expireAfterWriteInMinutes, TimeUnit.MINUTES).recordStats().build();
+        invalidatedAt = CacheBuilder.newBuilder().expireAfterWrite(INVALIDATION_HISTORY_IN_MINUTES, TimeUnit.MINUTES).build();
+        janusGraphDao.addComponentChangeListener(this::invalidate);
+        log.info("Certified component cache is enabled with max weight {} and expiry after write of {} minutes", maxWeight,
+            expireAfterWriteInMinutes);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        unregisterMBean();
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * @return whether the component of the given vertex can be cached, i.e. the cache is enabled and it is certified or archived
+     */
+    public boolean isCacheable(GraphVertex componentV) {
+        return isEnabled() && (LifecycleStateEnum.CERTIFIED.name().equals(componentV.getMetadataProperty(GraphPropertyEnum.STATE))
+            || Boolean.TRUE.equals(componentV.getMetadataProperty(GraphPropertyEnum.IS_ARCHIVED)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends Component> Optional<T> get(GraphVertex componentV, ComponentParametersView filters) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        ComponentEntry componentEntry = cache.getIfPresent(componentV.getUniqueId());
+        CacheEntry entry = componentEntry == null ? null : componentEntry.views.get(filters);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        // adding a view rewrites the entry of the component, so the expiry of the cache alone does not bound the age of its other views
+        if (entry.isOlderThan(expireAfterWriteInNanos) || !entry.isLoadedFrom(componentV)) {
+            log.debug("Component {} changed or expired since it was cached", componentV.getUniqueId());
+            cache.asMap().computeIfPresent(componentV.getUniqueId(), (componentId, current) -> current.without(filters, entry));
+            stale.incrementAndGet();
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        hits.incrementAndGet();
+        return Optional.of((T) DeepCopyUtils.deepCopy(entry.component));
+    }
+
+    /**
+     * To be taken before the component is loaded from the graph and passed to {@link #put}, which then ignores the component if it was
+     * invalidated in the meantime.
+     */
+    public long getLoadStamp() {
+        return loadStamps.get();
+    }
+
+    public void put(GraphVertex componentV, ComponentParametersView filters, Component component, long loadStamp) {
+        if (!isEnabled()) {
+            return;
+        }
+        CacheEntry entry = new CacheEntry(componentV, DeepCopyUtils.deepCopy(component));
+        ComponentParametersView view = DeepCopyUtils.deepCopy(filters);
+        cache.asMap().compute(componentV.getUniqueId(), (componentId, current) -> {
+            Long invalidation = invalidatedAt.getIfPresent(componentId);
+            if (invalidation != null && invalidation > loadStamp) {
+                log.debug("Component {} was changed while it was loaded, it is not cached", componentId);
+                return current;
+            }
+            return current == null ? new ComponentEntry(view, entry) : current.with(view, entry);
+        });
+    }
+
+    /**
+     * Drops all the cached views of a component, to be called whenever the data of the component changes.
+     */
+    public void invalidate(String componentId) {
+        if (!isEnabled() || componentId == null) {
+            return;
+        }
+        invalidatedAt.put(componentId, loadStamps.incrementAndGet());
+        if (cache.asMap().remove(componentId) != null) {
+            invalidations.incrementAndGet();
+            log.debug("Component {} was removed from the certified component cache", componentId);
+        }
+    }
+
+    private void invalidate(Set<String> componentIds) {
+        componentIds.forEach(this::invalidate);
+    }
+
+    @Override
+    public void invalidateAll() {
+        if (isEnabled()) {
+            cache.invalidateAll();
+        }
+    }
+
+    @Override
+    public long getSize() {
+        return isEnabled() ? cache.asMap().values().stream().mapToLong(entry -> entry.views.size()).sum() : 0;
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    @Override
+    public long getStaleCount() {
+        return stale.get();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return isEnabled() ? cache.stats().evictionCount() : 0;
+    }
+
+    @Override
+    public long getInvalidationCount() {
+        return invalidations.get();
+    }
+
+    private static ApplicationL2CacheComponentInfo getComponentCacheConfig() {
+        ConfigurationManager configurationManager = ConfigurationManager.getConfigurationManager();
+        if (configurationManager == null || configurationManager.getConfiguration() == null) {
+            return null;
+        }
+        ApplicationL2CacheConfig l2CacheConfig = configurationManager.getConfiguration().getApplicationL2Cache();
+        return l2CacheConfig == null || !l2CacheConfig.isEnabled() ? null : l2CacheConfig.getComponentCache();
+    }
+
+    private void registerMBean() {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(MBEAN_NAME);
+            if (!mBeanServer.isRegistered(objectName)) {
+                mBeanServer.registerMBean(this, objectName);
+            }
+        } catch (Exception e) {
+            log.debug("Failed to register the certified component cache MBean", e);
+        }
+    }
+
+    private void unregisterMBean() {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(MBEAN_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+        } catch (Exception e) {
+            log.debug("Failed to unregister the certified component cache MBean", e);
+        }
+    }
+
+    private static final class ComponentEntry {
+
+        private final Map<ComponentParametersView, CacheEntry> views;
+        private final int weight;
+
+        private ComponentEntry(ComponentParametersView filters, CacheEntry entry) {
+            this(Map.of(filters, entry));
+        }
+
+        private ComponentEntry(Map<ComponentParametersView, CacheEntry> views) {
+            this.views = views;
+            this.weight = (int) Math.min(views.values().stream().mapToLong(entry -> entry.weight).sum(), Integer.MAX_VALUE);
+        }
+
+        private ComponentEntry with(ComponentParametersView filters, CacheEntry entry) {
+            Map<ComponentParametersView, CacheEntry> newViews = new HashMap<>(views);
+            newViews.put(filters, entry);
+            return new ComponentEntry(newViews);
+        }
+
+        /**
+         * @return null when no view is left
+         */
+        private ComponentEntry without(ComponentParametersView filters, CacheEntry entry) {
+            if (views.get(filters) != entry) {
+                return this;
+            }
+            Map<ComponentParametersView, CacheEntry> newViews = new HashMap<>(views);
+            newViews.remove(filters);
+            return newViews.isEmpty() ? null : new ComponentEntry(newViews);
+        }
+    }
+
+    private static final class CacheEntry {
+
+        private final Map<GraphPropertyEnum, Object> metadataProperties;
+        private final Map<String, Object> metadataJson;
+        private final Component component;
+        private final int weight;
+        private final long loadedAt = System.nanoTime();
+
+        private CacheEntry(GraphVertex componentV, Component component) {
+            this.metadataProperties = copyOf(componentV.getMetadataProperties());
+            this.metadataJson = copyOf(componentV.getMetadataJson());
+            this.component = component;
+            this.weight = weigh(component);
+        }
+
+        private boolean isLoadedFrom(GraphVertex componentV) {
+            return Objects.equals(metadataProperties, componentV.getMetadataProperties()) && Objects
+                .equals(metadataJson, componentV.getMetadataJson());
+        }
+
+        private boolean isOlderThan(long nanos) {
+            return System.nanoTime() - loadedAt >= nanos;
+        }
+
+        private static <K> Map<K, Object> copyOf(Map<K, Object> map) {
+            return map == null ? null : new HashMap<>(map);
+        }
+
+        private static int weigh(Component component) {
+            long weight = 1L + size(component.getComponentInstances()) + size(component.getComponentInstancesRelations()) + size(
+                component.getProperties()) + size(component.getAttributes()) + size(component.getInputs()) + size(component.getOutputs()) + size(
+                component.getGroups()) + size(component.getArtifacts()) + size(component.getDeploymentArtifacts()) + size(
+                component.getToscaArtifacts()) + size(component.getPolicies()) + size(component.getInterfaces()) + sizeOfValues(
+                component.getComponentInstancesProperties()) + sizeOfValues(component.getComponentInstancesInputs()) + sizeOfValues(
+                component.getComponentInstancesAttributes()) + sizeOfValues(component.getComponentInstancesInterfaces()) + sizeOfValues(
+                component.getCapabilities()) + sizeOfValues(component.getRequirements());
+            return (int) Math.min(weight, Integer.MAX_VALUE);
+        }
+
+        private static int size(Collection<?> collection) {
+            return collection == null ? 0 : collection.size();
+        }
+
+        private static int size(Map<?, ?> map) {
+            return map == null ? 0 : map.size();
+        }
+
+        private static long sizeOfValues(Map<String, ? extends List<?>> map) {
+            return map == null ? 0 : map.values().stream().mapToLong(CacheEntry::size).sum();
+        }
+    }
+}
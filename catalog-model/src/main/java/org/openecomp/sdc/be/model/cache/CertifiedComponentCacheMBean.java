@@ -0,0 +1,38 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.cache;
+
+/**
+ * JMX view of the {@link CertifiedComponentCache} metrics.
+ */
+public interface CertifiedComponentCacheMBean {
+
+    long getSize();
+
+    long getHitCount();
+
+    long getMissCount();
+
+    long getStaleCount();
+
+    long getEvictionCount();
+
+    long getInvalidationCount();
+
+    void invalidateAll();
+}
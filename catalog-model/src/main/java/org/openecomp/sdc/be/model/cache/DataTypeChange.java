@@ -0,0 +1,50 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.cache;
+
+import java.io.Serializable;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Notification that the data types of a model were imported or updated. The version is the time the change was committed at, so that a
+ * receiver which already reloaded the model after that time can skip it.
+ */
+@Getter
+@ToString
+public class DataTypeChange implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    /**
+     * the model whose data types changed, null for the data types not connected to any model
+     */
+    private final String model;
+    private final long version;
+
+    public DataTypeChange(final String model, final long version) {
+        this.model = model;
+        this.version = version;
+    }
+
+    /**
+     * @return a change of the data types of the model, versioned with the current time
+     */
+    public static DataTypeChange of(final String model) {
+        return new DataTypeChange(model, System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,41 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries the {@link DataTypeChange} published by the data type import to the {@link ApplicationDataTypeCache} of the back end instances.
+ * <p>
+ * {@link InJvmDataTypeChangeTransport} only reaches the instance the change was made on, the other instances pick it up with their next
+ * polling of the data types. A deployment with several back end instances can relay the changes between them, e.g. over a message bus, by
+ * declaring its own implementation as the primary bean.
+ */
+public interface DataTypeChangeTransport {
+
+    /**
+     * Called once the change has been committed.
+     */
+    void publish(DataTypeChange dataTypeChange);
+
+    /**
+     * Registers a listener for the changes published on any instance, including this one. Listeners may be called on the publishing thread
+     * and should return quickly.
+     */
+    void subscribe(Consumer<DataTypeChange> listener);
+}
@@ -0,0 +1,51 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.stereotype.Component;
+
+/**
+ * Delivers the data type changes to the listeners of this instance only, on the publishing thread.
+ */
+@Component("in-jvm-data-type-change-transport")
+public class InJvmDataTypeChangeTransport implements DataTypeChangeTransport {
+
+    private static final Logger log = Logger.getLogger(InJvmDataTypeChangeTransport.class.getName());
+    private final List<Consumer<DataTypeChange>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(final DataTypeChange dataTypeChange) {
+        log.debug("Publishing {}", dataTypeChange);
+        for (final Consumer<DataTypeChange> listener : listeners) {
+            try {
+                listener.accept(dataTypeChange);
+            } catch (final RuntimeException e) {
+                log.warn("Data type change listener failed on {}", dataTypeChange, e);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(final Consumer<DataTypeChange> listener) {
+        listeners.add(listener);
+    }
+}
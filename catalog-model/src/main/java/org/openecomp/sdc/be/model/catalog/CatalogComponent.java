@@ -25,6 +25,7 @@ import com.google.common.collect.ImmutableList;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
@@ -32,6 +33,7 @@ import org.openecomp.sdc.be.model.category.CategoryDefinition;
 
 @Getter
 @Setter
+@EqualsAndHashCode
 public class CatalogComponent {
 
     private String version;
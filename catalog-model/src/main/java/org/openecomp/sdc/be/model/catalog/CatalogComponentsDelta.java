@@ -0,0 +1,41 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.catalog;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The catalog (or archive) components changed since a given version of the catalog projection.
+ */
+@Getter
+@AllArgsConstructor
+public class CatalogComponentsDelta {
+
+    /**
+     * Version stamp of the projection the delta was taken from, to be passed back when asking for the next delta.
+     */
+    private final String version;
+    /**
+     * Whether {@link #changed} holds the whole catalog, which is the case when the requested version is unknown or too old.
+     */
+    private final boolean full;
+    private final List<CatalogComponent> changed;
+    private final List<String> removed;
+}
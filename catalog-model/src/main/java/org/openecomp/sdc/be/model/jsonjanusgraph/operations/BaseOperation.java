@@ -58,6 +58,7 @@ import org.openecomp.sdc.be.datatypes.enums.GraphPropertyEnum;
 import org.openecomp.sdc.be.datatypes.enums.JsonPresentationFields;
 import org.openecomp.sdc.be.datatypes.tosca.ToscaDataDefinition;
 import org.openecomp.sdc.be.model.User;
+import org.openecomp.sdc.be.model.cache.CertifiedComponentCache;
 import org.openecomp.sdc.be.model.jsonjanusgraph.datamodel.ToscaElementTypeEnum;
 import org.openecomp.sdc.be.model.operations.StorageException;
 import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
@@ -87,6 +88,8 @@ public abstract class BaseOperation {
     protected TopologyTemplateOperation topologyTemplateOperation;
     //    @Autowired
     protected HealingPipelineDao healingPipelineDao;
+    @Autowired
+    protected CertifiedComponentCache certifiedComponentCache;
 
     public void setJanusGraphDao(JanusGraphDao janusGraphDao) {
         this.janusGraphDao = janusGraphDao;
@@ -213,7 +216,10 @@ public abstract class BaseOperation {
 
     protected <T extends ToscaDataDefinition> Either<GraphVertex, JanusGraphOperationStatus> getDataVertex(GraphVertex componentV,
                                                                                                            EdgeLabelEnum edgelabel) {
-        Either<GraphVertex, JanusGraphOperationStatus> childVertex = janusGraphDao.getChildVertex(componentV, edgelabel, JsonParseFlagEnum.ParseJson);
+        Either<GraphVertex, JanusGraphOperationStatus> childVertex = ToscaElementDataLoader.take(componentV, edgelabel);
+        if (childVertex == null) {
+            childVertex = janusGraphDao.getChildVertex(componentV, edgelabel, JsonParseFlagEnum.ParseJson);
+        }
         if (childVertex.isRight()) {
             if (childVertex.right().value() != JanusGraphOperationStatus.NOT_FOUND) {
                 log.debug("failed to fetch {} for tosca element with id {}, error {}", edgelabel, componentV.getUniqueId(),
@@ -291,6 +297,7 @@ public abstract class BaseOperation {
 
     protected Either<GraphVertex, JanusGraphOperationStatus> updateOrCopyOnUpdate(GraphVertex dataVertex, GraphVertex toscaElementVertex,
                                                                                   EdgeLabelEnum label) {
+        invalidateCachedComponent(toscaElementVertex.getUniqueId());
         Iterator<Edge> edges = dataVertex.getVertex().edges(Direction.IN, label.name());
         int edgeCount = 0;
         Edge edgeToRemove = null;
@@ -329,7 +336,7 @@ public abstract class BaseOperation {
         String id = IdBuilderUtils.generateChildId(toscaElementVertex.getUniqueId(), dataVertex.getLabel());
         newDataVertex.cloneData(dataVertex);
         newDataVertex.setUniqueId(id);
-        Either<GraphVertex, JanusGraphOperationStatus> createVertex = janusGraphDao.createVertex(newDataVertex);
+        Either<GraphVertex, JanusGraphOperationStatus> createVertex = janusGraphDao.createVertex(newDataVertex, dataVertex);
         if (createVertex.isRight()) {
             log.debug("Failed to clone data vertex for {} error {}", dataVertex.getUniqueId(), createVertex.right().value());
             return createVertex;
@@ -349,6 +356,7 @@ public abstract class BaseOperation {
     public Either<GraphVertex, StorageOperationStatus> associateElementToData(GraphVertex element, VertexTypeEnum vertexLabel,
                                                                               EdgeLabelEnum edgeLabel,
                                                                               Map<String, ? extends ToscaDataDefinition> data) {
+        invalidateCachedComponent(element.getUniqueId());
         GraphVertex dataV = new GraphVertex(vertexLabel);
         String id = IdBuilderUtils.generateChildId(element.getUniqueId(), vertexLabel);
         dataV.setUniqueId(id);
@@ -1103,6 +1111,7 @@ public abstract class BaseOperation {
      * @return
      */
     public StorageOperationStatus removeToscaDataVertex(GraphVertex toscaElement, EdgeLabelEnum edgeLabel, VertexTypeEnum vertexLabel) {
+        invalidateCachedComponent(toscaElement.getUniqueId());
         StorageOperationStatus result = null;
         GraphVertex toscaDataVertex = null;
         Iterator<Edge> edges = null;
@@ -1147,7 +1156,7 @@ public abstract class BaseOperation {
             if (edgeCounter > 1 && edgeToDelete != null) {
                 edgeToDelete.remove();
             } else {
-                toscaDataVertex.getVertex().remove();
+                janusGraphDao.removeDataVertex(toscaDataVertex.getVertex());
             }
         }
         if (result == null) {
@@ -1502,6 +1511,17 @@ public abstract class BaseOperation {
         properties.forEach(PropertyDataDefinition::convertPropertyDataToInstancePropertyData);
     }
 
+    /**
+     * Drops the component from the certified component cache, to be called before the data vertices of the component are changed. The
+     * component is dropped again once the transaction is committed, so that it is not served as loaded by a concurrent reader meanwhile.
+     */
+    protected void invalidateCachedComponent(String componentId) {
+        if (certifiedComponentCache != null) {
+            certifiedComponentCache.invalidate(componentId);
+        }
+        janusGraphDao.markComponentChanged(componentId);
+    }
+
     private JanusGraphOperationStatus logAndReturn(JanusGraphOperationStatus janusGraphOperationStatus, String logMsg, Object... logParams) {
         log.debug(logMsg, logParams);
         return janusGraphOperationStatus;
@@ -181,6 +181,11 @@ public class NodeTypeOperation extends ToscaElementOperation {
     // -------------------------------------------------------------
     @Override
     public Either<ToscaElement, StorageOperationStatus> getToscaElement(GraphVertex componentV, ComponentParametersView componentParametersView) {
+        return ToscaElementDataLoader.load(janusGraphDao, componentV, ToscaElementDataLoader.nodeTypeLabels(componentParametersView),
+            () -> readToscaElement(componentV, componentParametersView));
+    }
+
+    private Either<ToscaElement, StorageOperationStatus> readToscaElement(GraphVertex componentV, ComponentParametersView componentParametersView) {
         NodeType toscaElement;
         toscaElement = convertToComponent(componentV);
         JanusGraphOperationStatus status = null;
@@ -636,6 +636,11 @@ public class TopologyTemplateOperation extends ToscaElementOperation {
 
     // -------------------------------------------------------------
     public Either<ToscaElement, StorageOperationStatus> getToscaElement(GraphVertex componentV, ComponentParametersView componentParametersView) {
+        return ToscaElementDataLoader.load(janusGraphDao, componentV, ToscaElementDataLoader.topologyTemplateLabels(componentParametersView),
+            () -> readToscaElement(componentV, componentParametersView));
+    }
+
+    private Either<ToscaElement, StorageOperationStatus> readToscaElement(GraphVertex componentV, ComponentParametersView componentParametersView) {
         TopologyTemplate toscaElement;
         toscaElement = convertToTopologyTemplate(componentV);
         JanusGraphOperationStatus status;
@@ -0,0 +1,151 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.jsonjanusgraph.operations;
+
+import fj.data.Either;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphDao;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
+import org.openecomp.sdc.be.dao.jsongraph.GraphVertex;
+import org.openecomp.sdc.be.dao.jsongraph.types.EdgeLabelEnum;
+import org.openecomp.sdc.be.model.ComponentParametersView;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+
+/**
+ * Loads the data vertices needed to read a tosca element with a single adjacency query on the component vertex, instead of one query per edge
+ * label. The labels are derived from the {@link ComponentParametersView} of the read.
+ * <p>
+ * While {@link #load} runs the read, {@link BaseOperation#getDataVertex} serves each loaded label once from the loaded vertices, so that every
+ * reader still gets its own parsed json. A label read again afterwards is fetched from the graph as before.
+ */
+final class ToscaElementDataLoader {
+
+    private static final Logger log = Logger.getLogger(ToscaElementDataLoader.class.getName());
+    private static final ThreadLocal<LoadedDataVertices> loadedDataVertices = new ThreadLocal<>();
+
+    private ToscaElementDataLoader() {
+    }
+
+    static <T> T load(JanusGraphDao janusGraphDao, GraphVertex componentV, Set<EdgeLabelEnum> edgeLabels, Supplier<T> read) {
+        if (edgeLabels.isEmpty()) {
+            return read.get();
+        }
+        Either<Map<EdgeLabelEnum, GraphVertex>, JanusGraphOperationStatus> children = janusGraphDao.getChildVerticesByLabels(componentV, edgeLabels);
+        if (children == null || children.isRight()) {
+            log.debug("Failed to load the data vertices of tosca element {}, they are read one by one. Status is {}", componentV.getUniqueId(),
+                children == null ? null : children.right().value());
+            return read.get();
+        }
+        LoadedDataVertices previous = loadedDataVertices.get();
+        loadedDataVertices.set(new LoadedDataVertices(componentV, edgeLabels, children.left().value()));
+        try {
+            return read.get();
+        } finally {
+            if (previous == null) {
+                loadedDataVertices.remove();
+            } else {
+                loadedDataVertices.set(previous);
+            }
+        }
+    }
+
+    /**
+     * @return the loaded data vertex of the component for the label, NOT_FOUND if the label was loaded without finding a vertex, or null if the
+     * label was not loaded or was already taken
+     */
+    static Either<GraphVertex, JanusGraphOperationStatus> take(GraphVertex componentV, EdgeLabelEnum edgeLabel) {
+        LoadedDataVertices loaded = loadedDataVertices.get();
+        if (loaded == null || loaded.componentV != componentV || !loaded.pendingLabels.remove(edgeLabel)) {
+            return null;
+        }
+        GraphVertex child = loaded.children.get(edgeLabel);
+        return child == null ? Either.right(JanusGraphOperationStatus.NOT_FOUND) : Either.left(child);
+    }
+
+    static Set<EdgeLabelEnum> topologyTemplateLabels(ComponentParametersView view) {
+        Set<EdgeLabelEnum> labels = EnumSet.noneOf(EdgeLabelEnum.class);
+        if (!view.isIgnoreArtifacts()) {
+            Collections.addAll(labels, EdgeLabelEnum.ARTIFACTS, EdgeLabelEnum.DEPLOYMENT_ARTIFACTS, EdgeLabelEnum.TOSCA_ARTIFACTS,
+                EdgeLabelEnum.SERVICE_API_ARTIFACTS, EdgeLabelEnum.INST_DEPLOYMENT_ARTIFACTS, EdgeLabelEnum.INSTANCE_ARTIFACTS);
+        }
+        addIf(labels, !view.isIgnoreComponentInstancesProperties(), EdgeLabelEnum.INST_PROPERTIES);
+        addIf(labels, !view.isIgnoreComponentInstancesAttributes(), EdgeLabelEnum.INST_ATTRIBUTES);
+        if (!view.isIgnoreCapabilities()) {
+            Collections.addAll(labels, EdgeLabelEnum.CALCULATED_CAPABILITIES, EdgeLabelEnum.FULLFILLED_CAPABILITIES, EdgeLabelEnum.CAPABILITIES);
+        }
+        if (!view.isIgnoreRequirements()) {
+            Collections.addAll(labels, EdgeLabelEnum.CALCULATED_REQUIREMENTS, EdgeLabelEnum.FULLFILLED_REQUIREMENTS, EdgeLabelEnum.REQUIREMENTS);
+        }
+        addIf(labels, !view.isIgnoreAdditionalInformation(), EdgeLabelEnum.ADDITIONAL_INFORMATION);
+        addIf(labels, !view.isIgnoreGroups(), EdgeLabelEnum.GROUPS);
+        addIf(labels, !view.isIgnorePolicies(), EdgeLabelEnum.POLICIES);
+        addIf(labels, !view.isIgnoreComponentInstances(), EdgeLabelEnum.INST_GROUPS);
+        addIf(labels, !view.isIgnoreInputs(), EdgeLabelEnum.INPUTS);
+        addIf(labels, !view.isIgnoreOutputs(), EdgeLabelEnum.OUTPUTS);
+        addIf(labels, !view.isIgnoreProperties(), EdgeLabelEnum.PROPERTIES);
+        addIf(labels, !view.isIgnoreComponentInstancesInputs(), EdgeLabelEnum.INST_INPUTS);
+        if (!view.isIgnoreCapabiltyProperties()) {
+            Collections.addAll(labels, EdgeLabelEnum.CALCULATED_CAP_PROPERTIES, EdgeLabelEnum.CAPABILITIES_PROPERTIES);
+        }
+        addIf(labels, !view.isIgnoreServicePath(), EdgeLabelEnum.FORWARDING_PATH);
+        addIf(labels, !view.isIgnoreNodeFilter(), EdgeLabelEnum.NODE_FILTER_TEMPLATE);
+        addIf(labels, !view.isIgnoreSubstitutionFilter(), EdgeLabelEnum.SUBSTITUTION_FILTER_TEMPLATE);
+        addIf(labels, !view.isIgnoreInterfaces(), EdgeLabelEnum.INTERFACE);
+        addIf(labels, !view.isIgnoreComponentInstancesInterfaces(), EdgeLabelEnum.INST_INTERFACES);
+        addIf(labels, !view.isIgnoreDataType(), EdgeLabelEnum.DATA_TYPES);
+        return labels;
+    }
+
+    static Set<EdgeLabelEnum> nodeTypeLabels(ComponentParametersView view) {
+        Set<EdgeLabelEnum> labels = EnumSet.noneOf(EdgeLabelEnum.class);
+        addIf(labels, !view.isIgnoreProperties(), EdgeLabelEnum.PROPERTIES);
+        addIf(labels, !view.isIgnoreAttributes(), EdgeLabelEnum.ATTRIBUTES);
+        addIf(labels, !view.isIgnoreRequirements(), EdgeLabelEnum.REQUIREMENTS);
+        addIf(labels, !view.isIgnoreCapabilities(), EdgeLabelEnum.CAPABILITIES);
+        if (!view.isIgnoreArtifacts()) {
+            Collections.addAll(labels, EdgeLabelEnum.ARTIFACTS, EdgeLabelEnum.DEPLOYMENT_ARTIFACTS, EdgeLabelEnum.TOSCA_ARTIFACTS);
+        }
+        addIf(labels, !view.isIgnoreAdditionalInformation(), EdgeLabelEnum.ADDITIONAL_INFORMATION);
+        addIf(labels, !view.isIgnoreInterfaces(), EdgeLabelEnum.INTERFACE_ARTIFACTS);
+        addIf(labels, !view.isIgnoreCapabiltyProperties(), EdgeLabelEnum.CAPABILITIES_PROPERTIES);
+        return labels;
+    }
+
+    private static void addIf(Set<EdgeLabelEnum> labels, boolean needed, EdgeLabelEnum label) {
+        if (needed) {
+            labels.add(label);
+        }
+    }
+
+    private static final class LoadedDataVertices {
+
+        private final GraphVertex componentV;
+        private final Set<EdgeLabelEnum> pendingLabels;
+        private final Map<EdgeLabelEnum, GraphVertex> children;
+
+        private LoadedDataVertices(GraphVertex componentV, Set<EdgeLabelEnum> labels, Map<EdgeLabelEnum, GraphVertex> children) {
+            this.componentV = componentV;
+            this.pendingLabels = labels.isEmpty() ? EnumSet.noneOf(EdgeLabelEnum.class) : EnumSet.copyOf(labels);
+            this.children = children;
+        }
+    }
+}
@@ -119,6 +119,7 @@ public class ToscaElementLifecycleOperation extends BaseOperation {
      */
     public Either<ToscaElement, StorageOperationStatus> checkinToscaELement(LifecycleStateEnum currState, String toscaElementId, String modifierId,
                                                                             String ownerId) {
+        invalidateCachedComponent(toscaElementId);
         try {
             return janusGraphDao.getVerticesByUniqueIdAndParseFlag(prepareParametersToGetVerticesForCheckin(toscaElementId, modifierId, ownerId))
                 .right().map(status -> handleFailureToPrepareParameters(status, toscaElementId)).left().bind(
@@ -185,6 +186,7 @@ public class ToscaElementLifecycleOperation extends BaseOperation {
      * @return
      */
     public Either<ToscaElement, StorageOperationStatus> checkoutToscaElement(String toscaElementId, String modifierId, String ownerId) {
+        invalidateCachedComponent(toscaElementId);
         Either<ToscaElement, StorageOperationStatus> result = null;
         Map<String, GraphVertex> vertices = null;
         try {
@@ -224,6 +226,7 @@ public class ToscaElementLifecycleOperation extends BaseOperation {
      * @return
      */
     public Either<ToscaElement, StorageOperationStatus> undoCheckout(String toscaElementId) {
+        invalidateCachedComponent(toscaElementId);
         try {
             return janusGraphDao.getVertexById(toscaElementId, JsonParseFlagEnum.ParseMetadata).right().map(errorStatus -> {
                 CommonUtility.addRecordToLog(log, LogLevelEnum.DEBUG, FAILED_TO_GET_VERTICES, toscaElementId);
@@ -292,6 +295,7 @@ public class ToscaElementLifecycleOperation extends BaseOperation {
     }
 
     public Either<ToscaElement, StorageOperationStatus> certifyToscaElement(String toscaElementId, String modifierId, String ownerId) {
+        invalidateCachedComponent(toscaElementId);
         try {
             return janusGraphDao
                 .getVerticesByUniqueIdAndParseFlag(prepareParametersToGetVerticesForRequestCertification(toscaElementId, modifierId, ownerId)).right()
@@ -1114,6 +1118,7 @@ public class ToscaElementLifecycleOperation extends BaseOperation {
 
     public Either<ToscaElement, StorageOperationStatus> forceCerificationOfToscaElement(String toscaElementId, String modifierId, String ownerId,
                                                                                         String currVersion) {
+        invalidateCachedComponent(toscaElementId);
         Either<GraphVertex, StorageOperationStatus> resultUpdate = null;
         Either<ToscaElement, StorageOperationStatus> result = null;
         GraphVertex toscaElement = null;
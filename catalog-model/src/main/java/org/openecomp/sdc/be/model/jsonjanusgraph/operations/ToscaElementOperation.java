@@ -26,6 +26,7 @@ import com.google.gson.reflect.TypeToken;
 import fj.data.Either;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
@@ -918,6 +919,50 @@ public abstract class ToscaElementOperation extends BaseOperation {
         return getLightComponent(getVertexRes.left().value(), nodeType, parametersFilter);
     }
 
+    /**
+     * Builds the light components of all received ids, reading the component vertices and their creator and last modifier edges in batches
+     * rather than per component.
+     *
+     * @return the light components in the order of the received ids, or the status of the first component that could not be built
+     */
+    protected <T extends ToscaElement> Either<List<T>, StorageOperationStatus> getLightComponents(List<String> componentUids,
+                                                                                                  ComponentTypeEnum nodeType,
+                                                                                                  ComponentParametersView parametersFilter) {
+        Either<Map<String, GraphVertex>, JanusGraphOperationStatus> getVerticesRes = janusGraphDao
+            .getVerticesByIds(componentUids, JsonParseFlagEnum.ParseMetadata);
+        if (getVerticesRes.isRight()) {
+            return Either.right(DaoStatusConverter.convertJanusGraphStatusToStorageStatus(getVerticesRes.right().value()));
+        }
+        Map<String, GraphVertex> vertices = getVerticesRes.left().value();
+        prefetchLightComponentEdges(vertices.values());
+        List<T> components = new ArrayList<>();
+        for (String componentUid : componentUids) {
+            GraphVertex vertexComponent = vertices.get(componentUid);
+            if (vertexComponent == null) {
+                log.debug("No vertex in graph for id = {}", componentUid);
+                return Either.right(StorageOperationStatus.NOT_FOUND);
+            }
+            Either<T, StorageOperationStatus> component = getLightComponent(vertexComponent, nodeType, parametersFilter);
+            if (component.isRight()) {
+                return Either.right(component.right().value());
+            }
+            components.add(component.left().value());
+        }
+        return Either.left(components);
+    }
+
+    /**
+     * Warms the transaction cache with the creator and last modifier of the received components, so building their light components does not
+     * go to the storage backend once per component and edge.
+     */
+    private void prefetchLightComponentEdges(Collection<GraphVertex> vertices) {
+        if (vertices.size() < 2) {
+            return;
+        }
+        janusGraphDao.getParentVertices(vertices, EdgeLabelEnum.CREATOR, JsonParseFlagEnum.NoParse);
+        janusGraphDao.getParentVertices(vertices, EdgeLabelEnum.LAST_MODIFIER, JsonParseFlagEnum.NoParse);
+    }
+
     protected <T extends ToscaElement> Either<T, StorageOperationStatus> getLightComponent(GraphVertex vertexComponent, ComponentTypeEnum nodeType,
                                                                                            ComponentParametersView parametersFilter) {
         log.trace("Starting to build light component of type {}, id {}", nodeType, vertexComponent.getUniqueId());
@@ -1294,6 +1339,7 @@ public abstract class ToscaElementOperation extends BaseOperation {
         if (listOfComponents.isLeft()) {
             List<GraphVertex> highestAndAllCertified = listOfComponents.left().value();
             if (highestAndAllCertified != null && !highestAndAllCertified.isEmpty()) {
+                prefetchLightComponentEdges(highestAndAllCertified);
                 for (GraphVertex vertexComponent : highestAndAllCertified) {
                     Either<T, StorageOperationStatus> component = getLightComponent(vertexComponent, componentType,
                         new ComponentParametersView(true));
@@ -1327,6 +1373,30 @@ public abstract class ToscaElementOperation extends BaseOperation {
         return Either.left(existInCatalog.values().stream().collect(Collectors.toList()));
     }
 
+    /**
+     * Builds the catalog entries of the received components that are currently connected to the catalog (or the archive) root, the way the
+     * whole catalog is built by {@link #getElementCatalogData(boolean, List)}.
+     *
+     * @return map of unique id to catalog entry; components which were removed, deleted or are not part of the catalog are not part of the map
+     */
+    public Either<Map<String, CatalogComponent>, StorageOperationStatus> getElementCatalogDataByIds(boolean isCatalog,
+                                                                                              Collection<String> componentIds) {
+        Either<Map<String, GraphVertex>, JanusGraphOperationStatus> verticesEither = janusGraphDao
+            .getVerticesByIds(componentIds, JsonParseFlagEnum.NoParse);
+        if (verticesEither.isRight()) {
+            return Either.right(DaoStatusConverter.convertJanusGraphStatusToStorageStatus(verticesEither.right().value()));
+        }
+        String rootEdgeLabel = isCatalog ? EdgeLabelEnum.CATALOG_ELEMENT.name() : EdgeLabelEnum.ARCHIVE_ELEMENT.name();
+        Map<String, CatalogComponent> catalogComponents = new HashMap<>();
+        for (GraphVertex graphVertex : verticesEither.left().value().values()) {
+            Vertex vertex = graphVertex.getVertex();
+            if (vertex.edges(Direction.IN, rootEdgeLabel).hasNext()) {
+                handleCatalogComponent(catalogComponents, vertex, Collections.emptyList());
+            }
+        }
+        return Either.left(catalogComponents);
+    }
+
     private void handleCatalogComponent(Map<String, CatalogComponent> existInCatalog, Vertex vertex, List<ResourceTypeEnum> excludeTypes) {
         VertexProperty<Object> property = vertex.property(GraphPropertiesDictionary.METADATA.getProperty());
         String json = (String) property.value();
@@ -56,6 +56,7 @@ import org.janusgraph.graphdb.query.JanusGraphPredicate;
 import org.openecomp.sdc.be.config.Configuration;
 import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphTransactionContext;
 import org.openecomp.sdc.be.dao.jsongraph.GraphVertex;
 import org.openecomp.sdc.be.dao.janusgraph.HealingJanusGraphDao;
 import org.openecomp.sdc.be.dao.jsongraph.types.EdgeLabelEnum;
@@ -111,7 +112,10 @@ import org.openecomp.sdc.be.model.RequirementDefinition;
 import org.openecomp.sdc.be.model.Resource;
 import org.openecomp.sdc.be.model.Service;
 import org.openecomp.sdc.be.model.User;
+import org.openecomp.sdc.be.model.cache.CatalogProjection;
+import org.openecomp.sdc.be.model.cache.CertifiedComponentCache;
 import org.openecomp.sdc.be.model.catalog.CatalogComponent;
+import org.openecomp.sdc.be.model.catalog.CatalogComponentsDelta;
 import org.openecomp.sdc.be.model.jsonjanusgraph.config.ContainerInstanceTypesData;
 import org.openecomp.sdc.be.model.jsonjanusgraph.datamodel.TopologyTemplate;
 import org.openecomp.sdc.be.model.jsonjanusgraph.datamodel.ToscaElement;
@@ -156,6 +160,10 @@ public class ToscaOperationFacade {
     // endregion
     @Autowired
     private ContainerInstanceTypesData containerInstanceTypesData;
+    @Autowired
+    private CertifiedComponentCache certifiedComponentCache;
+    @Autowired
+    private CatalogProjection catalogProjection;
 
     private static Optional<CapabilityDefinition> getPropertyCapability(String propertyParentUniqueId, Component containerComponent) {
         Map<String, List<CapabilityDefinition>> componentCapabilities = containerComponent.getCapabilities();
@@ -183,12 +191,56 @@ public class ToscaOperationFacade {
     }
 
     public <T extends Component> Either<T, StorageOperationStatus> getToscaElement(String componentId, ComponentParametersView filters) {
+        long loadStamp = certifiedComponentCache == null ? 0 : certifiedComponentCache.getLoadStamp();
         Either<GraphVertex, JanusGraphOperationStatus> getVertexEither = janusGraphDao.getVertexById(componentId, filters.detectParseFlag());
         if (getVertexEither.isRight()) {
             log.debug(COULDNT_FETCH_COMPONENT_WITH_AND_UNIQUE_ID_ERROR, componentId, getVertexEither.right().value());
             return Either.right(DaoStatusConverter.convertJanusGraphStatusToStorageStatus(getVertexEither.right().value()));
         }
-        return getToscaElementByOperation(getVertexEither.left().value(), filters);
+        return getToscaElement(getVertexEither.left().value(), filters, loadStamp);
+    }
+
+    /**
+     * Gets the components of all received ids, e.g. the origins of the instances of a component, reading their vertices in batches instead of
+     * one index lookup per id.
+     *
+     * @return map of component id to component; ids that were not found are not part of the map
+     */
+    public <T extends Component> Either<Map<String, T>, StorageOperationStatus> getToscaElements(Collection<String> componentIds,
+                                                                                                 ComponentParametersView filters) {
+        long loadStamp = certifiedComponentCache == null ? 0 : certifiedComponentCache.getLoadStamp();
+        Either<Map<String, GraphVertex>, JanusGraphOperationStatus> getVerticesEither = janusGraphDao
+            .getVerticesByIds(componentIds, filters.detectParseFlag());
+        if (getVerticesEither.isRight()) {
+            log.debug("Couldn't fetch components with unique ids {}, error: {}", componentIds, getVerticesEither.right().value());
+            return Either.right(DaoStatusConverter.convertJanusGraphStatusToStorageStatus(getVerticesEither.right().value()));
+        }
+        Map<String, T> components = new HashMap<>();
+        for (GraphVertex componentV : getVerticesEither.left().value().values()) {
+            Either<T, StorageOperationStatus> toscaElement = getToscaElement(componentV, filters, loadStamp);
+            if (toscaElement.isRight()) {
+                log.debug(COULDNT_FETCH_COMPONENT_WITH_AND_UNIQUE_ID_ERROR, componentV.getUniqueId(), toscaElement.right().value());
+                return Either.right(toscaElement.right().value());
+            }
+            components.put(componentV.getUniqueId(), toscaElement.left().value());
+        }
+        return Either.left(components);
+    }
+
+    private <T extends Component> Either<T, StorageOperationStatus> getToscaElement(GraphVertex componentV, ComponentParametersView filters,
+                                                                                  long loadStamp) {
+        if (certifiedComponentCache == null || !certifiedComponentCache.isCacheable(componentV)) {
+            return getToscaElementByOperation(componentV, filters);
+        }
+        Optional<T> cachedComponent = certifiedComponentCache.get(componentV, filters);
+        if (cachedComponent.isPresent()) {
+            return Either.left(cachedComponent.get());
+        }
+        Either<T, StorageOperationStatus> toscaElement = getToscaElementByOperation(componentV, filters);
+        if (toscaElement.isLeft()) {
+            certifiedComponentCache.put(componentV, filters, toscaElement.left().value(), loadStamp);
+        }
+        return toscaElement;
     }
 
     public <T extends Component> Either<T, StorageOperationStatus> getToscaElement(String componentId, JsonParseFlagEnum parseFlag) {
@@ -204,6 +256,19 @@ public class ToscaOperationFacade {
         return getToscaElementByOperation(componentVertex);
     }
 
+    /**
+     * Gets the component through the given transaction instead of the one bound to the calling thread, e.g. a read-only threaded transaction
+     * shared by readers running in parallel.
+     */
+    public <T extends Component> Either<T, StorageOperationStatus> getToscaElement(String componentId, ComponentParametersView filters,
+                                                                                 JanusGraphTransactionContext transaction) {
+        return janusGraphDao.callInTransaction(transaction, () -> getToscaElement(componentId, filters));
+    }
+
+    public <T extends Component> Either<T, StorageOperationStatus> getToscaFullElement(String componentId, JanusGraphTransactionContext transaction) {
+        return janusGraphDao.callInTransaction(transaction, () -> getToscaFullElement(componentId));
+    }
+
     public Either<Boolean, StorageOperationStatus> validateComponentExists(String componentId) {
         Either<GraphVertex, JanusGraphOperationStatus> getVertexEither = janusGraphDao.getVertexById(componentId, JsonParseFlagEnum.NoParse);
         if (getVertexEither.isRight()) {
@@ -315,6 +380,10 @@ public class ToscaOperationFacade {
             log.debug("Couldn't fetch component vertex with and unique id {}, error: {}", componentId, getVertexEither.right().value());
             return Either.right(DaoStatusConverter.convertJanusGraphStatusToStorageStatus(getVertexEither.right().value()));
         }
+        if (certifiedComponentCache != null) {
+            certifiedComponentCache.invalidate(componentId);
+        }
+        janusGraphDao.markComponentChanged(componentId);
         Either<ToscaElement, StorageOperationStatus> deleteElement = deleteToscaElement(getVertexEither.left().value());
         if (deleteElement.isRight()) {
             log.debug("Failed to delete component with and unique id {}, error: {}", componentId, deleteElement.right().value());
@@ -924,10 +993,49 @@ public class ToscaOperationFacade {
 
     public Either<List<CatalogComponent>, StorageOperationStatus> getCatalogOrArchiveComponents(boolean isCatalog,
                                                                                                 List<OriginTypeEnum> excludeTypes) {
-        List<ResourceTypeEnum> excludedResourceTypes = Optional.ofNullable(excludeTypes).orElse(Collections.emptyList()).stream()
+        List<ResourceTypeEnum> excludedResourceTypes = toExcludedResourceTypes(excludeTypes);
+        if (catalogProjection != null && catalogProjection.isEnabled()) {
+            return catalogProjection.getComponents(isCatalog, excludedResourceTypes);
+        }
+        return topologyTemplateOperation.getElementCatalogData(isCatalog, excludedResourceTypes);
+    }
+
+    /**
+     * @return the version stamp of the catalog projection, empty when the projection is disabled or could not be refreshed
+     */
+    public Optional<String> getCatalogVersion() {
+        if (catalogProjection == null || !catalogProjection.isEnabled()) {
+            return Optional.empty();
+        }
+        Either<String, StorageOperationStatus> version = catalogProjection.getVersion();
+        if (version.isRight()) {
+            log.debug("Failed to refresh the catalog projection, error: {}", version.right().value());
+            return Optional.empty();
+        }
+        return Optional.of(version.left().value());
+    }
+
+    /**
+     * Returns the catalog or archive components changed since the given version of the catalog projection. Without the projection, or when
+     * the version is unknown, the whole catalog is returned as the delta.
+     *
+     * @param sinceVersion version stamp of a previous delta, {@code null} for the whole catalog
+     */
+    public Either<CatalogComponentsDelta, StorageOperationStatus> getCatalogOrArchiveComponentsDelta(boolean isCatalog,
+                                                                                                   List<OriginTypeEnum> excludeTypes,
+                                                                                                   String sinceVersion) {
+        List<ResourceTypeEnum> excludedResourceTypes = toExcludedResourceTypes(excludeTypes);
+        if (catalogProjection != null && catalogProjection.isEnabled()) {
+            return catalogProjection.getChanges(isCatalog, excludedResourceTypes, sinceVersion);
+        }
+        return topologyTemplateOperation.getElementCatalogData(isCatalog, excludedResourceTypes)
+            .left().map(components -> new CatalogComponentsDelta(null, true, components, Collections.emptyList()));
+    }
+
+    private List<ResourceTypeEnum> toExcludedResourceTypes(List<OriginTypeEnum> excludeTypes) {
+        return Optional.ofNullable(excludeTypes).orElse(Collections.emptyList()).stream()
             .filter(type -> !type.equals(OriginTypeEnum.SERVICE)).map(type -> ResourceTypeEnum.getTypeByName(type.name()))
             .collect(Collectors.toList());
-        return topologyTemplateOperation.getElementCatalogData(isCatalog, excludedResourceTypes);
     }
 
     // endregion
@@ -2037,19 +2145,19 @@ public class ToscaOperationFacade {
             componentUids = componentUidsRes.left().value();
         }
         if (!isEmpty(componentUids)) {
-            for (String componentUid : componentUids) {
-                ComponentParametersView componentParametersView = buildComponentViewForNotAbstract();
-                if ("vl".equalsIgnoreCase(internalComponentType)) {
-                    componentParametersView.setIgnoreCapabilities(false);
-                    componentParametersView.setIgnoreRequirements(false);
-                }
-                Either<ToscaElement, StorageOperationStatus> getToscaElementRes = nodeTemplateOperation.getToscaElementOperation(componentTypeEnum)
-                    .getLightComponent(componentUid, componentTypeEnum, componentParametersView);
-                if (getToscaElementRes.isRight()) {
-                    log.debug("Failed to fetch resource for error is {}", getToscaElementRes.right().value());
-                    return Either.right(getToscaElementRes.right().value());
-                }
-                Component component = ModelConverter.convertFromToscaElement(getToscaElementRes.left().value());
+            ComponentParametersView componentParametersView = buildComponentViewForNotAbstract();
+            if ("vl".equalsIgnoreCase(internalComponentType)) {
+                componentParametersView.setIgnoreCapabilities(false);
+                componentParametersView.setIgnoreRequirements(false);
+            }
+            Either<List<ToscaElement>, StorageOperationStatus> getToscaElementsRes = nodeTemplateOperation
+                .getToscaElementOperation(componentTypeEnum).getLightComponents(componentUids, componentTypeEnum, componentParametersView);
+            if (getToscaElementsRes.isRight()) {
+                log.debug("Failed to fetch resource for error is {}", getToscaElementsRes.right().value());
+                return Either.right(getToscaElementsRes.right().value());
+            }
+            for (ToscaElement toscaElement : getToscaElementsRes.left().value()) {
+                Component component = ModelConverter.convertFromToscaElement(toscaElement);
                 nullifySomeComponentProperties(component);
                 components.add(component);
             }
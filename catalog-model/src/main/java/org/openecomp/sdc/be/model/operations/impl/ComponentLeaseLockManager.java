@@ -0,0 +1,216 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.operations.impl;
+
+import fj.data.Either;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PreDestroy;
+import org.openecomp.sdc.be.config.Configuration.ComponentLockConfig;
+import org.openecomp.sdc.be.config.ConfigurationManager;
+import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
+import org.openecomp.sdc.be.dao.cassandra.ComponentLockCassandraDao;
+import org.openecomp.sdc.be.datatypes.enums.NodeTypeEnum;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Component locks kept as expiring lease rows in Cassandra instead of lock vertices in the graph.
+ * <p>
+ * A lease is acquired with a lightweight transaction and a TTL, and is renewed in the background for as long as it is held, so long
+ * checkin/certify flows keep their lock while a lock left behind by a crashed node simply expires. Each lease carries a token which,
+ * together with the owner id, conditions the renewal and the release, so a node whose lease already expired can never extend or delete
+ * the lease of the next holder. The token only guards the lease row, writes to the graph are not checked against it, so a node that stalls
+ * past the lease TTL may still write after another node took the lock. Locks that are already held on this node are rejected locally
+ * without a round trip to Cassandra.
+ */
+@Component("component-lease-lock-manager")
+public class ComponentLeaseLockManager {
+
+    private static final Logger log = Logger.getLogger(ComponentLeaseLockManager.class.getName());
+    private static final String LOCK_ID_PREFIX = "lock_";
+    private final ComponentLockCassandraDao componentLockDao;
+    private final String ownerId;
+    private final Map<String, Lease> heldLeases = new ConcurrentHashMap<>();
+    private final AtomicLong lastFencingToken = new AtomicLong();
+    private ScheduledExecutorService renewalExecutor;
+
+    @Autowired
+    public ComponentLeaseLockManager(ComponentLockCassandraDao componentLockDao) {
+        this(componentLockDao, createOwnerId());
+    }
+
+    ComponentLeaseLockManager(ComponentLockCassandraDao componentLockDao, String ownerId) {
+        this.componentLockDao = componentLockDao;
+        this.ownerId = ownerId;
+    }
+
+    public StorageOperationStatus lock(String componentIdName, NodeTypeEnum nodeType) {
+        String lockId = createLockId(componentIdName, nodeType);
+        Lease lease = new Lease(lockId, nextFencingToken());
+        if (heldLeases.putIfAbsent(lockId, lease) != null) {
+            log.debug("lock {} is already held on this node", lockId);
+            return StorageOperationStatus.FAILED_TO_LOCK_ELEMENT;
+        }
+        ComponentLockConfig config = getComponentLockConfig();
+        Either<Boolean, CassandraOperationStatus> acquired = componentLockDao
+            .acquire(lockId, ownerId, lease.fencingToken, config.getLeaseTtlInSeconds());
+        if (acquired.isRight()) {
+            heldLeases.remove(lockId, lease);
+            log.debug("failed to acquire lock {}, error {}", lockId, acquired.right().value());
+            return DaoStatusConverter.convertCassandraStatusToStorageStatus(acquired.right().value());
+        }
+        if (Boolean.FALSE.equals(acquired.left().value())) {
+            heldLeases.remove(lockId, lease);
+            log.debug("lock {} is held by another node", lockId);
+            return StorageOperationStatus.FAILED_TO_LOCK_ELEMENT;
+        }
+        long renewInterval = config.getRenewIntervalInSeconds();
+        lease.startRenewal(getRenewalExecutor(), () -> renew(lease), renewInterval);
+        log.debug("acquired lock {} with fencing token {}", lockId, lease.fencingToken);
+        return StorageOperationStatus.OK;
+    }
+
+    public StorageOperationStatus unlock(String componentIdName, NodeTypeEnum nodeType) {
+        String lockId = createLockId(componentIdName, nodeType);
+        Lease lease = heldLeases.remove(lockId);
+        if (lease == null) {
+            log.debug("lock {} is not held on this node", lockId);
+            return StorageOperationStatus.NOT_FOUND;
+        }
+        lease.stopRenewal();
+        Either<Boolean, CassandraOperationStatus> released = componentLockDao.release(lockId, ownerId, lease.fencingToken);
+        if (released.isRight()) {
+            log.debug("failed to release lock {}, error {}", lockId, released.right().value());
+            return DaoStatusConverter.convertCassandraStatusToStorageStatus(released.right().value());
+        }
+        if (Boolean.FALSE.equals(released.left().value())) {
+            log.warn("lock {} with fencing token {} expired before it was released", lockId, lease.fencingToken);
+            return StorageOperationStatus.NOT_FOUND;
+        }
+        return StorageOperationStatus.OK;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heldLeases.keySet().forEach(lockId -> {
+            Lease lease = heldLeases.remove(lockId);
+            if (lease != null) {
+                lease.stopRenewal();
+                componentLockDao.release(lockId, ownerId, lease.fencingToken);
+            }
+        });
+        synchronized (this) {
+            if (renewalExecutor != null) {
+                renewalExecutor.shutdownNow();
+            }
+        }
+    }
+
+    private void renew(Lease lease) {
+        Either<Boolean, CassandraOperationStatus> renewed = componentLockDao
+            .renew(lease.lockId, ownerId, lease.fencingToken, getComponentLockConfig().getLeaseTtlInSeconds());
+        if (renewed.isRight()) {
+            // the lease is still valid until its TTL runs out, the next renewal will retry
+            log.warn("failed to renew lock {}, error {}", lease.lockId, renewed.right().value());
+        } else if (Boolean.FALSE.equals(renewed.left().value())) {
+            log.error("lock {} with fencing token {} was lost before it was released", lease.lockId, lease.fencingToken);
+            lease.stopRenewal();
+            heldLeases.remove(lease.lockId, lease);
+        }
+    }
+
+    /**
+     * Fencing tokens are based on the wall clock in microseconds and strictly increase on each node. As a lease can only be taken over once
+     * it expired, a newer holder always gets a higher token than the previous one unless the clocks drift by more than the lease TTL.
+     */
+    private long nextFencingToken() {
+        long now = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+        return lastFencingToken.updateAndGet(last -> Math.max(last + 1, now));
+    }
+
+    private synchronized ScheduledExecutorService getRenewalExecutor() {
+        if (renewalExecutor == null) {
+            renewalExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "component-lock-renewal");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return renewalExecutor;
+    }
+
+    private static String createLockId(String componentIdName, NodeTypeEnum nodeType) {
+        return LOCK_ID_PREFIX + nodeType.getName() + "_" + componentIdName;
+    }
+
+    private static ComponentLockConfig getComponentLockConfig() {
+        ConfigurationManager configurationManager = ConfigurationManager.getConfigurationManager();
+        if (configurationManager == null || configurationManager.getConfiguration() == null
+            || configurationManager.getConfiguration().getComponentLock() == null) {
+            return new ComponentLockConfig();
+        }
+        return configurationManager.getConfiguration().getComponentLock();
+    }
+
+    private static String createOwnerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "_" + UUID.randomUUID();
+    }
+
+    private static final class Lease {
+
+        private final String lockId;
+        private final long fencingToken;
+        private ScheduledFuture<?> renewal;
+        private boolean stopped;
+
+        Lease(String lockId, long fencingToken) {
+            this.lockId = lockId;
+            this.fencingToken = fencingToken;
+        }
+
+        synchronized void startRenewal(ScheduledExecutorService executor, Runnable task, long intervalInSeconds) {
+            if (!stopped && intervalInSeconds > 0) {
+                renewal = executor.scheduleWithFixedDelay(task, intervalInSeconds, intervalInSeconds, TimeUnit.SECONDS);
+            }
+        }
+
+        synchronized void stopRenewal() {
+            stopped = true;
+            if (renewal != null) {
+                renewal.cancel(false);
+            }
+        }
+    }
+}
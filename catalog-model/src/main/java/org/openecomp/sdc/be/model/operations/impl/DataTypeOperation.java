@@ -22,8 +22,10 @@ import fj.data.Either;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
@@ -97,6 +99,40 @@ public class DataTypeOperation extends AbstractOperation {
         return dataTypesFound;
     }
     
+    /**
+     * @return the unique ids of the data types valid for the model, i.e. its own data types and the ones of the models it derives from. The
+     * data types not connected to any model when the model is null
+     */
+    public List<String> getAllDataTypeUidsOfModel(final String modelName) {
+        final List<DataTypeData> dataTypes;
+        if (modelName == null) {
+            dataTypes = validateDataType(janusGraphGenericDao.getByCriteria(NodeTypeEnum.DataType, null, DataTypeData.class), null);
+        } else {
+            dataTypes = getAllDataTypesWithModel(modelName);
+        }
+        return dataTypes.stream().map(DataTypeData::getUniqueId).collect(Collectors.toList());
+    }
+
+    /**
+     * @return the model and all the models deriving from it directly or indirectly, which are the models a data type of the model is valid for
+     */
+    public Set<String> getModelsDerivedFrom(final String modelName) {
+        final Set<String> models = new HashSet<>();
+        models.add(modelName);
+        if (modelName == null) {
+            return models;
+        }
+        final Map<String, List<String>> derivedModelsByParent = new HashMap<>();
+        modelOperation.findAllModels().stream().filter(model -> model.getDerivedFrom() != null)
+            .forEach(model -> derivedModelsByParent.computeIfAbsent(model.getDerivedFrom(), parent -> new ArrayList<>()).add(model.getName()));
+        final List<String> parents = new ArrayList<>(models);
+        while (!parents.isEmpty()) {
+            final List<String> derivedModels = derivedModelsByParent.getOrDefault(parents.remove(parents.size() - 1), Collections.emptyList());
+            derivedModels.stream().filter(models::add).forEach(parents::add);
+        }
+        return models;
+    }
+
     private List<DataTypeData> getAllDataTypesWithModel(final String modelName) {
         final Either<List<DataTypeData>, JanusGraphOperationStatus> getAllDataTypesByModel = janusGraphGenericDao
             .getByCriteriaForModel(NodeTypeEnum.DataType, null, modelName, DataTypeData.class);
@@ -19,6 +19,8 @@
  */
 package org.openecomp.sdc.be.model.operations.impl;
 
+import org.openecomp.sdc.be.config.Configuration.ComponentLockConfig;
+import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.dao.janusgraph.JanusGraphGenericDao;
 import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
 import org.openecomp.sdc.be.datatypes.enums.NodeTypeEnum;
@@ -34,9 +36,12 @@ import lombok.NoArgsConstructor;
 public class GraphLockOperation implements IGraphLockOperation {
 
     private static final Logger log = Logger.getLogger(GraphLockOperation.class.getName());
+    private static final String LEASE_LOCK_TYPE = "LEASE";
     private boolean disable = false;
     @javax.annotation.Resource
     private JanusGraphGenericDao janusGraphGenericDao;
+    @javax.annotation.Resource
+    private ComponentLeaseLockManager componentLeaseLockManager;
 
     /*
      * (non-Javadoc)
@@ -55,12 +60,18 @@ public class GraphLockOperation implements IGraphLockOperation {
      */
     @Override
     public StorageOperationStatus unlockComponent(String componentId, NodeTypeEnum nodeType) {
+        if (!disable && isLeaseLocking()) {
+            return componentLeaseLockManager.unlock(componentId, nodeType);
+        }
         JanusGraphOperationStatus lockElementStatus = disable ? JanusGraphOperationStatus.OK : janusGraphGenericDao.releaseElement(componentId, nodeType);
         return DaoStatusConverter.convertJanusGraphStatusToStorageStatus(lockElementStatus);
     }
 
     @Override
     public StorageOperationStatus unlockComponentByName(String name, String componentId, NodeTypeEnum nodeType) {
+        if (!disable && isLeaseLocking()) {
+            return componentLeaseLockManager.unlock(name, nodeType);
+        }
         JanusGraphOperationStatus lockElementStatus = disable ? JanusGraphOperationStatus.OK : janusGraphGenericDao.releaseElement(name, nodeType);
         return DaoStatusConverter.convertJanusGraphStatusToStorageStatus(lockElementStatus);
     }
@@ -79,6 +90,9 @@ public class GraphLockOperation implements IGraphLockOperation {
 
     private StorageOperationStatus lockComponentDefault(String componentIdName, NodeTypeEnum nodeType) {
         log.info("lock resource with id/name {}", componentIdName);
+        if (!disable && isLeaseLocking()) {
+            return componentLeaseLockManager.lock(componentIdName, nodeType);
+        }
         JanusGraphOperationStatus lockElementStatus = null;
         try {
             lockElementStatus = disable ? JanusGraphOperationStatus.OK : janusGraphGenericDao.lockElement(componentIdName, nodeType);
@@ -87,4 +101,12 @@ public class GraphLockOperation implements IGraphLockOperation {
         }
         return DaoStatusConverter.convertJanusGraphStatusToStorageStatus(lockElementStatus);
     }
+
+    private boolean isLeaseLocking() {
+        if (componentLeaseLockManager == null || ConfigurationManager.getConfigurationManager() == null) {
+            return false;
+        }
+        ComponentLockConfig componentLock = ConfigurationManager.getConfigurationManager().getConfiguration().getComponentLock();
+        return componentLock != null && LEASE_LOCK_TYPE.equalsIgnoreCase(componentLock.getType());
+    }
 }
@@ -1554,6 +1554,28 @@ public class PropertyOperation extends AbstractOperation implements IPropertyOpe
         return result;
     }
 
+    /**
+     * Same as {@link #getAllDataTypes()} for a single model
+     *
+     * @param model the model name, null for the data types not connected to any model
+     * @return the data types valid for the model by name
+     */
+    public Either<Map<String, DataTypeDefinition>, JanusGraphOperationStatus> getAllDataTypesOfModel(final String model) {
+        final Map<String, DataTypeDefinition> dataTypes = new HashMap<>();
+        final Map<String, DataTypeDefinition> allDataTypesFound = new HashMap<>();
+        final List<String> dataTypeUids = dataTypeOperation.getAllDataTypeUidsOfModel(model);
+        log.trace("Number of data types to load for model {} is {}", model, dataTypeUids.size());
+        for (final String uniqueId : dataTypeUids) {
+            final Either<DataTypeDefinition, JanusGraphOperationStatus> dataTypeByUid = getAndAddDataTypeByUid(uniqueId, allDataTypesFound);
+            if (dataTypeByUid.isRight()) {
+                final JanusGraphOperationStatus status = dataTypeByUid.right().value();
+                return Either.right(status == JanusGraphOperationStatus.NOT_FOUND ? JanusGraphOperationStatus.INVALID_ID : status);
+            }
+            dataTypes.put(dataTypeByUid.left().value().getName(), dataTypeByUid.left().value());
+        }
+        return Either.left(dataTypes);
+    }
+
     /**
      * Build Data type object from graph by unique id
      *
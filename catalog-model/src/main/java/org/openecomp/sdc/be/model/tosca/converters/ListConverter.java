@@ -169,9 +169,10 @@ public class ListConverter implements PropertyValueConverter {
             for (int i = 0; i < size; i++) {
                 JsonElement currentValue = jo.get(i);
                 if (currentValue != null) {
-                    String element = JsonUtils.toString(currentValue);
-                    ImmutablePair<JsonElement, Boolean> validateAndUpdate = dataTypeValidatorConverter
-                        .validateAndUpdate(element, dataTypeDefinition, allDataTypes);
+                    // an object is validated as parsed, without printing and parsing it again
+                    ImmutablePair<JsonElement, Boolean> validateAndUpdate = currentValue.isJsonObject() ? dataTypeValidatorConverter
+                        .validateAndUpdateJson(currentValue, dataTypeDefinition, allDataTypes)
+                        : dataTypeValidatorConverter.validateAndUpdate(JsonUtils.toString(currentValue), dataTypeDefinition, allDataTypes);
                     if (!validateAndUpdate.right.booleanValue()) {
                         log.debug("Cannot parse value {} from type {} in list position {}", currentValue, innerType, i);
                         return Either.right(false);
@@ -187,9 +187,10 @@ public class MapConverter implements PropertyValueConverter {
                 String currentKey = keyConverter.convert(entry.getKey(), null, allDataTypes);
                 JsonElement currentValue = entry.getValue();
                 if (currentValue != null) {
-                    String element = JsonUtils.toString(currentValue);
-                    ImmutablePair<JsonElement, Boolean> validateAndUpdate = dataTypeValidatorConverter
-                        .validateAndUpdate(element, dataTypeDefinition, allDataTypes);
+                    // an object is validated as parsed, without printing and parsing it again
+                    ImmutablePair<JsonElement, Boolean> validateAndUpdate = currentValue.isJsonObject() ? dataTypeValidatorConverter
+                        .validateAndUpdateJson(currentValue, dataTypeDefinition, allDataTypes)
+                        : dataTypeValidatorConverter.validateAndUpdate(JsonUtils.toString(currentValue), dataTypeDefinition, allDataTypes);
                     if (!validateAndUpdate.right.booleanValue()) {
                         log.debug("Cannot parse value {} from type {} of key {}", currentValue, innerType, currentKey);
                         return Either.right(false);
@@ -0,0 +1,127 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.tosca.validators;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.openecomp.sdc.be.model.DataTypeDefinition;
+import org.openecomp.sdc.be.model.PropertyDefinition;
+import org.openecomp.sdc.be.model.tosca.ToscaPropertyType;
+
+/**
+ * A data type definition resolved once for the validation of values: the scalar type it derives from, if any, and the properties of its whole
+ * derived from chain with their tosca type and entry schema type. Property types which are data types are looked up by name when a value is
+ * validated.
+ */
+final class CompiledDataType {
+
+    private final String name;
+    private final ToscaPropertyType scalarType;
+    private final Map<String, CompiledProperty> properties;
+
+    private CompiledDataType(String name, ToscaPropertyType scalarType, Map<String, CompiledProperty> properties) {
+        this.name = name;
+        this.scalarType = scalarType;
+        this.properties = properties;
+    }
+
+    static CompiledDataType compile(DataTypeDefinition dataTypeDefinition) {
+        ToscaPropertyType scalarType = null;
+        Map<String, CompiledProperty> properties = new HashMap<>();
+        DataTypeDefinition dataType = dataTypeDefinition;
+        while (dataType != null) {
+            if (scalarType == null) {
+                scalarType = ToscaPropertyType.getTypeIfScalar(dataType.getName());
+            }
+            List<PropertyDefinition> dataTypeProperties = dataType.getProperties();
+            if (dataTypeProperties != null) {
+                // as before, a property of a parent type replaces the property of the same name of the derived type
+                dataTypeProperties.forEach(property -> properties.put(property.getName(), CompiledProperty.compile(property)));
+            }
+            dataType = dataType.getDerivedFrom();
+        }
+        return new CompiledDataType(dataTypeDefinition.getName(), scalarType, Collections.unmodifiableMap(properties));
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     * @return the scalar type the data type derives from, or null if it is a complex data type
+     */
+    ToscaPropertyType getScalarType() {
+        return scalarType;
+    }
+
+    CompiledProperty getProperty(String propertyName) {
+        return properties.get(propertyName);
+    }
+
+    static final class CompiledProperty {
+
+        private final String type;
+        private final ToscaPropertyType scalarType;
+        private final String innerType;
+        private final boolean missingInnerType;
+
+        private CompiledProperty(String type, ToscaPropertyType scalarType, String innerType, boolean missingInnerType) {
+            this.type = type;
+            this.scalarType = scalarType;
+            this.innerType = innerType;
+            this.missingInnerType = missingInnerType;
+        }
+
+        private static CompiledProperty compile(PropertyDefinition property) {
+            String type = property.getType();
+            ToscaPropertyType scalarType = ToscaPropertyType.getTypeIfScalar(type);
+            String innerType = null;
+            boolean missingInnerType = false;
+            if ((scalarType == ToscaPropertyType.LIST || scalarType == ToscaPropertyType.MAP) && property.getSchema() != null
+                && property.getSchema().getProperty() != null) {
+                innerType = property.getSchema().getProperty().getType();
+                missingInnerType = innerType == null;
+            }
+            return new CompiledProperty(type, scalarType, innerType, missingInnerType);
+        }
+
+        String getType() {
+            return type;
+        }
+
+        /**
+         * @return the tosca type of the property, or null if the property is of a data type
+         */
+        ToscaPropertyType getScalarType() {
+            return scalarType;
+        }
+
+        String getInnerType() {
+            return innerType;
+        }
+
+        /**
+         * @return true if the property is a list or a map whose entry schema declares no type
+         */
+        boolean isMissingInnerType() {
+            return missingInnerType;
+        }
+    }
+}
@@ -19,22 +19,24 @@
  */
 package org.openecomp.sdc.be.model.tosca.validators;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSyntaxException;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.openecomp.sdc.be.model.DataTypeDefinition;
-import org.openecomp.sdc.be.model.PropertyDefinition;
+import org.openecomp.sdc.be.model.cache.ApplicationDataTypeCache.DataTypesCacheChangedEvent;
 import org.openecomp.sdc.be.model.tosca.ToscaPropertyType;
 import org.openecomp.sdc.be.model.tosca.converters.PropertyValueConverter;
+import org.openecomp.sdc.be.model.tosca.validators.CompiledDataType.CompiledProperty;
 import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.context.event.EventListener;
 
 public class DataTypeValidatorConverter {
 
@@ -45,6 +47,8 @@ public class DataTypeValidatorConverter {
     ImmutablePair<JsonElement, Boolean> trueEmptyResult = new ImmutablePair<>(null, true);
     ImmutablePair<String, Boolean> trueStringEmptyResult = new ImmutablePair<>(null, true);
     ImmutablePair<String, Boolean> falseStringEmptyResult = new ImmutablePair<>(null, true);
+    // compiled once per data type definition instance, a definition reloaded into the data types cache is compiled again
+    private final Cache<DataTypeDefinition, CompiledDataType> compiledDataTypes = CacheBuilder.newBuilder().weakKeys().build();
 
     private DataTypeValidatorConverter() {
     }
@@ -53,32 +57,40 @@ public class DataTypeValidatorConverter {
         return dataTypeValidatorConverter;
     }
 
-    private ToscaPropertyType isDataTypeDerviedFromScalarType(DataTypeDefinition dataTypeDef) {
-        ToscaPropertyType result = null;
-        DataTypeDefinition dataType = dataTypeDef;
-        while (dataType != null) {
-            String name = dataType.getName();
-            ToscaPropertyType typeIfScalar = ToscaPropertyType.getTypeIfScalar(name);
-            if (typeIfScalar != null) {
-                result = typeIfScalar;
-                break;
-            }
-            dataType = dataType.getDerivedFrom();
+    @EventListener
+    public void onDataTypesCacheChangedEvent(DataTypesCacheChangedEvent dataTypesCacheChangedEvent) {
+        compiledDataTypes.invalidateAll();
+        log.debug("Data types cache updated, compiled data types cleared.");
+    }
+
+    private CompiledDataType getCompiledDataType(DataTypeDefinition dataTypeDefinition) {
+        CompiledDataType compiledDataType = compiledDataTypes.getIfPresent(dataTypeDefinition);
+        if (compiledDataType == null) {
+            compiledDataType = CompiledDataType.compile(dataTypeDefinition);
+            compiledDataTypes.put(dataTypeDefinition, compiledDataType);
         }
-        return result;
+        return compiledDataType;
     }
 
-    private ImmutablePair<JsonElement, Boolean> validateAndUpdate(JsonElement jsonElement, DataTypeDefinition dataTypeDefinition,
+    /**
+     * Same as {@link #validateAndUpdate(String, DataTypeDefinition, Map)} for a value which is already parsed, e.g. an entry of a list or map
+     * value.
+     */
+    public ImmutablePair<JsonElement, Boolean> validateAndUpdateJson(JsonElement jsonElement, DataTypeDefinition dataTypeDefinition,
+                                                                     Map<String, DataTypeDefinition> allDataTypes) {
+        return validateAndUpdate(jsonElement, getCompiledDataType(dataTypeDefinition), allDataTypes);
+    }
+
+    private ImmutablePair<JsonElement, Boolean> validateAndUpdate(JsonElement jsonElement, CompiledDataType dataType,
                                                                   Map<String, DataTypeDefinition> allDataTypes) {
-        Map<String, PropertyDefinition> allProperties = getAllProperties(dataTypeDefinition);
         ToscaPropertyType toscaPropertyType = null;
-        if ((toscaPropertyType = isDataTypeDerviedFromScalarType(dataTypeDefinition)) != null) {
+        if ((toscaPropertyType = dataType.getScalarType()) != null) {
             PropertyTypeValidator validator = toscaPropertyType.getValidator();
             PropertyValueConverter converter = toscaPropertyType.getConverter();
             if (jsonElement == null || jsonElement.isJsonNull()) {
                 boolean valid = validator.isValid(null, null, allDataTypes);
                 if (!valid) {
-                    log.trace("Failed in validation of property {} from type {}", dataTypeDefinition.getName(), dataTypeDefinition.getName());
+                    log.trace("Failed in validation of property {} from type {}", dataType.getName(), dataType.getName());
                     return falseResult;
                 }
                 return new ImmutablePair<>(jsonElement, true);
@@ -94,8 +106,8 @@ public class DataTypeValidatorConverter {
                     }
                     boolean valid = validator.isValid(value, null, null);
                     if (!valid) {
-                        log.trace("Failed in validation of property {} from type {}. Json primitive value is {}", dataTypeDefinition.getName(),
-                            dataTypeDefinition.getName(), value);
+                        log.trace("Failed in validation of property {} from type {}. Json primitive value is {}", dataType.getName(),
+                            dataType.getName(), value);
                         return falseResult;
                     }
                     String convertedValue = converter.convert(value, null, allDataTypes);
@@ -103,7 +115,7 @@ public class DataTypeValidatorConverter {
                     try {
                         element = jsonParser.parse(convertedValue);
                     } catch (JsonSyntaxException e) {
-                        log.debug("Failed to parse value {} of property {} {}", convertedValue, dataTypeDefinition.getName(), e);
+                        log.debug("Failed to parse value {} of property {} {}", convertedValue, dataType.getName(), e);
                         return falseResult;
                     }
                     return new ImmutablePair<>(element, true);
@@ -114,7 +126,7 @@ public class DataTypeValidatorConverter {
 
                     // map/list. (cannot add the entry schema to it)
                     log.debug("We cannot derive from list/map. Thus, the value cannot be not primitive since the data type {} is scalar one",
-                        dataTypeDefinition.getName());
+                        dataType.getName());
                     return falseResult;
                 }
             }
@@ -129,30 +141,20 @@ public class DataTypeValidatorConverter {
                     for (Entry<String, JsonElement> entry : entrySet) {
                         String propName = entry.getKey();
                         JsonElement elementValue = entry.getValue();
-                        PropertyDefinition propertyDefinition = allProperties.get(propName);
-                        if (propertyDefinition == null) {
-                            log.debug("The property {} was not found under data type {}", propName, dataTypeDefinition.getName());
+                        CompiledProperty property = dataType.getProperty(propName);
+                        if (property == null) {
+                            log.debug("The property {} was not found under data type {}", propName, dataType.getName());
                             return falseResult;
                         }
-                        String type = propertyDefinition.getType();
-                        boolean isScalarType = ToscaPropertyType.isScalarType(type);
-                        if (isScalarType) {
-                            ToscaPropertyType propertyType = ToscaPropertyType.isValidType(type);
-                            if (propertyType == null) {
-                                log.debug("cannot find the {} under default tosca property types", type);
-                                return falseResult;
-                            }
+                        String type = property.getType();
+                        ToscaPropertyType propertyType = property.getScalarType();
+                        if (propertyType != null) {
                             PropertyTypeValidator validator = propertyType.getValidator();
-                            String innerType = null;
-                            if (propertyType == ToscaPropertyType.LIST || propertyType == ToscaPropertyType.MAP) {
-                                if (propertyDefinition.getSchema() != null && propertyDefinition.getSchema().getProperty() != null) {
-                                    innerType = propertyDefinition.getSchema().getProperty().getType();
-                                    if (innerType == null) {
-                                        log.debug("Property type {} must have inner type in its declaration.", propertyType);
-                                        return falseResult;
-                                    }
-                                }
+                            if (property.isMissingInnerType()) {
+                                log.debug("Property type {} must have inner type in its declaration.", propertyType);
+                                return falseResult;
                             }
+                            String innerType = property.getInnerType();
                             String value = null;
                             if (elementValue != null) {
                                 if (elementValue.isJsonPrimitive() && elementValue.getAsString().isEmpty()) {
@@ -188,7 +190,7 @@ public class DataTypeValidatorConverter {
                                 log.debug("The data type {} cannot be found in the given data type list.", type);
                                 return falseResult;
                             }
-                            ImmutablePair<JsonElement, Boolean> isValid = validateAndUpdate(elementValue, typeDefinition, allDataTypes);
+                            ImmutablePair<JsonElement, Boolean> isValid = validateAndUpdateJson(elementValue, typeDefinition, allDataTypes);
                             if (!isValid.getRight().booleanValue()) {
                                 log.debug("Failed in validation of value {} from type {}", (elementValue != null ? elementValue.toString() : null),
                                     typeDefinition.getName());
@@ -200,7 +202,7 @@ public class DataTypeValidatorConverter {
                     return new ImmutablePair<>(buildJsonObject, true);
                 } else {
                     log.debug("The value {} of type {} should be json object", (jsonElement != null ? jsonElement.toString() : null),
-                        dataTypeDefinition.getName());
+                        dataType.getName());
                     return falseResult;
                 }
             }
@@ -218,19 +220,7 @@ public class DataTypeValidatorConverter {
         } catch (JsonSyntaxException e) {
             return falseResult;
         }
-        return validateAndUpdate(jsonElement, dataTypeDefinition, allDataTypes);
-    }
-
-    private Map<String, PropertyDefinition> getAllProperties(DataTypeDefinition dataTypeDefinition) {
-        Map<String, PropertyDefinition> allParentsProps = new HashMap<>();
-        while (dataTypeDefinition != null) {
-            List<PropertyDefinition> currentParentsProps = dataTypeDefinition.getProperties();
-            if (currentParentsProps != null) {
-                currentParentsProps.stream().forEach(p -> allParentsProps.put(p.getName(), p));
-            }
-            dataTypeDefinition = dataTypeDefinition.getDerivedFrom();
-        }
-        return allParentsProps;
+        return validateAndUpdateJson(jsonElement, dataTypeDefinition, allDataTypes);
     }
 
     public boolean isValid(String value, DataTypeDefinition dataTypeDefinition, Map<String, DataTypeDefinition> allDataTypes) {
@@ -244,18 +234,24 @@ public class DataTypeValidatorConverter {
             log.debug("Failed to parse the value {} from type {}", value, dataTypeDefinition, e);
             return false;
         }
-        return isValid(jsonElement, dataTypeDefinition, allDataTypes);
+        return isValidJson(jsonElement, dataTypeDefinition, allDataTypes);
+    }
+
+    /**
+     * Same as {@link #isValid(String, DataTypeDefinition, Map)} for a value which is already parsed, e.g. an entry of a list or map value.
+     */
+    public boolean isValidJson(JsonElement jsonElement, DataTypeDefinition dataTypeDefinition, Map<String, DataTypeDefinition> allDataTypes) {
+        return isValid(jsonElement, getCompiledDataType(dataTypeDefinition), allDataTypes);
     }
 
-    private boolean isValid(JsonElement jsonElement, DataTypeDefinition dataTypeDefinition, Map<String, DataTypeDefinition> allDataTypes) {
-        Map<String, PropertyDefinition> allProperties = getAllProperties(dataTypeDefinition);
+    private boolean isValid(JsonElement jsonElement, CompiledDataType dataType, Map<String, DataTypeDefinition> allDataTypes) {
         ToscaPropertyType toscaPropertyType = null;
-        if ((toscaPropertyType = isDataTypeDerviedFromScalarType(dataTypeDefinition)) != null) {
+        if ((toscaPropertyType = dataType.getScalarType()) != null) {
             PropertyTypeValidator validator = toscaPropertyType.getValidator();
             if (jsonElement == null || jsonElement.isJsonNull()) {
                 boolean valid = validator.isValid(null, null, allDataTypes);
                 if (!valid) {
-                    log.trace("Failed in validation of property {} from type {}", dataTypeDefinition.getName(), dataTypeDefinition.getName());
+                    log.trace("Failed in validation of property {} from type {}", dataType.getName(), dataType.getName());
                     return false;
                 }
                 return true;
@@ -271,8 +267,8 @@ public class DataTypeValidatorConverter {
                     }
                     boolean valid = validator.isValid(value, null, allDataTypes);
                     if (!valid) {
-                        log.trace("Failed in validation of property {} from type {}. Json primitive value is {}", dataTypeDefinition.getName(),
-                            dataTypeDefinition.getName(), value);
+                        log.trace("Failed in validation of property {} from type {}. Json primitive value is {}", dataType.getName(),
+                            dataType.getName(), value);
                         return false;
                     }
                     return true;
@@ -283,7 +279,7 @@ public class DataTypeValidatorConverter {
 
                     // map/list. (cannot add the entry schema to it)
                     log.debug("We cannot derive from list/map. Thus, the value cannot be not primitive since the data type {} is scalar one",
-                        dataTypeDefinition.getName());
+                        dataType.getName());
                     return false;
                 }
             }
@@ -297,30 +293,20 @@ public class DataTypeValidatorConverter {
                     for (Entry<String, JsonElement> entry : entrySet) {
                         String propName = entry.getKey();
                         JsonElement elementValue = entry.getValue();
-                        PropertyDefinition propertyDefinition = allProperties.get(propName);
-                        if (propertyDefinition == null) {
-                            log.debug("The property {} was not found under data type {}", propName, dataTypeDefinition.getName());
+                        CompiledProperty property = dataType.getProperty(propName);
+                        if (property == null) {
+                            log.debug("The property {} was not found under data type {}", propName, dataType.getName());
                             return false;
                         }
-                        String type = propertyDefinition.getType();
-                        boolean isScalarType = ToscaPropertyType.isScalarType(type);
-                        if (isScalarType) {
-                            ToscaPropertyType propertyType = ToscaPropertyType.isValidType(type);
-                            if (propertyType == null) {
-                                log.debug("cannot find the {} under default tosca property types", type);
-                                return false;
-                            }
+                        String type = property.getType();
+                        ToscaPropertyType propertyType = property.getScalarType();
+                        if (propertyType != null) {
                             PropertyTypeValidator validator = propertyType.getValidator();
-                            String innerType = null;
-                            if (propertyType == ToscaPropertyType.LIST || propertyType == ToscaPropertyType.MAP) {
-                                if (propertyDefinition.getSchema() != null && propertyDefinition.getSchema().getProperty() != null) {
-                                    innerType = propertyDefinition.getSchema().getProperty().getType();
-                                    if (innerType == null) {
-                                        log.debug("Property type {} must have inner type in its declaration.", propertyType);
-                                        return false;
-                                    }
-                                }
+                            if (property.isMissingInnerType()) {
+                                log.debug("Property type {} must have inner type in its declaration.", propertyType);
+                                return false;
                             }
+                            String innerType = property.getInnerType();
                             String value = null;
                             if (elementValue != null) {
                                 if (elementValue.isJsonPrimitive() && elementValue.getAsString().isEmpty()) {
@@ -340,7 +326,7 @@ public class DataTypeValidatorConverter {
                                 log.debug("The data type {} cannot be found in the given data type list.", type);
                                 return false;
                             }
-                            boolean isValid = isValid(elementValue, typeDefinition, allDataTypes);
+                            boolean isValid = isValidJson(elementValue, typeDefinition, allDataTypes);
                             if (!isValid) {
                                 log.debug("Failed in validation of value {} from type {}", (elementValue != null ? elementValue.toString() : null),
                                     typeDefinition.getName());
@@ -351,7 +337,7 @@ public class DataTypeValidatorConverter {
                     return true;
                 } else {
                     log.debug("The value {} of type {} should be json object", (jsonElement != null ? jsonElement.toString() : null),
-                        dataTypeDefinition.getName());
+                        dataType.getName());
                     return false;
                 }
             }
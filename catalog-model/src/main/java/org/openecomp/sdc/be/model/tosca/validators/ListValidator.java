@@ -118,8 +118,10 @@ public class ListValidator implements PropertyTypeValidator {
             for (int i = 0; i < size; i++) {
                 JsonElement currentValue = jo.get(i);
                 if (currentValue != null) {
-                    String element = JsonUtils.toString(currentValue);
-                    boolean isValid = dataTypeValidatorConverter.isValid(element, innerDataTypeDefinition, allDataTypes);
+                    // an object is validated as parsed, without printing and parsing it again
+                    boolean isValid = currentValue.isJsonObject() ? dataTypeValidatorConverter
+                        .isValidJson(currentValue, innerDataTypeDefinition, allDataTypes)
+                        : dataTypeValidatorConverter.isValid(JsonUtils.toString(currentValue), innerDataTypeDefinition, allDataTypes);
                     if (!isValid) {
                         log.debug("Cannot parse value {} from type {} in list parameter", currentValue, innerType);
                         return false;
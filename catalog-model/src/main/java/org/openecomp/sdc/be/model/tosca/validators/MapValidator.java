@@ -141,8 +141,10 @@ public class MapValidator implements PropertyTypeValidator {
                 String currentKey = entry.getKey();
                 JsonElement currentValue = entry.getValue();
                 if (currentValue != null) {
-                    String element = JsonUtils.toString(currentValue);
-                    boolean isValid = dataTypeValidatorConverter.isValid(element, innerDataTypeDefinition, allDataTypes);
+                    // an object is validated as parsed, without printing and parsing it again
+                    boolean isValid = currentValue.isJsonObject() ? dataTypeValidatorConverter
+                        .isValidJson(currentValue, innerDataTypeDefinition, allDataTypes)
+                        : dataTypeValidatorConverter.isValid(JsonUtils.toString(currentValue), innerDataTypeDefinition, allDataTypes);
                     if (!isValid) {
                         log.debug("Cannot parse value {} from type {} of key {}", currentValue, innerType, currentKey);
                         return false;
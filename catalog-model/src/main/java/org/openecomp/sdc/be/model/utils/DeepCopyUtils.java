@@ -0,0 +1,183 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.utils;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+
+/**
+ * Field by field deep copy of the catalog model objects, used where a cached object graph is handed out to callers that may modify it.
+ * <p>
+ * JDK value types (strings, boxed primitives, enums, ...) are shared, collections and maps are copied into mutable collections of the same
+ * kind and every other object is instantiated through its no-arg constructor, or its copy constructor when it has no no-arg one, and gets
+ * all of its fields copied. Shared references and cycles are preserved.
+ */
+public class DeepCopyUtils {
+
+    private static final Logger log = Logger.getLogger(DeepCopyUtils.class.getName());
+    private static final Map<Class<?>, List<Field>> FIELDS = new ConcurrentHashMap<>();
+
+    private DeepCopyUtils() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T deepCopy(T object) {
+        return (T) copy(object, new IdentityHashMap<>());
+    }
+
+    private static Object copy(Object object, Map<Object, Object> copies) {
+        if (object == null || isImmutable(object.getClass())) {
+            return object;
+        }
+        Object existing = copies.get(object);
+        if (existing != null) {
+            return existing;
+        }
+        if (object instanceof Map) {
+            return copyMap((Map<?, ?>) object, copies);
+        }
+        if (object instanceof Collection) {
+            return copyCollection((Collection<?>) object, copies);
+        }
+        if (object.getClass().isArray()) {
+            return copyArray(object, copies);
+        }
+        if (object instanceof Date) {
+            Date copy = (Date) ((Date) object).clone();
+            copies.put(object, copy);
+            return copy;
+        }
+        return copyObject(object, copies);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object copyMap(Map<?, ?> map, Map<Object, Object> copies) {
+        Map<Object, Object> copy =
+            map instanceof SortedMap ? new TreeMap<>((Comparator<Object>) ((SortedMap<?, ?>) map).comparator()) : new LinkedHashMap<>();
+        copies.put(map, copy);
+        map.forEach((key, value) -> copy.put(copy(key, copies), copy(value, copies)));
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object copyCollection(Collection<?> collection, Map<Object, Object> copies) {
+        Collection<Object> copy;
+        if (collection instanceof SortedSet) {
+            copy = new TreeSet<>((Comparator<Object>) ((SortedSet<?>) collection).comparator());
+        } else if (collection instanceof Set) {
+            copy = new LinkedHashSet<>();
+        } else {
+            copy = new ArrayList<>(collection.size());
+        }
+        copies.put(collection, copy);
+        collection.forEach(element -> copy.add(copy(element, copies)));
+        return copy;
+    }
+
+    private static Object copyArray(Object array, Map<Object, Object> copies) {
+        int length = Array.getLength(array);
+        Object copy = Array.newInstance(array.getClass().getComponentType(), length);
+        copies.put(array, copy);
+        for (int i = 0; i < length; i++) {
+            Array.set(copy, i, copy(Array.get(array, i), copies));
+        }
+        return copy;
+    }
+
+    private static Object copyObject(Object object, Map<Object, Object> copies) {
+        Class<?> clazz = object.getClass();
+        Object copy = newInstance(clazz, object);
+        if (copy == null) {
+            log.debug("Cannot instantiate {}, the instance is shared instead of copied", clazz.getName());
+            return object;
+        }
+        copies.put(object, copy);
+        try {
+            for (Field field : getFields(clazz)) {
+                field.set(copy, copy(field.get(object), copies));
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Failed to copy an instance of " + clazz.getName(), e);
+        }
+        return copy;
+    }
+
+    private static Object newInstance(Class<?> clazz, Object original) {
+        try {
+            Constructor<?> constructor = clazz.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // no usable no-arg constructor, fall back to a copy constructor
+        }
+        for (Constructor<?> constructor : clazz.getDeclaredConstructors()) {
+            if (constructor.getParameterCount() == 1 && constructor.getParameterTypes()[0].isAssignableFrom(clazz)) {
+                try {
+                    constructor.setAccessible(true);
+                    return constructor.newInstance(original);
+                } catch (ReflectiveOperationException | RuntimeException e) {
+                    log.debug("Failed to call the copy constructor of {}", clazz.getName(), e);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static List<Field> getFields(Class<?> clazz) {
+        return FIELDS.computeIfAbsent(clazz, c -> {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> current = c; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            return fields;
+        });
+    }
+
+    private static boolean isImmutable(Class<?> clazz) {
+        if (clazz.isEnum() || clazz.isPrimitive() || (clazz.getSuperclass() != null && clazz.getSuperclass().isEnum())) {
+            return true;
+        }
+        // anything else from the JDK that is not a container is a value type (String, Number, Boolean, UUID, java.time, ...)
+        String name = clazz.getName();
+        return (name.startsWith("java.") || name.startsWith("javax.")) && !Map.class.isAssignableFrom(clazz) && !Collection.class
+            .isAssignableFrom(clazz) && !clazz.isArray() && !Date.class.isAssignableFrom(clazz);
+    }
+}
@@ -26,10 +26,14 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import fj.data.Either;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -49,6 +53,7 @@ import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
 import org.openecomp.sdc.be.datatypes.elements.DataTypeDataDefinition;
 import org.openecomp.sdc.be.model.DataTypeDefinition;
+import org.openecomp.sdc.be.model.cache.ApplicationDataTypeCache.DataTypesCacheChangedEvent;
 import org.openecomp.sdc.be.model.operations.impl.DataTypeOperation;
 import org.openecomp.sdc.be.model.operations.impl.PropertyOperation;
 import org.openecomp.sdc.be.resources.data.DataTypeData;
@@ -65,6 +70,9 @@ class ApplicationDataTypeCacheTest {
     @Mock
 	private ApplicationEventPublisher applicationEventPublisher;
 
+    @Mock
+    private DataTypeChangeTransport dataTypeChangeTransport;
+
     @InjectMocks
     private ApplicationDataTypeCache applicationDataTypeCache;
 
@@ -196,6 +204,31 @@ class ApplicationDataTypeCacheTest {
 		assertDataTypeCache(modifiedDataTypeDefinitionMap);
 	}
 
+	@Test
+	void testCacheChangeWithDataTypeChangeEvent() {
+		//no polling during the test
+		schedulerFirstRunDelay = 60;
+		defaultInit();
+		verify(dataTypeChangeTransport).subscribe(any());
+		assertDataTypeCache(dataTypeDefinitionMap);
+
+		final DataTypeDefinition testDataType1 = createDataTypeDefinition("test.data.type1", "test.data.type1", 100L, 2000L);
+		final DataTypeDefinition testDataType3 = createDataTypeDefinition("test.data.type3", "test.data.type3", 102L, 1002L);
+		final Map<String, DataTypeDefinition> modifiedDataTypeDefinitionMap =
+			Map.of(testDataType1.getName(), testDataType1, testDataType3.getName(), testDataType3);
+		when(dataTypeOperation.getModelsDerivedFrom(null)).thenReturn(Collections.singleton(null));
+		when(propertyOperation.getAllDataTypesOfModel(null)).thenReturn(Either.left(modifiedDataTypeDefinitionMap));
+
+		//changed before the cache was loaded, nothing to reload
+		applicationDataTypeCache.onDataTypeChange(new DataTypeChange(null, 0L));
+		applicationDataTypeCache.onDataTypeChange(DataTypeChange.of(null));
+
+		await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> assertDataTypeCache(modifiedDataTypeDefinitionMap));
+		assertNull(applicationDataTypeCache.getAll(null).left().value().get("test.data.type2"));
+		verify(propertyOperation, times(1)).getAllDataTypesOfModel(null);
+		verify(applicationEventPublisher).publishEvent(any(DataTypesCacheChangedEvent.class));
+	}
+
 	@Test
 	void testGetAllWithNoInitialization() {
 		final Map<String, Map<String, DataTypeDefinition>> dataTypeDefinitionMap = new HashMap<>();
@@ -0,0 +1,166 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import fj.data.Either;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.openecomp.sdc.be.dao.janusgraph.ComponentChangeListener;
+import org.openecomp.sdc.be.dao.janusgraph.HealingJanusGraphDao;
+import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
+import org.openecomp.sdc.be.datatypes.enums.ResourceTypeEnum;
+import org.openecomp.sdc.be.model.catalog.CatalogComponent;
+import org.openecomp.sdc.be.model.catalog.CatalogComponentsDelta;
+import org.openecomp.sdc.be.model.jsonjanusgraph.operations.TopologyTemplateOperation;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+
+class CatalogProjectionTest {
+
+    private final HealingJanusGraphDao janusGraphDao = Mockito.mock(HealingJanusGraphDao.class);
+    private final TopologyTemplateOperation topologyTemplateOperation = Mockito.mock(TopologyTemplateOperation.class);
+    private final CatalogProjection catalogProjection = new CatalogProjection(janusGraphDao, topologyTemplateOperation);
+    private ComponentChangeListener listener;
+
+    @BeforeEach
+    void setUp() {
+        catalogProjection.init(10, 100);
+        ArgumentCaptor<ComponentChangeListener> listenerCaptor = ArgumentCaptor.forClass(ComponentChangeListener.class);
+        verify(janusGraphDao).addComponentChangeListener(listenerCaptor.capture());
+        listener = listenerCaptor.getValue();
+        when(topologyTemplateOperation.getElementCatalogData(true, Collections.emptyList()))
+            .thenReturn(Either.left(Arrays.asList(component("vf1", "VF", "1.0"), component("cp1", "CP", "1.0"))));
+        when(topologyTemplateOperation.getElementCatalogData(false, Collections.emptyList()))
+            .thenReturn(Either.left(Collections.singletonList(component("archived", "VF", "1.0"))));
+    }
+
+    @Test
+    void buildsProjectionOnceAndFiltersTypes() {
+        assertEquals(new HashSet<>(Arrays.asList("vf1", "cp1")), ids(catalogProjection.getComponents(true, null).left().value()));
+        assertEquals(Collections.singleton("vf1"),
+            ids(catalogProjection.getComponents(true, Collections.singletonList(ResourceTypeEnum.CP)).left().value()));
+        assertEquals(Collections.singleton("archived"), ids(catalogProjection.getComponents(false, null).left().value()));
+        verify(topologyTemplateOperation, times(1)).getElementCatalogData(true, Collections.emptyList());
+        verify(topologyTemplateOperation, never()).getElementCatalogDataByIds(eq(true), anyCollection());
+    }
+
+    @Test
+    void refreshesOnlyChangedComponents() {
+        String initialVersion = catalogProjection.getVersion().left().value();
+        mockChanged(Collections.singletonMap("vf1", component("vf1", "VF", "2.0")), Collections.emptyMap());
+
+        listener.componentsChanged(Collections.singleton("vf1"));
+
+        String version = catalogProjection.getVersion().left().value();
+        assertNotEquals(initialVersion, version);
+        CatalogComponentsDelta delta = catalogProjection.getChanges(true, null, initialVersion).left().value();
+        assertFalse(delta.isFull());
+        assertEquals(version, delta.getVersion());
+        assertEquals(1, delta.getChanged().size());
+        assertEquals("2.0", delta.getChanged().get(0).getVersion());
+        assertTrue(delta.getRemoved().isEmpty());
+        verify(topologyTemplateOperation, times(1)).getElementCatalogData(true, Collections.emptyList());
+    }
+
+    @Test
+    void unchangedComponentKeepsVersion() {
+        String initialVersion = catalogProjection.getVersion().left().value();
+        mockChanged(Collections.singletonMap("vf1", component("vf1", "VF", "1.0")), Collections.emptyMap());
+
+        listener.componentsChanged(Collections.singleton("vf1"));
+
+        assertEquals(initialVersion, catalogProjection.getVersion().left().value());
+    }
+
+    @Test
+    void archivedAndDeletedComponentsAreReportedAsRemoved() {
+        String initialVersion = catalogProjection.getVersion().left().value();
+        mockChanged(Collections.emptyMap(), Collections.singletonMap("vf1", component("vf1", "VF", "1.0")));
+
+        listener.componentsChanged(new HashSet<>(Arrays.asList("vf1", "cp1")));
+
+        CatalogComponentsDelta catalogDelta = catalogProjection.getChanges(true, null, initialVersion).left().value();
+        assertTrue(catalogDelta.getChanged().isEmpty());
+        assertEquals(new HashSet<>(Arrays.asList("vf1", "cp1")), new HashSet<>(catalogDelta.getRemoved()));
+        CatalogComponentsDelta archiveDelta = catalogProjection.getChanges(false, null, initialVersion).left().value();
+        assertEquals(Collections.singleton("vf1"), ids(archiveDelta.getChanged()));
+        assertEquals(new HashSet<>(Arrays.asList("archived", "vf1")), ids(catalogProjection.getComponents(false, null).left().value()));
+    }
+
+    @Test
+    void unknownVersionGetsFullCatalog() {
+        CatalogComponentsDelta delta = catalogProjection.getChanges(true, null, "other.5").left().value();
+
+        assertTrue(delta.isFull());
+        assertEquals(new HashSet<>(Arrays.asList("vf1", "cp1")), ids(delta.getChanged()));
+        assertTrue(delta.getRemoved().isEmpty());
+    }
+
+    @Test
+    void failedRefreshIsRetried() {
+        catalogProjection.getVersion();
+        when(topologyTemplateOperation.getElementCatalogDataByIds(eq(true), any()))
+            .thenReturn(Either.right(StorageOperationStatus.GENERAL_ERROR));
+
+        listener.componentsChanged(Collections.singleton("vf1"));
+
+        assertTrue(catalogProjection.getVersion().isRight());
+        mockChanged(Collections.singletonMap("vf1", component("vf1", "VF", "2.0")), Collections.emptyMap());
+        assertTrue(catalogProjection.getVersion().isLeft());
+        assertTrue(catalogProjection.getComponents(true, null).left().value().stream().anyMatch(c -> "2.0".equals(c.getVersion())));
+    }
+
+    private void mockChanged(Map<String, CatalogComponent> catalog, Map<String, CatalogComponent> archive) {
+        when(topologyTemplateOperation.getElementCatalogDataByIds(eq(true), any())).thenReturn(Either.left(new HashMap<>(catalog)));
+        when(topologyTemplateOperation.getElementCatalogDataByIds(eq(false), any())).thenReturn(Either.left(new HashMap<>(archive)));
+    }
+
+    private static CatalogComponent component(String uniqueId, String resourceType, String version) {
+        CatalogComponent component = new CatalogComponent();
+        component.setUniqueId(uniqueId);
+        component.setComponentType(ComponentTypeEnum.RESOURCE);
+        component.setResourceType(resourceType);
+        component.setVersion(version);
+        return component;
+    }
+
+    private static Set<String> ids(List<CatalogComponent> components) {
+        return components.stream().map(CatalogComponent::getUniqueId).collect(Collectors.toSet());
+    }
+}
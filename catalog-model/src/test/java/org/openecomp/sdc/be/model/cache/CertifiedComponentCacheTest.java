@@ -0,0 +1,179 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.openecomp.sdc.be.dao.janusgraph.ComponentChangeListener;
+import org.openecomp.sdc.be.dao.janusgraph.HealingJanusGraphDao;
+import org.openecomp.sdc.be.dao.jsongraph.GraphVertex;
+import org.openecomp.sdc.be.dao.jsongraph.types.VertexTypeEnum;
+import org.openecomp.sdc.be.datatypes.enums.GraphPropertyEnum;
+import org.openecomp.sdc.be.datatypes.enums.JsonPresentationFields;
+import org.openecomp.sdc.be.model.ComponentInstance;
+import org.openecomp.sdc.be.model.ComponentParametersView;
+import org.openecomp.sdc.be.model.LifecycleStateEnum;
+import org.openecomp.sdc.be.model.Resource;
+
+class CertifiedComponentCacheTest {
+
+    private static final String COMPONENT_ID = "componentId";
+
+    private final HealingJanusGraphDao janusGraphDao = Mockito.mock(HealingJanusGraphDao.class);
+    private CertifiedComponentCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CertifiedComponentCache(janusGraphDao);
+        cache.init(1000, 60);
+    }
+
+    @Test
+    void onlyCertifiedOrArchivedComponentsAreCacheable() {
+        assertTrue(cache.isCacheable(createVertex(LifecycleStateEnum.CERTIFIED)));
+        assertFalse(cache.isCacheable(createVertex(LifecycleStateEnum.NOT_CERTIFIED_CHECKOUT)));
+        GraphVertex archived = createVertex(LifecycleStateEnum.NOT_CERTIFIED_CHECKIN);
+        archived.addMetadataProperty(GraphPropertyEnum.IS_ARCHIVED, true);
+        assertTrue(cache.isCacheable(archived));
+        assertFalse(new CertifiedComponentCache(janusGraphDao).isCacheable(createVertex(LifecycleStateEnum.CERTIFIED)));
+    }
+
+    @Test
+    void cachedComponentIsCopiedInAndOut() {
+        GraphVertex vertex = createVertex(LifecycleStateEnum.CERTIFIED);
+        Resource resource = createResource(2);
+        cache.put(vertex, new ComponentParametersView(), resource, cache.getLoadStamp());
+        resource.getComponentInstances().clear();
+
+        Optional<Resource> first = cache.get(vertex, new ComponentParametersView());
+        assertTrue(first.isPresent());
+        assertEquals(2, first.get().getComponentInstances().size());
+        first.get().getComponentInstances().get(0).setName("changed");
+
+        Resource second = cache.<Resource>get(vertex, new ComponentParametersView()).get();
+        assertNotSame(first.get(), second);
+        assertEquals("instance0", second.getComponentInstances().get(0).getName());
+        assertEquals(2, cache.getHitCount());
+    }
+
+    @Test
+    void entriesAreKeyedByView() {
+        GraphVertex vertex = createVertex(LifecycleStateEnum.CERTIFIED);
+        cache.put(vertex, new ComponentParametersView(), createResource(1), cache.getLoadStamp());
+
+        ComponentParametersView otherView = new ComponentParametersView();
+        otherView.setIgnoreComponentInstances(true);
+        assertFalse(cache.get(vertex, otherView).isPresent());
+        assertTrue(cache.get(vertex, new ComponentParametersView()).isPresent());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void entryIsDroppedWhenTheVertexMetadataChanged() {
+        GraphVertex vertex = createVertex(LifecycleStateEnum.CERTIFIED);
+        cache.put(vertex, new ComponentParametersView(), createResource(1), cache.getLoadStamp());
+
+        GraphVertex updatedVertex = createVertex(LifecycleStateEnum.CERTIFIED);
+        updatedVertex.addMetadataProperty(GraphPropertyEnum.IS_HIGHEST_VERSION, false);
+
+        assertFalse(cache.get(updatedVertex, new ComponentParametersView()).isPresent());
+        assertEquals(1, cache.getStaleCount());
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    void invalidateDropsAllViewsOfTheComponent() {
+        GraphVertex vertex = createVertex(LifecycleStateEnum.CERTIFIED);
+        ComponentParametersView otherView = new ComponentParametersView(true);
+        cache.put(vertex, new ComponentParametersView(), createResource(1), cache.getLoadStamp());
+        cache.put(vertex, otherView, createResource(1), cache.getLoadStamp());
+
+        cache.invalidate(COMPONENT_ID);
+
+        assertEquals(0, cache.getSize());
+        assertEquals(1, cache.getInvalidationCount());
+    }
+
+    @Test
+    void committedChangesInvalidateTheComponent() {
+        ArgumentCaptor<ComponentChangeListener> listener = ArgumentCaptor.forClass(ComponentChangeListener.class);
+        Mockito.verify(janusGraphDao).addComponentChangeListener(listener.capture());
+        GraphVertex vertex = createVertex(LifecycleStateEnum.CERTIFIED);
+        cache.put(vertex, new ComponentParametersView(), createResource(1), cache.getLoadStamp());
+
+        listener.getValue().componentsChanged(Collections.singleton(COMPONENT_ID));
+
+        assertFalse(cache.get(vertex, new ComponentParametersView()).isPresent());
+        assertEquals(1, cache.getInvalidationCount());
+    }
+
+    @Test
+    void componentLoadedBeforeAnInvalidationIsNotCached() {
+        GraphVertex vertex = createVertex(LifecycleStateEnum.CERTIFIED);
+        long loadStamp = cache.getLoadStamp();
+        cache.invalidate(COMPONENT_ID);
+
+        cache.put(vertex, new ComponentParametersView(), createResource(1), loadStamp);
+        assertEquals(0, cache.getSize());
+
+        cache.put(vertex, new ComponentParametersView(), createResource(1), cache.getLoadStamp());
+        assertEquals(1, cache.getSize());
+    }
+
+    @Test
+    void componentsAreEvictedByWeight() {
+        cache = new CertifiedComponentCache(janusGraphDao);
+        cache.init(10, 60);
+        cache.put(createVertex(LifecycleStateEnum.CERTIFIED), new ComponentParametersView(), createResource(20), cache.getLoadStamp());
+
+        assertEquals(0, cache.getSize());
+    }
+
+    private GraphVertex createVertex(LifecycleStateEnum state) {
+        GraphVertex vertex = new GraphVertex(VertexTypeEnum.TOPOLOGY_TEMPLATE);
+        vertex.setUniqueId(COMPONENT_ID);
+        vertex.addMetadataProperty(GraphPropertyEnum.STATE, state.name());
+        vertex.addMetadataProperty(GraphPropertyEnum.IS_HIGHEST_VERSION, true);
+        vertex.setJsonMetadataField(JsonPresentationFields.LIFECYCLE_STATE, state.name());
+        return vertex;
+    }
+
+    private Resource createResource(int numberOfInstances) {
+        Resource resource = new Resource();
+        resource.setUniqueId(COMPONENT_ID);
+        List<ComponentInstance> instances = new ArrayList<>();
+        for (int i = 0; i < numberOfInstances; i++) {
+            ComponentInstance instance = new ComponentInstance();
+            instance.setName("instance" + i);
+            instances.add(instance);
+        }
+        resource.setComponentInstances(instances);
+        return resource;
+    }
+}
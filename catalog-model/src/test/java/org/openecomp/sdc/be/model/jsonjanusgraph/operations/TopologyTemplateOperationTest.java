@@ -36,6 +36,7 @@ import org.openecomp.sdc.be.dao.janusgraph.JanusGraphDao;
 import org.openecomp.sdc.be.dao.jsongraph.types.EdgeLabelEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.JsonParseFlagEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.VertexTypeEnum;
+import org.openecomp.sdc.be.datatypes.elements.AttributeDataDefinition;
 import org.openecomp.sdc.be.datatypes.elements.MapCapabilityProperty;
 import org.openecomp.sdc.be.datatypes.elements.MapListCapabilityDataDefinition;
 import org.openecomp.sdc.be.datatypes.elements.MapListRequirementDataDefinition;
@@ -48,6 +49,7 @@ import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
 import org.openecomp.sdc.be.model.operations.impl.UniqueIdBuilder;
 import org.openecomp.sdc.be.model.ComponentParametersView;
 import org.openecomp.sdc.be.model.jsonjanusgraph.datamodel.ToscaElement;
+import org.openecomp.sdc.be.model.jsonjanusgraph.datamodel.TopologyTemplate;
 
 import java.util.*;
 
@@ -56,6 +58,7 @@ import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -169,6 +172,32 @@ public class TopologyTemplateOperationTest {
         verify(janusGraphDao, times(1)).getChildVertex(any(GraphVertex.class), any(EdgeLabelEnum.class), any(JsonParseFlagEnum.class));
     }
 
+    @Test
+    public void testGetToscaElementUsesLoadedDataVertices() {
+        final GraphVertex containerVertex = new GraphVertex();
+        final ComponentParametersView filter = new ComponentParametersView(true);
+        filter.setIgnoreComponentInstancesInterfaces(true);
+        filter.setIgnoreOutputs(false);
+        filter.setIgnoreDataType(false);
+        containerVertex.setVertex(Mockito.mock(JanusGraphVertex.class));
+        containerVertex.setJsonMetadataField(JsonPresentationFields.NAME, "componentName");
+        containerVertex.setUniqueId(UniqueIdBuilder.buildResourceUniqueId());
+        containerVertex.setLabel(VertexTypeEnum.TOPOLOGY_TEMPLATE);
+        final GraphVertex outputsVertex = new GraphVertex(VertexTypeEnum.OUTPUTS);
+        final Map<String, AttributeDataDefinition> outputs = Collections.singletonMap("output", new AttributeDataDefinition());
+        outputsVertex.setJson(outputs);
+        final Map<EdgeLabelEnum, GraphVertex> children = new EnumMap<>(EdgeLabelEnum.class);
+        children.put(EdgeLabelEnum.OUTPUTS, outputsVertex);
+        when(janusGraphDao.getChildVerticesByLabels(containerVertex, EnumSet.of(EdgeLabelEnum.OUTPUTS, EdgeLabelEnum.DATA_TYPES)))
+            .thenReturn(Either.left(children));
+
+        final Either<ToscaElement, StorageOperationStatus> result = topologyTemplateOperation.getToscaElement(containerVertex, filter);
+
+        assertThat(result.isLeft()).isTrue();
+        assertEquals(outputs, ((TopologyTemplate) result.left().value()).getOutputs());
+        verify(janusGraphDao, never()).getChildVertex(any(GraphVertex.class), any(EdgeLabelEnum.class), any(JsonParseFlagEnum.class));
+    }
+
     @Test
     public void testUpdateDistributionStatus() {
         Either<GraphVertex, StorageOperationStatus> result;
@@ -407,6 +407,20 @@ public class ToscaOperationFacadeTest {
         assertTrue(result.isLeft());
     }
 
+    @Test
+    public void testGetToscaElementsReadsAllVerticesAtOnce() {
+        GraphVertex graphVertex = getTopologyTemplateVertex();
+        graphVertex.setUniqueId("id1");
+        List<String> ids = Arrays.asList("id1", "id2", "id1");
+        ComponentParametersView filter = new ComponentParametersView();
+        when(janusGraphDaoMock.getVerticesByIds(ids, filter.detectParseFlag())).thenReturn(Either.left(Collections.singletonMap("id1", graphVertex)));
+        when(topologyTemplateOperationMock.getToscaElement(graphVertex, filter)).thenReturn(Either.left(getToscaElementForTest()));
+        Either<Map<String, Component>, StorageOperationStatus> result = testInstance.getToscaElements(ids, filter);
+        assertTrue(result.isLeft());
+        assertEquals(Collections.singleton("id1"), result.left().value().keySet());
+        verify(janusGraphDaoMock, times(0)).getVertexById(anyString(), any(JsonParseFlagEnum.class));
+    }
+
     @Test
     public void testMarkComponentToDelete() {
         StorageOperationStatus result;
@@ -0,0 +1,119 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.be.model.operations.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import fj.data.Either;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
+import org.openecomp.sdc.be.dao.cassandra.ComponentLockCassandraDao;
+import org.openecomp.sdc.be.datatypes.enums.NodeTypeEnum;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+
+@ExtendWith(MockitoExtension.class)
+class ComponentLeaseLockManagerTest {
+
+    private static final String OWNER = "node1";
+    private static final String COMPONENT_ID = "componentId";
+    private static final String LOCK_ID = "lock_resource_componentId";
+
+    @Mock
+    private ComponentLockCassandraDao componentLockDao;
+
+    private ComponentLeaseLockManager lockManager;
+
+    @BeforeEach
+    void setUp() {
+        lockManager = new ComponentLeaseLockManager(componentLockDao, OWNER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lockManager.shutdown();
+    }
+
+    @Test
+    void lockAcquiresLeaseAndRejectsLocalContentionWithoutRoundTrip() {
+        when(componentLockDao.acquire(eq(LOCK_ID), eq(OWNER), anyLong(), anyInt())).thenReturn(Either.left(true));
+
+        assertEquals(StorageOperationStatus.OK, lockManager.lock(COMPONENT_ID, NodeTypeEnum.Resource));
+        assertEquals(StorageOperationStatus.FAILED_TO_LOCK_ELEMENT, lockManager.lock(COMPONENT_ID, NodeTypeEnum.Resource));
+        verify(componentLockDao, times(1)).acquire(eq(LOCK_ID), eq(OWNER), anyLong(), anyInt());
+    }
+
+    @Test
+    void lockHeldByAnotherNodeFails() {
+        when(componentLockDao.acquire(eq(LOCK_ID), eq(OWNER), anyLong(), anyInt())).thenReturn(Either.left(false));
+
+        assertEquals(StorageOperationStatus.FAILED_TO_LOCK_ELEMENT, lockManager.lock(COMPONENT_ID, NodeTypeEnum.Resource));
+        assertEquals(StorageOperationStatus.FAILED_TO_LOCK_ELEMENT, lockManager.lock(COMPONENT_ID, NodeTypeEnum.Resource));
+        verify(componentLockDao, times(2)).acquire(eq(LOCK_ID), eq(OWNER), anyLong(), anyInt());
+    }
+
+    @Test
+    void lockFailsWhenCassandraIsNotAvailable() {
+        when(componentLockDao.acquire(eq(LOCK_ID), eq(OWNER), anyLong(), anyInt()))
+            .thenReturn(Either.right(CassandraOperationStatus.CLUSTER_NOT_CONNECTED));
+
+        assertEquals(StorageOperationStatus.CONNECTION_FAILURE, lockManager.lock(COMPONENT_ID, NodeTypeEnum.Resource));
+        assertEquals(StorageOperationStatus.CONNECTION_FAILURE, lockManager.lock(COMPONENT_ID, NodeTypeEnum.Resource));
+        verify(componentLockDao, times(2)).acquire(eq(LOCK_ID), eq(OWNER), anyLong(), anyInt());
+    }
+
+    @Test
+    void unlockReleasesLeaseWithItsFencingToken() {
+        when(componentLockDao.acquire(eq(LOCK_ID), eq(OWNER), anyLong(), anyInt())).thenReturn(Either.left(true));
+        assertEquals(StorageOperationStatus.OK, lockManager.lock(COMPONENT_ID, NodeTypeEnum.Resource));
+        ArgumentCaptor<Long> token = ArgumentCaptor.forClass(Long.class);
+        verify(componentLockDao).acquire(eq(LOCK_ID), eq(OWNER), token.capture(), anyInt());
+        long fencingToken = token.getValue();
+        when(componentLockDao.release(LOCK_ID, OWNER, fencingToken)).thenReturn(Either.left(true));
+
+        assertEquals(StorageOperationStatus.OK, lockManager.unlock(COMPONENT_ID, NodeTypeEnum.Resource));
+        assertEquals(StorageOperationStatus.NOT_FOUND, lockManager.unlock(COMPONENT_ID, NodeTypeEnum.Resource));
+        verify(componentLockDao).release(LOCK_ID, OWNER, fencingToken);
+    }
+
+    @Test
+    void fencingTokensIncrease() {
+        when(componentLockDao.acquire(eq(LOCK_ID), eq(OWNER), anyLong(), anyInt())).thenReturn(Either.left(true));
+        when(componentLockDao.release(eq(LOCK_ID), eq(OWNER), anyLong())).thenReturn(Either.left(true));
+
+        lockManager.lock(COMPONENT_ID, NodeTypeEnum.Resource);
+        lockManager.unlock(COMPONENT_ID, NodeTypeEnum.Resource);
+        lockManager.lock(COMPONENT_ID, NodeTypeEnum.Resource);
+
+        ArgumentCaptor<Long> tokens = ArgumentCaptor.forClass(Long.class);
+        verify(componentLockDao, times(2)).acquire(eq(LOCK_ID), eq(OWNER), tokens.capture(), anyInt());
+        assertTrue(tokens.getAllValues().get(1) > tokens.getAllValues().get(0));
+    }
+}
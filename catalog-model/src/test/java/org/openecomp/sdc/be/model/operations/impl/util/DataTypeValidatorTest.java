@@ -22,6 +22,7 @@ package org.openecomp.sdc.be.model.operations.impl.util;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
 import com.google.gson.reflect.TypeToken;
 import fj.data.Either;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -30,6 +31,7 @@ import org.openecomp.sdc.be.datatypes.elements.PropertyDataDefinition;
 import org.openecomp.sdc.be.datatypes.elements.SchemaDefinition;
 import org.openecomp.sdc.be.model.DataTypeDefinition;
 import org.openecomp.sdc.be.model.PropertyDefinition;
+import org.openecomp.sdc.be.model.cache.ApplicationDataTypeCache.DataTypesCacheChangedEvent;
 import org.openecomp.sdc.be.model.tosca.ToscaPropertyType;
 import org.openecomp.sdc.be.model.tosca.converters.ListConverter;
 import org.openecomp.sdc.be.model.tosca.converters.MapConverter;
@@ -329,6 +331,30 @@ public class DataTypeValidatorTest {
 
     }
 
+    @Test
+    public void testCompiledDataTypeRefreshedOnDataTypesCacheChange() {
+
+        DataTypeDefinition cityDataType = buildCityDataType();
+        Map<String, DataTypeDefinition> allDataTypes = new HashMap<>();
+        allDataTypes.put("city", cityDataType);
+
+        String json = "{\"address\":\"my address\",\"zip\":\"12345\"}";
+        assertFalse("check unknown property", dataTypeValidator.isValid(json, cityDataType, allDataTypes));
+
+        PropertyDefinition zipPropertyDefinition = new PropertyDefinition();
+        zipPropertyDefinition.setName("zip");
+        zipPropertyDefinition.setType(ToscaPropertyType.STRING.getType());
+        cityDataType.getProperties().add(zipPropertyDefinition);
+        dataTypeValidator.onDataTypesCacheChangedEvent(new DataTypesCacheChangedEvent(this, Collections.emptyMap()));
+
+        assertTrue("check added property", dataTypeValidator.isValid(json, cityDataType, allDataTypes));
+        ImmutablePair<JsonElement, Boolean> validate = dataTypeValidator
+                .validateAndUpdateJson(new JsonParser().parse(json), cityDataType, allDataTypes);
+        assertTrue("check valid value", validate.right.booleanValue());
+        assertEquals("check converted value", "12345", validate.left.getAsJsonObject().get("zip").getAsString());
+
+    }
+
     @Test
     public void testCompositeDataTypeWithInternalComposite() {
 
@@ -77,9 +77,11 @@ public class Configuration extends BasicConfiguration {
     private Boolean janusGraphInMemoryGraph;
     private int startMigrationFrom;
     private Long janusGraphLockTimeout;
+    private ComponentLockConfig componentLock;
     private Long janusGraphReconnectIntervalInSeconds;
     private List<String> healthStatusExclude;
     private Long janusGraphHealthCheckReadTimeout;
+    private boolean janusGraphShardedDataVertices;
     private Long uebHealthCheckReconnectIntervalInSeconds;
     private Long uebHealthCheckReadTimeout;
     private List<Map<String, Map<String, String>>> defaultImports;
@@ -116,6 +118,8 @@ public class Configuration extends BasicConfiguration {
     private ApplicationL2CacheConfig applicationL2Cache;
     private ToscaValidatorsConfig toscaValidators;
     private boolean disableAudit;
+    private AsyncAuditConfig asyncAudit;
+    private ToscaDependencyResolutionConfig toscaDependencyResolution;
     private Boolean consumerBusinessLogic;
     private Map<String, VfModuleProperty> vfModuleProperties;
     private Map<String, String> genericAssetNodeTypes;
@@ -244,6 +248,18 @@ public class Configuration extends BasicConfiguration {
         private String truststorePath;
         private String truststorePassword;
         private int maxWaitSeconds = 120;
+        /**
+         * Artifact payloads bigger than this size (in bytes) are stored in fixed-size chunks. Zero disables chunked storage.
+         */
+        private int artifactChunkSize = 0;
+        /**
+         * Stores each distinct artifact payload once, under its SHA-256 hash, artifacts only keep a reference to it.
+         */
+        private boolean artifactContentAddressed = false;
+        /**
+         * Minutes an unreferenced payload of the content-addressed storage is kept before the garbage collection deletes it.
+         */
+        private int artifactContentGcGraceInMinutes = 60;
 
         public Integer getCassandraPort() {
             return cassandraPort != null ? cassandraPort : Configuration.CassandrConfig.CASSANDRA_DEFAULT_PORT;
@@ -399,10 +415,58 @@ public class Configuration extends BasicConfiguration {
 
         private boolean enabled;
         private ApplicationL1CacheCatalogInfo catalogL1Cache;
+        private ApplicationL2CacheComponentInfo componentCache;
+        private ApplicationL2CacheCatalogProjectionInfo catalogProjection;
         @ToString.Exclude
         private QueueInfo queue;
     }
 
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @ToString
+    public static class AsyncAuditConfig {
+
+        private boolean enabled;
+        private int queueCapacity = 10000;
+        private int batchSize = 200;
+        private long flushIntervalInMillis = 100;
+        /**
+         * What to do with an event when the queue is full: BLOCK waits up to offerTimeoutInMillis and then writes the event on the calling
+         * thread, DROP discards it.
+         */
+        private String overflowPolicy = "BLOCK";
+        private long offerTimeoutInMillis = 50;
+        private int shutdownTimeoutInSeconds = 30;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @ToString
+    public static class ComponentLockConfig {
+
+        /**
+         * GRAPH keeps the lock vertices in JanusGraph, LEASE keeps expiring lock rows in Cassandra.
+         */
+        private String type = "GRAPH";
+        private int leaseTtlInSeconds = 60;
+        private int renewIntervalInSeconds = 20;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @ToString
+    public static class ToscaDependencyResolutionConfig {
+
+        /**
+         * Number of threads fetching the origin components of a CSAR concurrently, 1 fetches them on the request thread.
+         */
+        private int poolSize = 8;
+        private int timeoutInSeconds = 300;
+    }
+
     @Getter
     @Setter
     @NoArgsConstructor
@@ -435,6 +499,42 @@ public class Configuration extends BasicConfiguration {
         private Integer productsSizeInCache;
     }
 
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @ToString
+    public static class ApplicationL2CacheComponentInfo {
+
+        private boolean enabled;
+        /**
+         * Upper bound of the summed weight of the cached components, where the weight of a component is roughly the number of elements
+         * (instances, properties, inputs, artifacts, ...) it holds.
+         */
+        private long maxWeight = 500000;
+        /**
+         * Changes are only invalidated on the node which commits them, this bounds how long other back end nodes may serve the previous
+         * version of a changed component.
+         */
+        private int expireAfterWriteInMinutes = 10;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @ToString
+    public static class ApplicationL2CacheCatalogProjectionInfo {
+
+        private boolean enabled;
+        /**
+         * Interval of the full rebuild of the projection, which picks up changes committed by other back end instances.
+         */
+        private int fullRefreshIntervalInMinutes = 10;
+        /**
+         * Number of removed components remembered for delta responses, older deltas are answered with the full catalog.
+         */
+        private int maxRemovedHistory = 10000;
+    }
+
     @Getter
     @Setter
     @NoArgsConstructor
@@ -30,6 +30,8 @@ public final class Constants {
     public static final String MDC_APP_NAME = "APP_NAME";
     public static final String CONFIGURATION_MANAGER_ATTR = "configuration-manager";
     public static final String HEALTH_CHECK_SERVICE_ATTR = "healthCheckService";
+    public static final String BACKEND_ENDPOINT_POOL_ATTR = "backendEndpointPool";
+    public static final String RESPONSE_CACHE_ATTR = "responseCache";
     public static final String REST_CLIENT_ATTR = "rest-client";
     public static final String ARTIFACT_DAO_ATTR = "artifact-dao";
     public static final String UPLOAD_VALIDATORR_ATTR = "upload-validator";
@@ -43,6 +45,9 @@ public final class Constants {
     public static final String CONTENT_LENGTH_HEADER = "Content-Length";
     public static final String CONTENT_DISPOSITION_HEADER = "Content-Disposition";
     public static final String CONTENT_TYPE_HEADER = "Content-Type";
+    public static final String RANGE_HEADER = "Range";
+    public static final String CONTENT_RANGE_HEADER = "Content-Range";
+    public static final String ACCEPT_RANGES_HEADER = "Accept-Ranges";
     public static final String ORIGIN_HEADER = "HTTP_IV_REMOTE_ADDRESS";
     public static final String ACCESS_HEADER = "HTTP_CSP_WSTYPE";
     public static final String X_ECOMP_REQUEST_ID_HEADER = "X-ECOMP-RequestID";
@@ -49,6 +49,12 @@ public class Configuration extends BasicConfiguration {
      * backend http secured port
      */
     private Integer beSslPort;
+    /**
+     * backend endpoints the proxied requests are balanced between. When empty, beHost is the only backend
+     */
+    private List<BackendEndpointConfig> beEndpoints;
+    private BackendLoadBalancingConfig beLoadBalancing;
+    private ResponseCacheConfig responseCache;
     private Integer healthCheckSocketTimeoutInMs;
     private Integer healthCheckIntervalInSeconds;
     private List<String> healthStatusExclude;
@@ -153,4 +159,64 @@ public class Configuration extends BasicConfiguration {
         private String healthCheckUri;
         private String path;
     }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class BackendEndpointConfig {
+
+        private String host;
+        /**
+         * defaults to beHttpPort / beSslPort
+         */
+        private Integer httpPort;
+        private Integer sslPort;
+        private int weight = 1;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class BackendLoadBalancingConfig {
+
+        /**
+         * LEAST_OUTSTANDING_REQUESTS | WEIGHTED_ROUND_ROBIN
+         */
+        private String policy = "LEAST_OUTSTANDING_REQUESTS";
+        /**
+         * failed (5xx, connection error) or slow responses in a row after which a backend is ejected
+         */
+        private int maxConsecutiveFailures = 5;
+        /**
+         * responses slower than this count as failures, 0 disables the check
+         */
+        private int slowResponseThresholdInMs = 0;
+        private int ejectionTimeInSeconds = 30;
+        /**
+         * http client connection pool limits, per backend. Jetty defaults are used when not set
+         */
+        private Integer maxConnectionsPerBackend;
+        private Integer maxRequestsQueuedPerBackend;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class ResponseCacheConfig {
+
+        private boolean enabled = false;
+        /**
+         * how long a cached response is served before it is revalidated against the backend
+         */
+        private int timeToLiveInSeconds = 5;
+        /**
+         * how long a user that got a response from the backend may be served responses shared by all users
+         */
+        private int userValidationTimeInSeconds = 300;
+        private int maxEntries = 1000;
+        /**
+         * how many validated users are remembered, the least recently validated users are dropped first
+         */
+        private int maxValidatedUsers = 10000;
+    }
 }
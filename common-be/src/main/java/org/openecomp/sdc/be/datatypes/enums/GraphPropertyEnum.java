@@ -65,7 +65,10 @@ public enum GraphPropertyEnum {
     //Healing
     HEALING_VERSION("healVersion", Integer.class, false, true),
     MODEL("model", String.class, false, false),
-    MODEL_TYPE("modelType", String.class, false, false);
+    MODEL_TYPE("modelType", String.class, false, false),
+    //Sharded data vertices
+    IS_SHARDED("sharded", Boolean.class, false, false),
+    SHARD_KEY("shardKey", String.class, false, false);
     // @formatter:on
 
     private final String property;
@@ -35,7 +35,9 @@ import static org.openecomp.sdc.common.errors.Messages.UNEXPECTED_PROBLEM_HAPPEN
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -99,11 +101,14 @@ public class OrchestrationTemplateCandidateImpl implements OrchestrationTemplate
 
     private static final Logger LOGGER = LoggerFactory.getLogger(OrchestrationTemplateCandidateImpl.class);
     private static final String EXTERNAL_CSAR_STORE = "externalCsarStore";
+    private static final String STREAMING_UPLOAD = "streamingUpload";
     private final OrchestrationTemplateCandidateManager candidateManager;
     private final VendorSoftwareProductManager vendorSoftwareProductManager;
     private final ActivityLogManager activityLogManager;
     private final ArtifactStorageManager artifactStorageManager;
     private final PackageSizeReducer packageSizeReducer;
+    private final boolean streamingUploadEnabled;
+    private final Path spoolDirectory;
 
     public OrchestrationTemplateCandidateImpl() {
         this.candidateManager = OrchestrationTemplateCandidateManagerFactory.getInstance().createInterface();
@@ -113,6 +118,11 @@ public class OrchestrationTemplateCandidateImpl implements OrchestrationTemplate
         this.artifactStorageManager = new PersistentVolumeArtifactStorageManager(readArtifactStorageConfiguration());
         LOGGER.info("Instantiating packageSizeReducer");
         this.packageSizeReducer = new CsarSizeReducer(readPackageReducerConfiguration());
+        final var commonConfigurationManager = CommonConfigurationManager.getInstance();
+        this.streamingUploadEnabled = commonConfigurationManager.getConfigValue(STREAMING_UPLOAD, "enabled", false);
+        final String spoolDirectoryString = commonConfigurationManager.getConfigValue(STREAMING_UPLOAD, "spoolDirectory", null);
+        LOGGER.info("Streaming upload enabled: '{}', spool directory: '{}'", streamingUploadEnabled, spoolDirectoryString);
+        this.spoolDirectory = spoolDirectoryString == null ? null : Path.of(spoolDirectoryString);
     }
 
     // Constructor used in test to avoid mock static
@@ -126,6 +136,24 @@ public class OrchestrationTemplateCandidateImpl implements OrchestrationTemplate
         this.activityLogManager = activityLogManager;
         this.artifactStorageManager = artifactStorageManager;
         this.packageSizeReducer = packageSizeReducer;
+        this.streamingUploadEnabled = false;
+        this.spoolDirectory = null;
+    }
+
+    // Constructor used in test to avoid mock static
+    public OrchestrationTemplateCandidateImpl(final OrchestrationTemplateCandidateManager candidateManager,
+                                              final VendorSoftwareProductManager vendorSoftwareProductManager,
+                                              final ActivityLogManager activityLogManager,
+                                              final ArtifactStorageManager artifactStorageManager,
+                                              final PackageSizeReducer packageSizeReducer,
+                                              final Path spoolDirectory) {
+        this.candidateManager = candidateManager;
+        this.vendorSoftwareProductManager = vendorSoftwareProductManager;
+        this.activityLogManager = activityLogManager;
+        this.artifactStorageManager = artifactStorageManager;
+        this.packageSizeReducer = packageSizeReducer;
+        this.streamingUploadEnabled = true;
+        this.spoolDirectory = spoolDirectory;
     }
 
     private CsarPackageReducerConfiguration readPackageReducerConfiguration() {
@@ -158,6 +186,9 @@ public class OrchestrationTemplateCandidateImpl implements OrchestrationTemplate
         final byte[] fileToUploadBytes;
         final var filename = ValidationUtils.sanitizeInputString(fileToUpload.getDataHandler().getName());
         ArtifactInfo artifactInfo = null;
+        if (streamingUploadEnabled && !artifactStorageManager.isEnabled()) {
+            return uploadSpooled(vspId, versionId, fileToUpload, filename);
+        }
         if (artifactStorageManager.isEnabled()) {
             final InputStream packageInputStream;
             try {
@@ -184,6 +215,46 @@ public class OrchestrationTemplateCandidateImpl implements OrchestrationTemplate
         }
 
         final var onboardingPackageProcessor = new OnboardingPackageProcessor(filename, fileToUploadBytes, new CnfPackageValidator(), artifactInfo);
+        return processOnboardingPackage(vspId, versionId, filename, onboardingPackageProcessor);
+    }
+
+    /**
+     * Spools the uploaded package to disk instead of reading it in memory, so the package entries are only read when inspected.
+     */
+    private Response uploadSpooled(final String vspId, final String versionId, final Attachment fileToUpload, final String filename) {
+        final Path packageFile;
+        try {
+            packageFile = spoolToDisk(fileToUpload);
+        } catch (final IOException e) {
+            LOGGER.error("Could not spool the uploaded package '{}'", filename, e);
+            return Response.status(INTERNAL_SERVER_ERROR).entity(buildUploadResponseWithError(
+                new ErrorMessage(ErrorLevel.ERROR, UNEXPECTED_PROBLEM_HAPPENED_WHILE_GETTING.formatMessage(filename)))).build();
+        }
+        try (final var onboardingPackageProcessor = new OnboardingPackageProcessor(filename, packageFile, new CnfPackageValidator(), null)) {
+            return processOnboardingPackage(vspId, versionId, filename, onboardingPackageProcessor);
+        } finally {
+            try {
+                Files.deleteIfExists(packageFile);
+            } catch (final IOException e) {
+                LOGGER.warn("Could not delete the spooled package '{}'", packageFile, e);
+            }
+        }
+    }
+
+    private Path spoolToDisk(final Attachment fileToUpload) throws IOException {
+        final Path packageFile = spoolDirectory == null ? Files.createTempFile("onboarding-package-", ".tmp")
+            : Files.createTempFile(spoolDirectory, "onboarding-package-", ".tmp");
+        try (final InputStream packageInputStream = fileToUpload.getDataHandler().getInputStream()) {
+            Files.copy(packageInputStream, packageFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException e) {
+            Files.deleteIfExists(packageFile);
+            throw e;
+        }
+        return packageFile;
+    }
+
+    private Response processOnboardingPackage(final String vspId, final String versionId, final String filename,
+                                              final OnboardingPackageProcessor onboardingPackageProcessor) {
         final ErrorMessage[] errorMessages = onboardingPackageProcessor.getErrorMessages().toArray(new ErrorMessage[0]);
         if (onboardingPackageProcessor.hasErrors()) {
             return Response.status(NOT_ACCEPTABLE).entity(buildUploadResponseWithError(errorMessages)).build();
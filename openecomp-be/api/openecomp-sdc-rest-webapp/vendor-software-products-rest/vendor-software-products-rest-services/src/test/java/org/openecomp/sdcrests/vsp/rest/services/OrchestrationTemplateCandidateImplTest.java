@@ -31,6 +31,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Files;
@@ -48,6 +49,7 @@ import org.apache.cxf.jaxrs.ext.multipart.Attachment;
 import org.apache.cxf.jaxrs.ext.multipart.ContentDisposition;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -172,6 +174,39 @@ class OrchestrationTemplateCandidateImplTest {
         assertTrue(((UploadFileResponseDto) response.getEntity()).getErrors().isEmpty());
     }
 
+    @Test
+    void uploadSignedSpooledTest(@TempDir final Path spoolDirectory) throws IOException {
+        final var spooledCandidate = new OrchestrationTemplateCandidateImpl(candidateManager, vendorSoftwareProductManager,
+            activityLogManager, artifactStorageManager, packageSizeReducer, spoolDirectory);
+        final Response response = spooledCandidate.upload("1", "1",
+            mockStreamedAttachment("filename.zip", this.getClass().getResource("/files/sample-signed.zip")), "1");
+        assertEquals(Status.OK.getStatusCode(), response.getStatus());
+        assertTrue(((UploadFileResponseDto) response.getEntity()).getErrors().isEmpty());
+        try (final var spooledFiles = Files.list(spoolDirectory)) {
+            assertEquals(0, spooledFiles.count());
+        }
+    }
+
+    @Test
+    void uploadNotSignedSpooledTest(@TempDir final Path spoolDirectory) throws IOException {
+        final var spooledCandidate = new OrchestrationTemplateCandidateImpl(candidateManager, vendorSoftwareProductManager,
+            activityLogManager, artifactStorageManager, packageSizeReducer, spoolDirectory);
+        final Response response = spooledCandidate.upload("1", "1",
+            mockStreamedAttachment("filename.csar", this.getClass().getResource("/files/sample-not-signed.csar")), "1");
+        assertEquals(Status.OK.getStatusCode(), response.getStatus());
+        assertTrue(((UploadFileResponseDto) response.getEntity()).getErrors().isEmpty());
+        try (final var spooledFiles = Files.list(spoolDirectory)) {
+            assertEquals(0, spooledFiles.count());
+        }
+    }
+
+    private Attachment mockStreamedAttachment(final String fileName, final URL fileToUpload) throws IOException {
+        final Attachment attachment = mockAttachment(fileName, fileToUpload);
+        final DataHandler dataHandler = attachment.getDataHandler();
+        when(dataHandler.getInputStream()).thenReturn(new ByteArrayInputStream(IOUtils.toByteArray(fileToUpload)));
+        return attachment;
+    }
+
     private Attachment mockAttachment(final String fileName, final URL fileToUpload) {
         final Attachment attachment = Mockito.mock(Attachment.class);
         when(attachment.getContentDisposition()).thenReturn(new ContentDisposition("test"));
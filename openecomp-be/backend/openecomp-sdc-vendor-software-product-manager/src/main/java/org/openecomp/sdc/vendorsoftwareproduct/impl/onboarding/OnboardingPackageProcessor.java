@@ -30,13 +30,19 @@ import static org.openecomp.sdc.vendorsoftwareproduct.security.SecurityManager.A
 import static org.openecomp.sdc.vendorsoftwareproduct.security.SecurityManager.ALLOWED_SIGNATURE_EXTENSIONS;
 
 import java.io.ByteArrayInputStream;
+import java.io.Closeable;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -47,6 +53,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.openecomp.core.utilities.file.FileContentHandler;
+import org.openecomp.core.utilities.file.ZipFileContentHandler;
 import org.openecomp.core.utilities.json.JsonUtil;
 import org.openecomp.core.utilities.orchestration.OnboardingTypesEnum;
 import org.openecomp.sdc.be.csar.storage.ArtifactInfo;
@@ -65,22 +72,45 @@ import org.openecomp.sdc.vendorsoftwareproduct.types.OnboardPackage;
 import org.openecomp.sdc.vendorsoftwareproduct.types.OnboardPackageInfo;
 import org.openecomp.sdc.vendorsoftwareproduct.types.OnboardSignedPackage;
 
-public class OnboardingPackageProcessor {
+public class OnboardingPackageProcessor implements AutoCloseable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(OnboardingPackageProcessor.class);
     private static final String CSAR_EXTENSION = "csar";
     private static final String ZIP_EXTENSION = "zip";
     private final String packageFileName;
-    private final byte[] packageFileContent;
+    private final Path packageFile;
     private final Set<ErrorMessage> errorMessages = new HashSet<>();
+    private final Deque<Closeable> openedResources = new ArrayDeque<>();
     private final OnboardPackageInfo onboardPackageInfo;
     private final CnfPackageValidator cnfPackageValidator;
+    private byte[] packageFileContent;
     private FileContentHandler packageContent;
 
     public OnboardingPackageProcessor(final String packageFileName, final byte[] packageFileContent, final CnfPackageValidator cnfPackageValidator,
                                       final ArtifactInfo artifactInfo) {
         this.packageFileName = packageFileName;
         this.packageFileContent = packageFileContent;
+        this.packageFile = null;
+        this.cnfPackageValidator = cnfPackageValidator;
+        onboardPackageInfo = processPackage();
+        if (onboardPackageInfo != null) {
+            onboardPackageInfo.setArtifactInfo(artifactInfo);
+        }
+    }
+
+    /**
+     * Processes a package spooled to disk. Only the zip central directory is kept in memory, the package entries are read from the file when
+     * inspected. The processor must be closed once the returned {@link OnboardPackageInfo} is not used anymore.
+     *
+     * @param packageFileName     the name of the uploaded package
+     * @param packageFile         the package file
+     * @param cnfPackageValidator the CNF package validator
+     * @param artifactInfo        the info of the package in the artifact storage, if any
+     */
+    public OnboardingPackageProcessor(final String packageFileName, final Path packageFile, final CnfPackageValidator cnfPackageValidator,
+                                      final ArtifactInfo artifactInfo) {
+        this.packageFileName = packageFileName;
+        this.packageFile = packageFile;
         this.cnfPackageValidator = cnfPackageValidator;
         onboardPackageInfo = processPackage();
         if (onboardPackageInfo != null) {
@@ -131,7 +161,7 @@ public class OnboardingPackageProcessor {
             reportError(ErrorLevel.ERROR, message);
         } else {
             try {
-                packageContent = CommonUtil.getZipContent(packageFileContent);
+                packageContent = packageFile == null ? CommonUtil.getZipContent(packageFileContent) : openZipContent(packageFile);
                 if (isPackageEmpty()) {
                     String message = PACKAGE_EMPTY_ERROR.formatMessage(packageFileName);
                     reportError(ErrorLevel.ERROR, message);
@@ -144,15 +174,48 @@ public class OnboardingPackageProcessor {
         }
     }
 
+    private ZipFileContentHandler openZipContent(final Path zipFile) throws ZipException {
+        final ZipFileContentHandler zipFileContentHandler = new ZipFileContentHandler(zipFile);
+        openedResources.push(zipFileContentHandler);
+        return zipFileContentHandler;
+    }
+
+    /**
+     * The candidate is stored with the whole package, which is only read from the spooled file once the package structure was validated.
+     * The package is read into the heap as the candidate data is persisted as a single blob and its consumers read it through
+     * {@link ByteBuffer#array()}, the package entries themselves are read from the spooled file.
+     */
+    private byte[] getPackageFileContent() {
+        if (packageFileContent == null) {
+            try {
+                packageFileContent = Files.readAllBytes(packageFile);
+            } catch (final IOException e) {
+                final String message = PACKAGE_PROCESS_ERROR.formatMessage(packageFileName);
+                LOGGER.error(message, e);
+                reportError(ErrorLevel.ERROR, message);
+                return null;
+            }
+        }
+        return packageFileContent;
+    }
+
     private OnboardPackageInfo processCsarPackage(String packageName, String packageExtension) {
-        OnboardPackage onboardPackage = new OnboardPackage(packageName, packageExtension, ByteBuffer.wrap(packageFileContent),
+        final byte[] packageBytes = getPackageFileContent();
+        if (packageBytes == null) {
+            return null;
+        }
+        OnboardPackage onboardPackage = new OnboardPackage(packageName, packageExtension, ByteBuffer.wrap(packageBytes),
             new OnboardingPackageContentHandler(packageContent));
         return new OnboardPackageInfo(onboardPackage, OnboardingTypesEnum.CSAR);
     }
 
     private OnboardPackageInfo createOnboardPackageInfoForZip(String packageName, String packageExtension) {
+        final byte[] packageBytes = getPackageFileContent();
+        if (packageBytes == null) {
+            return null;
+        }
         return new OnboardPackageInfo(
-                new OnboardPackage(packageName, packageExtension, ByteBuffer.wrap(packageFileContent),
+                new OnboardPackage(packageName, packageExtension, ByteBuffer.wrap(packageBytes),
                         packageContent), OnboardingTypesEnum.ZIP);
     }
 
@@ -260,18 +323,31 @@ public class OnboardingPackageProcessor {
         }
         final String signatureFilePath = findSignatureFilePath().orElse(null);
         final String certificateFilePath = findCertificateFilePath().orElse(null);
-        final OnboardSignedPackage onboardSignedPackage = new OnboardSignedPackage(packageName, packageExtension, ByteBuffer.wrap(packageFileContent),
+        final byte[] packageBytes = getPackageFileContent();
+        if (packageBytes == null) {
+            return null;
+        }
+        final OnboardSignedPackage onboardSignedPackage = new OnboardSignedPackage(packageName, packageExtension, ByteBuffer.wrap(packageBytes),
             packageContent, signatureFilePath, internalPackagePath, certificateFilePath);
         final String internalPackageName = FilenameUtils.getName(internalPackagePath);
         final String internalPackageBaseName = FilenameUtils.getBaseName(internalPackagePath);
         final String internalPackageExtension = FilenameUtils.getExtension(internalPackagePath);
-        final byte[] internalPackageContent = packageContent.getFileContent(internalPackagePath);
         final OnboardPackage onboardPackage;
         try {
-            final OnboardingPackageContentHandler fileContentHandler = new OnboardingPackageContentHandler(
-                CommonUtil.getZipContent(internalPackageContent));
+            final byte[] internalPackageContent;
+            final FileContentHandler internalPackageFileContent;
+            if (packageFile == null) {
+                internalPackageContent = packageContent.getFileContent(internalPackagePath);
+                internalPackageFileContent = CommonUtil.getZipContent(internalPackageContent);
+            } else {
+                final Path internalPackageFile = extractInternalPackage(internalPackagePath);
+                // stored as the candidate blob like the package itself, see getPackageFileContent
+                internalPackageContent = Files.readAllBytes(internalPackageFile);
+                internalPackageFileContent = openZipContent(internalPackageFile);
+            }
+            final OnboardingPackageContentHandler fileContentHandler = new OnboardingPackageContentHandler(internalPackageFileContent);
             onboardPackage = new OnboardPackage(internalPackageBaseName, internalPackageExtension, internalPackageContent, fileContentHandler);
-        } catch (final ZipException e) {
+        } catch (final ZipException | IOException e) {
             final String message = PACKAGE_PROCESS_INTERNAL_PACKAGE_ERROR.formatMessage(internalPackageName);
             LOGGER.error(message, e);
             reportError(ErrorLevel.ERROR, message);
@@ -280,6 +356,27 @@ public class OnboardingPackageProcessor {
         return new OnboardPackageInfo(onboardSignedPackage, onboardPackage, OnboardingTypesEnum.SIGNED_CSAR);
     }
 
+    private Path extractInternalPackage(final String internalPackagePath) throws IOException {
+        final Path internalPackageFile = Files.createTempFile(packageFile.toAbsolutePath().getParent(), "internal-package-", ".tmp");
+        openedResources.push(() -> Files.deleteIfExists(internalPackageFile));
+        ((ZipFileContentHandler) packageContent).extractFile(internalPackagePath, internalPackageFile);
+        return internalPackageFile;
+    }
+
+    /**
+     * Releases the files opened to read a package spooled to disk.
+     */
+    @Override
+    public void close() {
+        while (!openedResources.isEmpty()) {
+            try {
+                openedResources.pop().close();
+            } catch (final IOException e) {
+                LOGGER.warn("Could not release a resource of the package '{}'", packageFileName, e);
+            }
+        }
+    }
+
     private void reportError(final ErrorLevel errorLevel, final String message) {
         errorMessages.add(new ErrorMessage(errorLevel, message));
     }
@@ -15,9 +15,17 @@
  */
 package org.openecomp.sdc.common.session;
 
+import java.util.Map;
+
 public interface SessionContext {
 
     User getUser();
 
     String getTenant();
+
+    /**
+     * Attributes kept for as long as the session is open, e.g. per request caches. They are discarded when the session is closed or
+     * re-created for another user.
+     */
+    Map<String, Object> getAttributes();
 }
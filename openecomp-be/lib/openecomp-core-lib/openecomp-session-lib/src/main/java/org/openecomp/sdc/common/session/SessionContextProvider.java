@@ -15,11 +15,18 @@
  */
 package org.openecomp.sdc.common.session;
 
+import java.util.Optional;
+
 public interface SessionContextProvider {
 
     void create(String user, String tenant);
 
     SessionContext get();
 
+    /**
+     * Gets the session context of the current thread if one was created.
+     */
+    Optional<SessionContext> find();
+
     void close();
 }
@@ -15,6 +15,9 @@
  */
 package org.openecomp.sdc.common.session.impl;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.openecomp.sdc.common.errors.CoreException;
@@ -27,11 +30,13 @@ public class AsdcSessionContextProvider implements SessionContextProvider {
 
     private static final ThreadLocal<String> threadUserId = new ThreadLocal<>();
     private static final ThreadLocal<String> threadTenant = new ThreadLocal<>();
+    private static final ThreadLocal<Map<String, Object>> threadAttributes = ThreadLocal.withInitial(HashMap::new);
 
     @Override
     public void create(String userId, String tenant) {
         threadUserId.set(userId);
         threadTenant.set(tenant);
+        threadAttributes.remove();
     }
 
     @Override
@@ -42,13 +47,22 @@ public class AsdcSessionContextProvider implements SessionContextProvider {
         if (threadTenant.get() == null) {
             throw new CoreException(new ErrorCode.ErrorCodeBuilder().withMessage("Tenant was not set " + "for this thread").build());
         }
-        return new AsdcSessionContext(new User(threadUserId.get()), threadTenant.get());
+        return new AsdcSessionContext(new User(threadUserId.get()), threadTenant.get(), threadAttributes.get());
+    }
+
+    @Override
+    public Optional<SessionContext> find() {
+        if (threadUserId.get() == null || threadTenant.get() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(get());
     }
 
     @Override
     public void close() {
         threadUserId.remove();
         threadTenant.remove();
+        threadAttributes.remove();
     }
 
     @Getter
@@ -57,5 +71,6 @@ public class AsdcSessionContextProvider implements SessionContextProvider {
 
         private final User user;
         private final String tenant;
+        private final Map<String, Object> attributes;
     }
 }
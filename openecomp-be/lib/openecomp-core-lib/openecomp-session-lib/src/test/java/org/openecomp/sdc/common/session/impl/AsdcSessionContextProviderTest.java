@@ -19,8 +19,10 @@
 
 package org.openecomp.sdc.common.session.impl;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -63,4 +65,21 @@ class AsdcSessionContextProviderTest {
         assertSame(USER_ID, sessionContext.getUser().getUserId());
         assertSame("tenant", sessionContext.getTenant());
     }
+
+    @Test
+    void testFindWithoutSession() {
+        asdcSessionContextProvider.create(null, null);
+        assertFalse(asdcSessionContextProvider.find().isPresent());
+    }
+
+    @Test
+    void testAttributesAreDroppedOnClose() {
+        asdcSessionContextProvider.create(USER_ID, "tenant");
+        asdcSessionContextProvider.get().getAttributes().put("key", "value");
+        assertSame("value", asdcSessionContextProvider.find().get().getAttributes().get("key"));
+
+        asdcSessionContextProvider.close();
+        asdcSessionContextProvider.create(USER_ID, "tenant");
+        assertTrue(asdcSessionContextProvider.get().getAttributes().isEmpty());
+    }
 }
@@ -21,19 +21,25 @@ package org.openecomp.core.utilities.file;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 
 /**
- * Stores the content of files in a path:byte[] structure
+ * Stores the content of files in a path:byte[] structure. The content of a file can also be registered as a loader, which is only called when
+ * the file content is requested, so big packages do not have to be held in memory as a whole.
  */
 public class FileContentHandler {
 
-    private final Map<String, byte[]> files = new HashMap<>();
+    private final Map<String, Supplier<byte[]>> files = new HashMap<>();
 
     public FileContentHandler() {
     }
@@ -49,7 +55,7 @@ public class FileContentHandler {
      * @return if the file was found, its content as stream, otherwise {@code null}.
      */
     public InputStream getFileContentAsStream(final String fileName) {
-        byte[] content = files.get(fileName);
+        byte[] content = getFileContent(fileName);
         if (content == null || content.length == 0) {
             return null;
         }
@@ -63,7 +69,8 @@ public class FileContentHandler {
      * @return the content of the file
      */
     public byte[] getFileContent(final String filePath) {
-        return files.get(filePath);
+        final Supplier<byte[]> content = files.get(filePath);
+        return content == null ? null : content.get();
     }
 
     /**
@@ -102,7 +109,8 @@ public class FileContentHandler {
      * @param content  the file content
      */
     public void addFile(final String filePath, final byte[] content) {
-        files.put(filePath, content == null ? new byte[0] : content);
+        final byte[] fileContent = content == null ? new byte[0] : content;
+        files.put(filePath, () -> fileContent);
     }
 
     /**
@@ -112,16 +120,30 @@ public class FileContentHandler {
      * @param fileInputStream the file input stream
      */
     public void addFile(final String filePath, final InputStream fileInputStream) {
-        files.put(filePath, FileUtils.toByteArray(fileInputStream));
+        addFile(filePath, FileUtils.toByteArray(fileInputStream));
     }
 
     /**
-     * Gets only the files, ignoring directories from the structure.
+     * Adds a file which content is read by the given loader every time it is requested.
+     *
+     * @param filePath      the file path
+     * @param contentLoader reads the file content
+     */
+    public void addLazyFile(final String filePath, final Supplier<byte[]> contentLoader) {
+        files.put(filePath, () -> {
+            final byte[] content = contentLoader.get();
+            return content == null ? new byte[0] : content;
+        });
+    }
+
+    /**
+     * Gets only the files, ignoring directories from the structure. The returned map is a read only view, the content of lazily added files is
+     * read on each access to the respective value.
      *
      * @return a file path:content map
      */
     public Map<String, byte[]> getFiles() {
-        return files.entrySet().stream().filter(entry -> entry.getValue() != null).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        return new FileMap(files);
     }
 
     public void setFiles(final Map<String, byte[]> files) {
@@ -150,7 +172,11 @@ public class FileContentHandler {
         if (CollectionUtils.isNotEmpty(fileContentHandlerOther.getFolderList())) {
             fileContentHandlerOther.getFolderList().forEach(this::addFolder);
         }
-        addAll(fileContentHandlerOther.getFiles());
+        fileContentHandlerOther.files.forEach((filePath, content) -> {
+            if (content != null) {
+                files.put(filePath, content);
+            }
+        });
     }
 
     private void addAll(final Map<String, byte[]> files) {
@@ -175,7 +201,8 @@ public class FileContentHandler {
      * @return the removed file content
      */
     public byte[] remove(final String filePath) {
-        return files.remove(filePath);
+        final Supplier<byte[]> content = files.remove(filePath);
+        return content == null ? null : content.get();
     }
 
     /**
@@ -187,4 +214,68 @@ public class FileContentHandler {
     public boolean containsFile(final String filePath) {
         return files.containsKey(filePath);
     }
+
+    /**
+     * A snapshot of the files of the structure, reading the content of each file only when its value is requested.
+     */
+    private static class FileMap extends AbstractMap<String, byte[]> {
+
+        private final Map<String, Supplier<byte[]>> fileContents = new HashMap<>();
+
+        FileMap(final Map<String, Supplier<byte[]>> files) {
+            files.forEach((filePath, content) -> {
+                if (content != null) {
+                    fileContents.put(filePath, content);
+                }
+            });
+        }
+
+        @Override
+        public byte[] get(final Object key) {
+            final Supplier<byte[]> content = fileContents.get(key);
+            return content == null ? null : content.get();
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return fileContents.containsKey(key);
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return Collections.unmodifiableSet(fileContents.keySet());
+        }
+
+        @Override
+        public int size() {
+            return fileContents.size();
+        }
+
+        @Override
+        public Set<Entry<String, byte[]>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, byte[]>> iterator() {
+                    final Iterator<Entry<String, Supplier<byte[]>>> iterator = fileContents.entrySet().iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, byte[]> next() {
+                            final Entry<String, Supplier<byte[]>> entry = iterator.next();
+                            return new SimpleImmutableEntry<>(entry.getKey(), entry.getValue().get());
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return fileContents.size();
+                }
+            };
+        }
+    }
 }
@@ -0,0 +1,112 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.core.utilities.file;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Enumeration;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.apache.commons.io.IOUtils;
+import org.openecomp.sdc.common.zip.ZipUtils;
+import org.openecomp.sdc.common.zip.exception.ZipException;
+
+/**
+ * A {@link FileContentHandler} over a zip file on disk. Only the zip central directory is read when opening it, the content of each entry is
+ * read from the file when requested, so the memory needed to inspect a package is bound by its biggest entry instead of its whole size.
+ * <p>
+ * The file structure (including directories) is the same as the one produced by {@link ZipUtils#readZip(byte[], boolean)}. The handler, and
+ * every handler copied from it, can only read the entries while it is open.
+ */
+public class ZipFileContentHandler extends FileContentHandler implements Closeable {
+
+    private final ZipFile zipFile;
+
+    public ZipFileContentHandler(final Path zipFilePath) throws ZipException {
+        try {
+            zipFile = new ZipFile(zipFilePath.toFile());
+        } catch (final IOException e) {
+            throw new ZipException(String.format("Could not read the zip file '%s'", zipFilePath.getFileName()), e);
+        }
+        try {
+            indexEntries();
+        } catch (final ZipException e) {
+            IOUtils.closeQuietly(zipFile);
+            throw e;
+        }
+    }
+
+    private void indexEntries() throws ZipException {
+        final Enumeration<? extends ZipEntry> entries = zipFile.entries();
+        while (entries.hasMoreElements()) {
+            final ZipEntry zipEntry = entries.nextElement();
+            ZipUtils.checkForZipSlipInRead(zipEntry);
+            if (zipEntry.isDirectory()) {
+                addFolder(normalizeFolder(zipEntry.getName()));
+                continue;
+            }
+            final Path parentFolderPath = Paths.get(zipEntry.getName()).getParent();
+            if (parentFolderPath != null && !containsFile(normalizeFolder(parentFolderPath.toString()))) {
+                addFolder(normalizeFolder(parentFolderPath.toString()));
+            }
+            addLazyFile(zipEntry.getName(), () -> readEntry(zipEntry));
+        }
+    }
+
+    /**
+     * Copies the content of an entry to a file, without loading it in memory.
+     *
+     * @param filePath   the entry path
+     * @param targetPath the file to write
+     * @throws IOException when the entry does not exist or could not be copied
+     */
+    public void extractFile(final String filePath, final Path targetPath) throws IOException {
+        final ZipEntry zipEntry = zipFile.getEntry(filePath);
+        if (zipEntry == null || zipEntry.isDirectory()) {
+            throw new IOException(String.format("The zip file '%s' has no file '%s'", zipFile.getName(), filePath));
+        }
+        try (final InputStream inputStream = zipFile.getInputStream(zipEntry)) {
+            Files.copy(inputStream, targetPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        zipFile.close();
+    }
+
+    private byte[] readEntry(final ZipEntry zipEntry) {
+        try (final InputStream inputStream = zipFile.getInputStream(zipEntry)) {
+            return IOUtils.toByteArray(inputStream);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(String.format("Could not read the entry '%s' of the zip file '%s'", zipEntry.getName(), zipFile.getName()),
+                e);
+        }
+    }
+
+    private static String normalizeFolder(final String folderPath) {
+        return folderPath.endsWith(File.separator) ? folderPath : folderPath + File.separator;
+    }
+}
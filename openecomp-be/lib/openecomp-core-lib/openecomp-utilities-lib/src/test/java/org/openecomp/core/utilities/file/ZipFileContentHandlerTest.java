@@ -0,0 +1,106 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.core.utilities.file;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.openecomp.sdc.common.zip.ZipUtils;
+
+public class ZipFileContentHandlerTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testSameStructureAsReadZip() throws Exception {
+        final Path zipFile = createZip();
+        final Map<String, byte[]> expectedFiles = ZipUtils.readZip(Files.readAllBytes(zipFile), true);
+        final FileContentHandler expectedContentHandler = new FileContentHandler();
+        expectedFiles.forEach((filePath, content) -> {
+            if (content == null) {
+                expectedContentHandler.addFolder(filePath);
+            } else {
+                expectedContentHandler.addFile(filePath, content);
+            }
+        });
+        try (final ZipFileContentHandler contentHandler = new ZipFileContentHandler(zipFile)) {
+            assertEquals(expectedContentHandler.getFileList(), contentHandler.getFileList());
+            assertEquals(expectedContentHandler.getFolderList(), contentHandler.getFolderList());
+            expectedContentHandler.getFileList()
+                .forEach(filePath -> assertArrayEquals(expectedContentHandler.getFileContent(filePath), contentHandler.getFileContent(filePath)));
+            assertNull(contentHandler.getFileContentAsStream("empty.txt"));
+        }
+    }
+
+    @Test
+    public void testCopyReadsFromZip() throws Exception {
+        try (final ZipFileContentHandler contentHandler = new ZipFileContentHandler(createZip())) {
+            final FileContentHandler copy = new FileContentHandler(contentHandler);
+            assertEquals(3, copy.getFiles().size());
+            assertArrayEquals("definition".getBytes(StandardCharsets.UTF_8), copy.getFiles().get("Definitions/types/main.yaml"));
+        }
+    }
+
+    @Test
+    public void testExtractFile() throws Exception {
+        final Path target = temporaryFolder.newFile().toPath();
+        try (final ZipFileContentHandler contentHandler = new ZipFileContentHandler(createZip())) {
+            contentHandler.extractFile("TOSCA-Metadata/TOSCA.meta", target);
+        }
+        assertEquals("meta", Files.readString(target));
+    }
+
+    @Test(expected = IOException.class)
+    public void testExtractMissingFile() throws Exception {
+        try (final ZipFileContentHandler contentHandler = new ZipFileContentHandler(createZip())) {
+            contentHandler.extractFile("missing.yaml", temporaryFolder.newFile().toPath());
+        }
+    }
+
+    private Path createZip() throws IOException {
+        final Path zipFile = temporaryFolder.newFile("package.zip").toPath();
+        try (final ZipOutputStream zipOutputStream = new ZipOutputStream(Files.newOutputStream(zipFile))) {
+            addEntry(zipOutputStream, "TOSCA-Metadata/", null);
+            addEntry(zipOutputStream, "TOSCA-Metadata/TOSCA.meta", "meta");
+            addEntry(zipOutputStream, "Definitions/types/main.yaml", "definition");
+            addEntry(zipOutputStream, "Artifacts/", null);
+            addEntry(zipOutputStream, "empty.txt", "");
+        }
+        return zipFile;
+    }
+
+    private static void addEntry(final ZipOutputStream zipOutputStream, final String name, final String content) throws IOException {
+        zipOutputStream.putNextEntry(new ZipEntry(name));
+        if (content != null) {
+            zipOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        zipOutputStream.closeEntry();
+    }
+}
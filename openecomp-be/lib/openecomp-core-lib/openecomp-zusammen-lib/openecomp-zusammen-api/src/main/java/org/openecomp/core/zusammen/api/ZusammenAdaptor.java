@@ -84,6 +84,12 @@ public interface ZusammenAdaptor {
 
     Collection<Element> listElementData(SessionContext context, ElementContext elementContext, Id parentElementId);
 
+    /**
+     * Lists the sub elements of parentElementId with their data, down to the given depth. With a depth above 1 every returned element holds
+     * its own sub elements loaded the same way, so a whole subtree is read in one call.
+     */
+    Collection<Element> listElementData(SessionContext context, ElementContext elementContext, Id parentElementId, int depth);
+
     /**
      * Lists the sub elements of the element named elementName which is a sub element of parentElementId
      */
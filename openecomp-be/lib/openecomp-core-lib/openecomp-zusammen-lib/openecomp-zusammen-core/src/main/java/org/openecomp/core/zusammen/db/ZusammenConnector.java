@@ -85,6 +85,11 @@ public interface ZusammenConnector {
 
     Element getElement(SessionContext context, ElementContext elementContext, Id elementId);
 
+    /**
+     * Gets the elements of the given ids, in the order of the ids.
+     */
+    Collection<Element> getElements(SessionContext context, ElementContext elementContext, Collection<Id> elementIds);
+
     ElementConflict getElementConflict(SessionContext context, ElementContext elementContext, Id elementId);
 
     Element saveElement(SessionContext context, ElementContext elementContext, Element element, String message);
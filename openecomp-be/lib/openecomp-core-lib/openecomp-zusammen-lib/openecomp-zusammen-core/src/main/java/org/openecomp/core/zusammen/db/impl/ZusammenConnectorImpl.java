@@ -16,6 +16,7 @@
 package org.openecomp.core.zusammen.db.impl;
 
 import com.amdocs.zusammen.adaptor.inbound.api.health.HealthAdaptorFactory;
+import com.amdocs.zusammen.adaptor.inbound.api.item.ElementAdaptor;
 import com.amdocs.zusammen.adaptor.inbound.api.item.ElementAdaptorFactory;
 import com.amdocs.zusammen.adaptor.inbound.api.item.ItemAdaptorFactory;
 import com.amdocs.zusammen.adaptor.inbound.api.item.ItemVersionAdaptorFactory;
@@ -38,6 +39,7 @@ import com.amdocs.zusammen.datatypes.item.Resolution;
 import com.amdocs.zusammen.datatypes.itemversion.ItemVersionRevisions;
 import com.amdocs.zusammen.datatypes.itemversion.Tag;
 import com.amdocs.zusammen.datatypes.response.Response;
+import java.util.ArrayList;
 import java.util.Collection;
 import org.openecomp.core.zusammen.db.ZusammenConnector;
 import org.openecomp.core.zusammen.impl.CassandraConnectionInitializer;
@@ -298,6 +300,20 @@ public class ZusammenConnectorImpl implements ZusammenConnector {
         return response.getValue();
     }
 
+    @Override
+    public Collection<Element> getElements(SessionContext context, ElementContext elementContext, Collection<Id> elementIds) {
+        ElementAdaptor elementAdaptor = elementAdaptorFactory.createInterface(context);
+        Collection<Element> elements = new ArrayList<>(elementIds.size());
+        for (Id elementId : elementIds) {
+            Response<Element> response = elementAdaptor.get(context, elementContext, elementId);
+            if (!response.isSuccessful()) {
+                throw buildGetElementException(elementContext, elementId, response.getReturnCode().toString());
+            }
+            elements.add(response.getValue());
+        }
+        return elements;
+    }
+
     @Override
     public ElementConflict getElementConflict(SessionContext context, ElementContext elementContext, Id elementId) {
         Response<ElementConflict> response = elementAdaptorFactory.createInterface(context).getConflict(context, elementContext, elementId);
@@ -35,6 +35,8 @@ import com.amdocs.zusammen.datatypes.itemversion.ItemVersionRevisions;
 import com.amdocs.zusammen.datatypes.itemversion.Tag;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -56,12 +58,24 @@ public class ZusammenAdaptorImpl implements ZusammenAdaptor {
 
     @Override
     public Optional<Element> getElement(SessionContext context, ElementContext elementContext, String elementId) {
-        return Optional.ofNullable(connector.getElement(context, elementContext, new Id(elementId)));
+        Id id = new Id(elementId);
+        Optional<ZusammenElementCache> elementCache = ZusammenElementCache.ofCurrentSession();
+        Optional<Element> cachedElement = elementCache.flatMap(cache -> cache.getElement(elementContext, id));
+        if (cachedElement.isPresent()) {
+            return cachedElement;
+        }
+        Element element = connector.getElement(context, elementContext, id);
+        if (element == null || !elementCache.isPresent()) {
+            return Optional.ofNullable(element);
+        }
+        // caching consumes the element streams, so the element is handed out as a copy read back from the cache
+        elementCache.get().putElement(elementContext, id, element);
+        return elementCache.get().getElement(elementContext, id);
     }
 
     @Override
     public Optional<Element> getElementByName(SessionContext context, ElementContext elementContext, Id parentElementId, String elementName) {
-        Collection<ElementInfo> elementInfos = connector.listElements(context, elementContext, parentElementId);
+        Collection<ElementInfo> elementInfos = listElements(context, elementContext, parentElementId);
         Predicate<ElementInfo> elementInfoPredicate = elementInfo -> elementInfo.getInfo() != null && elementName
             .equals(elementInfo.getInfo().getName());
         return getFirstElementInfo(elementInfos, elementInfoPredicate)
@@ -70,26 +84,71 @@ public class ZusammenAdaptorImpl implements ZusammenAdaptor {
 
     @Override
     public Collection<ElementInfo> listElements(SessionContext context, ElementContext elementContext, Id parentElementId) {
-        return connector.listElements(context, elementContext, parentElementId);
+        Optional<ZusammenElementCache> elementCache = ZusammenElementCache.ofCurrentSession();
+        return elementCache.isPresent() ? elementCache.get()
+            .listElements(elementContext, parentElementId, () -> connector.listElements(context, elementContext, parentElementId))
+            : connector.listElements(context, elementContext, parentElementId);
     }
 
     @Override
     public Collection<Element> listElementData(SessionContext context, ElementContext elementContext, Id parentElementId) {
-        Collection<ElementInfo> elementInfoList = connector.listElements(context, elementContext, parentElementId);
-        return elementInfoList == null ? new ArrayList<>()
-            : elementInfoList.stream().map(elementInfo -> connector.getElement(context, elementContext, elementInfo.getId()))
-                .collect(Collectors.toList());
+        return listElementData(context, elementContext, parentElementId, 1);
+    }
+
+    @Override
+    public Collection<Element> listElementData(SessionContext context, ElementContext elementContext, Id parentElementId, int depth) {
+        Collection<ElementInfo> elementInfoList = listElements(context, elementContext, parentElementId);
+        if (elementInfoList == null || depth < 1) {
+            return new ArrayList<>();
+        }
+        Collection<Element> elements = getElements(context, elementContext,
+            elementInfoList.stream().map(ElementInfo::getId).collect(Collectors.toList()));
+        if (depth == 1) {
+            return elements;
+        }
+        return elements.stream().map(element -> withSubElements(context, elementContext, element, depth - 1)).collect(Collectors.toList());
+    }
+
+    private Collection<Element> getElements(SessionContext context, ElementContext elementContext, List<Id> elementIds) {
+        Optional<ZusammenElementCache> elementCache = ZusammenElementCache.ofCurrentSession();
+        if (!elementCache.isPresent()) {
+            return connector.getElements(context, elementContext, elementIds);
+        }
+        ZusammenElementCache cache = elementCache.get();
+        List<Id> missingElementIds = elementIds.stream().filter(elementId -> !cache.getElement(elementContext, elementId).isPresent())
+            .collect(Collectors.toList());
+        if (!missingElementIds.isEmpty()) {
+            Iterator<Id> missingElementIdIterator = missingElementIds.iterator();
+            connector.getElements(context, elementContext, missingElementIds)
+                .forEach(element -> cache.putElement(elementContext, missingElementIdIterator.next(), element));
+        }
+        return elementIds.stream().map(elementId -> cache.getElement(elementContext, elementId).orElse(null)).collect(Collectors.toList());
+    }
+
+    private Element withSubElements(SessionContext context, ElementContext elementContext, Element element, int depth) {
+        if (element == null) {
+            return null;
+        }
+        ZusammenElement elementWithSubElements = new ZusammenElement();
+        elementWithSubElements.setElementId(element.getElementId());
+        elementWithSubElements.setInfo(element.getInfo());
+        elementWithSubElements.setRelations(element.getRelations());
+        elementWithSubElements.setData(element.getData());
+        elementWithSubElements.setSearchableData(element.getSearchableData());
+        elementWithSubElements.setVisualization(element.getVisualization());
+        listElementData(context, elementContext, element.getElementId(), depth).forEach(elementWithSubElements::addSubElement);
+        return elementWithSubElements;
     }
 
     @Override
     public Collection<ElementInfo> listElementsByName(SessionContext context, ElementContext elementContext, Id parentElementId, String elementName) {
         Optional<ElementInfo> elementInfoByName = getElementInfoByName(context, elementContext, parentElementId, elementName);
-        return elementInfoByName.isPresent() ? connector.listElements(context, elementContext, elementInfoByName.get().getId()) : new ArrayList<>();
+        return elementInfoByName.isPresent() ? listElements(context, elementContext, elementInfoByName.get().getId()) : new ArrayList<>();
     }
 
     @Override
     public Optional<ElementInfo> getElementInfoByName(SessionContext context, ElementContext elementContext, Id parentElementId, String elementName) {
-        Collection<ElementInfo> elementInfos = connector.listElements(context, elementContext, parentElementId);
+        Collection<ElementInfo> elementInfos = listElements(context, elementContext, parentElementId);
         return getFirstElementInfo(elementInfos, elementInfo -> elementInfo.getInfo() != null && elementName.equals(elementInfo.getInfo().getName()));
     }
 
@@ -101,11 +160,16 @@ public class ZusammenAdaptorImpl implements ZusammenAdaptor {
     @Override
     public Element saveElement(SessionContext context, ElementContext elementContext, ZusammenElement element, String message) {
         enrichElementHierarchyRec(context, elementContext, null, element);
-        return connector.saveElement(context, elementContext, element, message);
+        try {
+            return connector.saveElement(context, elementContext, element, message);
+        } finally {
+            clearElementCache();
+        }
     }
 
     @Override
     public void resolveElementConflict(SessionContext context, ElementContext elementContext, ZusammenElement element, Resolution resolution) {
+        clearElementCache();
         connector.resolveElementConflict(context, elementContext, element, resolution);
     }
 
@@ -137,6 +201,10 @@ public class ZusammenAdaptorImpl implements ZusammenAdaptor {
         }
     }
 
+    private void clearElementCache() {
+        ZusammenElementCache.ofCurrentSession().ifPresent(ZusammenElementCache::clear);
+    }
+
     private Optional<ElementInfo> getFirstElementInfo(Collection<ElementInfo> elementInfos, Predicate<ElementInfo> elementInfoPredicate) {
         return elementInfos.stream().filter(elementInfoPredicate).findFirst();
     }
@@ -158,6 +226,7 @@ public class ZusammenAdaptorImpl implements ZusammenAdaptor {
 
     @Override
     public void deleteItem(SessionContext context, Id itemId) {
+        clearElementCache();
         connector.deleteItem(context, itemId);
     }
 
@@ -193,6 +262,7 @@ public class ZusammenAdaptorImpl implements ZusammenAdaptor {
 
     @Override
     public Id createVersion(SessionContext context, Id itemId, Id baseVersionId, ItemVersionData itemVersionData) {
+        clearElementCache();
         return connector.createVersion(context, itemId, baseVersionId, itemVersionData);
     }
 
@@ -208,31 +278,37 @@ public class ZusammenAdaptorImpl implements ZusammenAdaptor {
 
     @Override
     public void resetVersionHistory(SessionContext context, Id itemId, Id versionId, String changeRef) {
+        clearElementCache();
         connector.resetVersionHistory(context, itemId, versionId, changeRef);
     }
 
     @Override
     public void publishVersion(SessionContext context, Id itemId, Id versionId, String message) {
+        clearElementCache();
         connector.publishVersion(context, itemId, versionId, message);
     }
 
     @Override
     public void syncVersion(SessionContext context, Id itemId, Id versionId) {
+        clearElementCache();
         connector.syncVersion(context, itemId, versionId);
     }
 
     @Override
     public void forceSyncVersion(SessionContext context, Id itemId, Id versionId) {
+        clearElementCache();
         connector.forceSyncVersion(context, itemId, versionId);
     }
 
     @Override
     public void cleanVersion(SessionContext context, Id itemId, Id versionId) {
+        clearElementCache();
         connector.cleanVersion(context, itemId, versionId);
     }
 
     @Override
     public void revert(SessionContext context, Id itemId, Id versionId, Id revisionId) {
+        clearElementCache();
         connector.revertVersionRevision(context, itemId, versionId, revisionId);
     }
 
@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2016-2017 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openecomp.core.zusammen.impl;
+
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.Element;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ElementInfo;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ZusammenElement;
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.item.ElementContext;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.openecomp.sdc.common.session.SessionContextProviderFactory;
+
+/**
+ * Elements read during a single session (a single REST request), so repeated lookups of the same elements are served from memory. The
+ * cache lives in the session attributes and is dropped when the session is closed, or by the adaptor on any write.
+ */
+class ZusammenElementCache {
+
+    private static final String SESSION_ATTRIBUTE = ZusammenElementCache.class.getName();
+    private final Map<String, Collection<ElementInfo>> elementInfosByParent = new HashMap<>();
+    private final Map<String, CachedElement> elementsById = new HashMap<>();
+
+    static Optional<ZusammenElementCache> ofCurrentSession() {
+        return SessionContextProviderFactory.getInstance().createInterface().find()
+            .map(sessionContext -> (ZusammenElementCache) sessionContext.getAttributes()
+                .computeIfAbsent(SESSION_ATTRIBUTE, key -> new ZusammenElementCache()));
+    }
+
+    Collection<ElementInfo> listElements(ElementContext elementContext, Id parentElementId, Supplier<Collection<ElementInfo>> loader) {
+        String key = toKey(elementContext, parentElementId);
+        Collection<ElementInfo> elementInfos = elementInfosByParent.get(key);
+        if (elementInfos == null) {
+            elementInfos = loader.get();
+            if (elementInfos != null) {
+                elementInfosByParent.put(key, elementInfos);
+            }
+        }
+        return elementInfos;
+    }
+
+    /**
+     * Gets a cached element. Every call returns a new element, since the element data is exposed as streams which can be read only once.
+     */
+    Optional<Element> getElement(ElementContext elementContext, Id elementId) {
+        return Optional.ofNullable(elementsById.get(toKey(elementContext, elementId))).map(CachedElement::toElement);
+    }
+
+    void putElement(ElementContext elementContext, Id elementId, Element element) {
+        if (element != null) {
+            elementsById.put(toKey(elementContext, elementId), new CachedElement(element));
+        }
+    }
+
+    void clear() {
+        elementInfosByParent.clear();
+        elementsById.clear();
+    }
+
+    private static String toKey(ElementContext elementContext, Id elementId) {
+        return getValue(elementContext.getItemId()) + '/' + getValue(elementContext.getVersionId()) + '/' + getValue(elementContext.getRevisionId())
+            + '/' + getValue(elementId);
+    }
+
+    private static String getValue(Id id) {
+        return id == null ? null : id.getValue();
+    }
+
+    private static final class CachedElement {
+
+        private final Element element;
+        private final byte[] data;
+        private final byte[] searchableData;
+        private final byte[] visualization;
+
+        private CachedElement(Element element) {
+            this.element = element;
+            this.data = toBytes(element.getData());
+            this.searchableData = toBytes(element.getSearchableData());
+            this.visualization = toBytes(element.getVisualization());
+        }
+
+        private Element toElement() {
+            ZusammenElement copy = new ZusammenElement();
+            copy.setElementId(element.getElementId());
+            copy.setInfo(element.getInfo());
+            copy.setRelations(element.getRelations());
+            copy.setData(toStream(data));
+            copy.setSearchableData(toStream(searchableData));
+            copy.setVisualization(toStream(visualization));
+            element.getSubElements().forEach(copy::addSubElement);
+            return copy;
+        }
+
+        private static byte[] toBytes(InputStream stream) {
+            if (stream == null) {
+                return null;
+            }
+            try (InputStream content = stream) {
+                return content.readAllBytes();
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+
+        private static InputStream toStream(byte[] bytes) {
+            return bytes == null ? null : new ByteArrayInputStream(bytes);
+        }
+    }
+}
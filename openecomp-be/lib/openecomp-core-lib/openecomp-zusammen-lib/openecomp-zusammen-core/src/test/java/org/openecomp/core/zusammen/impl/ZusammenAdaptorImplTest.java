@@ -118,9 +118,8 @@ public class ZusammenAdaptorImplTest {
 
         List<ZusammenElement> returnedElements =
                 Arrays.asList(new ZusammenElement(), new ZusammenElement(), new ZusammenElement());
-        doReturn(returnedElements.get(0)).when(connector).getElement(CONTEXT, ELEMENT_CONTEXT, ELEMENTS.get(0).getId());
-        doReturn(returnedElements.get(1)).when(connector).getElement(CONTEXT, ELEMENT_CONTEXT, ELEMENTS.get(1).getId());
-        doReturn(returnedElements.get(2)).when(connector).getElement(CONTEXT, ELEMENT_CONTEXT, ELEMENTS.get(2).getId());
+        doReturn(returnedElements).when(connector).getElements(CONTEXT, ELEMENT_CONTEXT,
+                Arrays.asList(ELEMENTS.get(0).getId(), ELEMENTS.get(1).getId(), ELEMENTS.get(2).getId()));
 
         Collection<Element> elements = zusammenAdaptor.listElementData(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID);
 
@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openecomp.core.zusammen.impl;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.Element;
+import com.amdocs.zusammen.adaptor.inbound.api.types.item.ZusammenElement;
+import com.amdocs.zusammen.datatypes.Id;
+import com.amdocs.zusammen.datatypes.SessionContext;
+import com.amdocs.zusammen.datatypes.item.Action;
+import com.amdocs.zusammen.datatypes.item.ElementContext;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openecomp.core.zusammen.db.ZusammenConnector;
+import org.openecomp.sdc.common.session.SessionContextProviderFactory;
+
+public class ZusammenElementCacheTest {
+
+    private static final SessionContext CONTEXT = new SessionContext();
+    private static final ElementContext ELEMENT_CONTEXT = new ElementContext("itemId", "versionId");
+    private static final Id ELEMENT_ID = new Id("elementId");
+    private static final byte[] DATA = "data".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SEARCHABLE_DATA = "searchableData".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] VISUALIZATION = "visualization".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private ZusammenConnector connector;
+    @InjectMocks
+    private ZusammenAdaptorImpl zusammenAdaptor;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        SessionContextProviderFactory.getInstance().createInterface().create("testUser", "dox");
+        doAnswer(invocation -> createElement()).when(connector).getElement(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID);
+    }
+
+    @After
+    public void tearDown() {
+        SessionContextProviderFactory.getInstance().createInterface().close();
+    }
+
+    @Test
+    public void everyReadOfCachedElementReturnsItsFullData() throws IOException {
+        ZusammenElementCache cache = new ZusammenElementCache();
+        cache.putElement(ELEMENT_CONTEXT, ELEMENT_ID, createElement());
+
+        assertElementData(cache.getElement(ELEMENT_CONTEXT, ELEMENT_ID));
+        assertElementData(cache.getElement(ELEMENT_CONTEXT, ELEMENT_ID));
+    }
+
+    @Test
+    public void clearedCacheHasNoElements() {
+        ZusammenElementCache cache = new ZusammenElementCache();
+        cache.putElement(ELEMENT_CONTEXT, ELEMENT_ID, createElement());
+
+        cache.clear();
+
+        assertFalse(cache.getElement(ELEMENT_CONTEXT, ELEMENT_ID).isPresent());
+    }
+
+    @Test
+    public void firstAndSecondReadOfElementReturnItsFullData() throws IOException {
+        assertElementData(zusammenAdaptor.getElement(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID.getValue()));
+        assertElementData(zusammenAdaptor.getElement(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID.getValue()));
+
+        verify(connector).getElement(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID);
+    }
+
+    @Test
+    public void elementIsReadAgainAfterCreate() throws IOException {
+        ZusammenElement createdElement = new ZusammenElement();
+        createdElement.setAction(Action.CREATE);
+
+        testElementIsReadAgainAfterSave(createdElement);
+    }
+
+    @Test
+    public void elementIsReadAgainAfterUpdate() throws IOException {
+        ZusammenElement updatedElement = new ZusammenElement();
+        updatedElement.setAction(Action.UPDATE);
+        updatedElement.setElementId(ELEMENT_ID);
+
+        testElementIsReadAgainAfterSave(updatedElement);
+    }
+
+    @Test
+    public void elementIsReadAgainAfterDelete() throws IOException {
+        ZusammenElement deletedElement = new ZusammenElement();
+        deletedElement.setAction(Action.DELETE);
+        deletedElement.setElementId(ELEMENT_ID);
+
+        testElementIsReadAgainAfterSave(deletedElement);
+    }
+
+    private void testElementIsReadAgainAfterSave(ZusammenElement savedElement) throws IOException {
+        zusammenAdaptor.getElement(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID.getValue());
+
+        zusammenAdaptor.saveElement(CONTEXT, ELEMENT_CONTEXT, savedElement, "save element");
+
+        assertElementData(zusammenAdaptor.getElement(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID.getValue()));
+        verify(connector, times(2)).getElement(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID);
+    }
+
+    private static void assertElementData(Optional<Element> element) throws IOException {
+        assertTrue(element.isPresent());
+        assertArrayEquals(DATA, readAll(element.get().getData()));
+        assertArrayEquals(SEARCHABLE_DATA, readAll(element.get().getSearchableData()));
+        assertArrayEquals(VISUALIZATION, readAll(element.get().getVisualization()));
+    }
+
+    private static byte[] readAll(InputStream stream) throws IOException {
+        try (InputStream content = stream) {
+            return content.readAllBytes();
+        }
+    }
+
+    private static Element createElement() {
+        ZusammenElement element = new ZusammenElement();
+        element.setElementId(ELEMENT_ID);
+        element.setData(new ByteArrayInputStream(DATA));
+        element.setSearchableData(new ByteArrayInputStream(SEARCHABLE_DATA));
+        element.setVisualization(new ByteArrayInputStream(VISUALIZATION));
+        return element;
+    }
+}
@@ -0,0 +1,42 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.notification.services;
+
+import java.util.UUID;
+
+/**
+ * Carries "new notification" signals from the nodes that create notifications to the nodes that hold the users' websocket sessions, so
+ * that the notification workers do not have to poll the notifications table for every connected user. A signal holds only the owner and
+ * the event id; the notification itself is still read from the notifications table.
+ */
+public interface NotificationBus {
+
+    void publish(String ownerId, UUID eventId);
+
+    void subscribe(Listener listener);
+
+    void unsubscribe(Listener listener);
+
+    @FunctionalInterface
+    interface Listener {
+
+        void onNotification(String ownerId, UUID eventId);
+    }
+}
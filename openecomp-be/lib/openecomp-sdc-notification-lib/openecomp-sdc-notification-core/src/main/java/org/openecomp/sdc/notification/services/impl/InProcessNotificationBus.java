@@ -0,0 +1,59 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.notification.services.impl;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.openecomp.sdc.logging.api.Logger;
+import org.openecomp.sdc.logging.api.LoggerFactory;
+import org.openecomp.sdc.notification.services.NotificationBus;
+
+/**
+ * Delivers the signals to the listeners of the same JVM (class loader), synchronously on the publishing thread. Enough for a single node
+ * that both creates notifications and serves the websockets, and for tests; spreading the signals across nodes requires plugging another
+ * {@link NotificationBus} implementation through the factory configuration.
+ */
+public class InProcessNotificationBus implements NotificationBus {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InProcessNotificationBus.class);
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(String ownerId, UUID eventId) {
+        for (Listener listener : listeners) {
+            try {
+                listener.onNotification(ownerId, eventId);
+            } catch (RuntimeException e) {
+                LOGGER.error("Failed to deliver notification {} of user {}", eventId, ownerId, e);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Listener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void unsubscribe(Listener listener) {
+        listeners.remove(listener);
+    }
+}
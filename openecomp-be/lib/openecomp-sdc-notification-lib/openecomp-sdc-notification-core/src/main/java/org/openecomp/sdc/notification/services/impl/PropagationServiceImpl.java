@@ -32,14 +32,17 @@ import org.openecomp.sdc.destinationprovider.DestinationProvider;
 import org.openecomp.sdc.notification.dao.NotificationsDao;
 import org.openecomp.sdc.notification.dao.types.NotificationEntity;
 import org.openecomp.sdc.notification.dtos.Event;
+import org.openecomp.sdc.notification.services.NotificationBus;
 import org.openecomp.sdc.notification.services.PropagationService;
 
 public class PropagationServiceImpl implements PropagationService {
 
     private NotificationsDao notificationsDao;
+    private NotificationBus notificationBus;
 
-    public PropagationServiceImpl(NotificationsDao notificationsDao) {
+    public PropagationServiceImpl(NotificationsDao notificationsDao, NotificationBus notificationBus) {
         this.notificationsDao = notificationsDao;
+        this.notificationBus = notificationBus;
     }
 
     @Override
@@ -56,6 +59,7 @@ public class PropagationServiceImpl implements PropagationService {
         }).collect(Collectors.toList());
         if (CollectionUtils.isNotEmpty(notificationEntities)) {
             notificationsDao.createBatch(notificationEntities);
+            notificationEntities.forEach(entity -> notificationBus.publish(entity.getOwnerId(), entity.getEventId()));
         }
     }
 
@@ -0,0 +1,69 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.notification.services.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.Test;
+import org.openecomp.sdc.notification.services.NotificationBus;
+
+public class InProcessNotificationBusTest {
+
+    private final InProcessNotificationBus notificationBus = new InProcessNotificationBus();
+
+    @Test
+    public void shouldDeliverToAllSubscribedListeners() {
+        List<String> received = new ArrayList<>();
+        notificationBus.subscribe((ownerId, eventId) -> received.add("first:" + ownerId));
+        notificationBus.subscribe((ownerId, eventId) -> received.add("second:" + ownerId));
+
+        notificationBus.publish("A1", UUID.randomUUID());
+
+        assertEquals(List.of("first:A1", "second:A1"), received);
+    }
+
+    @Test
+    public void shouldNotDeliverToUnsubscribedListener() {
+        List<String> received = new ArrayList<>();
+        NotificationBus.Listener listener = (ownerId, eventId) -> received.add(ownerId);
+        notificationBus.subscribe(listener);
+        notificationBus.unsubscribe(listener);
+
+        notificationBus.publish("A1", UUID.randomUUID());
+
+        assertEquals(0, received.size());
+    }
+
+    @Test
+    public void shouldKeepDeliveringWhenListenerFails() {
+        List<String> received = new ArrayList<>();
+        notificationBus.subscribe((ownerId, eventId) -> {
+            throw new IllegalStateException("closed");
+        });
+        notificationBus.subscribe((ownerId, eventId) -> received.add(ownerId));
+
+        notificationBus.publish("A1", UUID.randomUUID());
+
+        assertEquals(List.of("A1"), received);
+    }
+}
@@ -29,13 +29,17 @@ import org.mockito.*;
 import org.openecomp.sdc.destinationprovider.DestinationProvider;
 import org.openecomp.sdc.notification.dao.NotificationsDao;
 import org.openecomp.sdc.notification.dtos.Event;
+import org.openecomp.sdc.notification.services.NotificationBus;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.UUID;
 
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyList;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -46,6 +50,8 @@ public class PropagationServiceImplTest {
     @Mock
     private NotificationsDao notificationsDaoMock;
     @Mock
+    private NotificationBus notificationBusMock;
+    @Mock
     private Event eventMock;
     @Mock
     private DestinationProvider destinationProviderMock;
@@ -75,6 +81,14 @@ public class PropagationServiceImplTest {
         Assert.assertEquals(createBatchCaptor.getValue().size(), subscribersList.size());
     }
 
+    @Test
+    public void shouldPublishEveryCreatedNotificationToTheBus() throws Exception {
+        doReturn(Arrays.asList("A1", "A2")).when(destinationProviderMock).getSubscribers();
+        propagationService.notify(eventMock, destinationProviderMock);
+        verify(notificationBusMock).publish(eq("A1"), any(UUID.class));
+        verify(notificationBusMock).publish(eq("A2"), any(UUID.class));
+    }
+
     @Test
     public void shouldNotCallNotificationDaoIfSubscriberIsNull() throws Exception {
         doReturn(Collections.EMPTY_LIST).when(destinationProviderMock).getSubscribers();
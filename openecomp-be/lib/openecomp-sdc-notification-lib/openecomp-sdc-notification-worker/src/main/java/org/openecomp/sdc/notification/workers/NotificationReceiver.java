@@ -20,6 +20,7 @@
 package org.openecomp.sdc.notification.workers;
 
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -34,6 +35,7 @@ public class NotificationReceiver {
     private String ownerId = null;
     private UUID lastEventId = null;
     private Consumer<NotificationsStatusDto> notesProcessor = null;
+    private final AtomicBoolean pendingDelivery = new AtomicBoolean();
 
     NotificationReceiver(String ownerId, Consumer<NotificationsStatusDto> notesProcessor) {
         this(ownerId, null, notesProcessor);
@@ -23,30 +23,45 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import org.apache.commons.collections4.CollectionUtils;
 import org.openecomp.sdc.logging.api.Logger;
 import org.openecomp.sdc.logging.api.LoggerFactory;
 import org.openecomp.sdc.notification.config.NotificationConfigurationManager;
+import org.openecomp.sdc.notification.services.NotificationBus;
 import org.openecomp.sdc.notification.types.NotificationsStatusDto;
 
-public class NotificationWorker {
+/**
+ * Delivers new notifications to the registered users. A user is read from the notifications store only when a new notification was
+ * pushed into the user's mailbox (see {@link #onNotification(String, UUID)}), when the user registers (catching up from the last
+ * delivered event of a reconnecting client), and on a periodic catch-up sweep over all the registered users, which covers nodes that
+ * create notifications without pushing them to this one. The worker can be subscribed to a {@link NotificationBus}, but notifications are
+ * published by the onboarding backend, which runs in another container than the notifications frontend. Until a bus shared by the nodes is
+ * wired in, the catch-up sweep keeps running at the old polling interval.
+ */
+public class NotificationWorker implements NotificationBus.Listener {
 
     private static final int DEFAULT_POLLING_INTERVAL = 2000;
     private static final String POLLING_INTERVAL = "pollingIntervalMsec";
+    private static final String CATCH_UP_INTERVAL = "catchUpIntervalMsec";
     private static final int DEFAULT_SELECTION_LIMIT = 10;
     private static final String SELECTION_SIZE = "selectionSize";
     private static final Logger LOGGER = LoggerFactory.getLogger(NotificationWorker.class);
-    private static boolean stopRunning = false;
     private static Map<String, NotificationReceiver> activeUsers = new ConcurrentHashMap<>();
+    private final BlockingQueue<NotificationReceiver> pendingDeliveries = new LinkedBlockingQueue<>();
+    private volatile boolean stopRunning = false;
     private int selectionLimit = DEFAULT_SELECTION_LIMIT;
-    private int pollingSleepInterval = DEFAULT_POLLING_INTERVAL;
+    private int catchUpInterval = DEFAULT_POLLING_INTERVAL;
     private NewNotificationsReader news = null;
 
     public NotificationWorker(NewNotificationsReader news) {
         NotificationConfigurationManager cm = NotificationConfigurationManager.getInstance();
-        pollingSleepInterval = cm.getConfigValue(POLLING_INTERVAL, DEFAULT_POLLING_INTERVAL);
+        int pollingInterval = cm.getConfigValue(POLLING_INTERVAL, DEFAULT_POLLING_INTERVAL);
+        catchUpInterval = cm.getConfigValue(CATCH_UP_INTERVAL, pollingInterval);
         selectionLimit = cm.getConfigValue(SELECTION_SIZE, DEFAULT_SELECTION_LIMIT);
         Objects.requireNonNull(news, "NotificationNews object is not initialized.");
         this.news = news;
@@ -62,6 +77,7 @@ public class NotificationWorker {
     public void register(String ownerId, UUID lastDelivered, Consumer<NotificationsStatusDto> notesProcessor) {
         NotificationReceiver receiver = new NotificationReceiver(ownerId, lastDelivered, notesProcessor);
         activeUsers.put(ownerId, receiver);
+        schedule(receiver);
         LOGGER.debug("User {} is registered with eventId: {}", ownerId, receiver.getLastEventId());
     }
 
@@ -70,19 +86,45 @@ public class NotificationWorker {
         LOGGER.debug("User {} is unregistered.", ownerId);
     }
 
+    /**
+     * Pushes a new notification into the mailbox of its owner, if the owner is registered with this worker.
+     */
+    @Override
+    public void onNotification(String ownerId, UUID eventId) {
+        NotificationReceiver receiver = activeUsers.get(ownerId);
+        if (receiver != null) {
+            LOGGER.debug("Event {} is pushed to user {}", eventId, ownerId);
+            schedule(receiver);
+        }
+    }
+
     public void stopPolling() {
         LOGGER.debug("Stop notification polling.");
         stopRunning = true;
     }
 
+    private void schedule(NotificationReceiver receiver) {
+        if (receiver.getPendingDelivery().compareAndSet(false, true)) {
+            pendingDeliveries.add(receiver);
+        }
+    }
+
     public class Poller extends Thread {
 
         @Override
         public void run() {
             try {
+                long nextCatchUp = System.currentTimeMillis() + catchUpInterval;
                 while (!stopRunning) {
-                    pollNotifications();
-                    Thread.sleep(pollingSleepInterval);
+                    long timeout = Math.max(0, nextCatchUp - System.currentTimeMillis());
+                    NotificationReceiver receiver = pendingDeliveries.poll(timeout, TimeUnit.MILLISECONDS);
+                    if (receiver != null) {
+                        deliverNotifications(receiver);
+                    }
+                    if (System.currentTimeMillis() >= nextCatchUp) {
+                        catchUpNotifications();
+                        nextCatchUp = System.currentTimeMillis() + catchUpInterval;
+                    }
                 }
             } catch (InterruptedException e) {
                 LOGGER.error("Interrupted Exception during Notification poller launch.", e);
@@ -90,18 +132,38 @@ public class NotificationWorker {
             }
         }
 
-        private void pollNotifications() {
+        private void catchUpNotifications() {
             Map<String, NotificationReceiver> currUsers = new HashMap<>();
             currUsers.putAll(getActiveUsers());
             for (NotificationReceiver receiver : currUsers.values()) {
-                String ownerId = receiver.getOwnerId();
-                UUID eventId = receiver.getLastEventId();
-                NotificationsStatusDto status = news.getNewNotifications(ownerId, eventId, selectionLimit);
-                if (Objects.nonNull(status) && CollectionUtils.isNotEmpty(status.getNotifications())) {
-                    receiver.setLastEventId(status.getLastScanned());
-                    receiver.getNotesProcessor().accept(status);
+                if (!receiver.getPendingDelivery().get()) {
+                    pollNotifications(receiver);
                 }
             }
         }
+
+        private void deliverNotifications(NotificationReceiver receiver) {
+            receiver.getPendingDelivery().set(false);
+            if (activeUsers.get(receiver.getOwnerId()) != receiver) {
+                return;
+            }
+            NotificationsStatusDto status = pollNotifications(receiver);
+            if (Objects.nonNull(status) && status.getNotifications().size() >= selectionLimit) {
+                // a full page was read, there may be more
+                schedule(receiver);
+            }
+        }
+
+        private NotificationsStatusDto pollNotifications(NotificationReceiver receiver) {
+            String ownerId = receiver.getOwnerId();
+            UUID eventId = receiver.getLastEventId();
+            NotificationsStatusDto status = news.getNewNotifications(ownerId, eventId, selectionLimit);
+            if (Objects.nonNull(status) && CollectionUtils.isNotEmpty(status.getNotifications())) {
+                receiver.setLastEventId(status.getLastScanned());
+                receiver.getNotesProcessor().accept(status);
+                return status;
+            }
+            return null;
+        }
     }
 }
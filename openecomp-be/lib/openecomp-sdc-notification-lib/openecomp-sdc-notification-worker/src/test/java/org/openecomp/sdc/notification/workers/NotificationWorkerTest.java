@@ -20,16 +20,22 @@
 
 package org.openecomp.sdc.notification.workers;
 
+import static org.junit.Assert.assertTrue;
+
 import com.datastax.driver.core.utils.UUIDs;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.openecomp.core.utilities.json.JsonUtil;
+import org.openecomp.sdc.notification.services.NotificationBus;
 import org.openecomp.sdc.notification.types.NotificationEntityDto;
 import org.openecomp.sdc.notification.types.NotificationsStatusDto;
 
 import java.io.*;
 import java.text.DateFormat;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -73,6 +79,42 @@ public class NotificationWorkerTest {
 
     }
 
+    @Test
+    public void testPublishedNotificationReachesOwnerWithoutWaitingForPoll() throws InterruptedException {
+        String owner = "owner_push";
+        UUID eventId = UUIDs.timeBased();
+        AtomicReference<NotificationsStatusDto> newNotifications = new AtomicReference<>();
+        CountDownLatch registrationRead = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(1);
+        NotificationWorker pushedWorker = new NotificationWorker((ownerId, lastEventId, limit) -> {
+            registrationRead.countDown();
+            return newNotifications.getAndSet(null);
+        });
+        try {
+            pushedWorker.register(owner, null, notes -> delivered.countDown());
+            assertTrue(registrationRead.await(5, TimeUnit.SECONDS));
+
+            newNotifications.set(createNotificationsStatus(eventId));
+            NotificationBus.Listener listener = pushedWorker;
+            listener.onNotification(owner, eventId);
+
+            // delivery within the node only, the notifications of the onboarding backend still reach this node through the catch-up sweep
+            assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        } finally {
+            pushedWorker.unregister(owner);
+            pushedWorker.stopPolling();
+        }
+    }
+
+    private static NotificationsStatusDto createNotificationsStatus(UUID eventId) {
+        NotificationEntityDto notification = new NotificationEntityDto();
+        notification.setEventId(eventId);
+        NotificationsStatusDto status = new NotificationsStatusDto();
+        status.setNotifications(Collections.singletonList(notification));
+        status.setLastScanned(eventId);
+        return status;
+    }
+
     private void notifyReceiver(NotificationsStatusDto notes) {
         if (Objects.nonNull(notes)) {
             System.out.println("Received notes:");
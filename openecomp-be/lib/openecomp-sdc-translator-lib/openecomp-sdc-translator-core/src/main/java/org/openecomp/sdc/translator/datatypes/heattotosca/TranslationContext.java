@@ -25,11 +25,13 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.collections.MapUtils;
 import org.onap.config.api.Configuration;
 import org.onap.config.api.ConfigurationManager;
 import org.onap.sdc.tosca.datatypes.model.NodeTemplate;
 import org.onap.sdc.tosca.datatypes.model.ServiceTemplate;
+import org.onap.sdc.tosca.services.YamlUtil;
 import org.openecomp.core.utilities.CommonMethods;
 import org.openecomp.core.utilities.file.FileContentHandler;
 import org.openecomp.core.utilities.orchestration.OnboardingTypesEnum;
@@ -37,6 +39,8 @@ import org.openecomp.sdc.common.errors.CoreException;
 import org.openecomp.sdc.datatypes.configuration.ImplementationConfiguration;
 import org.openecomp.sdc.heat.datatypes.manifest.FileData;
 import org.openecomp.sdc.heat.datatypes.manifest.ManifestFile;
+import org.openecomp.sdc.heat.datatypes.model.Environment;
+import org.openecomp.sdc.heat.datatypes.model.HeatOrchestrationTemplate;
 import org.openecomp.sdc.heat.datatypes.model.Resource;
 import org.openecomp.sdc.tosca.services.ToscaUtil;
 import org.openecomp.sdc.translator.datatypes.heattotosca.to.TranslatedHeatResource;
@@ -67,6 +71,8 @@ public class TranslationContext {
     private static Map<String, ImplementationConfiguration> supportedConsolidationComputeResources;
     private static Map<String, ImplementationConfiguration> supportedConsolidationPortResources;
     private final FileContentHandler files = new FileContentHandler();
+    // Key - file name and parsed type, value - the parsed file content, shared by all the translation steps
+    private final Map<String, ParsedFile> parsedFiles = new ConcurrentHashMap<>();
     private final Map<String, FileData.Type> manifestFiles = new HashMap<>();
     //Key - file name, value - file type
     private final Set<String> nestedHeatsFiles = new HashSet<>();
@@ -262,6 +268,7 @@ public class TranslationContext {
 
     public void setFiles(Map<String, byte[]> files) {
         this.files.setFiles(files);
+        parsedFiles.clear();
     }
 
     public InputStream getFileContentAsStream(final String fileName) {
@@ -270,6 +277,50 @@ public class TranslationContext {
 
     public void addFile(String name, byte[] content) {
         files.addFile(name, content);
+        parsedFiles.remove(parsedFileKey(name, HeatOrchestrationTemplate.class));
+        parsedFiles.remove(parsedFileKey(name, Environment.class));
+    }
+
+    /**
+     * Gets the heat orchestration template of a heat file. The file is parsed once per translation, the returned template is shared and
+     * must not be modified.
+     *
+     * @param fileName the heat file name
+     * @return the heat orchestration template
+     */
+    public HeatOrchestrationTemplate getHeatOrchestrationTemplate(String fileName) {
+        return getParsedFile(fileName, HeatOrchestrationTemplate.class);
+    }
+
+    /**
+     * Gets the environment of a heat env file. The file is parsed once per translation, the returned environment is shared and must not be
+     * modified.
+     *
+     * @param fileName the env file name
+     * @return the environment
+     */
+    public Environment getHeatEnvironment(String fileName) {
+        return getParsedFile(fileName, Environment.class);
+    }
+
+    /**
+     * Parses a file ahead of its use, so independent files can be parsed concurrently. A parse failure is kept and thrown to the first
+     * translation step reading the file, as if it was parsed there.
+     *
+     * @param fileName the file name
+     * @param type     the type the file is parsed to
+     */
+    public void parseFile(String fileName, Class<?> type) {
+        parsedFiles.computeIfAbsent(parsedFileKey(fileName, type), key -> ParsedFile.parse(files.getFileContentAsStream(fileName), type));
+    }
+
+    private <T> T getParsedFile(String fileName, Class<T> type) {
+        parseFile(fileName, type);
+        return type.cast(parsedFiles.get(parsedFileKey(fileName, type)).getContent());
+    }
+
+    private static String parsedFileKey(String fileName, Class<?> type) {
+        return type.getSimpleName() + ':' + fileName;
     }
 
     public ManifestFile getManifest() {
@@ -570,4 +621,30 @@ public class TranslationContext {
             requirementIdToAppearance.put(requirementId, 0);
         }
     }
+
+    private static final class ParsedFile {
+
+        private final Object content;
+        private final RuntimeException failure;
+
+        private ParsedFile(Object content, RuntimeException failure) {
+            this.content = content;
+            this.failure = failure;
+        }
+
+        private static ParsedFile parse(InputStream fileContent, Class<?> type) {
+            try {
+                return new ParsedFile(new YamlUtil().yamlToObject(fileContent, type), null);
+            } catch (RuntimeException exception) {
+                return new ParsedFile(null, exception);
+            }
+        }
+
+        private Object getContent() {
+            if (failure != null) {
+                throw failure;
+            }
+            return content;
+        }
+    }
 }
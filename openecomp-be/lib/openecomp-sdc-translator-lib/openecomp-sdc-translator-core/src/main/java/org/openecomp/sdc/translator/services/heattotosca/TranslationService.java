@@ -31,7 +31,6 @@ import org.onap.sdc.tosca.datatypes.model.PropertyType;
 import org.onap.sdc.tosca.datatypes.model.ServiceTemplate;
 import org.onap.sdc.tosca.datatypes.model.TopologyTemplate;
 import org.onap.sdc.tosca.datatypes.model.heatextend.ParameterDefinitionExt;
-import org.onap.sdc.tosca.services.YamlUtil;
 import org.openecomp.core.translator.datatypes.TranslatorOutput;
 import org.openecomp.core.utilities.file.FileUtils;
 import org.openecomp.sdc.common.errors.CoreException;
@@ -87,6 +86,7 @@ public class TranslationService {
     public TranslatorOutput translateHeatFiles(TranslationContext translationContext) {
         ServiceTemplate mainServiceTemplate = createMainServiceTemplate(translationContext);
         List<FileData> fileDataList = translationContext.getManifest().getContent().getData();
+        parseHeatFiles(fileDataList, translationContext);
         FileDataCollection fileDataCollection = HeatToToscaUtil
             .getFileCollectionsByFilter(fileDataList, TranslationService.getTypesToProcessByTranslator(), translationContext);
         FileDataCollection fileDataCollectionHelm = HeatToToscaUtil
@@ -116,6 +116,31 @@ public class TranslationService {
         return translatorOutput;
     }
 
+    /**
+     * Parses all the heat and env files of the manifest concurrently before translating them. The files do not depend on each other to be
+     * parsed, while the translation itself stays sequential since the base, add-on and nested files all contribute to shared service
+     * templates, shared resources and consolidation data in the manifest order.
+     */
+    private void parseHeatFiles(List<FileData> fileDataList, TranslationContext translationContext) {
+        Map<String, Class<?>> filesToParse = new HashMap<>();
+        collectFilesToParse(fileDataList, filesToParse);
+        filesToParse.entrySet().parallelStream().forEach(file -> translationContext.parseFile(file.getKey(), file.getValue()));
+    }
+
+    private void collectFilesToParse(List<FileData> fileDataList, Map<String, Class<?>> filesToParse) {
+        if (CollectionUtils.isEmpty(fileDataList)) {
+            return;
+        }
+        for (FileData fileData : fileDataList) {
+            if (getTypesToProcessByTranslator().contains(fileData.getType())) {
+                filesToParse.put(fileData.getFile(), HeatOrchestrationTemplate.class);
+            } else if (FileData.Type.HEAT_ENV.equals(fileData.getType())) {
+                filesToParse.put(fileData.getFile(), Environment.class);
+            }
+            collectFilesToParse(fileData.getData(), filesToParse);
+        }
+    }
+
     private ServiceTemplate createMainServiceTemplate(TranslationContext translationContext) {
         ServiceTemplate mainServiceTemplate = new ServiceTemplate();
         translationContext.getTranslatedServiceTemplates().put(Constants.MAIN_TEMPLATE_NAME, mainServiceTemplate);
@@ -137,8 +162,7 @@ public class TranslationService {
      */
     public void translateHeatFile(ServiceTemplate serviceTemplate, FileData heatFileData, TranslationContext context) {
         String heatFileName = heatFileData.getFile();
-        HeatOrchestrationTemplate heatOrchestrationTemplate = new YamlUtil()
-            .yamlToObject(context.getFileContentAsStream(heatFileName), HeatOrchestrationTemplate.class);
+        HeatOrchestrationTemplate heatOrchestrationTemplate = context.getHeatOrchestrationTemplate(heatFileName);
         translateInputParameters(serviceTemplate, heatOrchestrationTemplate, heatFileData, context, heatFileName);
         translateResources(heatFileName, serviceTemplate, heatOrchestrationTemplate, context);
         translateOutputParameters(serviceTemplate, heatOrchestrationTemplate, heatFileData, heatFileName, context);
@@ -357,7 +381,7 @@ public class TranslationService {
         }
         for (FileData fileRelatedData : fileRelatedDataList) {
             if (fileRelatedData.getType().equals(FileData.Type.HEAT_ENV)) {
-                return new YamlUtil().yamlToObject(context.getFileContentAsStream(fileRelatedData.getFile()), Environment.class);
+                return context.getHeatEnvironment(fileRelatedData.getFile());
             }
         }
         return new Environment();
@@ -29,7 +29,6 @@ import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apache.commons.collections4.CollectionUtils;
-import org.onap.sdc.tosca.services.YamlUtil;
 import org.openecomp.sdc.heat.datatypes.manifest.FileData;
 import org.openecomp.sdc.heat.datatypes.model.HeatOrchestrationTemplate;
 import org.openecomp.sdc.heat.datatypes.model.Output;
@@ -75,8 +74,7 @@ public class VolumeTranslationHelper {
     private Optional<ResourceFileDataAndIDs> getResourceFileDataAndIDsForVolumeConnection(String resourceId, TranslateTo translateTo,
                                                                                           List<FileData> fileDatas) {
         for (FileData data : fileDatas) {
-            HeatOrchestrationTemplate heatOrchestrationTemplate = new YamlUtil()
-                .yamlToObject(translateTo.getContext().getFiles().getFileContentAsStream(data.getFile()), HeatOrchestrationTemplate.class);
+            HeatOrchestrationTemplate heatOrchestrationTemplate = translateTo.getContext().getHeatOrchestrationTemplate(data.getFile());
             Map<String, Output> outputs = heatOrchestrationTemplate.getOutputs();
             if (Objects.isNull(outputs)) {
                 continue;
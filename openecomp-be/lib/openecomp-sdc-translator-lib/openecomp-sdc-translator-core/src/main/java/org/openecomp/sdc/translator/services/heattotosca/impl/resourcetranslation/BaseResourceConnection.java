@@ -29,7 +29,6 @@ import org.onap.sdc.tosca.datatypes.model.NodeType;
 import org.onap.sdc.tosca.datatypes.model.RequirementAssignment;
 import org.onap.sdc.tosca.datatypes.model.RequirementDefinition;
 import org.onap.sdc.tosca.datatypes.model.ServiceTemplate;
-import org.onap.sdc.tosca.services.YamlUtil;
 import org.openecomp.sdc.common.errors.CoreException;
 import org.openecomp.sdc.common.errors.ErrorCategory;
 import org.openecomp.sdc.common.errors.ErrorCode;
@@ -90,8 +89,7 @@ abstract class BaseResourceConnection<T> {
     void connect() {
         ServiceTemplate nestedServiceTemplate = translateTo.getContext().getTranslatedServiceTemplates().get(translateTo.getResource().getType());
         List<String> paramNames;
-        HeatOrchestrationTemplate nestedHeatOrchestrationTemplate = new YamlUtil()
-            .yamlToObject(translateTo.getContext().getFileContentAsStream(nestedFileData.getFile()), HeatOrchestrationTemplate.class);
+        HeatOrchestrationTemplate nestedHeatOrchestrationTemplate = translateTo.getContext().getHeatOrchestrationTemplate(nestedFileData.getFile());
         List<Map<String, T>> exposedConnectionPoints = getAllConnectionPoints();
         for (Map<String, T> connectionPointsMap : exposedConnectionPoints) {
             for (Map.Entry<String, T> connectionPointEntry : connectionPointsMap.entrySet()) {
@@ -125,8 +123,7 @@ abstract class BaseResourceConnection<T> {
         if (Objects.isNull(mappedNestedHeatFileName)) {
             return Collections.emptyList();
         }
-        HeatOrchestrationTemplate mappedNestedHeatOrchestrationTemplate = new YamlUtil()
-            .yamlToObject(translateTo.getContext().getFileContentAsStream(mappedNestedHeatFileName), HeatOrchestrationTemplate.class);
+        HeatOrchestrationTemplate mappedNestedHeatOrchestrationTemplate = translateTo.getContext().getHeatOrchestrationTemplate(mappedNestedHeatFileName);
         ServiceTemplate mappedNestedServiceTemplate = translateTo.getContext().getTranslatedServiceTemplates().get(mappedNestedHeatFileName);
         List<String> nestedPropertyNames = getConnectionParameterName(mappedNestedServiceTemplate, mappedNestedHeatOrchestrationTemplate,
             mappedNestedHeatFileName, getMappedConnectionPointEntry(nestedServiceTemplate, connectionPointEntry));
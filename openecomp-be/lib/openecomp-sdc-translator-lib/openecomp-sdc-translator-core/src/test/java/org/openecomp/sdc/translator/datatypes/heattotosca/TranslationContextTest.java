@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openecomp.sdc.translator.datatypes.heattotosca;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.Assert;
+import org.junit.Test;
+import org.openecomp.sdc.heat.datatypes.model.Environment;
+import org.openecomp.sdc.heat.datatypes.model.HeatOrchestrationTemplate;
+
+public class TranslationContextTest {
+
+    private static final String HEAT_FILE = "main.yml";
+    private static final String ENV_FILE = "main.env";
+
+    @Test
+    public void testParsedFilesAreShared() {
+        TranslationContext context = new TranslationContext();
+        context.addFile(HEAT_FILE, ("heat_template_version: 2013-05-23\n"
+            + "resources:\n"
+            + "  network:\n"
+            + "    type: OS::Neutron::Net\n").getBytes(StandardCharsets.UTF_8));
+        context.addFile(ENV_FILE, "parameters:\n  name: value\n".getBytes(StandardCharsets.UTF_8));
+        context.parseFile(HEAT_FILE, HeatOrchestrationTemplate.class);
+
+        HeatOrchestrationTemplate heatOrchestrationTemplate = context.getHeatOrchestrationTemplate(HEAT_FILE);
+        Assert.assertTrue(heatOrchestrationTemplate.getResources().containsKey("network"));
+        Assert.assertSame(heatOrchestrationTemplate, context.getHeatOrchestrationTemplate(HEAT_FILE));
+        Environment environment = context.getHeatEnvironment(ENV_FILE);
+        Assert.assertEquals("value", environment.getParameters().get("name"));
+        Assert.assertSame(environment, context.getHeatEnvironment(ENV_FILE));
+    }
+
+    @Test
+    public void testParseFailureIsThrownOnRead() {
+        TranslationContext context = new TranslationContext();
+        context.addFile(HEAT_FILE, "resources: [".getBytes(StandardCharsets.UTF_8));
+        context.parseFile(HEAT_FILE, HeatOrchestrationTemplate.class);
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                context.getHeatOrchestrationTemplate(HEAT_FILE);
+                Assert.fail("Parsing an invalid heat file should fail");
+            } catch (RuntimeException expected) {
+                // the same failure is reported on every read
+            }
+        }
+    }
+
+    @Test
+    public void testAddFileReplacesParsedContent() {
+        TranslationContext context = new TranslationContext();
+        context.addFile(ENV_FILE, "parameters:\n  name: value\n".getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals("value", context.getHeatEnvironment(ENV_FILE).getParameters().get("name"));
+
+        context.addFile(ENV_FILE, "parameters:\n  name: other\n".getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals("other", context.getHeatEnvironment(ENV_FILE).getParameters().get("name"));
+    }
+}
@@ -16,11 +16,15 @@
 package org.openecomp.core.validation.types;
 
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.commons.collections4.CollectionUtils;
 import org.openecomp.core.validation.ErrorMessageCode;
@@ -31,10 +35,25 @@ import org.openecomp.sdc.logging.api.LoggerFactory;
 public class GlobalValidationContext {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(GlobalValidationContext.class);
-    private final Map<String, FileValidationContext> fileContextMap = new HashMap<>();
+    private final Map<String, FileValidationContext> fileContextMap;
     private final Map<String, MessageContainer> messageContainerMap = new HashMap<>();
+    private final Map<String, ParsedFileContent> parsedFileContentMap;
+    private final List<RecordedMessage> recordedMessages;
     private ErrorMessageCode messageCode;
 
+    public GlobalValidationContext() {
+        fileContextMap = new HashMap<>();
+        parsedFileContentMap = new ConcurrentHashMap<>();
+        recordedMessages = null;
+    }
+
+    private GlobalValidationContext(GlobalValidationContext parent) {
+        fileContextMap = parent.fileContextMap;
+        parsedFileContentMap = parent.parsedFileContentMap;
+        recordedMessages = new ArrayList<>();
+        messageCode = parent.messageCode;
+    }
+
     public ErrorMessageCode getMessageCode() {
         return messageCode;
     }
@@ -51,6 +70,10 @@ public class GlobalValidationContext {
      * @param message  the message
      */
     public void addMessage(String fileName, ErrorLevel level, String message) {
+        if (recordedMessages != null) {
+            recordedMessages.add(new RecordedMessage(fileName, level, message));
+            return;
+        }
         LOGGER.debug("'{}' [{}] in file '{}' ", message, level, fileName);
         if (fileContextMap.containsKey(fileName)) {
             fileContextMap.get(fileName).getMessageContainer().getMessageBuilder().setMessage(level.toString() + ": " + message).setLevel(level)
@@ -78,10 +101,58 @@ public class GlobalValidationContext {
         return Optional.of(fileContext.getContent());
     }
 
+    /**
+     * Gets the file content parsed by the given parser. The parsed content is computed once per file and type and shared by all validators
+     * of this context, so it must be treated as read only. A parser failure is cached as well and the same exception is thrown to every
+     * caller.
+     *
+     * @param fileName the file name
+     * @param type     the type the file is parsed to
+     * @param parser   the parser
+     * @return the parsed file content, empty if the file has no content
+     */
+    public <T> Optional<T> getParsedFileContent(String fileName, Class<T> type, Function<InputStream, T> parser) {
+        FileValidationContext fileContext = fileContextMap.get(fileName);
+        if (fileContext == null || fileContext.isEmpty()) {
+            return Optional.empty();
+        }
+        ParsedFileContent parsedFileContent = parsedFileContentMap
+            .computeIfAbsent(fileName + ':' + type.getName(), key -> ParsedFileContent.parse(fileContext.getContent(), parser));
+        if (parsedFileContent.failure != null) {
+            throw parsedFileContent.failure;
+        }
+        return Optional.ofNullable(type.cast(parsedFileContent.content));
+    }
+
     public void addFileContext(String fileName, byte[] fileContent) {
         fileContextMap.put(fileName, new FileValidationContext(fileName, fileContent));
     }
 
+    /**
+     * Creates a context for running a single validator concurrently with others. The fork shares the files and their parsed content with
+     * this context, but keeps its own message code and records its messages until they are {@link #merge(GlobalValidationContext) merged}
+     * back.
+     *
+     * @return the forked context
+     */
+    public GlobalValidationContext fork() {
+        return new GlobalValidationContext(this);
+    }
+
+    /**
+     * Adds the messages recorded by a fork of this context, in the order they were recorded. Merging the forks in the order the validators
+     * are configured results in the same messages as running the validators one after the other on this context.
+     *
+     * @param fork the forked context
+     */
+    public void merge(GlobalValidationContext fork) {
+        if (fork.recordedMessages == null) {
+            throw new IllegalArgumentException("Only a forked validation context can be merged");
+        }
+        fork.recordedMessages.forEach(recorded -> addMessage(recorded.fileName, recorded.level, recorded.message));
+        fork.recordedMessages.clear();
+    }
+
     /**
      * Gets context message containers.
      *
@@ -107,4 +178,36 @@ public class GlobalValidationContext {
     public Collection<String> getFiles() {
         return this.getFileContextMap().keySet();
     }
+
+    private static final class RecordedMessage {
+
+        private final String fileName;
+        private final ErrorLevel level;
+        private final String message;
+
+        private RecordedMessage(String fileName, ErrorLevel level, String message) {
+            this.fileName = fileName;
+            this.level = level;
+            this.message = message;
+        }
+    }
+
+    private static final class ParsedFileContent {
+
+        private final Object content;
+        private final RuntimeException failure;
+
+        private ParsedFileContent(Object content, RuntimeException failure) {
+            this.content = content;
+            this.failure = failure;
+        }
+
+        private static ParsedFileContent parse(InputStream fileContent, Function<InputStream, ?> parser) {
+            try {
+                return new ParsedFileContent(parser.apply(fileContent), null);
+            } catch (RuntimeException exception) {
+                return new ParsedFileContent(null, exception);
+            }
+        }
+    }
 }
@@ -30,10 +30,15 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiPredicate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class GlobalValidationContextTest {
@@ -114,6 +119,65 @@ public class GlobalValidationContextTest {
     assertEquals(3, globalValidationContext.getFiles().size());
   }
 
+  @Test
+  public void testMergeForksInOrder() {
+    GlobalValidationContext globalValidationContext = new GlobalValidationContext();
+    globalValidationContext.addFileContext(yaml1, content.getBytes());
+    GlobalValidationContext firstFork = globalValidationContext.fork();
+    GlobalValidationContext secondFork = globalValidationContext.fork();
+    secondFork.addMessage(yaml1, ErrorLevel.WARNING, "second");
+    secondFork.addMessage(yaml1, ErrorLevel.ERROR, message);
+    firstFork.addMessage(yaml1, ErrorLevel.ERROR, message);
+    firstFork.addMessage(filename, ErrorLevel.ERROR, message);
+
+    assertTrue(globalValidationContext.getContextMessageContainers().isEmpty());
+
+    globalValidationContext.merge(firstFork);
+    globalValidationContext.merge(secondFork);
+
+    Map<String, MessageContainer> messageContainers =
+        globalValidationContext.getContextMessageContainers();
+    assertEquals(Arrays.asList(new ErrorMessage(ErrorLevel.ERROR, ErrorLevel.ERROR.toString() + ": " + message),
+        new ErrorMessage(ErrorLevel.WARNING, ErrorLevel.WARNING.toString() + ": second")),
+        messageContainers.get(yaml1).getErrorMessageList());
+    testIfFileHasErrorMessage(messageContainers, 1);
+  }
+
+  @Test
+  public void testGetParsedFileContent() {
+    GlobalValidationContext globalValidationContext = new GlobalValidationContext();
+    globalValidationContext.addFileContext(yaml1, content.getBytes());
+    AtomicInteger parseCount = new AtomicInteger();
+
+    Optional<Object> parsed = globalValidationContext.getParsedFileContent(yaml1, Object.class, fileContent -> {
+      parseCount.incrementAndGet();
+      return new Object();
+    });
+    Optional<Object> parsedByFork = globalValidationContext.fork().getParsedFileContent(yaml1, Object.class, fileContent -> {
+      parseCount.incrementAndGet();
+      return new Object();
+    });
+
+    assertSame(parsed.get(), parsedByFork.get());
+    assertEquals(1, parseCount.get());
+    assertFalse(globalValidationContext.getParsedFileContent(yaml2, Object.class, fileContent -> new Object()).isPresent());
+  }
+
+  @Test
+  public void testGetParsedFileContentRethrowsParseFailure() {
+    GlobalValidationContext globalValidationContext = new GlobalValidationContext();
+    globalValidationContext.addFileContext(yaml1, content.getBytes());
+    AtomicInteger parseCount = new AtomicInteger();
+
+    for (int i = 0; i < 2; i++) {
+      assertThrows(IllegalStateException.class, () -> globalValidationContext.getParsedFileContent(yaml1, Object.class, fileContent -> {
+        parseCount.incrementAndGet();
+        throw new IllegalStateException(message);
+      }));
+    }
+    assertEquals(1, parseCount.get());
+  }
+
   private void testGetFilesByFileType(BiPredicate<String, GlobalValidationContext> func,
                                       int expectedFilesNumberToFind,
                                       List<String> expectedFileNames,
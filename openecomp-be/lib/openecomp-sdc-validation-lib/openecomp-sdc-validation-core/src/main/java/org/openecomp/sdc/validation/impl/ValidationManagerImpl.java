@@ -19,20 +19,27 @@
  */
 package org.openecomp.sdc.validation.impl;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
 import org.apache.commons.collections4.CollectionUtils;
 import org.openecomp.core.validation.api.ValidationManager;
 import org.openecomp.core.validation.types.GlobalValidationContext;
 import org.openecomp.core.validation.types.MessageContainer;
 import org.openecomp.sdc.datatypes.error.ErrorMessage;
+import org.openecomp.sdc.logging.api.LoggingContext;
 import org.openecomp.sdc.validation.Validator;
 import org.openecomp.sdc.validation.services.ValidationFactory;
 
 public class ValidationManagerImpl implements ValidationManager {
 
+    private static final int VALIDATOR_PARALLELISM = ValidationFactory.getValidatorParallelism();
+    private static final ForkJoinPool VALIDATOR_POOL = VALIDATOR_PARALLELISM > 1 ? new ForkJoinPool(VALIDATOR_PARALLELISM) : null;
     private GlobalValidationContext globalContext;
     private List<Validator> validators;
 
@@ -43,14 +50,37 @@ public class ValidationManagerImpl implements ValidationManager {
 
     @Override
     public Map<String, List<ErrorMessage>> validate() {
-        for (Validator validator : validators) {
-            if (Objects.nonNull(validator)) {
-                validator.validate(globalContext);
-            }
+        List<Validator> enabledValidators = validators.stream().filter(Objects::nonNull).collect(Collectors.toList());
+        if (VALIDATOR_POOL == null || enabledValidators.size() < 2) {
+            enabledValidators.forEach(validator -> validator.validate(globalContext));
+        } else {
+            validateConcurrently(enabledValidators);
         }
         return convertMessageContainsToErrorMessage(globalContext.getContextMessageContainers());
     }
 
+    /**
+     * Runs every validator on its own fork of the global context and merges the forks back in the validators order, so the reported
+     * messages are the same as when running the validators one after the other.
+     */
+    private void validateConcurrently(List<Validator> enabledValidators) {
+        List<GlobalValidationContext> forks = new ArrayList<>();
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        for (Validator validator : enabledValidators) {
+            GlobalValidationContext fork = globalContext.fork();
+            forks.add(fork);
+            tasks.add(VALIDATOR_POOL.submit(LoggingContext.copyToRunnable(() -> validator.validate(fork))));
+        }
+        try {
+            for (int i = 0; i < tasks.size(); i++) {
+                tasks.get(i).join();
+                globalContext.merge(forks.get(i));
+            }
+        } finally {
+            tasks.forEach(task -> task.cancel(false));
+        }
+    }
+
     @Override
     public void addFile(String fileName, byte[] fileContent) {
         globalContext.addFileContext(fileName, fileContent);
@@ -37,6 +37,7 @@ public class ValidationFactory {
 
     private static final List<Validator> validators = new ArrayList<>();
     private static Map<String, ImplementationConfiguration> validationImplMap;
+    private static int validatorParallelism;
     private static Logger logger = (Logger) LoggerFactory.getLogger(ValidationFactory.class);
     private static File file;
 
@@ -45,6 +46,8 @@ public class ValidationFactory {
         validationImplMap = config.populateMap(ConfigConstants.Namespace, ConfigConstants.Validator_Impl_Key, ImplementationConfiguration.class);
         validationImplMap
             .putAll(config.populateMap(ConfigConstants.Mandatory_Namespace, ConfigConstants.Validator_Impl_Key, ImplementationConfiguration.class));
+        Integer parallelism = config.getAsIntegerValue(ConfigConstants.Namespace, ConfigConstants.Validator_Parallelism_Key);
+        validatorParallelism = parallelism == null ? 1 : Math.max(1, parallelism);
     }
 
     /**
@@ -60,6 +63,13 @@ public class ValidationFactory {
         return validators;
     }
 
+    /**
+     * The number of validators that may run concurrently on the same validation context, 1 to run them one after the other.
+     */
+    public static int getValidatorParallelism() {
+        return validatorParallelism;
+    }
+
     private static Validator cerateValidatorImpl(ImplementationConfiguration validatorConf) {
         Validator validator = CommonMethods.newInstance(validatorConf.getImplementationClass(), Validator.class);
         validator.init(validatorConf.getProperties());
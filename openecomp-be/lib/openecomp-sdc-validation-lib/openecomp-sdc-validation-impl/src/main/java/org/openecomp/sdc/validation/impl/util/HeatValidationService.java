@@ -15,7 +15,6 @@
  */
 package org.openecomp.sdc.validation.impl.util;
 
-import java.io.InputStream;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -25,7 +24,6 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import org.apache.commons.collections4.CollectionUtils;
-import org.onap.sdc.tosca.services.YamlUtil;
 import org.openecomp.core.validation.errors.ErrorMessagesFormatBuilder;
 import org.openecomp.core.validation.types.GlobalValidationContext;
 import org.openecomp.sdc.common.errors.Messages;
@@ -40,6 +38,7 @@ import org.openecomp.sdc.logging.api.Logger;
 import org.openecomp.sdc.logging.api.LoggerFactory;
 import org.openecomp.sdc.validation.impl.validators.HeatValidator;
 import org.openecomp.sdc.validation.type.HeatResourceValidationContext;
+import org.openecomp.sdc.validation.util.ValidationUtil;
 
 public class HeatValidationService {
 
@@ -115,9 +114,9 @@ public class HeatValidationService {
     }
 
     private static HeatOrchestrationTemplate getHeatOrchestrationTemplate(String fileName, GlobalValidationContext globalContext) throws Exception {
-        Optional<InputStream> fileContent = globalContext.getFileContent(fileName);
-        if (fileContent.isPresent()) {
-            return new YamlUtil().yamlToObject(fileContent.get(), HeatOrchestrationTemplate.class);
+        Optional<HeatOrchestrationTemplate> heatOrchestrationTemplate = ValidationUtil.getHeatOrchestrationTemplate(fileName, globalContext);
+        if (heatOrchestrationTemplate.isPresent()) {
+            return heatOrchestrationTemplate.get();
         } else {
             Exception exception = new Exception(String.format(NO_CONTENT_IN_FILE_MSG, fileName));
             LOGGER.error("Error while reading file : " + fileName, exception);
@@ -225,10 +224,10 @@ public class HeatValidationService {
 
     private static HeatOrchestrationTemplate getNestedHeatOrchestrationTemplate(String nestedFileName, GlobalValidationContext globalContext)
         throws Exception {
-        Optional<InputStream> fileContent = globalContext.getFileContent(nestedFileName);
+        Optional<HeatOrchestrationTemplate> heatOrchestrationTemplate = ValidationUtil.getHeatOrchestrationTemplate(nestedFileName, globalContext);
         HeatOrchestrationTemplate nestedHeatOrchestrationTemplate;
-        if (fileContent.isPresent()) {
-            nestedHeatOrchestrationTemplate = new YamlUtil().yamlToObject(fileContent.get(), HeatOrchestrationTemplate.class);
+        if (heatOrchestrationTemplate.isPresent()) {
+            nestedHeatOrchestrationTemplate = heatOrchestrationTemplate.get();
         } else {
             throw new Exception(String.format(NO_CONTENT_IN_FILE_MSG, nestedFileName));
         }
@@ -250,9 +249,9 @@ public class HeatValidationService {
     public static Environment validateEnvContent(String fileName, String envFileName, GlobalValidationContext globalContext) {
         Environment envContent;
         try {
-            Optional<InputStream> fileContent = globalContext.getFileContent(envFileName);
-            if (fileContent.isPresent()) {
-                envContent = new YamlUtil().yamlToObject(fileContent.get(), Environment.class);
+            Optional<Environment> environment = ValidationUtil.getEnvironment(envFileName, globalContext);
+            if (environment.isPresent()) {
+                envContent = environment.get();
             } else {
                 throw new Exception(String.format(NO_CONTENT_IN_FILE_MSG, envFileName));
             }
@@ -117,12 +117,36 @@ public class ValidationUtil {
         }
     }
 
+    /**
+     * Gets the heat orchestration template of a file, parsed once per validation and shared by all validators.
+     *
+     * @param fileName      the heat file name
+     * @param globalContext the global context
+     * @return the parsed template, empty if the file has no content
+     */
+    public static Optional<HeatOrchestrationTemplate> getHeatOrchestrationTemplate(String fileName, GlobalValidationContext globalContext) {
+        return globalContext.getParsedFileContent(fileName, HeatOrchestrationTemplate.class,
+            fileContent -> new YamlUtil().yamlToObject(fileContent, HeatOrchestrationTemplate.class));
+    }
+
+    /**
+     * Gets the environment of an env file, parsed once per validation and shared by all validators.
+     *
+     * @param envFileName   the env file name
+     * @param globalContext the global context
+     * @return the parsed environment, empty if the file has no content
+     */
+    public static Optional<Environment> getEnvironment(String envFileName, GlobalValidationContext globalContext) {
+        return globalContext.getParsedFileContent(envFileName, Environment.class,
+            fileContent -> new YamlUtil().yamlToObject(fileContent, Environment.class));
+    }
+
     public static Environment validateEnvContent(String envFileName, GlobalValidationContext globalContext) {
         Environment envContent;
         try {
-            Optional<InputStream> fileContent = globalContext.getFileContent(envFileName);
-            if (fileContent.isPresent()) {
-                envContent = new YamlUtil().yamlToObject(fileContent.get(), Environment.class);
+            Optional<Environment> environment = getEnvironment(envFileName, globalContext);
+            if (environment.isPresent()) {
+                envContent = environment.get();
             } else {
                 throw new Exception("The file '" + envFileName + "' has no content");
             }
@@ -174,12 +198,7 @@ public class ValidationUtil {
     public static HeatOrchestrationTemplate checkHeatOrchestrationPreCondition(String fileName, GlobalValidationContext globalContext) {
         HeatOrchestrationTemplate heatOrchestrationTemplate;
         try {
-            Optional<InputStream> fileContent = globalContext.getFileContent(fileName);
-            if (fileContent.isPresent()) {
-                heatOrchestrationTemplate = new YamlUtil().yamlToObject(fileContent.get(), HeatOrchestrationTemplate.class);
-            } else {
-                heatOrchestrationTemplate = null;
-            }
+            heatOrchestrationTemplate = getHeatOrchestrationTemplate(fileName, globalContext).orElse(null);
         } catch (Exception exception) {
             globalContext.addMessage(fileName, ErrorLevel.ERROR, ErrorMessagesFormatBuilder
                 .getErrorWithParameters(globalContext.getMessageCode(), Messages.INVALID_HEAT_FORMAT_REASON.getErrorMessage(),